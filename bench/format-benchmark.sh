@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Response format benchmark: payload size on the wire and mean end-to-end latency of one list page
+# for JSON and CBOR, each with and without gzip, against a running instance.
+# Serialization CPU in isolation is measured by ResponseFormatBenchmarkTest (mvn test -Pbenchmark).
+#
+# Usage: bench/format-benchmark.sh [requests] [page-size] [base-url]
+set -euo pipefail
+
+REQUESTS=${1:-500}
+SIZE=${2:-500}
+BASE=${3:-http://localhost:8081}
+ENTITY=${ENTITY:-US}
+URL="$BASE/api/employees?size=$SIZE"
+
+bench() {
+    local label=$1 accept=$2 encoding=$3
+    local args=(-s -o /dev/null -H "X-Entity: $ENTITY" -H "Accept: $accept")
+    [ -n "$encoding" ] && args+=(-H "Accept-Encoding: $encoding")
+
+    for _ in $(seq 1 100); do curl "${args[@]}" "$URL"; done
+    local bytes latency
+    bytes=$(curl "${args[@]}" -w '%{size_download}' "$URL")
+    latency=$(for _ in $(seq 1 "$REQUESTS"); do
+        curl "${args[@]}" -w '%{time_total}\n' "$URL"
+    done | awk '{sum += $1} END {printf "%.3f", sum * 1000 / NR}')
+    printf '%-10s payload %8s B   latency %8s ms\n' "$label" "$bytes" "$latency"
+}
+
+bench json application/json ""
+bench json+gzip application/json gzip
+bench cbor application/cbor ""
+bench cbor+gzip application/cbor gzip
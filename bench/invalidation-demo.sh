@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# Cross-node cache invalidation check with one local PostgreSQL and two instances of the jar.
+# Warms node B's cache with a read, updates the employee on node A and polls node B until it serves
+# the new value, printing how long that took.
+#
+# Needs a reachable database (see application.yml) and a jar built with mvn clean package -DskipTests.
+#
+# Usage: bench/invalidation-demo.sh <employee-id> [port-a] [port-b]
+set -euo pipefail
+
+ID=${1:?employee id required}
+PORT_A=${2:-8081}
+PORT_B=${3:-8082}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR=$(ls "$ROOT"/target/employee-*.jar | grep -v '\.original$' | head -n 1)
+WORK=$(mktemp -d)
+PIDS=()
+cleanup() { kill "${PIDS[@]}" 2> /dev/null || true; rm -rf "$WORK"; }
+trap cleanup EXIT
+
+start() {
+    java -Dserver.port="$1" -Dapp.warmup.enabled=false -jar "$JAR" > "$WORK/$1.log" 2>&1 &
+    PIDS+=($!)
+    until curl -sf "http://localhost:$1/actuator/health/readiness" > /dev/null; do sleep 0.2; done
+}
+
+position() {
+    curl -s -H 'X-Entity: US' "http://localhost:$1/api/employees/$ID" | sed -E 's/.*"position":"([^"]*)".*/\1/'
+}
+
+now_ms() { date +%s%3N; }
+
+start "$PORT_A"
+start "$PORT_B"
+
+echo "B before update: $(position "$PORT_B")"
+NEW="Position $(date +%s)"
+START=$(now_ms)
+curl -s -o /dev/null -X PUT -H 'X-Entity: US' -H 'Content-Type: application/json' \
+    -d "{\"position\":\"$NEW\"}" "http://localhost:$PORT_A/api/employees/$ID"
+until [ "$(position "$PORT_B")" = "$NEW" ]; do
+    if [ $(( $(now_ms) - START )) -gt 5000 ]; then
+        echo "B still serves a stale position after 5 s" >&2
+        exit 1
+    fi
+    sleep 0.005
+done
+echo "B serves '$NEW' $(( $(now_ms) - START )) ms after the update was sent to A"
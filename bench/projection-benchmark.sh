@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Projection benchmark: full entity list vs. fields= projection on a running instance.
+# For each variant reports the mean request latency, the payload size and the heap allocated per
+# request. Allocation comes from the actuator jvm.gc.memory.allocated counter, which only advances
+# at young collections, so use enough requests to span several collections.
+#
+# Usage: bench/projection-benchmark.sh [requests] [page-size] [base-url] [fields]
+set -euo pipefail
+
+REQUESTS=${1:-2000}
+SIZE=${2:-100}
+BASE=${3:-http://localhost:8081}
+FIELDS=${4:-id,firstName,lastName,email}
+ENTITY=${ENTITY:-US}
+
+allocated() {
+    curl -s "$BASE/actuator/metrics/jvm.gc.memory.allocated" \
+        | sed -E 's/.*"statistic":"COUNT","value":([0-9.E+]+).*/\1/' \
+        | awk '{printf "%.0f", $1}'
+}
+
+bench() {
+    local label=$1 url=$2
+    local before after bytes total
+    # Warm the path so JIT compilation is not part of the measurement
+    for _ in $(seq 1 200); do curl -s -o /dev/null -H "X-Entity: $ENTITY" "$url"; done
+
+    bytes=$(curl -s -o /dev/null -w '%{size_download}' -H "X-Entity: $ENTITY" "$url")
+    before=$(allocated)
+    total=$(for _ in $(seq 1 "$REQUESTS"); do
+        curl -s -o /dev/null -w '%{time_total}\n' -H "X-Entity: $ENTITY" "$url"
+    done | awk '{sum += $1} END {printf "%.3f", sum * 1000 / NR}')
+    after=$(allocated)
+
+    printf '%-10s latency %8s ms   payload %8s B   allocated %10s B/request\n' \
+        "$label" "$total" "$bytes" "$(( (after - before) / REQUESTS ))"
+}
+
+bench full "$BASE/api/employees?size=$SIZE"
+bench projected "$BASE/api/employees?size=$SIZE&fields=$FIELDS"
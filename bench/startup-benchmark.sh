@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Startup benchmark: time to first successful request and resident memory for
+#   plain - java -jar
+#   aot   - java -Dspring.aot.enabled=true -jar
+#   cds   - AOT plus the AppCDS archive produced by a training run
+#
+# Needs a reachable database (see application.yml) and a jar built with:
+#   mvn clean package -DskipTests -Pfast-start
+#
+# Usage: bench/startup-benchmark.sh [runs] [port]
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${2:-8081}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR=$(ls "$ROOT"/target/employee-*.jar | grep -v '\.original$' | head -n 1)
+WORK=$(mktemp -d)
+trap 'rm -rf "$WORK"' EXIT
+
+URL="http://localhost:${PORT}/api/employees?size=1"
+
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/app" > /dev/null
+APP_JAR=$(ls "$WORK"/app/*.jar | head -n 1)
+
+echo "Creating CDS archive (training run)..."
+java -XX:ArchiveClassesAtExit="$WORK/app/application.jsa" \
+    -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh -Dspring.profiles.active=cds \
+    -jar "$APP_JAR" > "$WORK/training.log" 2>&1
+
+now_ms() { date +%s%3N; }
+
+run_once() {
+    local mode=$1; shift
+    local start pid code elapsed rss
+    start=$(now_ms)
+    java "$@" -Dserver.port="$PORT" -jar "$APP_JAR" > "$WORK/$mode.log" 2>&1 &
+    pid=$!
+    code=000
+    while [ "$code" = "000" ]; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "$mode: application exited early, see log:" >&2
+            tail -n 20 "$WORK/$mode.log" >&2
+            exit 1
+        fi
+        code=$(curl -s -o /dev/null -w '%{http_code}' "$URL" || true)
+        [ "$code" = "000" ] && sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+    rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed $rss"
+}
+
+bench() {
+    local mode=$1; shift
+    local total_ms=0 total_rss=0 result
+    for i in $(seq 1 "$RUNS"); do
+        result=$(run_once "$mode" "$@")
+        total_ms=$(( total_ms + ${result% *} ))
+        total_rss=$(( total_rss + ${result#* } ))
+    done
+    printf '%-6s first request: %6d ms   RSS: %6d MB   (avg of %d runs)\n' \
+        "$mode" $(( total_ms / RUNS )) $(( total_rss / RUNS / 1024 )) "$RUNS"
+}
+
+bench plain
+bench aot -Dspring.aot.enabled=true
+bench cds -Dspring.aot.enabled=true -XX:SharedArchiveFile="$WORK/app/application.jsa"
@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Primary key benchmark: random (v4) vs. time-ordered (v7) UUIDs.
+# Inserts the same number of rows into two scratch tables shaped like employee_history, committing
+# every batch like the application does, and reports the insert time, the primary key index size and
+# its average leaf density. Random keys split pages all over the index, so expect a larger, sparser
+# index and slower inserts once it outgrows shared_buffers.
+#
+# Needs psql and a database migrated to V6 (for uuid_generate_v7). Connection settings come from the
+# usual PG* environment variables. The scratch tables are dropped at the end.
+#
+# Usage: bench/uuid-benchmark.sh [rows] [batch-size]
+set -euo pipefail
+
+ROWS=${1:-1000000}
+BATCH=${2:-1000}
+
+psql -v ON_ERROR_STOP=1 -q <<SQL
+CREATE EXTENSION IF NOT EXISTS pgstattuple;
+DROP TABLE IF EXISTS bench_uuid_v4, bench_uuid_v7;
+CREATE TABLE bench_uuid_v4 (id UUID PRIMARY KEY, employee_id UUID NOT NULL, changes TEXT, timestamp TIMESTAMP);
+CREATE TABLE bench_uuid_v7 (LIKE bench_uuid_v4 INCLUDING ALL);
+
+CREATE PROCEDURE pg_temp.fill(target TEXT, generator TEXT, total INT, batch INT) AS \$\$
+DECLARE
+    started TIMESTAMP := clock_timestamp();
+BEGIN
+    FOR offset_rows IN 0..total - 1 BY batch LOOP
+        EXECUTE format('INSERT INTO %I SELECT %s, gen_random_uuid(), repeat(''x'', 80), now()
+                        FROM generate_series(1, %s)', target, generator, least(batch, total - offset_rows));
+        COMMIT;
+    END LOOP;
+    RAISE NOTICE '% inserted % rows in % ms', target, total,
+        round(extract(epoch FROM clock_timestamp() - started) * 1000);
+END;
+\$\$ LANGUAGE plpgsql;
+
+CALL pg_temp.fill('bench_uuid_v4', 'gen_random_uuid()', $ROWS, $BATCH);
+CALL pg_temp.fill('bench_uuid_v7', 'uuid_generate_v7()', $ROWS, $BATCH);
+
+SELECT t.relname AS table_name,
+       pg_size_pretty(pg_relation_size(i.indexrelid)) AS pk_index_size,
+       (pgstatindex(i.indexrelid::regclass)).avg_leaf_density AS avg_leaf_density_pct
+FROM pg_index i
+JOIN pg_class t ON t.oid = i.indrelid
+WHERE t.relname IN ('bench_uuid_v4', 'bench_uuid_v7') AND i.indisprimary
+ORDER BY t.relname;
+
+DROP TABLE bench_uuid_v4, bench_uuid_v7;
+SQL
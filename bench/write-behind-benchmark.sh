@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Write throughput benchmark: synchronous creates against Prefer: respond-async creates on a running
+# instance. Both variants send the same number of POSTs with the same client concurrency. The
+# asynchronous run is timed until its last operation has been committed, not just accepted.
+# Admission control limits writes per second (app.admission), so raise those limits for a fair comparison.
+#
+# Usage: bench/write-behind-benchmark.sh [writes] [concurrency] [base-url]
+set -euo pipefail
+
+WRITES=${1:-2000}
+CONCURRENCY=${2:-16}
+BASE=${3:-http://localhost:8081}
+ENTITY=${ENTITY:-US}
+RUN=$(date +%s)
+
+body() {
+    printf '{"firstName":"Bench","lastName":"Writer","phoneNumber":"0000000000","position":"Engineer","department":"IT","email":"wb-%s-%s@example.com","salary":1000,"hireDate":"2024-01-01"}' "$1" "$2"
+}
+export -f body
+export BASE ENTITY RUN
+
+post() {
+    local variant=$1 n=$2
+    local args=(-s -o /dev/null -w '%{http_code}\n' -X POST -H "X-Entity: $ENTITY" -H 'Content-Type: application/json')
+    [ "$variant" = async ] && args+=(-H 'Prefer: respond-async')
+    curl "${args[@]}" -d "$(body "$RUN-$variant" "$n")" "$BASE/api/employees"
+}
+export -f post
+
+# Waits until a marker write submitted after the run has been committed; the writer applies writes in order
+wait_for_writer() {
+    local operation
+    operation=$(curl -s -X POST -H "X-Entity: $ENTITY" -H 'Content-Type: application/json' -H 'Prefer: respond-async' \
+        -d "$(body "$RUN-marker" 0)" "$BASE/api/employees" | sed -E 's/.*"id":"([^"]+)".*/\1/')
+    until curl -s -H "X-Entity: $ENTITY" "$BASE/api/employees/operations/$operation" | grep -qv '"status":"PENDING"'; do
+        sleep 0.05
+    done
+}
+
+bench() {
+    local variant=$1 start end codes
+    start=$(date +%s.%N)
+    codes=$(seq 1 "$WRITES" | xargs -P "$CONCURRENCY" -I{} bash -c "post $variant {}" | sort | uniq -c | tr '\n' ' ')
+    [ "$variant" = async ] && wait_for_writer
+    end=$(date +%s.%N)
+    awk -v label="$variant" -v n="$WRITES" -v s="$start" -v e="$end" -v codes="$codes" \
+        'BEGIN {printf "%-6s %6d writes in %7.2f s   %8.1f writes/s   responses: %s\n", label, n, e - s, n / (e - s), codes}'
+}
+
+bench sync
+bench async
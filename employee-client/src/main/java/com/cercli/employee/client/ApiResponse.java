@@ -0,0 +1,10 @@
+package com.cercli.employee.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * The envelope the service wraps every response body in.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+record ApiResponse<T>(int status, String message, T data) {
+}
@@ -0,0 +1,16 @@
+package com.cercli.employee.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An employee as returned by {@code GET /api/employees/{id}}. Times are server local times.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Employee(UUID id, String firstName, String lastName, String phoneNumber, String position,
+                       String department, String email, Float salary, LocalDate hireDate,
+                       LocalDateTime createdAt, LocalDateTime modifiedAt, UUID managerId) {
+}
@@ -0,0 +1,444 @@
+package com.cercli.employee.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Client for looking up employees of the employee API.
+ * <p>
+ * One instance holds one {@link HttpClient}, so requests share its HTTP/2 connection (upgraded from
+ * cleartext HTTP/1.1 where the service runs without TLS) instead of opening one per call. Lookups made
+ * within {@link Builder#batchDelay} of each other are sent as one {@code GET /api/employees?ids=...}; a
+ * lookup on its own uses {@code GET /api/employees/{id}}. Employees are cached for {@link Builder#cacheTtl}
+ * and then revalidated with {@code If-None-Match}, so an unchanged employee costs a 304 without a body.
+ * Connection failures and 429, 502, 503 and 504 responses are retried with jittered exponential backoff,
+ * honouring {@code Retry-After}.
+ * <p>
+ * Instances are thread-safe and meant to be shared; {@link #close()} sends any lookups still waiting.
+ */
+public final class EmployeeClient implements AutoCloseable {
+
+    private static final String ENTITY_HEADER = "X-Entity";
+    private static final Set<Integer> RETRYABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    private final HttpClient httpClient;
+    private final URI employeesUri;
+    private final String entity;
+    private final Duration requestTimeout;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Duration maxRetryDelay;
+    private final ObjectMapper objectMapper;
+    private final JavaType employeeResponse;
+    private final JavaType employeesResponse;
+    private final LocalCache cache;
+    private final ScheduledExecutorService scheduler;
+    private final LookupBatcher batcher;
+    private final Map<UUID, CompletableFuture<Optional<Employee>>> revalidating = new ConcurrentHashMap<>();
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder batchRequests = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+
+    private EmployeeClient(Builder builder) {
+        this.httpClient = builder.httpClient != null ? builder.httpClient : HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(builder.connectTimeout)
+                .build();
+        String base = builder.baseUri.toString();
+        this.employeesUri = URI.create((base.endsWith("/") ? base.substring(0, base.length() - 1) : base) + "/api/employees");
+        this.entity = builder.entity;
+        this.requestTimeout = builder.requestTimeout;
+        this.maxRetries = builder.maxRetries;
+        this.retryBackoff = builder.retryBackoff;
+        this.maxRetryDelay = builder.maxRetryDelay;
+        this.objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.employeeResponse = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, Employee.class);
+        this.employeesResponse = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, Employee.class));
+        this.cache = new LocalCache(builder.cacheTtl.toNanos(), builder.cacheMaxEntries);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-client-batcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batcher = new LookupBatcher(this::load, scheduler, builder.maxBatchSize, builder.batchDelay.toNanos());
+    }
+
+    public static Builder builder(URI baseUri) {
+        return new Builder(baseUri);
+    }
+
+    /**
+     * @return The employee, or empty if it does not exist.
+     * @throws EmployeeClientException if the service could not be reached or answered with an error.
+     */
+    public Optional<Employee> getEmployee(UUID employeeId) {
+        return join(getEmployeeAsync(employeeId));
+    }
+
+    public CompletableFuture<Optional<Employee>> getEmployeeAsync(UUID employeeId) {
+        Objects.requireNonNull(employeeId, "employeeId");
+        LocalCache.Entry cached = cache.get(employeeId);
+        if (cached != null && cache.isFresh(cached)) {
+            cacheHits.increment();
+            return CompletableFuture.completedFuture(Optional.of(cached.employee()));
+        }
+        if (cached != null && cached.etag() != null) {
+            return revalidate(employeeId, cached);
+        }
+        return batcher.lookup(employeeId);
+    }
+
+    /**
+     * Looks up several employees, in as few requests as the batch size allows.
+     *
+     * @return The employees that exist, by ID, in the order asked for.
+     */
+    public Map<UUID, Employee> getEmployees(Collection<UUID> employeeIds) {
+        Map<UUID, CompletableFuture<Optional<Employee>>> lookups = new LinkedHashMap<>();
+        for (UUID employeeId : new LinkedHashSet<>(employeeIds)) {
+            lookups.put(employeeId, getEmployeeAsync(employeeId));
+        }
+        batcher.flush();
+        Map<UUID, Employee> employees = new LinkedHashMap<>();
+        lookups.forEach((employeeId, lookup) -> join(lookup).ifPresent(employee -> employees.put(employeeId, employee)));
+        return employees;
+    }
+
+    /**
+     * Drops the cached copy of an employee, e.g. after changing it.
+     */
+    public void evict(UUID employeeId) {
+        cache.remove(employeeId);
+    }
+
+    public Stats stats() {
+        return new Stats(requests.sum(), batchRequests.sum(), cacheHits.sum(), notModified.sum(), retries.sum(), cache.size());
+    }
+
+    @Override
+    public void close() {
+        batcher.flush();
+        scheduler.shutdown();
+    }
+
+    private CompletableFuture<Map<UUID, Employee>> load(List<UUID> employeeIds) {
+        if (employeeIds.size() == 1) {
+            UUID employeeId = employeeIds.get(0);
+            return fetch(employeeId, null).thenApply(employee -> employee
+                    .map(found -> Map.of(employeeId, found))
+                    .orElseGet(Map::of));
+        }
+        batchRequests.increment();
+        String ids = employeeIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        return send(request(URI.create(employeesUri + "?ids=" + ids)).build()).thenApply(response -> {
+            if (response.statusCode() != 200) {
+                throw error(response);
+            }
+            List<Employee> employees = this.<List<Employee>>read(response, employeesResponse).data();
+            employees.forEach(employee -> cache.put(employee, null));
+            return employees.stream().collect(Collectors.toMap(Employee::id, Function.identity(), (a, b) -> a));
+        });
+    }
+
+    // Concurrent lookups of the same stale employee share one conditional request
+    private CompletableFuture<Optional<Employee>> revalidate(UUID employeeId, LocalCache.Entry cached) {
+        CompletableFuture<Optional<Employee>> result = new CompletableFuture<>();
+        CompletableFuture<Optional<Employee>> running = revalidating.putIfAbsent(employeeId, result);
+        if (running != null) {
+            return running;
+        }
+        fetch(employeeId, cached).whenComplete((employee, error) -> {
+            revalidating.remove(employeeId, result);
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(employee);
+            }
+        });
+        return result;
+    }
+
+    // A conditional GET when there is a cached entry to revalidate
+    private CompletableFuture<Optional<Employee>> fetch(UUID employeeId, LocalCache.Entry cached) {
+        HttpRequest.Builder request = request(URI.create(employeesUri + "/" + employeeId));
+        if (cached != null) {
+            request.header("If-None-Match", cached.etag());
+        }
+        return send(request.build()).thenApply(response -> switch (response.statusCode()) {
+            case 200 -> {
+                Employee employee = this.<Employee>read(response, employeeResponse).data();
+                cache.put(employee, response.headers().firstValue("ETag").orElse(null));
+                yield Optional.of(employee);
+            }
+            case 304 -> {
+                if (cached == null) {
+                    throw error(response);
+                }
+                notModified.increment();
+                cache.renew(employeeId, cached);
+                yield Optional.of(cached.employee());
+            }
+            case 404 -> {
+                cache.remove(employeeId);
+                yield Optional.empty();
+            }
+            default -> throw error(response);
+        });
+    }
+
+    private HttpRequest.Builder request(URI uri) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                .timeout(requestTimeout)
+                .header("Accept", "application/json")
+                .GET();
+        if (entity != null) {
+            request.header(ENTITY_HEADER, entity);
+        }
+        return request;
+    }
+
+    // Only lookups are sent, so every failure is safe to retry
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request) {
+        return send(request, 0);
+    }
+
+    private CompletableFuture<HttpResponse<byte[]>> send(HttpRequest request, int attempt) {
+        requests.increment();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    boolean retryable = cause instanceof IOException
+                            || (response != null && RETRYABLE_STATUSES.contains(response.statusCode()));
+                    if (retryable && attempt < maxRetries) {
+                        retries.increment();
+                        long delay = retryDelay(response, attempt).toNanos();
+                        return CompletableFuture.runAsync(() -> { },
+                                        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS))
+                                .thenCompose(ignored -> send(request, attempt + 1));
+                    }
+                    if (cause != null) {
+                        return CompletableFuture.<HttpResponse<byte[]>>failedFuture(
+                                new EmployeeClientException("Request to " + request.uri() + " failed: " + cause, cause));
+                    }
+                    return CompletableFuture.completedFuture(response);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    // Retry-After if the service sent one, otherwise exponential backoff with jitter; both capped
+    private Duration retryDelay(HttpResponse<?> response, int attempt) {
+        if (response != null) {
+            Optional<String> retryAfter = response.headers().firstValue("Retry-After");
+            if (retryAfter.isPresent()) {
+                try {
+                    return min(Duration.ofSeconds(Long.parseLong(retryAfter.get().trim())), maxRetryDelay);
+                } catch (NumberFormatException e) {
+                    // An HTTP date; fall back to the backoff
+                }
+            }
+        }
+        long backoff = min(retryBackoff.multipliedBy(1L << Math.min(attempt, 20)), maxRetryDelay).toNanos();
+        return Duration.ofNanos(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+    }
+
+    private <T> ApiResponse<T> read(HttpResponse<byte[]> response, JavaType type) {
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new EmployeeClientException("Unreadable response from " + response.uri(), e);
+        }
+    }
+
+    private EmployeeClientException error(HttpResponse<byte[]> response) {
+        String message = "HTTP " + response.statusCode() + " from " + response.uri();
+        try {
+            JsonNode body = objectMapper.readTree(response.body());
+            // The service's error bodies carry "error"; its ApiResponse envelope carries "message"
+            if (body != null && body.hasNonNull("error")) {
+                message += ": " + body.get("error").asText();
+            } else if (body != null && body.hasNonNull("message")) {
+                message += ": " + body.get("message").asText();
+            }
+        } catch (IOException e) {
+            // Not a JSON error body; the status says enough
+        }
+        return new EmployeeClientException(response.statusCode(), message);
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof EmployeeClientException clientException) {
+                throw clientException;
+            }
+            throw new EmployeeClientException("Lookup failed: " + e.getCause(), e.getCause());
+        }
+    }
+
+    /**
+     * Counters since the client was built.
+     *
+     * @param requests      HTTP requests sent, retries included.
+     * @param batchRequests Requests that looked up more than one employee.
+     * @param cacheHits     Lookups answered from the cache without a request.
+     * @param notModified   Revalidations answered with 304 Not Modified.
+     * @param retries       Requests that were retried.
+     * @param cachedEntries Employees currently cached.
+     */
+    public record Stats(long requests, long batchRequests, long cacheHits, long notModified, long retries,
+                        int cachedEntries) {
+    }
+
+    public static final class Builder {
+
+        private final URI baseUri;
+        private String entity;
+        private HttpClient httpClient;
+        private Duration connectTimeout = Duration.ofSeconds(2);
+        private Duration requestTimeout = Duration.ofSeconds(5);
+        private int maxRetries = 2;
+        private Duration retryBackoff = Duration.ofMillis(100);
+        private Duration maxRetryDelay = Duration.ofSeconds(2);
+        private int maxBatchSize = 100;
+        private Duration batchDelay = Duration.ofMillis(2);
+        private Duration cacheTtl = Duration.ofSeconds(30);
+        private int cacheMaxEntries = 10_000;
+
+        private Builder(URI baseUri) {
+            this.baseUri = Objects.requireNonNull(baseUri, "baseUri");
+        }
+
+        /**
+         * Country code sent as {@code X-Entity} with every request.
+         */
+        public Builder entity(String entity) {
+            this.entity = entity;
+            return this;
+        }
+
+        /**
+         * Uses the given client instead of building one; {@link #connectTimeout} is then ignored.
+         */
+        public Builder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * Time allowed for each attempt, until the response headers arrive.
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * Retries after the first attempt; 0 disables retrying.
+         */
+        public Builder maxRetries(int maxRetries) {
+            if (maxRetries < 0) {
+                throw new IllegalArgumentException("maxRetries must not be negative");
+            }
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * Delay before the first retry; it doubles for each further retry.
+         */
+        public Builder retryBackoff(Duration retryBackoff) {
+            this.retryBackoff = retryBackoff;
+            return this;
+        }
+
+        public Builder maxRetryDelay(Duration maxRetryDelay) {
+            this.maxRetryDelay = maxRetryDelay;
+            return this;
+        }
+
+        /**
+         * Most employees per batch request. The service accepts up to 100.
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            if (maxBatchSize < 1 || maxBatchSize > 100) {
+                throw new IllegalArgumentException("maxBatchSize must be between 1 and 100");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * How long a lookup waits for others to batch with; {@link Duration#ZERO} sends each at once.
+         */
+        public Builder batchDelay(Duration batchDelay) {
+            this.batchDelay = batchDelay;
+            return this;
+        }
+
+        /**
+         * How long a cached employee is used without asking the service; {@link Duration#ZERO} revalidates
+         * on every lookup.
+         */
+        public Builder cacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        /**
+         * Most employees cached; 0 disables caching.
+         */
+        public Builder cacheMaxEntries(int cacheMaxEntries) {
+            this.cacheMaxEntries = cacheMaxEntries;
+            return this;
+        }
+
+        public EmployeeClient build() {
+            return new EmployeeClient(this);
+        }
+    }
+}
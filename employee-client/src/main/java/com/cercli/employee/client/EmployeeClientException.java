@@ -0,0 +1,26 @@
+package com.cercli.employee.client;
+
+/**
+ * Thrown when the service answers with an unexpected status, once retries are exhausted.
+ */
+public class EmployeeClientException extends RuntimeException {
+
+    private final int status;
+
+    public EmployeeClientException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public EmployeeClientException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = 0;
+    }
+
+    /**
+     * @return The HTTP status, or 0 if no response was received.
+     */
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,54 @@
+package com.cercli.employee.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Least recently used employees with the ETag they were served with. An entry is fresh for the configured
+ * time to live; after that it is revalidated with a conditional request if it has an ETag, and fetched
+ * again otherwise.
+ */
+class LocalCache {
+
+    private final long ttlNanos;
+    private final Map<UUID, Entry> entries;
+
+    LocalCache(long ttlNanos, int maxEntries) {
+        this.ttlNanos = ttlNanos;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    synchronized Entry get(UUID employeeId) {
+        return entries.get(employeeId);
+    }
+
+    synchronized void put(Employee employee, String etag) {
+        entries.put(employee.id(), new Entry(employee, etag, System.nanoTime()));
+    }
+
+    // Called on 304 Not Modified: the entry is fresh again
+    synchronized void renew(UUID employeeId, Entry entry) {
+        entries.replace(employeeId, entry, new Entry(entry.employee(), entry.etag(), System.nanoTime()));
+    }
+
+    synchronized void remove(UUID employeeId) {
+        entries.remove(employeeId);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    boolean isFresh(Entry entry) {
+        return System.nanoTime() - entry.fetchedAt() < ttlNanos;
+    }
+
+    record Entry(Employee employee, String etag, long fetchedAt) {
+    }
+}
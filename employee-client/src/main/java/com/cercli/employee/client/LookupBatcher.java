@@ -0,0 +1,112 @@
+package com.cercli.employee.client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects single-employee lookups for up to {@code delayNanos} and sends them as one batch request, or
+ * sooner once {@code maxBatchSize} are waiting. Lookups of an employee that is already waiting or being
+ * fetched share that request.
+ */
+class LookupBatcher {
+
+    /**
+     * Fetches a batch of employees; employees that do not exist are left out of the result.
+     */
+    @FunctionalInterface
+    interface BatchLoader {
+        CompletableFuture<Map<UUID, Employee>> load(List<UUID> employeeIds);
+    }
+
+    private final BatchLoader loader;
+    private final ScheduledExecutorService scheduler;
+    private final int maxBatchSize;
+    private final long delayNanos;
+    private final Map<UUID, CompletableFuture<Optional<Employee>>> inFlight = new ConcurrentHashMap<>();
+
+    private Map<UUID, CompletableFuture<Optional<Employee>>> pending = new LinkedHashMap<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    LookupBatcher(BatchLoader loader, ScheduledExecutorService scheduler, int maxBatchSize, long delayNanos) {
+        this.loader = loader;
+        this.scheduler = scheduler;
+        this.maxBatchSize = maxBatchSize;
+        this.delayNanos = delayNanos;
+    }
+
+    CompletableFuture<Optional<Employee>> lookup(UUID employeeId) {
+        CompletableFuture<Optional<Employee>> result;
+        Map<UUID, CompletableFuture<Optional<Employee>>> batch = null;
+        synchronized (this) {
+            result = pending.get(employeeId);
+            if (result == null) {
+                result = inFlight.get(employeeId);
+            }
+            if (result != null) {
+                return result;
+            }
+            result = new CompletableFuture<>();
+            pending.put(employeeId, result);
+            if (pending.size() >= maxBatchSize || delayNanos <= 0) {
+                batch = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, delayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (batch != null) {
+            dispatch(batch);
+        }
+        return result;
+    }
+
+    /**
+     * Sends whatever is waiting without waiting for the delay.
+     */
+    void flush() {
+        Map<UUID, CompletableFuture<Optional<Employee>>> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private Map<UUID, CompletableFuture<Optional<Employee>>> drain() {
+        Map<UUID, CompletableFuture<Optional<Employee>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        // Registered before the lock is released, so no lookup of these employees starts another request
+        inFlight.putAll(batch);
+        return batch;
+    }
+
+    private void dispatch(Map<UUID, CompletableFuture<Optional<Employee>>> batch) {
+        CompletableFuture<Map<UUID, Employee>> loaded;
+        try {
+            loaded = loader.load(new ArrayList<>(batch.keySet()));
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+        loaded.whenComplete((employees, error) -> batch.forEach((employeeId, result) -> {
+            inFlight.remove(employeeId, result);
+            if (error != null) {
+                result.completeExceptionally(error);
+            } else {
+                result.complete(Optional.ofNullable(employees.get(employeeId)));
+            }
+        }));
+    }
+}
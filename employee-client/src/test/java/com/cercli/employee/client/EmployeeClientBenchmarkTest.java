@@ -0,0 +1,110 @@
+package com.cercli.employee.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Lookup throughput of {@link EmployeeClient} against the naive pattern of building an {@link HttpClient} and
+ * sending one request per lookup, from concurrent callers, against a stub server with a fixed per-request
+ * latency. Lookups are skewed towards a small set of employees, as dashboards and reports are. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class EmployeeClientBenchmarkTest {
+
+    private static final int EMPLOYEES = 2_000;
+    private static final int HOT_EMPLOYEES = 100;
+    private static final int CALLERS = 32;
+    private static final long LATENCY_MILLIS = 5;
+    private static final Duration RUN_TIME = Duration.ofSeconds(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void compareThroughput() throws Exception {
+        try (StubEmployeeServer server = new StubEmployeeServer()) {
+            server.latencyMillis(LATENCY_MILLIS);
+            List<UUID> employeeIds = new ArrayList<>();
+            for (int i = 0; i < EMPLOYEES; i++) {
+                employeeIds.add(server.add("Employee" + i).id());
+            }
+            URI uri = server.uri();
+
+            System.out.printf("%-22s %12s %12s%n", "mode", "lookups/s", "requests");
+            double naive = run("naive per call", server, employeeIds, employeeId -> naiveLookup(uri, employeeId));
+            try (EmployeeClient client = EmployeeClient.builder(uri).entity("AE").cacheMaxEntries(0).build()) {
+                run("batched", server, employeeIds, employeeId -> client.getEmployee(employeeId).orElseThrow());
+            }
+            double cached;
+            try (EmployeeClient client = EmployeeClient.builder(uri).entity("AE").build()) {
+                cached = run("batched + cached", server, employeeIds, employeeId -> client.getEmployee(employeeId).orElseThrow());
+            }
+            assertTrue(cached > naive, "The client should out-run one request per lookup");
+        }
+    }
+
+    private double run(String mode, StubEmployeeServer server, List<UUID> employeeIds, Lookup lookup) throws Exception {
+        int requestsBefore = server.requests().size();
+        LongAdder lookups = new LongAdder();
+        long deadline = System.nanoTime() + RUN_TIME.toNanos();
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                running.add(callers.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.nanoTime() < deadline) {
+                        // Nine in ten lookups hit the hot set
+                        int index = random.nextInt(10) == 0 ? random.nextInt(EMPLOYEES) : random.nextInt(HOT_EMPLOYEES);
+                        lookup.lookup(employeeIds.get(index));
+                        lookups.increment();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } finally {
+            callers.shutdown();
+            callers.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        double perSecond = lookups.sum() / (double) RUN_TIME.toSeconds();
+        System.out.printf("%-22s %12.0f %12d%n", mode, perSecond, server.requests().size() - requestsBefore);
+        return perSecond;
+    }
+
+    private Employee naiveLookup(URI uri, UUID employeeId) throws IOException, InterruptedException {
+        HttpClient httpClient = HttpClient.newHttpClient();
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder(URI.create(uri + "/api/employees/" + employeeId))
+                .header("X-Entity", "AE")
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        return objectMapper.<ApiResponse<Employee>>readValue(response.body(),
+                objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, Employee.class)).data();
+    }
+
+    @FunctionalInterface
+    private interface Lookup {
+        Employee lookup(UUID employeeId) throws Exception;
+    }
+}
@@ -0,0 +1,135 @@
+package com.cercli.employee.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeClientTest {
+
+    private StubEmployeeServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new StubEmployeeServer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void getEmployeeAsync_ShouldSendOneBatchRequest_WhenLookupsAreConcurrent() {
+        List<Employee> employees = List.of(server.add("Amal"), server.add("Bilal"), server.add("Chidi"));
+        try (EmployeeClient client = client().batchDelay(Duration.ofMillis(50)).build()) {
+            List<CompletableFuture<Optional<Employee>>> lookups = new ArrayList<>();
+            for (Employee employee : employees) {
+                lookups.add(client.getEmployeeAsync(employee.id()));
+                lookups.add(client.getEmployeeAsync(employee.id()));
+            }
+
+            for (int i = 0; i < lookups.size(); i++) {
+                assertEquals(Optional.of(employees.get(i / 2)), lookups.get(i).join());
+            }
+            List<StubEmployeeServer.Recorded> requests = server.requests();
+            assertEquals(1, requests.size());
+            assertEquals("/api/employees", requests.get(0).path());
+            assertEquals(3, requests.get(0).query().split(",").length);
+            assertEquals("AE", requests.get(0).entity());
+            assertEquals(1, client.stats().batchRequests());
+        }
+    }
+
+    @Test
+    void getEmployees_ShouldSplitLookups_IntoBatchesOfMaxBatchSize() {
+        List<UUID> employeeIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            employeeIds.add(server.add("Employee" + i).id());
+        }
+        employeeIds.add(UUID.randomUUID());
+        try (EmployeeClient client = client().maxBatchSize(2).build()) {
+            Map<UUID, Employee> found = client.getEmployees(employeeIds);
+
+            assertEquals(employeeIds.subList(0, 5), List.copyOf(found.keySet()));
+            assertEquals(3, server.requests().size());
+        }
+    }
+
+    @Test
+    void getEmployee_ShouldServeFromCache_WhenEntryIsFresh() {
+        Employee employee = server.add("Dana");
+        try (EmployeeClient client = client().build()) {
+            client.getEmployee(employee.id());
+            Optional<Employee> cached = client.getEmployee(employee.id());
+
+            assertEquals(Optional.of(employee), cached);
+            assertEquals(1, server.requests().size());
+            assertEquals(1, client.stats().cacheHits());
+        }
+    }
+
+    @Test
+    void getEmployee_ShouldRevalidateWithETag_WhenEntryIsStale() {
+        Employee employee = server.add("Emeka");
+        try (EmployeeClient client = client().cacheTtl(Duration.ZERO).build()) {
+            client.getEmployee(employee.id());
+            Optional<Employee> revalidated = client.getEmployee(employee.id());
+
+            assertEquals(Optional.of(employee), revalidated);
+            List<StubEmployeeServer.Recorded> requests = server.requests();
+            assertEquals(2, requests.size());
+            assertNull(requests.get(0).ifNoneMatch());
+            assertNotNull(requests.get(1).ifNoneMatch());
+            assertEquals(1, client.stats().notModified());
+        }
+    }
+
+    @Test
+    void getEmployee_ShouldReturnEmpty_WhenEmployeeDoesNotExist() {
+        try (EmployeeClient client = client().build()) {
+            assertTrue(client.getEmployee(UUID.randomUUID()).isEmpty());
+        }
+    }
+
+    @Test
+    void getEmployee_ShouldRetry_WhenServiceIsUnavailable() {
+        Employee employee = server.add("Farah");
+        server.failNext(503, 429);
+        try (EmployeeClient client = client().build()) {
+            assertEquals(Optional.of(employee), client.getEmployee(employee.id()));
+            assertEquals(3, server.requests().size());
+            assertEquals(2, client.stats().retries());
+        }
+    }
+
+    @Test
+    void getEmployee_ShouldThrow_WhenRetriesAreExhausted() {
+        Employee employee = server.add("Gita");
+        server.failNext(503, 503);
+        try (EmployeeClient client = client().maxRetries(1).build()) {
+            EmployeeClientException exception = assertThrows(EmployeeClientException.class,
+                    () -> client.getEmployee(employee.id()));
+
+            assertEquals(503, exception.getStatus());
+            assertTrue(exception.getMessage().endsWith(": Try again later."), exception.getMessage());
+            assertEquals(2, server.requests().size());
+        }
+    }
+
+    private EmployeeClient.Builder client() {
+        return EmployeeClient.builder(server.uri())
+                .entity("AE")
+                .retryBackoff(Duration.ofMillis(1));
+    }
+}
@@ -0,0 +1,133 @@
+package com.cercli.employee.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in for the employee endpoints the client uses: {@code GET /api/employees/{id}} with
+ * ETags and {@code GET /api/employees?ids=...}. Records every request it receives.
+ */
+class StubEmployeeServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final Map<UUID, Employee> employees = new ConcurrentHashMap<>();
+    private final Queue<Integer> failures = new ConcurrentLinkedQueue<>();
+    private final Queue<Recorded> requests = new ConcurrentLinkedQueue<>();
+    private volatile long latencyMillis;
+
+    StubEmployeeServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/employees", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    URI uri() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    Employee add(String firstName) {
+        Employee employee = new Employee(UUID.randomUUID(), firstName, "Doe", "+971500000000", "Engineer",
+                "Engineering", firstName.toLowerCase() + "@example.com", 5000f, LocalDate.of(2020, 1, 1),
+                LocalDateTime.of(2024, 1, 1, 8, 0), LocalDateTime.of(2024, 1, 1, 8, 0), null);
+        employees.put(employee.id(), employee);
+        return employee;
+    }
+
+    /**
+     * Answers the next requests with these statuses, one each, before serving normally again.
+     */
+    void failNext(Integer... statuses) {
+        failures.addAll(Arrays.asList(statuses));
+    }
+
+    void latencyMillis(long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    List<Recorded> requests() {
+        return new ArrayList<>(requests);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            URI uri = exchange.getRequestURI();
+            requests.add(new Recorded(uri.getPath(), uri.getQuery(), exchange.getRequestHeaders().getFirst("If-None-Match"),
+                    exchange.getRequestHeaders().getFirst("X-Entity")));
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            Integer failure = failures.poll();
+            if (failure != null) {
+                exchange.getResponseHeaders().set("Retry-After", "0");
+                // Shaped like the service's ErrorResponseDto, as admission control sends it
+                respond(exchange, failure, Map.of("error", "Try again later.", "timestamp", "2024-01-01T08:00:00"));
+                return;
+            }
+            String path = uri.getPath();
+            if (path.equals("/api/employees") && uri.getQuery() != null && uri.getQuery().startsWith("ids=")) {
+                List<Employee> found = Arrays.stream(uri.getQuery().substring(4).split(","))
+                        .map(UUID::fromString)
+                        .map(employees::get)
+                        .filter(Objects::nonNull)
+                        .toList();
+                respond(exchange, 200, new ApiResponse<>(200, "Fetched all employees successfully.", found));
+                return;
+            }
+            Employee employee = employees.get(UUID.fromString(path.substring(path.lastIndexOf('/') + 1)));
+            if (employee == null) {
+                respond(exchange, 404, new ApiResponse<>(404, "Employee not found.", null));
+                return;
+            }
+            String etag = "W/\"" + Integer.toHexString(employee.hashCode()) + "\"";
+            exchange.getResponseHeaders().set("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            respond(exchange, 200, new ApiResponse<>(200, "Employee fetched successfully.", employee));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    record Recorded(String path, String query, String ifNoneMatch, String entity) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.cercli.employee.admission;
+
+import com.cercli.employee.config.AdmissionProperties.Limits;
+import com.cercli.employee.util.TokenBucket;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate and concurrency limit for one (entity, endpoint class) pair.
+ */
+public class AdmissionLimiter {
+
+    private final Limits limits;
+    private final TokenBucket tokenBucket;
+    private final Semaphore slots;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder concurrencyLimited = new LongAdder();
+
+    public AdmissionLimiter(Limits limits) {
+        this.limits = limits;
+        this.tokenBucket = new TokenBucket(limits.getRatePerSecond(), limits.getBurst());
+        this.slots = new Semaphore(limits.getMaxConcurrent(), true);
+    }
+
+    /**
+     * Waits up to {@code queueTimeoutNanos} for a token and a concurrency slot. An admitted caller must call
+     * {@link #release()} when the request completes. A caller that gets a token but no slot gives the token
+     * back, so requests shed for concurrency do not also use up the rate.
+     */
+    public Decision tryAdmit(long queueTimeoutNanos) throws InterruptedException {
+        long start = System.nanoTime();
+        long wait = tokenBucket.reserve(queueTimeoutNanos);
+        if (wait < 0) {
+            rateLimited.increment();
+            return Decision.rejected(Decision.Reason.RATE_LIMITED, secondsCeil(-wait));
+        }
+        boolean acquired = false;
+        try {
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            long remaining = Math.max(0, queueTimeoutNanos - (System.nanoTime() - start));
+            acquired = slots.tryAcquire(remaining, TimeUnit.NANOSECONDS);
+        } finally {
+            if (!acquired) {
+                tokenBucket.refund();
+            }
+        }
+        if (!acquired) {
+            concurrencyLimited.increment();
+            return Decision.rejected(Decision.Reason.OVERLOADED, 1);
+        }
+        admitted.increment();
+        return Decision.ADMITTED;
+    }
+
+    public void release() {
+        slots.release();
+    }
+
+    public Limits limits() {
+        return limits;
+    }
+
+    public int inFlight() {
+        return limits.getMaxConcurrent() - slots.availablePermits();
+    }
+
+    public int queued() {
+        return slots.getQueueLength();
+    }
+
+    public double availableTokens() {
+        return tokenBucket.availableTokens();
+    }
+
+    public long admitted() {
+        return admitted.sum();
+    }
+
+    public long rateLimited() {
+        return rateLimited.sum();
+    }
+
+    public long concurrencyLimited() {
+        return concurrencyLimited.sum();
+    }
+
+    private static long secondsCeil(long nanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + 999_999_999L));
+    }
+
+    public record Decision(boolean admitted, Reason reason, long retryAfterSeconds) {
+
+        static final Decision ADMITTED = new Decision(true, null, 0);
+
+        static Decision rejected(Reason reason, long retryAfterSeconds) {
+            return new Decision(false, reason, retryAfterSeconds);
+        }
+
+        public enum Reason {
+            // Over the request rate: 429
+            RATE_LIMITED,
+            // No concurrency slot freed up in time: 503
+            OVERLOADED
+        }
+    }
+}
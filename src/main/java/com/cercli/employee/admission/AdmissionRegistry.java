@@ -0,0 +1,71 @@
+package com.cercli.employee.admission;
+
+import com.cercli.employee.config.AdmissionProperties;
+import com.cercli.employee.dto.AdmissionStatusDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds one {@link AdmissionLimiter} per entity code and endpoint class, created on first use from
+ * {@link AdmissionProperties}, and publishes their usage as {@code employee.admission.*} metrics.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionRegistry {
+
+    private final AdmissionProperties admissionProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, AdmissionLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdmissionLimiter limiterFor(String countryCode, EndpointClass endpointClass) {
+        return limiters.computeIfAbsent(new Key(countryCode, endpointClass), this::createLimiter);
+    }
+
+    public List<AdmissionStatusDto> snapshot() {
+        return limiters.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Key::countryCode).thenComparing(Key::endpointClass)))
+                .map(entry -> {
+                    AdmissionLimiter limiter = entry.getValue();
+                    return new AdmissionStatusDto(
+                            entry.getKey().countryCode(),
+                            entry.getKey().endpointClass().name(),
+                            limiter.limits().getRatePerSecond(),
+                            limiter.limits().getBurst(),
+                            limiter.availableTokens(),
+                            limiter.limits().getMaxConcurrent(),
+                            limiter.inFlight(),
+                            limiter.queued(),
+                            limiter.admitted(),
+                            limiter.rateLimited(),
+                            limiter.concurrencyLimited());
+                })
+                .toList();
+    }
+
+    private AdmissionLimiter createLimiter(Key key) {
+        AdmissionProperties.EntityLimits entityLimits = admissionProperties.limitsFor(key.countryCode());
+        AdmissionLimiter limiter = new AdmissionLimiter(
+                key.endpointClass() == EndpointClass.READ ? entityLimits.getRead() : entityLimits.getWrite());
+
+        Tags tags = Tags.of("entity", key.countryCode(), "class", key.endpointClass().name().toLowerCase());
+        Gauge.builder("employee.admission.in.flight", limiter, AdmissionLimiter::inFlight).tags(tags).register(meterRegistry);
+        Gauge.builder("employee.admission.queued", limiter, AdmissionLimiter::queued).tags(tags).register(meterRegistry);
+        FunctionCounter.builder("employee.admission.admitted", limiter, AdmissionLimiter::admitted).tags(tags).register(meterRegistry);
+        FunctionCounter.builder("employee.admission.rejected", limiter, AdmissionLimiter::rateLimited)
+                .tags(tags.and("reason", "rate")).register(meterRegistry);
+        FunctionCounter.builder("employee.admission.rejected", limiter, AdmissionLimiter::concurrencyLimited)
+                .tags(tags.and("reason", "concurrency")).register(meterRegistry);
+        return limiter;
+    }
+
+    private record Key(String countryCode, EndpointClass endpointClass) {}
+}
@@ -0,0 +1,20 @@
+package com.cercli.employee.admission;
+
+public enum EndpointClass {
+    READ,
+    WRITE;
+
+    // GraphQL exposes only queries, so its POSTs are reads
+    private static final String GRAPHQL_PATH = "/api/graphql";
+
+    public static EndpointClass of(String httpMethod) {
+        return switch (httpMethod) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+
+    public static EndpointClass of(String httpMethod, String uri) {
+        return GRAPHQL_PATH.equals(uri) ? READ : of(httpMethod);
+    }
+}
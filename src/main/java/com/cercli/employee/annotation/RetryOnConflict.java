@@ -0,0 +1,13 @@
+package com.cercli.employee.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Re-runs the annotated transactional write when it loses an optimistic-lock race; the first UUID
+// argument identifies the row, and writes to the same row are serialized within this node
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,16 @@
+package com.cercli.employee.annotation;
+
+import com.cercli.employee.util.TimeOrderedUuidGenerator;
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Assigns a time-ordered (version 7) UUID to the annotated identifier on insert
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Target({ ElementType.FIELD, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,16 @@
+package com.cercli.employee.annotation;
+
+import com.cercli.employee.datasource.DataSourceRoute;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Takes the connections of the transactions the annotated method starts from the given pool; a transaction
+// already running keeps the connection it has
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UseDataSource {
+    DataSourceRoute value();
+}
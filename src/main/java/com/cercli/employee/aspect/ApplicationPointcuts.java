@@ -0,0 +1,17 @@
+package com.cercli.employee.aspect;
+
+import org.aspectj.lang.annotation.Pointcut;
+
+/**
+ * Join points shared by the profiling and tracing aspects.
+ */
+public class ApplicationPointcuts {
+
+    @Pointcut("execution(public * com.cercli.employee.contracts..*.*(..))")
+    public void serviceOperation() {
+    }
+
+    @Pointcut("execution(public * *(..)) && this(org.springframework.data.repository.Repository)")
+    public void repositoryCall() {
+    }
+}
@@ -0,0 +1,131 @@
+package com.cercli.employee.aspect;
+
+import com.cercli.employee.annotation.RetryOnConflict;
+import com.cercli.employee.config.ConflictRetryProperties;
+import com.cercli.employee.exception.EmployeeUpdateConflictException;
+import com.cercli.employee.util.StripedLock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Retries {@link RetryOnConflict} methods that fail with an optimistic-lock conflict.
+ * <p>
+ * The aspect is ordered outside the transaction interceptor, so a conflict detected at commit is seen here
+ * and every attempt runs in a new transaction that re-reads the row and re-applies the change. Retries wait
+ * a jittered, exponentially growing time so that competing writers drift apart. Writes to the same row on
+ * this node are also serialized through a striped lock, which leaves conflicts only between nodes. When
+ * the attempts are used up the caller gets {@link EmployeeUpdateConflictException} (409).
+ * <p>
+ * Called inside an existing transaction, the method runs once: that transaction is already doomed by the
+ * conflict, and retrying is up to whoever started it.
+ */
+@Aspect
+@Component
+@Order(ConflictRetryAspect.ORDER)
+@Slf4j
+public class ConflictRetryAspect {
+
+    // Transaction interceptor runs at the lowest precedence, i.e. innermost
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
+    private final ConflictRetryProperties properties;
+    private final MessageSource messageSource;
+    private final MeterRegistry meterRegistry;
+    private final StripedLock locks;
+
+    public ConflictRetryAspect(ConflictRetryProperties properties, MessageSource messageSource, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.messageSource = messageSource;
+        this.meterRegistry = meterRegistry;
+        this.locks = new StripedLock(properties.getLockStripes());
+    }
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String operation = joinPoint.getSignature().getName();
+        UUID key = firstUuid(joinPoint.getArgs());
+        Lock lock = key == null ? null : locks.get(key);
+        boolean locked = lock != null && acquire(lock, operation);
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return joinPoint.proceed();
+                } catch (OptimisticLockingFailureException e) {
+                    meterRegistry.counter("employee.update.conflicts", "operation", operation).increment();
+                    if (attempt >= properties.getMaxAttempts()) {
+                        meterRegistry.counter("employee.update.conflicts.exhausted", "operation", operation).increment();
+                        log.warn("{} of {} still conflicting after {} attempts", operation, key, attempt);
+                        throw conflict();
+                    }
+                    long backoff = backoffNanos(attempt);
+                    log.debug("{} of {} conflicted on attempt {}, retrying in {} µs", operation, key, attempt, backoff / 1000);
+                    meterRegistry.counter("employee.update.retries", "operation", operation).increment();
+                    sleep(backoff);
+                }
+            }
+        } finally {
+            if (locked) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean acquire(Lock lock, String operation) throws InterruptedException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean acquired = lock.tryLock(properties.getLockTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        sample.stop(meterRegistry.timer("employee.update.lock.wait", "operation", operation));
+        if (!acquired) {
+            meterRegistry.counter("employee.update.lock.timeouts", "operation", operation).increment();
+        }
+        return acquired;
+    }
+
+    // Full jitter: uniformly random up to the exponential bound
+    private long backoffNanos(int attempt) {
+        long bound = properties.getInitialBackoff().toNanos() << Math.min(attempt - 1, 20);
+        bound = Math.min(bound, properties.getMaxBackoff().toNanos());
+        return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+    }
+
+    private void sleep(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict();
+        }
+    }
+
+    private EmployeeUpdateConflictException conflict() {
+        return new EmployeeUpdateConflictException(messageSource.getMessage("employee.update.conflict", null,
+                "The employee was changed by another request, please try again.", LocaleContextHolder.getLocale()));
+    }
+
+    private static UUID firstUuid(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof UUID uuid) {
+                return uuid;
+            }
+        }
+        return null;
+    }
+}
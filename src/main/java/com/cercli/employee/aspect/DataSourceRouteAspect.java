@@ -0,0 +1,31 @@
+package com.cercli.employee.aspect;
+
+import com.cercli.employee.annotation.UseDataSource;
+import com.cercli.employee.datasource.DataSourceRoute;
+import com.cercli.employee.datasource.RoutingDataSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Binds the pool named by {@link UseDataSource} for the duration of the call. Ordered outside the
+ * transaction, so the connection of a transaction the method starts comes from that pool.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class DataSourceRouteAspect {
+
+    @Around("@annotation(useDataSource)")
+    public Object route(ProceedingJoinPoint joinPoint, UseDataSource useDataSource) throws Throwable {
+        DataSourceRoute previous = RoutingDataSource.bind(useDataSource.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RoutingDataSource.restore(previous);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.cercli.employee.aspect;
+
+import com.cercli.employee.profiling.RepositoryCallEvent;
+import com.cercli.employee.profiling.ServiceOperationEvent;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.CodeSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records JFR events around service contract methods and repository calls. Ordered outermost, so a service
+ * event covers its retries and transaction, and a repository event covers the flush a query triggers.
+ * Outside a JFR recording each call only checks whether the event is enabled.
+ * <p>
+ * Services that decorate others, like the read-through cache, show up as an event enclosing the one of the
+ * service they delegate to.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ProfilingAspect {
+
+    private static final String APPLICATION_PACKAGE = "com.cercli.employee.";
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("com.cercli.employee.aspect.ApplicationPointcuts.serviceOperation()")
+    public Object profileServiceOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = ClassUtils.getUserClass(joinPoint.getTarget()).getSimpleName() + "." + joinPoint.getSignature().getName();
+                event.employeeId = firstUuid(joinPoint.getArgs());
+                event.countryCode = countryCode(joinPoint);
+                event.rows = rows(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("com.cercli.employee.aspect.ApplicationPointcuts.repositoryCall()")
+    public Object profileRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        Object result = null;
+        boolean failed = true;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), ProfilingAspect::repositoryName);
+                event.method = joinPoint.getSignature().getName();
+                event.employeeId = firstUuid(joinPoint.getArgs());
+                event.rows = rows(result);
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    // The proxy implements the application's repository interface alongside Spring's own
+    static String repositoryName(Class<?> proxyClass) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(proxyClass)) {
+            if (type.getName().startsWith(APPLICATION_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return proxyClass.getSimpleName();
+    }
+
+    private static String countryCode(ProceedingJoinPoint joinPoint) {
+        if (joinPoint.getSignature() instanceof CodeSignature signature) {
+            String[] names = signature.getParameterNames();
+            Object[] args = joinPoint.getArgs();
+            for (int i = 0; names != null && i < names.length; i++) {
+                if ("countryCode".equals(names[i]) && args[i] instanceof String countryCode) {
+                    return countryCode;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String firstUuid(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof UUID uuid) {
+                return uuid.toString();
+            }
+        }
+        return null;
+    }
+
+    private static int rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,63 @@
+package com.cercli.employee.aspect;
+
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Opens an observation, and so a span, around each service contract method and repository call. Ordered
+ * just inside {@link ProfilingAspect} and outside the transaction, so a service span also covers the flush
+ * and commit, whose spans become its children.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<Class<?>, String> typeNames = new ConcurrentHashMap<>();
+
+    @Around("com.cercli.employee.aspect.ApplicationPointcuts.serviceOperation()")
+    public Object traceServiceOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        String service = typeNames.computeIfAbsent(ClassUtils.getUserClass(joinPoint.getTarget()), Class::getSimpleName);
+        return observe("employee.service", service, joinPoint);
+    }
+
+    @Around("com.cercli.employee.aspect.ApplicationPointcuts.repositoryCall()")
+    public Object traceRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = typeNames.computeIfAbsent(joinPoint.getThis().getClass(), ProfilingAspect::repositoryName);
+        return observe("employee.repository", repository, joinPoint);
+    }
+
+    private Object observe(String name, String type, ProceedingJoinPoint joinPoint) throws Throwable {
+        if (observationRegistry.isNoop()) {
+            return joinPoint.proceed();
+        }
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted(name, observationRegistry)
+                .contextualName(type + "." + method)
+                .lowCardinalityKeyValues(KeyValues.of("class", type, "method", method))
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.cercli.employee.cache;
+
+/**
+ * Implemented by in-process read caches that can be populated before the application reports ready.
+ */
+public interface CacheWarmer {
+
+    /**
+     * Loads up to {@code limit} of the most frequently accessed entries.
+     *
+     * @param limit The maximum number of entries to load.
+     * @return The number of entries actually loaded.
+     */
+    int preload(int limit);
+}
@@ -0,0 +1,262 @@
+package com.cercli.employee.cache;
+
+import com.cercli.employee.config.CacheProperties;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.event.EmployeeInvalidationEvent;
+import com.cercli.employee.event.EntityHistoryEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Cluster-wide cache invalidation over PostgreSQL LISTEN/NOTIFY.
+ * <p>
+ * Every employee change issues {@code pg_notify} on the writing transaction's connection, so the
+ * notification is delivered to the other nodes only if, and right after, the transaction commits.
+ * The node that made the change publishes its {@link EmployeeInvalidationEvent} from an after-commit
+ * callback and ignores its own notification.
+ * <p>
+ * Each node listens on a dedicated connection outside the pool. If that connection drops,
+ * notifications sent in the meantime are lost: {@link #isConnected()} turns false, so caches stop
+ * serving, and after reconnecting an invalidate-all event is published before caches are used again.
+ */
+@Component
+@Slf4j
+public class ClusterInvalidationBus implements SmartLifecycle, MeterBinder {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String ALL = "*";
+
+    private final CacheProperties.Invalidation properties;
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private volatile Thread listenerThread;
+
+    public ClusterInvalidationBus(CacheProperties cacheProperties,
+                                  DataSourceProperties dataSourceProperties,
+                                  JdbcTemplate jdbcTemplate,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.properties = cacheProperties.getInvalidation();
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        if (!CHANNEL_NAME.matcher(properties.getChannel()).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + properties.getChannel());
+        }
+    }
+
+    /**
+     * True when cached employees can be trusted: either this node receives every other node's changes,
+     * or there are no other nodes to hear from.
+     */
+    public boolean isConnected() {
+        return !properties.isEnabled() || connected;
+    }
+
+    @EventListener
+    public void onEntityChanged(EntityHistoryEvent event) {
+        if (event.getEntity() instanceof Employee employee) {
+            publish(employee.getId());
+        }
+    }
+
+    /**
+     * Invalidates an employee on every node once the current transaction commits, or immediately when
+     * there is no transaction.
+     */
+    public void publish(UUID employeeId) {
+        String payload = employeeId == null ? ALL : employeeId.toString();
+        if (properties.isEnabled()) {
+            jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Boolean>) statement -> {
+                statement.setString(1, properties.getChannel());
+                statement.setString(2, nodeId + " " + payload);
+                return statement.execute();
+            });
+            published.increment();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(new EmployeeInvalidationEvent(ClusterInvalidationBus.this, employeeId, false));
+                }
+            });
+        } else {
+            eventPublisher.publishEvent(new EmployeeInvalidationEvent(this, employeeId, false));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("Cluster cache invalidation disabled; caches only see this node's changes");
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = listenerThread;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(properties.getPollInterval().toMillis() * 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.cache.invalidation.published", published, LongAdder::sum).register(registry);
+        FunctionCounter.builder("employee.cache.invalidation.received", received, LongAdder::sum).register(registry);
+        FunctionCounter.builder("employee.cache.invalidation.flushes", flushes, LongAdder::sum).register(registry);
+        FunctionCounter.builder("employee.cache.invalidation.reconnects", reconnects, LongAdder::sum).register(registry);
+        Gauge.builder("employee.cache.invalidation.connected", this, bus -> bus.connected ? 1 : 0).register(registry);
+    }
+
+    private void listen() {
+        long backoff = properties.getReconnectInitialBackoff().toMillis();
+        boolean firstConnection = true;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.getChannel());
+                }
+                if (!firstConnection) {
+                    // Changes made while disconnected were never heard; drop everything before trusting caches again
+                    reconnects.increment();
+                    publishFlush();
+                }
+                firstConnection = false;
+                connected = true;
+                backoff = properties.getReconnectInitialBackoff().toMillis();
+                log.info("Listening for cache invalidations on channel {}", properties.getChannel());
+                receive(connection);
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying in {} ms: {}", backoff, e.getMessage());
+            } finally {
+                connected = false;
+            }
+            if (!sleep(backoff)) {
+                break;
+            }
+            backoff = Math.min(backoff * 2, properties.getReconnectMaxBackoff().toMillis());
+        }
+    }
+
+    private void receive(Connection connection) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int pollMillis = (int) properties.getPollInterval().toMillis();
+        long healthCheckNanos = properties.getHealthCheckInterval().toNanos();
+        long lastActivity = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification notification : notifications) {
+                    handle(notification.getParameter());
+                }
+                lastActivity = System.nanoTime();
+            } else if (System.nanoTime() - lastActivity > healthCheckNanos) {
+                if (!connection.isValid((int) Math.max(1, properties.getHealthCheckInterval().toSeconds()))) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                lastActivity = System.nanoTime();
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        int separator = payload.indexOf(' ');
+        if (separator < 0) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+            return;
+        }
+        if (payload.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        received.increment();
+        String target = payload.substring(separator + 1);
+        if (ALL.equals(target)) {
+            flushes.increment();
+            dispatchRemote(null);
+            return;
+        }
+        try {
+            dispatchRemote(UUID.fromString(target));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload);
+        }
+    }
+
+    private void publishFlush() {
+        flushes.increment();
+        log.info("Cache invalidation listener reconnected, invalidating all cached employees");
+        dispatchRemote(null);
+    }
+
+    // A failing handler must not kill the listener thread
+    private void dispatchRemote(UUID employeeId) {
+        try {
+            eventPublisher.publishEvent(new EmployeeInvalidationEvent(this, employeeId, true));
+        } catch (RuntimeException e) {
+            log.error("Cache invalidation handler failed for {}", employeeId == null ? ALL : employeeId, e);
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
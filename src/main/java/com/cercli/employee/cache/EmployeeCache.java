@@ -0,0 +1,99 @@
+package com.cercli.employee.cache;
+
+import com.cercli.employee.config.CacheProperties;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.event.EmployeeInvalidationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of employees by ID, one rendered DTO per entity code since timestamps are converted
+ * to the entity's time zone. Entries are dropped on {@link EmployeeInvalidationEvent}s from
+ * {@link ClusterInvalidationBus}, and the cache is bypassed while the bus cannot guarantee it hears
+ * about every change.
+ * <p>
+ * A value loaded before an invalidation must not be stored after it. Callers read {@link #generation()}
+ * before loading and pass it to {@link #put}, which refuses the value once the generation has moved on.
+ */
+@Component
+public class EmployeeCache implements MeterBinder {
+
+    private final CacheProperties.EmployeeCache properties;
+    private final ClusterInvalidationBus invalidationBus;
+    private final Cache<UUID, Map<String, EmployeeResponseDto>> employees;
+    private final AtomicLong generation = new AtomicLong();
+
+    public EmployeeCache(CacheProperties cacheProperties, ClusterInvalidationBus invalidationBus) {
+        this.properties = cacheProperties.getEmployee();
+        this.invalidationBus = invalidationBus;
+        this.employees = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    public boolean isUsable() {
+        return properties.isEnabled() && invalidationBus.isConnected();
+    }
+
+    public EmployeeResponseDto get(UUID employeeId, String countryCode) {
+        if (!isUsable()) {
+            return null;
+        }
+        Map<String, EmployeeResponseDto> byCountry = employees.getIfPresent(employeeId);
+        return byCountry == null ? null : byCountry.get(countryCode);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a loaded employee unless an invalidation happened since {@code loadGeneration} was read.
+     */
+    public void put(UUID employeeId, String countryCode, EmployeeResponseDto employee, long loadGeneration) {
+        if (!isUsable() || generation.get() != loadGeneration) {
+            return;
+        }
+        employees.get(employeeId, id -> new ConcurrentHashMap<>()).put(countryCode, employee);
+        // An invalidation between the check above and the put may have missed the new entry
+        if (generation.get() != loadGeneration) {
+            employees.invalidate(employeeId);
+        }
+    }
+
+    /**
+     * @return Up to {@code limit} cached employees, most frequently used first; the per-country maps are live.
+     */
+    public Map<UUID, Map<String, EmployeeResponseDto>> hottest(int limit) {
+        return employees.policy().eviction()
+                .map(eviction -> eviction.hottest(limit))
+                .orElseGet(Map::of);
+    }
+
+    @EventListener
+    public void onInvalidation(EmployeeInvalidationEvent event) {
+        generation.incrementAndGet();
+        if (event.isAll()) {
+            employees.invalidateAll();
+        } else {
+            employees.invalidate(event.getEmployeeId());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, employees, "employee");
+    }
+}
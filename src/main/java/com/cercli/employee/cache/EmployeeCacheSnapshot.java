@@ -0,0 +1,115 @@
+package com.cercli.employee.cache;
+
+import com.cercli.employee.config.CacheProperties;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.snapshot.SnapshotCodec;
+import com.cercli.employee.snapshot.SnapshotParticipant;
+import com.cercli.employee.snapshot.SnapshotReader;
+import com.cercli.employee.snapshot.SnapshotService;
+import com.cercli.employee.snapshot.SnapshotWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Persists the most frequently used entries of {@link EmployeeCache} and loads them back on startup, so a
+ * restarted node does not send its first wave of lookups to the database.
+ * <p>
+ * Entries of employees modified since the snapshot was taken are left out and load on first use. The
+ * cache generation is read before that check, so an invalidation arriving meanwhile stops the preload.
+ */
+@Component
+@Slf4j
+public class EmployeeCacheSnapshot implements CacheWarmer, SnapshotParticipant {
+
+    static final String NAME = "employee-cache";
+    static final SnapshotCodec<Entry> CODEC = new EntryCodec();
+
+    private final EmployeeCache employeeCache;
+    private final EmployeeRepository employeeRepository;
+    private final SnapshotService snapshots;
+    private final CacheProperties.EmployeeCache properties;
+
+    public EmployeeCacheSnapshot(EmployeeCache employeeCache, EmployeeRepository employeeRepository,
+                                 SnapshotService snapshots, CacheProperties cacheProperties) {
+        this.employeeCache = employeeCache;
+        this.employeeRepository = employeeRepository;
+        this.snapshots = snapshots;
+        this.properties = cacheProperties.getEmployee();
+    }
+
+    @Override
+    public int preload(int limit) {
+        if (!employeeCache.isUsable()) {
+            return 0;
+        }
+        return snapshots.read(NAME, CODEC, limit).map(snapshot -> {
+            long generation = employeeCache.generation();
+            Set<UUID> modified = employeeRepository.findIdsModifiedSince(snapshot.reconcileFrom());
+            int loaded = 0;
+            for (Entry entry : snapshot.records()) {
+                UUID employeeId = entry.employee().getId();
+                if (!modified.contains(employeeId)) {
+                    employeeCache.put(employeeId, entry.countryCode(), entry.employee(), generation);
+                    loaded++;
+                }
+            }
+            log.info("Loaded {} cached employees from the snapshot, {} changed since", loaded, snapshot.records().size() - loaded);
+            return loaded;
+        }).orElse(0);
+    }
+
+    // Entries are only trusted while invalidations are heard, so an unusable cache is not written
+    @Override
+    public void writeSnapshot(SnapshotService snapshots) {
+        if (employeeCache.isUsable()) {
+            snapshots.write(NAME, this::hottestEntries, CODEC);
+        }
+    }
+
+    private List<Entry> hottestEntries() {
+        List<Entry> entries = new ArrayList<>();
+        employeeCache.hottest((int) Math.min(properties.getMaxEntries(), Integer.MAX_VALUE))
+                .forEach((employeeId, byCountry) -> Map.copyOf(byCountry)
+                        .forEach((countryCode, employee) -> entries.add(new Entry(countryCode, employee))));
+        return entries;
+    }
+
+    record Entry(String countryCode, EmployeeResponseDto employee) {
+    }
+
+    private static class EntryCodec implements SnapshotCodec<Entry> {
+
+        @Override
+        public void write(Entry entry, SnapshotWriter out) {
+            EmployeeResponseDto employee = entry.employee();
+            out.putString(entry.countryCode());
+            out.putUuid(employee.getId());
+            out.putString(employee.getFirstName());
+            out.putString(employee.getLastName());
+            out.putString(employee.getPhoneNumber());
+            out.putString(employee.getPosition());
+            out.putString(employee.getDepartment());
+            out.putString(employee.getEmail());
+            out.putNullableFloat(employee.getSalary());
+            out.putDate(employee.getHireDate());
+            out.putDateTime(employee.getCreatedAt());
+            out.putDateTime(employee.getModifiedAt());
+            out.putUuid(employee.getManagerId());
+        }
+
+        @Override
+        public Entry read(SnapshotReader in) {
+            String countryCode = in.getString();
+            return new Entry(countryCode, new EmployeeResponseDto(in.getUuid(), in.getString(), in.getString(),
+                    in.getString(), in.getString(), in.getString(), in.getString(), in.getNullableFloat(),
+                    in.getDate(), in.getDateTime(), in.getDateTime(), in.getUuid()));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.cercli.employee.cache;
+
+import com.cercli.employee.config.IdempotencyProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded, TTL-evicted store of responses to requests carrying an {@code Idempotency-Key}, plus the set of
+ * keys whose original request is still being processed.
+ */
+@Component
+public class IdempotencyStore {
+
+    // Approximate fixed cost of an entry besides its body
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final Cache<String, StoredResponse> responses;
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumWeight(properties.getMaxMemory().toBytes())
+                .weigher((String key, StoredResponse response) -> ENTRY_OVERHEAD_BYTES + key.length() + response.body().length)
+                .build();
+    }
+
+    public StoredResponse get(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    /**
+     * Registers the caller as the owner of {@code key}.
+     *
+     * @return null if the caller now owns the key, otherwise the future of the request that already owns it.
+     */
+    public CompletableFuture<StoredResponse> claim(String key, CompletableFuture<StoredResponse> owner) {
+        return inFlight.putIfAbsent(key, owner);
+    }
+
+    /**
+     * Releases a key claimed with {@link #claim}, storing the response when there is one.
+     */
+    public void complete(String key, CompletableFuture<StoredResponse> owner, StoredResponse response) {
+        if (response != null) {
+            responses.put(key, response);
+        }
+        inFlight.remove(key, owner);
+        owner.complete(response);
+    }
+
+    public record StoredResponse(String fingerprint, int status, String contentType, byte[] body) {}
+}
@@ -0,0 +1,99 @@
+package com.cercli.employee.cache;
+
+import com.cercli.employee.config.CacheProperties;
+import com.cercli.employee.event.EmployeeInvalidationEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serialized {@code GET /api/employees} responses, ready to be written back byte for byte.
+ * <p>
+ * A list page can change with any employee, so entries are not invalidated individually. Every
+ * {@link EmployeeInvalidationEvent}, local or from another node, bumps a global write epoch that is part of
+ * every key. Pages rendered under an older epoch can no longer be found and are cleared. Like
+ * {@link EmployeeCache}, callers read {@link #epoch()} before rendering a page and pass it to {@link #put},
+ * so a page rendered concurrently with a write is never stored under the new epoch.
+ */
+@Component
+public class ListPageCache implements MeterBinder {
+
+    // Approximate fixed cost of an entry besides its body
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final CacheProperties.ListPages properties;
+    private final ClusterInvalidationBus invalidationBus;
+    private final Cache<PageKey, CachedPage> pages;
+    private final AtomicLong epoch = new AtomicLong();
+
+    public ListPageCache(CacheProperties cacheProperties, ClusterInvalidationBus invalidationBus) {
+        this.properties = cacheProperties.getListPages();
+        this.invalidationBus = invalidationBus;
+        this.pages = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxMemory().toBytes())
+                .weigher((PageKey key, CachedPage page) -> ENTRY_OVERHEAD_BYTES + page.body().length)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    public boolean isUsable() {
+        return properties.isEnabled() && invalidationBus.isConnected();
+    }
+
+    public long epoch() {
+        return epoch.get();
+    }
+
+    public CachedPage get(String request, long currentEpoch) {
+        if (!isUsable()) {
+            return null;
+        }
+        return pages.getIfPresent(new PageKey(currentEpoch, request));
+    }
+
+    /**
+     * Stores a rendered page unless a write happened since {@code renderEpoch} was read.
+     */
+    public void put(String request, long renderEpoch, CachedPage page) {
+        if (!isUsable() || epoch.get() != renderEpoch) {
+            return;
+        }
+        PageKey key = new PageKey(renderEpoch, request);
+        pages.put(key, page);
+        // A write between the check above and the put may have cleared the cache before the entry existed
+        if (epoch.get() != renderEpoch) {
+            pages.invalidate(key);
+        }
+    }
+
+    @EventListener
+    public void onInvalidation(EmployeeInvalidationEvent event) {
+        epoch.incrementAndGet();
+        pages.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, pages, "employee.list");
+        Gauge.builder("employee.list.cache.hit.ratio", pages, cache -> cache.stats().hitRate())
+                .description("Share of cacheable list requests served from serialized pages")
+                .register(registry);
+        Gauge.builder("employee.list.cache.bytes", pages, cache -> cache.policy().eviction()
+                        .flatMap(eviction -> eviction.weightedSize().stream().boxed().findFirst())
+                        .orElse(0L))
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private record PageKey(long epoch, String request) {}
+
+    public record CachedPage(String contentType, byte[] body) {}
+}
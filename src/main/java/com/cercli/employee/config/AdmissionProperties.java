@@ -0,0 +1,66 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "app.admission")
+@Getter
+@Setter
+public class AdmissionProperties {
+
+    private boolean enabled = true;
+    // How long a request may wait for a token or a concurrency slot before it is shed
+    private Duration queueTimeout = Duration.ofMillis(50);
+    private EntityLimits defaults = new EntityLimits(new Limits(200, 400, 50), new Limits(50, 100, 10));
+    // Per X-Entity code overrides of the defaults; an endpoint class left out falls back to defaults
+    private Map<String, EntityLimits> entities = new HashMap<>();
+
+    public EntityLimits limitsFor(String countryCode) {
+        EntityLimits override = entities.get(countryCode);
+        if (override == null) {
+            return defaults;
+        }
+        return new EntityLimits(
+                override.getRead() != null ? override.getRead() : defaults.getRead(),
+                override.getWrite() != null ? override.getWrite() : defaults.getWrite());
+    }
+
+    @Getter
+    @Setter
+    public static class EntityLimits {
+        private Limits read;
+        private Limits write;
+
+        public EntityLimits() {
+        }
+
+        public EntityLimits(Limits read, Limits write) {
+            this.read = read;
+            this.write = write;
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Limits {
+        private double ratePerSecond;
+        private int burst;
+        private int maxConcurrent;
+
+        public Limits() {
+        }
+
+        public Limits(double ratePerSecond, int burst, int maxConcurrent) {
+            this.ratePerSecond = ratePerSecond;
+            this.burst = burst;
+            this.maxConcurrent = maxConcurrent;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.cache")
+@Getter
+@Setter
+public class CacheProperties {
+
+    private EmployeeCache employee = new EmployeeCache();
+    private ListPages listPages = new ListPages();
+    private Invalidation invalidation = new Invalidation();
+
+    @Getter
+    @Setter
+    public static class EmployeeCache {
+        private boolean enabled = true;
+        private long maxEntries = 10_000;
+        // Upper bound on staleness should an invalidation ever be lost
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class ListPages {
+        private boolean enabled = true;
+        // Bound on the serialized response bytes held; least recently used pages are evicted first
+        private DataSize maxMemory = DataSize.ofMegabytes(32);
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Invalidation {
+        // When disabled, changes are only applied to the caches of the node that made them
+        private boolean enabled = true;
+        // PostgreSQL NOTIFY channel shared by all nodes; must be a plain lower-case identifier
+        private String channel = "employee_cache_invalidation";
+        // How long the listener blocks waiting for notifications before checking for shutdown
+        private Duration pollInterval = Duration.ofMillis(500);
+        // How often an idle listener connection is validated, so a silently dropped connection is noticed
+        private Duration healthCheckInterval = Duration.ofSeconds(10);
+        private Duration reconnectInitialBackoff = Duration.ofMillis(500);
+        private Duration reconnectMaxBackoff = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,19 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.coalescing")
+@Getter
+@Setter
+public class CoalescingProperties {
+
+    private boolean enabled = true;
+    // How long a request waits for an identical in-flight request before failing with 503
+    private Duration maxWait = Duration.ofSeconds(5);
+}
@@ -0,0 +1,25 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.conflict-retry")
+@Getter
+@Setter
+public class ConflictRetryProperties {
+
+    // Attempts including the first one; after the last conflict the caller gets 409
+    private int maxAttempts = 5;
+    // Each retry waits a random time up to initialBackoff * 2^(retry - 1), capped at maxBackoff
+    private Duration initialBackoff = Duration.ofMillis(20);
+    private Duration maxBackoff = Duration.ofMillis(500);
+    // Locks serializing writes to the same employee on this node
+    private int lockStripes = 256;
+    // A write that waits longer for its lock goes ahead unserialized and relies on the version check
+    private Duration lockTimeout = Duration.ofSeconds(2);
+}
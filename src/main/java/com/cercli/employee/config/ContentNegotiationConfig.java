@@ -0,0 +1,22 @@
+package com.cercli.employee.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+/**
+ * Serves {@code application/cbor} to clients that ask for it with {@code Accept: application/cbor},
+ * next to the default JSON. The CBOR mapper is built from Spring Boot's Jackson builder, so it
+ * applies the same modules and date settings as the JSON mapper and the payloads carry the same
+ * fields.
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder jacksonObjectMapperBuilder) {
+        return new MappingJackson2CborHttpMessageConverter(jacksonObjectMapperBuilder.factory(new CBORFactory()).build());
+    }
+}
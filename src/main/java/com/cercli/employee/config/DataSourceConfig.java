@@ -0,0 +1,43 @@
+package com.cercli.employee.config;
+
+import com.cercli.employee.datasource.DataSourcePools;
+import com.cercli.employee.datasource.DataSourceRoute;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces Spring Boot's single connection pool with the read, write and history pools of
+ * {@link DataSourcePools}, configured under {@code app.datasource}. JPA and {@code JdbcTemplate} use the
+ * one routing data source; Flyway migrates through the write pool.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public DataSourcePools dataSourcePools(DataSourceProperties dataSourceProperties,
+                                           DataSourcePoolProperties poolProperties,
+                                           ObjectProvider<MeterRegistry> meterRegistry) {
+        return DataSourcePools.create(dataSourceProperties, poolProperties, meterRegistry.getIfAvailable());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourcePools dataSourcePools) {
+        return dataSourcePools.routingDataSource();
+    }
+
+    // The routing data source hands out a lazy connection even when the database is down, and Flyway does
+    // not close the connection it fails to read metadata from. The connection span opened for it would then
+    // stay current on the main thread and parent everything the thread traces afterwards.
+    @Bean
+    public FlywayConfigurationCustomizer flywayWritePoolCustomizer(DataSourcePools dataSourcePools) {
+        return configuration -> configuration.dataSource(dataSourcePools.pool(DataSourceRoute.WRITE));
+    }
+}
@@ -0,0 +1,45 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.datasource")
+@Getter
+@Setter
+public class DataSourcePoolProperties {
+
+    // Read-only transactions, e.g. employee lookups, listings and reports
+    private Pool read = new Pool(10, 2);
+    // Every other transaction, and statements run outside a transaction
+    private Pool write = new Pool(10, 2);
+    // History written in its own transaction while the change that caused it still holds a write connection
+    private Pool history = new Pool(5, 1);
+
+    @Getter
+    @Setter
+    public static class Pool {
+        // Connection settings not given here are taken from spring.datasource, e.g. a replica URL for reads
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize;
+        private int minimumIdle;
+        // How long a caller waits for a connection before the checkout fails
+        private Duration connectionTimeout = Duration.ofSeconds(30);
+        private Duration idleTimeout = Duration.ofMinutes(10);
+        private Duration maxLifetime = Duration.ofMinutes(30);
+
+        public Pool() {
+        }
+
+        Pool(int maximumPoolSize, int minimumIdle) {
+            this.maximumPoolSize = maximumPoolSize;
+            this.minimumIdle = minimumIdle;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+@Component
+@ConfigurationProperties(prefix = "app.documents")
+@Getter
+@Setter
+public class DocumentProperties {
+
+    // Root of the content store; files are kept under <root>/<first 2 hash chars>/<next 2>/<sha256>
+    private String storageDirectory = System.getProperty("java.io.tmpdir") + "/employee-documents";
+    // Uploads are aborted with 413 once they grow beyond this
+    private DataSize maxSize = DataSize.ofMegabytes(100);
+}
@@ -0,0 +1,29 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.duplicates")
+@Getter
+@Setter
+public class DuplicateProperties {
+
+    // What creating an employee that resembles existing ones does: OFF, WARN (log and count) or REJECT (409)
+    private CreateCheck onCreate = CreateCheck.WARN;
+    // Score from 0 to 1 from which an employee is reported as a likely duplicate
+    private double minScore = 0.8;
+    // Blocks with this many employees are too common to tell people apart and are skipped
+    private int maxBlockSize = 200;
+    // Employees loaded and scored per lookup, those sharing the most keys first
+    private int maxCandidates = 50;
+    // Computes the keys of employees that have none, in the background after startup
+    private boolean backfillOnStartup = true;
+    private int backfillChunkSize = 1000;
+
+    public enum CreateCheck {
+        OFF, WARN, REJECT
+    }
+}
@@ -0,0 +1,82 @@
+package com.cercli.employee.config;
+
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.GraphqlErrorBuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.DataFetcherExceptionResolver;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+
+import java.util.Map;
+
+/**
+ * Limits on GraphQL queries, checked before any field is fetched, and the country context for resolving them.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class GraphQlConfig {
+
+    // GraphQL context key holding the X-Entity country code
+    public static final String COUNTRY_CODE = "countryCode";
+
+    private static final String ENTITY_KEY = "X_ENTITY_CODE";
+
+    private final GraphQlLimitsProperties limits;
+    private final InternationalizationProperties intlProperties;
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation() {
+        return new MaxQueryDepthInstrumentation(limits.getMaxDepth());
+    }
+
+    /**
+     * List fields multiply the cost of their selection by the most elements they can return, so a page of
+     * employees with their history costs what fetching it would.
+     */
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation() {
+        FieldComplexityCalculator calculator = (environment, childComplexity) -> {
+            int elements = switch (environment.getField().getName()) {
+                case "employees" -> Math.min(intArgument(environment.getArguments(), "size", 20), limits.getMaxPageSize());
+                case "directReports" -> limits.getMaxDirectReports();
+                case "history" -> limits.getMaxHistoryPerEmployee();
+                default -> 1;
+            };
+            return 1 + childComplexity * Math.max(elements, 1);
+        };
+        return new MaxQueryComplexityInstrumentation(limits.getMaxComplexity(), calculator);
+    }
+
+    /**
+     * Hands the country code resolved by {@code EntityCodeExtractorFilter} to the resolvers, which may run
+     * outside the request thread.
+     */
+    @Bean
+    public WebGraphQlInterceptor entityCodeInterceptor() {
+        return (request, chain) -> {
+            Object entityCode = request.getAttributes().get(ENTITY_KEY);
+            String countryCode = entityCode == null ? intlProperties.getDefaultCountryCode() : entityCode.toString();
+            request.configureExecutionInput((input, builder) -> builder.graphQLContext(Map.of(COUNTRY_CODE, countryCode)).build());
+            return chain.next(request);
+        };
+    }
+
+    /**
+     * Reports invalid arguments as {@code BAD_REQUEST} errors with their message, as the REST endpoints answer
+     * them with {@code 400}, instead of the default {@code INTERNAL_ERROR}.
+     */
+    @Bean
+    public DataFetcherExceptionResolver badRequestExceptionResolver() {
+        return DataFetcherExceptionResolver.forSingleError((exception, environment) -> exception instanceof IllegalArgumentException
+                ? GraphqlErrorBuilder.newError(environment).errorType(ErrorType.BAD_REQUEST).message(exception.getMessage()).build()
+                : null);
+    }
+
+    private static int intArgument(Map<String, Object> arguments, String name, int defaultValue) {
+        return arguments.get(name) instanceof Number number ? number.intValue() : defaultValue;
+    }
+}
@@ -0,0 +1,21 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.graphql")
+@Getter
+@Setter
+public class GraphQlLimitsProperties {
+
+    // Deepest field nesting a query may have, e.g. employee { manager { manager { id } } } is 4
+    private int maxDepth = 8;
+    // Estimated fields resolved per query, list fields counting their element fields once per possible element
+    private int maxComplexity = 20000;
+    private int maxPageSize = 100;
+    private int maxDirectReports = 50;
+    private int maxHistoryPerEmployee = 20;
+}
@@ -0,0 +1,16 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.history")
+@Getter
+@Setter
+public class HistoryProperties {
+
+    // A full snapshot is stored every this many versions, so an as-of read replays fewer deltas than this
+    private int snapshotInterval = 20;
+}
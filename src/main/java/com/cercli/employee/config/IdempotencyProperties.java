@@ -0,0 +1,25 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+
+    // How long a stored response is replayed for a repeated key
+    private Duration ttl = Duration.ofHours(24);
+    // Upper bound on the memory held by stored responses
+    private DataSize maxMemory = DataSize.ofMegabytes(64);
+    // How long a duplicate waits for the in-flight original before giving up with 409
+    private Duration inFlightTimeout = Duration.ofSeconds(10);
+    // Requests with larger bodies are rejected when they carry an Idempotency-Key
+    private DataSize maxRequestBody = DataSize.ofKilobytes(64);
+}
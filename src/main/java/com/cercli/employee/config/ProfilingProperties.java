@@ -0,0 +1,27 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.profiling")
+@Getter
+@Setter
+public class ProfilingProperties {
+
+    // Required in X-Admin-Token by the profiling endpoints; while empty they are disabled
+    private String adminToken = "";
+    // JFR settings the recording starts from: "default" (~1% overhead) or "profile" (~2%, with method sampling)
+    private String settings = "profile";
+    // Used when a start request names no duration; requests are capped at maxDuration
+    private Duration defaultDuration = Duration.ofMinutes(1);
+    private Duration maxDuration = Duration.ofMinutes(10);
+    // Older chunks are discarded once the recording grows beyond this
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+    private String outputDirectory = System.getProperty("java.io.tmpdir") + "/employee-jfr";
+}
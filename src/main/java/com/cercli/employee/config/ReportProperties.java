@@ -0,0 +1,31 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.reports")
+@Getter
+@Setter
+public class ReportProperties {
+
+    // Directory for report files. Share it between nodes for downloads to work on any of them and for a job
+    // to resume where another node left off; a node that cannot see a job's partial output restarts the job.
+    private Path outputDirectory = Path.of(System.getProperty("java.io.tmpdir"), "employee-reports");
+    private int workerThreads = 2;
+    // Jobs waiting for a worker on this node; submissions beyond it are rejected with 503
+    private int queueCapacity = 50;
+    // Rows read per database round trip and written between checkpoints
+    private int chunkSize = 1000;
+    // Chunk reads per second shared by all workers, so reports cannot crowd out interactive traffic
+    private double maxChunksPerSecond = 20;
+    // How long a running job stays with its node without a checkpoint before another node may resume it
+    private Duration lease = Duration.ofMinutes(2);
+    // How often queued and abandoned jobs are picked up
+    private Duration sweepInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,19 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.search")
+@Getter
+@Setter
+public class SearchProperties {
+
+    // Hard cap on indexed employees; further employees are not indexed and a warning is logged
+    private int maxDocuments = 1_000_000;
+    // Most ranked hits a query keeps; up to four times as many documents are scored, which keeps short prefixes cheap
+    private int maxCandidates = 5_000;
+    private int maxPageSize = 100;
+}
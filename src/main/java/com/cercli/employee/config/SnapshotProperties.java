@@ -0,0 +1,27 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.snapshot")
+@Getter
+@Setter
+public class SnapshotProperties {
+
+    private boolean enabled = true;
+    // Local directory the snapshot files are written to; each node keeps its own
+    private String directory = System.getProperty("java.io.tmpdir") + "/employee-snapshots";
+    // How often the snapshots are rewritten; they are also written on shutdown
+    private Duration interval = Duration.ofMinutes(5);
+    // Older snapshots are ignored on startup
+    private Duration maxAge = Duration.ofHours(6);
+    // Rows modified this long before a snapshot was taken are reloaded too, covering commit lag and clock skew
+    private Duration reconcileOverlap = Duration.ofMinutes(2);
+    // Bump to discard every existing snapshot, e.g. after changing time zones or fixing data in place
+    private long epoch = 1;
+}
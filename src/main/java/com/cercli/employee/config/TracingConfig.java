@@ -0,0 +1,43 @@
+package com.cercli.employee.config;
+
+import com.cercli.employee.tracing.FileSpanExporter;
+import com.cercli.employee.tracing.FlushTracingIntegrator;
+import com.cercli.employee.tracing.InMemorySpanExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Span exporters for local use and the Hibernate flush span. Spring Boot hands every {@code SpanExporter}
+ * bean to the OpenTelemetry SDK, next to the OTLP exporter it configures from
+ * {@code management.otlp.tracing.endpoint}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing", name = "exporter", havingValue = "memory")
+    public InMemorySpanExporter inMemorySpanExporter(TracingProperties properties) {
+        return new InMemorySpanExporter(properties.getMemoryCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing", name = "exporter", havingValue = "file")
+    public FileSpanExporter fileSpanExporter(TracingProperties properties, ObjectMapper objectMapper) {
+        return new FileSpanExporter(Path.of(properties.getFilePath()), objectMapper);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer flushTracingCustomizer(ObservationRegistry observationRegistry) {
+        IntegratorProvider integrators = () -> List.of(new FlushTracingIntegrator(observationRegistry));
+        return properties -> properties.put(JpaSettings.INTEGRATOR_PROVIDER, integrators);
+    }
+}
@@ -0,0 +1,24 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.tracing")
+@Getter
+@Setter
+public class TracingProperties {
+
+    // Local span exporter: NONE, MEMORY (kept in the JVM, for tests) or FILE (JSON lines at filePath).
+    // Export to a collector is configured separately with management.otlp.tracing.endpoint.
+    private Exporter exporter = Exporter.NONE;
+    private String filePath = System.getProperty("java.io.tmpdir") + "/employee-spans.jsonl";
+    // The in-memory exporter drops its oldest spans beyond this
+    private int memoryCapacity = 10000;
+
+    public enum Exporter {
+        NONE, MEMORY, FILE
+    }
+}
@@ -0,0 +1,25 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.warmup")
+@Getter
+@Setter
+public class WarmupProperties {
+
+    private boolean enabled = true;
+    // Upper bound on passes over the get/list/add code paths
+    private int iterations = 200;
+    // Warm-up stops after this long even if iterations remain
+    private Duration maxDuration = Duration.ofSeconds(20);
+    // Connections opened up front in each pool so they are full before traffic arrives
+    private int poolConnections = 10;
+    // Entries each registered CacheWarmer is asked to preload
+    private int preloadLimit = 500;
+}
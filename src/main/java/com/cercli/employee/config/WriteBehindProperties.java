@@ -0,0 +1,32 @@
+package com.cercli.employee.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "app.write-behind")
+@Getter
+@Setter
+public class WriteBehindProperties {
+
+    // When false, Prefer: respond-async is ignored and writes are applied before responding
+    private boolean enabled = true;
+    // Accepted writes waiting for the writer on this node; submissions beyond it are rejected with 503
+    private int queueCapacity = 10000;
+    // Writes committed together in one transaction
+    private int maxBatchSize = 200;
+    // How long the first write of a batch waits for others to join it
+    private Duration maxBatchDelay = Duration.ofMillis(10);
+    // How long an operation's outcome can be looked up after it completed
+    private Duration operationTtl = Duration.ofHours(1);
+    // How long an accepted write stays with its node before another node may apply it
+    private Duration lease = Duration.ofMinutes(1);
+    // How often released and abandoned writes are picked up and expired outcomes deleted
+    private Duration sweepInterval = Duration.ofSeconds(10);
+    // How long shutdown waits for queued writes to be committed
+    private Duration shutdownTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,13 @@
+package com.cercli.employee.contracts;
+
+import com.cercli.employee.dto.DuplicateCandidateDto;
+import com.cercli.employee.dto.EmployeeDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface DuplicateDetectionService {
+    List<DuplicateCandidateDto> findDuplicates(EmployeeDto employeeDto);
+    List<DuplicateCandidateDto> findDuplicates(UUID employeeId);
+    void checkBeforeCreate(EmployeeDto employeeDto);
+}
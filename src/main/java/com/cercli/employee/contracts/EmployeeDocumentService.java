@@ -0,0 +1,14 @@
+package com.cercli.employee.contracts;
+
+import com.cercli.employee.documents.DocumentContent;
+import com.cercli.employee.dto.EmployeeDocumentDto;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+public interface EmployeeDocumentService {
+    EmployeeDocumentDto addDocument(UUID employeeId, String fileName, String contentType, InputStream content, String countryCode);
+    List<EmployeeDocumentDto> getDocuments(UUID employeeId, String countryCode);
+    DocumentContent getDocumentContent(UUID employeeId, UUID documentId);
+}
@@ -0,0 +1,15 @@
+package com.cercli.employee.contracts;
+
+import com.cercli.employee.dto.EmployeeHistoryDto;
+import com.cercli.employee.dto.EmployeeResponseDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface EmployeeGraphService {
+    Map<UUID, EmployeeResponseDto> getEmployees(Collection<UUID> employeeIds, String countryCode);
+    Map<UUID, List<EmployeeResponseDto>> getDirectReports(Collection<UUID> managerIds, int limitPerManager, String countryCode);
+    Map<UUID, List<EmployeeHistoryDto>> getHistory(Collection<UUID> employeeIds, int limitPerEmployee, String countryCode);
+}
@@ -0,0 +1,9 @@
+package com.cercli.employee.contracts;
+
+import com.cercli.employee.dto.EmployeeSearchResultDto;
+
+import java.util.List;
+
+public interface EmployeeSearchService {
+    List<EmployeeSearchResultDto> search(String query, int page, int size);
+}
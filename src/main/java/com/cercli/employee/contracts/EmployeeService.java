@@ -1,15 +1,23 @@
 package com.cercli.employee.contracts;
 
 import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.EmployeeField;
 import com.cercli.employee.dto.EmployeeResponseDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface EmployeeService {
     EmployeeResponseDto addEmployee(EmployeeDto employeeDto, String countryCode);
     EmployeeResponseDto updateEmployee(UUID employeeId, EmployeeDto employeeDto, String countryCode);
     Optional<EmployeeResponseDto> getEmployee(UUID employeeId, String countryCode);
+    List<EmployeeResponseDto> getEmployees(Collection<UUID> employeeIds, String countryCode);
     List<EmployeeResponseDto> getAllEmployees(int page, int size, String countryCode);
+    List<EmployeeResponseDto> getEmployeesAfter(UUID after, int size, String countryCode);
+    Optional<Map<String, Object>> getEmployeeFields(UUID employeeId, Set<EmployeeField> fields, String countryCode);
+    List<Map<String, Object>> getAllEmployeeFields(int page, int size, Set<EmployeeField> fields, String countryCode);
 }
@@ -0,0 +1,13 @@
+package com.cercli.employee.contracts;
+
+import com.cercli.employee.dto.EmployeeResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface EmployeeTimelineService {
+    Optional<EmployeeResponseDto> getEmployeeAsOf(UUID employeeId, LocalDateTime asOf, String countryCode);
+    List<EmployeeResponseDto> getAllEmployeesAsOf(int page, int size, LocalDateTime asOf, String countryCode);
+}
@@ -0,0 +1,13 @@
+package com.cercli.employee.contracts;
+
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.WriteOperationDto;
+
+import java.util.UUID;
+
+public interface EmployeeWriteOperationService {
+    boolean isEnabled();
+    WriteOperationDto submitCreate(EmployeeDto employeeDto, String countryCode);
+    WriteOperationDto submitUpdate(UUID employeeId, EmployeeDto employeeDto, String countryCode);
+    WriteOperationDto getOperation(UUID operationId, String countryCode);
+}
@@ -0,0 +1,14 @@
+package com.cercli.employee.contracts;
+
+import com.cercli.employee.dto.OrgChartNodeDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OrgChartService {
+    List<OrgChartNodeDto> getDirectReports(UUID managerId);
+    List<OrgChartNodeDto> getSubtree(UUID managerId, int page, int size);
+    List<OrgChartNodeDto> getManagementChain(UUID employeeId);
+    long getHeadcount(UUID managerId);
+    OrgChartNodeDto assignManager(UUID employeeId, UUID managerId);
+}
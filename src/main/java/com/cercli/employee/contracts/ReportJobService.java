@@ -0,0 +1,13 @@
+package com.cercli.employee.contracts;
+
+import com.cercli.employee.dto.ReportJobDto;
+import com.cercli.employee.entity.ReportType;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+public interface ReportJobService {
+    ReportJobDto submit(ReportType type, String countryCode);
+    ReportJobDto getJob(UUID jobId, String countryCode);
+    Path getOutput(UUID jobId);
+}
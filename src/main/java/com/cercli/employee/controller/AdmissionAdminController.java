@@ -0,0 +1,35 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.admission.AdmissionRegistry;
+import com.cercli.employee.dto.AdmissionStatusDto;
+import com.cercli.employee.dto.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/admission")
+@RequiredArgsConstructor
+@Tag(name = "Administration", description = "Operational endpoints")
+public class AdmissionAdminController {
+
+    private final AdmissionRegistry admissionRegistry;
+    private final MessageSource messageSource;
+
+    @Operation(summary = "Get admission control usage", description = "Current limits, in-flight requests and shed counts per entity and endpoint class.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<AdmissionStatusDto>>> getAdmissionStatus() {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(),
+                messageSource.getMessage("admin.admission.fetch.success", null, LocaleContextHolder.getLocale()),
+                admissionRegistry.snapshot()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.contracts.DuplicateDetectionService;
+import com.cercli.employee.dto.ApiResponse;
+import com.cercli.employee.dto.DuplicateCandidateDto;
+import com.cercli.employee.dto.EmployeeDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Likely duplicates of one employee. To scan the whole directory, submit a {@code DUPLICATE_CANDIDATES}
+ * report through {@link ReportController}.
+ */
+@RestController
+@RequestMapping("/api/employees")
+@RequiredArgsConstructor
+@Tag(name = "Duplicate Detection", description = "Finding employees recorded more than once")
+public class DuplicateDetectionController {
+
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final MessageSource messageSource;
+
+    @Operation(summary = "Check a new employee for duplicates", description = "Existing employees that are likely the same person as the given one, best match first. Nothing is created.")
+    @PostMapping("/duplicates/check")
+    public ResponseEntity<ApiResponse<List<DuplicateCandidateDto>>> checkDuplicates(@Valid @RequestBody EmployeeDto employeeDto) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.duplicates.fetch.success"),
+                duplicateDetectionService.findDuplicates(employeeDto)));
+    }
+
+    @Operation(summary = "Get duplicates of an employee", description = "Other employees that are likely the same person, best match first.")
+    @GetMapping("/{id}/duplicates")
+    public ResponseEntity<ApiResponse<List<DuplicateCandidateDto>>> getDuplicates(@PathVariable UUID id) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.duplicates.fetch.success"),
+                duplicateDetectionService.findDuplicates(id)));
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
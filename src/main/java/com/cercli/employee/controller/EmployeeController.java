@@ -2,22 +2,32 @@ package com.cercli.employee.controller;
 
 import com.cercli.employee.dto.ApiResponse;
 import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.EmployeeField;
 import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.dto.EmployeeSearchResultDto;
+import com.cercli.employee.contracts.EmployeeSearchService;
 import com.cercli.employee.contracts.EmployeeService;
+import com.cercli.employee.contracts.EmployeeTimelineService;
 import com.cercli.employee.util.EntityContextUtils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -27,7 +37,12 @@ import java.util.UUID;
 @Tag(name = "Employee Management", description = "Operations related to employee management")
 public class EmployeeController {
 
+    // Upper bound on the IDs of one batch lookup
+    static final int MAX_BATCH_IDS = 100;
+
     private final EmployeeService employeeService;
+    private final EmployeeSearchService employeeSearchService;
+    private final EmployeeTimelineService employeeTimelineService;
     private final EntityContextUtils entityContextUtils;
     private final MessageSource messageSource;
 
@@ -45,21 +60,35 @@ public class EmployeeController {
         return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.update.success"), updatedEmployee));
     }
 
-    @Operation(summary = "Get employee details", description = "Fetches details of an employee by ID.")
+    @Operation(summary = "Get employee details", description = "Fetches details of an employee by ID. The response carries an ETag; send it back in If-None-Match to get 304 Not Modified while the employee is unchanged.")
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<EmployeeResponseDto>> getEmployee(@PathVariable UUID id) {
-        System.out.println("Entered get Id");
+        log.debug("Fetching employee with ID: {}", id);
 
         Optional<EmployeeResponseDto> employee = employeeService.getEmployee(id, entityContextUtils.getCountryCode());
 
         if (employee.isPresent()) {
-            return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.fetch.success"), employee.get()));
+            // A matching If-None-Match turns this into 304 Not Modified without a body
+            return ResponseEntity.ok().eTag(etag(employee.get()))
+                    .body(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.fetch.success"), employee.get()));
         } else {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(new ApiResponse<>(HttpStatus.NOT_FOUND.value(), getMessage("employee.not.found"), null));
         }
     }
 
+    @Operation(summary = "Get employees by ID", description = "Fetches up to " + MAX_BATCH_IDS + " employees in one request, e.g. ids=id1,id2. Unknown IDs are left out of the result.")
+    @GetMapping(params = {"ids", "!after", "!fields", "!asOf"})
+    public ResponseEntity<ApiResponse<List<EmployeeResponseDto>>> getEmployeesByIds(@RequestParam List<UUID> ids) {
+        Set<UUID> distinctIds = new LinkedHashSet<>(ids);
+        if (distinctIds.size() > MAX_BATCH_IDS) {
+            throw new IllegalArgumentException(messageSource.getMessage("employee.batch.too.large",
+                    new Object[]{MAX_BATCH_IDS}, LocaleContextHolder.getLocale()));
+        }
+        List<EmployeeResponseDto> employees = employeeService.getEmployees(distinctIds, entityContextUtils.getCountryCode());
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.fetch.all.success"), employees));
+    }
+
     @Operation(summary = "Get all employees", description = "Fetches a list of all employees with pagination.")
     @GetMapping
     public ResponseEntity<ApiResponse<List<EmployeeResponseDto>>> getAllEmployees(@RequestParam(defaultValue = "0") int page,
@@ -69,6 +98,76 @@ public class EmployeeController {
         return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.fetch.all.success"), employees));
     }
 
+    @Operation(summary = "Get employees after a cursor", description = "Fetches the employees whose ID follows after, in creation order. Pass the last ID of the previous page; the nil UUID starts from the beginning.")
+    @GetMapping(params = {"after", "!fields", "!asOf"})
+    public ResponseEntity<ApiResponse<List<EmployeeResponseDto>>> getEmployeesAfter(@RequestParam UUID after,
+                                                                               @RequestParam(defaultValue = "10") int size) {
+        List<EmployeeResponseDto> employees = employeeService.getEmployeesAfter(after, size, entityContextUtils.getCountryCode());
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.fetch.all.success"), employees));
+    }
+
+    @Operation(summary = "Get selected employee fields", description = "Fetches only the listed fields of an employee, e.g. fields=id,firstName,email.")
+    @GetMapping(value = "/{id}", params = {"fields", "!asOf"})
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getEmployeeFields(@PathVariable UUID id, @RequestParam String fields) {
+        Set<EmployeeField> selected = EmployeeField.parse(fields);
+        Optional<Map<String, Object>> employee = employeeService.getEmployeeFields(id, selected, entityContextUtils.getCountryCode());
+
+        if (employee.isPresent()) {
+            return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.fetch.success"), employee.get()));
+        } else {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse<>(HttpStatus.NOT_FOUND.value(), getMessage("employee.not.found"), null));
+        }
+    }
+
+    @Operation(summary = "Get selected fields of all employees", description = "Fetches a page of employees with only the listed fields, e.g. fields=id,firstName,email.")
+    @GetMapping(params = {"fields", "!asOf"})
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAllEmployeeFields(@RequestParam String fields,
+                                                                                  @RequestParam(defaultValue = "0") int page,
+                                                                                  @RequestParam(defaultValue = "10") int size) {
+        Set<EmployeeField> selected = EmployeeField.parse(fields);
+        List<Map<String, Object>> employees = employeeService.getAllEmployeeFields(page, size, selected, entityContextUtils.getCountryCode());
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.fetch.all.success"), employees));
+    }
+
+    @Operation(summary = "Get employee as of a past time", description = "Rebuilds an employee as it was at asOf, given in the entity's local time.")
+    @GetMapping(value = "/{id}", params = "asOf")
+    public ResponseEntity<ApiResponse<EmployeeResponseDto>> getEmployeeAsOf(@PathVariable UUID id,
+                                                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        Optional<EmployeeResponseDto> employee = employeeTimelineService.getEmployeeAsOf(id, asOf, entityContextUtils.getCountryCode());
+
+        if (employee.isPresent()) {
+            return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.fetch.success"), employee.get()));
+        } else {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ApiResponse<>(HttpStatus.NOT_FOUND.value(), getMessage("employee.not.found"), null));
+        }
+    }
+
+    @Operation(summary = "Get all employees as of a past time", description = "Rebuilds a page of employees, in ID order, as they were at asOf, given in the entity's local time.")
+    @GetMapping(params = "asOf")
+    public ResponseEntity<ApiResponse<List<EmployeeResponseDto>>> getAllEmployeesAsOf(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+                                                                                 @RequestParam(defaultValue = "0") int page,
+                                                                                 @RequestParam(defaultValue = "10") int size) {
+        List<EmployeeResponseDto> employees = employeeTimelineService.getAllEmployeesAsOf(page, size, asOf, entityContextUtils.getCountryCode());
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.fetch.all.success"), employees));
+    }
+
+    @Operation(summary = "Search employees", description = "Typeahead search over name, email, position and department, best match first.")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<EmployeeSearchResultDto>>> searchEmployees(@RequestParam String q,
+                                                                                 @RequestParam(defaultValue = "0") int page,
+                                                                                 @RequestParam(defaultValue = "10") int size) {
+        List<EmployeeSearchResultDto> results = employeeSearchService.search(q, page, size);
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.search.success"), results));
+    }
+
+    // Weak: the same employee is also served as CBOR and CSV. Covers every field, including the local-time ones.
+    private static String etag(EmployeeResponseDto employee) {
+        long modifiedAt = employee.getModifiedAt() == null ? 0 : employee.getModifiedAt().toEpochSecond(ZoneOffset.UTC);
+        return "W/\"" + Long.toHexString(modifiedAt) + "-" + Integer.toHexString(employee.hashCode()) + "\"";
+    }
+
     private String getMessage(String key) {
         return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
     }
@@ -0,0 +1,83 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.contracts.EmployeeDocumentService;
+import com.cercli.employee.documents.DocumentTransfer;
+import com.cercli.employee.dto.ApiResponse;
+import com.cercli.employee.dto.EmployeeDocumentDto;
+import com.cercli.employee.util.EntityContextUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Documents attached to an employee. Uploads are the raw request body rather than a multipart form, so
+ * they can be streamed to the content store as they arrive.
+ */
+@RestController
+@RequestMapping("/api/employees/{id}/documents")
+@RequiredArgsConstructor
+@Tag(name = "Employee Documents", description = "Contracts, IDs and photos attached to employees")
+public class EmployeeDocumentController {
+
+    private final EmployeeDocumentService documentService;
+    private final EntityContextUtils entityContextUtils;
+    private final MessageSource messageSource;
+
+    @Operation(summary = "Upload a document", description = "The request body is the document, with its media type as Content-Type. "
+            + "Name it with Content-Disposition (attachment; filename=\"contract.pdf\") or the fileName parameter. "
+            + "Uploading the same file again returns the existing document.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<EmployeeDocumentDto>> addDocument(@PathVariable UUID id,
+                                                                        @RequestParam(required = false) String fileName,
+                                                                        @RequestHeader(value = HttpHeaders.CONTENT_DISPOSITION, required = false) String contentDisposition,
+                                                                        HttpServletRequest request) throws IOException {
+        String name = fileName != null ? fileName : fileNameOf(contentDisposition);
+        EmployeeDocumentDto document = documentService.addDocument(id, name, request.getContentType(),
+                request.getInputStream(), entityContextUtils.getCountryCode());
+        return ResponseEntity.created(URI.create("/api/employees/" + id + "/documents/" + document.getId()))
+                .body(new ApiResponse<>(HttpStatus.CREATED.value(), getMessage("document.add.success"), document));
+    }
+
+    @Operation(summary = "List documents", description = "Metadata of the employee's documents, newest first.")
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<EmployeeDocumentDto>>> getDocuments(@PathVariable UUID id) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("document.fetch.success"),
+                documentService.getDocuments(id, entityContextUtils.getCountryCode())));
+    }
+
+    @Operation(summary = "Download a document", description = "The document's bytes. Supports a single Range, If-Range and If-None-Match; the ETag is the content's SHA-256.")
+    @GetMapping("/{documentId}")
+    public void downloadDocument(@PathVariable UUID id, @PathVariable UUID documentId,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        DocumentTransfer.send(documentService.getDocumentContent(id, documentId), request, response);
+    }
+
+    private static String fileNameOf(String contentDisposition) {
+        if (contentDisposition == null) {
+            return null;
+        }
+        try {
+            return ContentDisposition.parse(contentDisposition).getFilename();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
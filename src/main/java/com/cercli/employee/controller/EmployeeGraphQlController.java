@@ -0,0 +1,97 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.config.GraphQlConfig;
+import com.cercli.employee.config.GraphQlLimitsProperties;
+import com.cercli.employee.contracts.EmployeeGraphService;
+import com.cercli.employee.contracts.EmployeeService;
+import com.cercli.employee.dto.EmployeeHistoryDto;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.ContextValue;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * GraphQL queries over employees. Top-level lookups go through {@link EmployeeService} and its caches; the
+ * manager, direct reports and history of the employees in a result are loaded per level of the query, with
+ * one batch call for all the employees at that level instead of one call each.
+ */
+@Controller
+@RequiredArgsConstructor
+public class EmployeeGraphQlController {
+
+    private final EmployeeService employeeService;
+    private final EmployeeGraphService employeeGraphService;
+    private final GraphQlLimitsProperties limits;
+
+    @QueryMapping
+    public EmployeeResponseDto employee(@Argument UUID id, @ContextValue(GraphQlConfig.COUNTRY_CODE) String countryCode) {
+        return employeeService.getEmployee(id, countryCode).orElse(null);
+    }
+
+    @QueryMapping
+    public List<EmployeeResponseDto> employees(@Argument int page, @Argument int size, @Argument UUID after,
+                                               @ContextValue(GraphQlConfig.COUNTRY_CODE) String countryCode) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("page must not be negative and size must be positive");
+        }
+        int pageSize = Math.min(size, limits.getMaxPageSize());
+        return after != null
+                ? employeeService.getEmployeesAfter(after, pageSize, countryCode)
+                : employeeService.getAllEmployees(page, pageSize, countryCode);
+    }
+
+    @BatchMapping(typeName = "Employee")
+    public Map<EmployeeResponseDto, EmployeeResponseDto> manager(List<EmployeeResponseDto> employees,
+                                                                 @ContextValue(GraphQlConfig.COUNTRY_CODE) String countryCode) {
+        Set<UUID> managerIds = new LinkedHashSet<>();
+        employees.stream().map(EmployeeResponseDto::getManagerId).filter(Objects::nonNull).forEach(managerIds::add);
+        Map<UUID, EmployeeResponseDto> managers = employeeGraphService.getEmployees(managerIds, countryCode);
+
+        // Employees without a manager are left out and resolve to null
+        Map<EmployeeResponseDto, EmployeeResponseDto> result = new LinkedHashMap<>();
+        for (EmployeeResponseDto employee : employees) {
+            EmployeeResponseDto manager = employee.getManagerId() == null ? null : managers.get(employee.getManagerId());
+            if (manager != null) {
+                result.put(employee, manager);
+            }
+        }
+        return result;
+    }
+
+    @BatchMapping(typeName = "Employee")
+    public Map<EmployeeResponseDto, List<EmployeeResponseDto>> directReports(List<EmployeeResponseDto> employees,
+                                                                             @ContextValue(GraphQlConfig.COUNTRY_CODE) String countryCode) {
+        Map<UUID, List<EmployeeResponseDto>> reports = employeeGraphService.getDirectReports(
+                ids(employees), limits.getMaxDirectReports(), countryCode);
+        Map<EmployeeResponseDto, List<EmployeeResponseDto>> result = new LinkedHashMap<>();
+        employees.forEach(employee -> result.put(employee, reports.getOrDefault(employee.getId(), List.of())));
+        return result;
+    }
+
+    @BatchMapping(typeName = "Employee")
+    public Map<EmployeeResponseDto, List<EmployeeHistoryDto>> history(List<EmployeeResponseDto> employees,
+                                                                      @ContextValue(GraphQlConfig.COUNTRY_CODE) String countryCode) {
+        Map<UUID, List<EmployeeHistoryDto>> history = employeeGraphService.getHistory(
+                ids(employees), limits.getMaxHistoryPerEmployee(), countryCode);
+        Map<EmployeeResponseDto, List<EmployeeHistoryDto>> result = new LinkedHashMap<>();
+        employees.forEach(employee -> result.put(employee, history.getOrDefault(employee.getId(), List.of())));
+        return result;
+    }
+
+    private static Set<UUID> ids(List<EmployeeResponseDto> employees) {
+        Set<UUID> ids = new LinkedHashSet<>();
+        employees.forEach(employee -> ids.add(employee.getId()));
+        return ids;
+    }
+}
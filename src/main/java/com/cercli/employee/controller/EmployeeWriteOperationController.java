@@ -0,0 +1,80 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.contracts.EmployeeService;
+import com.cercli.employee.contracts.EmployeeWriteOperationService;
+import com.cercli.employee.dto.ApiResponse;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.WriteOperationDto;
+import com.cercli.employee.util.EntityContextUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Asynchronous creates and updates, chosen per request with {@code Prefer: respond-async} (RFC 7240).
+ * Without the header, or when write-behind is disabled, writes go through {@link EmployeeController}'s
+ * synchronous path.
+ */
+@RestController
+@RequestMapping("/api/employees")
+@RequiredArgsConstructor
+@Tag(name = "Asynchronous Writes", description = "Employee writes applied in the background")
+public class EmployeeWriteOperationController {
+
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+
+    private final EmployeeWriteOperationService writeOperationService;
+    private final EmployeeService employeeService;
+    private final EntityContextUtils entityContextUtils;
+    private final MessageSource messageSource;
+
+    @Operation(summary = "Add a new employee asynchronously", description = "Validates and queues the employee, then returns the pending operation. Poll the operation for the outcome.")
+    @PostMapping(headers = "Prefer=" + RESPOND_ASYNC)
+    public ResponseEntity<ApiResponse<?>> addEmployeeAsync(@Valid @RequestBody EmployeeDto employeeDto) {
+        String countryCode = entityContextUtils.getCountryCode();
+        if (!writeOperationService.isEnabled()) {
+            return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.add.success"),
+                    employeeService.addEmployee(employeeDto, countryCode)));
+        }
+        return accepted(writeOperationService.submitCreate(employeeDto, countryCode));
+    }
+
+    @Operation(summary = "Update an existing employee asynchronously", description = "Queues the update and returns the pending operation. Poll the operation for the outcome.")
+    @PutMapping(value = "/{id}", headers = "Prefer=" + RESPOND_ASYNC)
+    public ResponseEntity<ApiResponse<?>> updateEmployeeAsync(@PathVariable UUID id, @RequestBody EmployeeDto employeeDto) {
+        String countryCode = entityContextUtils.getCountryCode();
+        if (!writeOperationService.isEnabled()) {
+            return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.update.success"),
+                    employeeService.updateEmployee(id, employeeDto, countryCode)));
+        }
+        return accepted(writeOperationService.submitUpdate(id, employeeDto, countryCode));
+    }
+
+    @Operation(summary = "Get write operation", description = "Status of an asynchronous write: pending, succeeded with the employee ID, or failed with the reason.")
+    @GetMapping("/operations/{operationId}")
+    public ResponseEntity<ApiResponse<WriteOperationDto>> getOperation(@PathVariable UUID operationId) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.operation.fetch.success"),
+                writeOperationService.getOperation(operationId, entityContextUtils.getCountryCode())));
+    }
+
+    private ResponseEntity<ApiResponse<?>> accepted(WriteOperationDto operation) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/employees/operations/" + operation.getId()))
+                .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                .body(new ApiResponse<>(HttpStatus.ACCEPTED.value(), getMessage("employee.write.accepted"), operation));
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
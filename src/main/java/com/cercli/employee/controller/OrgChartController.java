@@ -0,0 +1,68 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.contracts.OrgChartService;
+import com.cercli.employee.dto.ApiResponse;
+import com.cercli.employee.dto.ManagerAssignmentDto;
+import com.cercli.employee.dto.OrgChartNodeDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/employees/{id}")
+@RequiredArgsConstructor
+@Tag(name = "Organization Chart", description = "Reporting lines between employees")
+public class OrgChartController {
+
+    private final OrgChartService orgChartService;
+    private final MessageSource messageSource;
+
+    @Operation(summary = "Get direct reports", description = "Employees whose manager is the given employee.")
+    @GetMapping("/reports")
+    public ResponseEntity<ApiResponse<List<OrgChartNodeDto>>> getDirectReports(@PathVariable UUID id) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("orgchart.reports.success"),
+                orgChartService.getDirectReports(id)));
+    }
+
+    @Operation(summary = "Get reporting subtree", description = "Everyone below the given employee at any depth, nearest levels first, paginated.")
+    @GetMapping("/subtree")
+    public ResponseEntity<ApiResponse<List<OrgChartNodeDto>>> getSubtree(@PathVariable UUID id,
+                                                                         @RequestParam(defaultValue = "0") int page,
+                                                                         @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("orgchart.subtree.success"),
+                orgChartService.getSubtree(id, page, size)));
+    }
+
+    @Operation(summary = "Get management chain", description = "The given employee's managers, direct manager first.")
+    @GetMapping("/chain")
+    public ResponseEntity<ApiResponse<List<OrgChartNodeDto>>> getManagementChain(@PathVariable UUID id) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("orgchart.chain.success"),
+                orgChartService.getManagementChain(id)));
+    }
+
+    @Operation(summary = "Get subtree headcount", description = "Number of employees below the given employee at any depth.")
+    @GetMapping("/headcount")
+    public ResponseEntity<ApiResponse<Long>> getHeadcount(@PathVariable UUID id) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("orgchart.headcount.success"),
+                orgChartService.getHeadcount(id)));
+    }
+
+    @Operation(summary = "Change manager", description = "Moves the employee and everyone reporting to them under a new manager.")
+    @PutMapping("/manager")
+    public ResponseEntity<ApiResponse<OrgChartNodeDto>> assignManager(@PathVariable UUID id, @RequestBody ManagerAssignmentDto assignment) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("employee.manager.update.success"),
+                orgChartService.assignManager(id, assignment.getManagerId())));
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
@@ -0,0 +1,91 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.config.ProfilingProperties;
+import com.cercli.employee.dto.ApiResponse;
+import com.cercli.employee.dto.ProfilingRecordingDto;
+import com.cercli.employee.exception.ProfilingAccessDeniedException;
+import com.cercli.employee.profiling.JfrRecordingManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.Duration;
+
+/**
+ * Java Flight Recorder recordings of this node. Every call needs the {@code X-Admin-Token} header to match
+ * {@code app.profiling.admin-token}; with no token configured the endpoints refuse all calls.
+ */
+@RestController
+@RequestMapping("/api/admin/profiling")
+@RequiredArgsConstructor
+@Tag(name = "Administration", description = "Operational endpoints")
+public class ProfilingAdminController {
+
+    private static final String ADMIN_TOKEN = "X-Admin-Token";
+
+    private final JfrRecordingManager recordingManager;
+    private final ProfilingProperties profilingProperties;
+    private final MessageSource messageSource;
+
+    @Operation(summary = "Start a JFR recording", description = "Records for the given number of seconds, or the configured default, up to the configured maximum. One recording runs at a time.")
+    @PostMapping("/recordings")
+    public ResponseEntity<ApiResponse<ProfilingRecordingDto>> startRecording(@RequestHeader(value = ADMIN_TOKEN, required = false) String token,
+                                                                             @RequestParam(required = false) Long durationSeconds) {
+        authorize(token);
+        ProfilingRecordingDto recording = recordingManager.start(durationSeconds == null ? null : Duration.ofSeconds(durationSeconds));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ApiResponse<>(HttpStatus.CREATED.value(), getMessage("profiling.recording.started"), recording));
+    }
+
+    @Operation(summary = "Stop the JFR recording", description = "Stops the current recording before its duration ends and writes it out for download.")
+    @PostMapping("/recordings/current/stop")
+    public ResponseEntity<ApiResponse<ProfilingRecordingDto>> stopRecording(@RequestHeader(value = ADMIN_TOKEN, required = false) String token) {
+        authorize(token);
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("profiling.recording.stopped"),
+                recordingManager.stop()));
+    }
+
+    @Operation(summary = "Get the JFR recording", description = "State of the current recording and whether it can be downloaded.")
+    @GetMapping("/recordings/current")
+    public ResponseEntity<ApiResponse<ProfilingRecordingDto>> getRecording(@RequestHeader(value = ADMIN_TOKEN, required = false) String token) {
+        authorize(token);
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("profiling.recording.fetch.success"),
+                recordingManager.status()));
+    }
+
+    @Operation(summary = "Download the JFR recording", description = "The .jfr file of a stopped recording, for JDK Mission Control or the jfr tool. Supports Range requests.")
+    @GetMapping("/recordings/current/download")
+    public ResponseEntity<Resource> downloadRecording(@RequestHeader(value = ADMIN_TOKEN, required = false) String token) {
+        authorize(token);
+        Path output = recordingManager.output();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(output.getFileName().toString()).build().toString())
+                .body(new FileSystemResource(output));
+    }
+
+    private void authorize(String token) {
+        String expected = profilingProperties.getAdminToken();
+        if (expected == null || expected.isEmpty() || token == null
+                || !MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8))) {
+            throw new ProfilingAccessDeniedException(getMessage("profiling.access.denied"));
+        }
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
@@ -0,0 +1,67 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.contracts.ReportJobService;
+import com.cercli.employee.dto.ApiResponse;
+import com.cercli.employee.dto.ReportJobDto;
+import com.cercli.employee.dto.ReportRequestDto;
+import com.cercli.employee.util.EntityContextUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Long-running report generation")
+public class ReportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final ReportJobService reportJobService;
+    private final EntityContextUtils entityContextUtils;
+    private final MessageSource messageSource;
+
+    @Operation(summary = "Submit a report", description = "Queues a report and returns its job right away. Poll the job for progress, then download the CSV.")
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReportJobDto>> submitReport(@Valid @RequestBody ReportRequestDto reportRequest) {
+        ReportJobDto job = reportJobService.submit(reportRequest.getType(), entityContextUtils.getCountryCode());
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/reports/" + job.getId()))
+                .body(new ApiResponse<>(HttpStatus.ACCEPTED.value(), getMessage("report.submit.success"), job));
+    }
+
+    @Operation(summary = "Get report job", description = "Status and progress of a report job.")
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ReportJobDto>> getReportJob(@PathVariable UUID id) {
+        return ResponseEntity.ok(new ApiResponse<>(HttpStatus.OK.value(), getMessage("report.fetch.success"),
+                reportJobService.getJob(id, entityContextUtils.getCountryCode())));
+    }
+
+    @Operation(summary = "Download report", description = "The CSV output of a completed report job. Supports Range requests.")
+    @GetMapping("/{id}/download")
+    public ResponseEntity<Resource> downloadReport(@PathVariable UUID id) {
+        FileSystemResource output = new FileSystemResource(reportJobService.getOutput(id));
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("report-" + id + ".csv").build().toString())
+                .body(output);
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
@@ -0,0 +1,118 @@
+package com.cercli.employee.datasource;
+
+import com.cercli.employee.config.DataSourcePoolProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The read, write and history connection pools, kept apart so that one kind of work cannot take the
+ * connections another is waiting for.
+ * <p>
+ * A change holds its write connection while the history of the change is written in a transaction of its
+ * own. Sharing one pool, enough concurrent writers each hold a connection while waiting for a second one
+ * and stall until the checkout times out; with history on its own pool they always finish. Likewise a
+ * burst of listings or reports can only exhaust the read pool, and writes keep their connections.
+ * <p>
+ * The pools are not beans: the application sees the single data source of {@link #routingDataSource()}.
+ * Each Hikari pool publishes its {@code hikaricp.connections.*} metrics tagged with its pool name, e.g.
+ * {@code pool=employee-history}.
+ */
+@Slf4j
+public class DataSourcePools implements AutoCloseable {
+
+    private final Map<DataSourceRoute, DataSource> pools;
+
+    public DataSourcePools(Map<DataSourceRoute, DataSource> pools) {
+        this.pools = Collections.unmodifiableMap(new EnumMap<>(pools));
+    }
+
+    /**
+     * Creates one Hikari pool per route. Nothing connects until the first checkout.
+     */
+    public static DataSourcePools create(DataSourceProperties defaults, DataSourcePoolProperties properties,
+                                         MeterRegistry meterRegistry) {
+        Map<DataSourceRoute, DataSource> pools = new EnumMap<>(DataSourceRoute.class);
+        pools.put(DataSourceRoute.READ, createPool(DataSourceRoute.READ, properties.getRead(), defaults, meterRegistry));
+        pools.put(DataSourceRoute.WRITE, createPool(DataSourceRoute.WRITE, properties.getWrite(), defaults, meterRegistry));
+        pools.put(DataSourceRoute.HISTORY, createPool(DataSourceRoute.HISTORY, properties.getHistory(), defaults, meterRegistry));
+        return new DataSourcePools(pools);
+    }
+
+    public DataSource pool(DataSourceRoute route) {
+        return pools.get(route);
+    }
+
+    public Map<DataSourceRoute, DataSource> pools() {
+        return pools;
+    }
+
+    /**
+     * @return The most connections the pool opens, or {@code Integer.MAX_VALUE} if it is not a Hikari pool.
+     */
+    public int maximumPoolSize(DataSourceRoute route) {
+        return pools.get(route) instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * The application's data source. Connections are handed out as lazy proxies and only bound to a pool
+     * when first used, by which time the transaction has marked them read-only or not: read-only ones come
+     * from the read pool, the others from the pool of the route bound by {@link RoutingDataSource#bind}.
+     */
+    public DataSource routingDataSource() {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(new RoutingDataSource(pools));
+        dataSource.setReadOnlyDataSource(pools.get(DataSourceRoute.READ));
+        // Hikari and PostgreSQL defaults, given so that no connection is opened to look them up
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    @Override
+    public void close() {
+        pools.forEach((route, pool) -> {
+            if (pool instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close the {} pool: {}", route.poolName(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    private static HikariDataSource createPool(DataSourceRoute route, DataSourcePoolProperties.Pool pool,
+                                               DataSourceProperties defaults, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = defaults.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        if (pool.getUrl() != null) {
+            dataSource.setJdbcUrl(pool.getUrl());
+        }
+        if (pool.getUsername() != null) {
+            dataSource.setUsername(pool.getUsername());
+        }
+        if (pool.getPassword() != null) {
+            dataSource.setPassword(pool.getPassword());
+        }
+        dataSource.setPoolName(route.poolName());
+        dataSource.setMaximumPoolSize(pool.getMaximumPoolSize());
+        dataSource.setMinimumIdle(pool.getMinimumIdle());
+        dataSource.setConnectionTimeout(pool.getConnectionTimeout().toMillis());
+        dataSource.setIdleTimeout(pool.getIdleTimeout().toMillis());
+        dataSource.setMaxLifetime(pool.getMaxLifetime().toMillis());
+        if (meterRegistry != null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,14 @@
+package com.cercli.employee.datasource;
+
+/**
+ * The connection pools the application's data source routes between.
+ */
+public enum DataSourceRoute {
+    READ,
+    WRITE,
+    HISTORY;
+
+    public String poolName() {
+        return "employee-" + name().toLowerCase();
+    }
+}
@@ -0,0 +1,53 @@
+package com.cercli.employee.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Takes each connection from the pool of the route bound to the calling thread, or from the write pool when
+ * none is bound. Read-only transactions are sent to the read pool before they get here, see
+ * {@link DataSourcePools#routingDataSource()}.
+ */
+public class RoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<DataSourceRoute> ROUTE = new ThreadLocal<>();
+
+    RoutingDataSource(Map<DataSourceRoute, DataSource> pools) {
+        setTargetDataSources(Map.copyOf(pools));
+        setDefaultTargetDataSource(pools.get(DataSourceRoute.WRITE));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    /**
+     * Takes the connections the calling thread opens from now on from the given pool. Connections already
+     * in use keep their pool.
+     *
+     * @return The route bound before, to be passed to {@link #restore(DataSourceRoute)}; null if none was.
+     */
+    public static DataSourceRoute bind(DataSourceRoute route) {
+        DataSourceRoute previous = ROUTE.get();
+        ROUTE.set(route);
+        return previous;
+    }
+
+    public static void restore(DataSourceRoute previous) {
+        if (previous == null) {
+            ROUTE.remove();
+        } else {
+            ROUTE.set(previous);
+        }
+    }
+
+    public static DataSourceRoute currentRoute() {
+        DataSourceRoute route = ROUTE.get();
+        return route == null ? DataSourceRoute.WRITE : route;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+}
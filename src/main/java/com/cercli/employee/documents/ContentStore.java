@@ -0,0 +1,127 @@
+package com.cercli.employee.documents;
+
+import com.cercli.employee.config.DocumentProperties;
+import com.cercli.employee.exception.DocumentTooLargeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * File-system store of immutable content keyed by its SHA-256.
+ * <p>
+ * Content is streamed through a fixed buffer into a temporary file while it is hashed, then moved under its
+ * hash, so heap use does not grow with the size of the content. Storing content that is already present
+ * only discards the temporary file. Content is written once and never changed, so readers need no locking.
+ */
+@Component
+@Slf4j
+public class ContentStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256 = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path incoming;
+    private final MessageSource messageSource;
+
+    public ContentStore(DocumentProperties properties, MessageSource messageSource) {
+        this.root = Path.of(properties.getStorageDirectory()).toAbsolutePath();
+        this.incoming = root.resolve("incoming");
+        this.messageSource = messageSource;
+        try {
+            Files.createDirectories(incoming);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create document store at " + root, e);
+        }
+    }
+
+    public record StoredContent(String sha256, long size) {
+    }
+
+    /**
+     * Streams content into the store. The stream is read to its end but not closed.
+     *
+     * @param content The content to store.
+     * @param maxBytes The most bytes the content may have.
+     * @return The hash the content is stored under and its size.
+     * @throws DocumentTooLargeException if the content has more than {@code maxBytes} bytes; nothing is stored.
+     */
+    public StoredContent store(InputStream content, long maxBytes) throws IOException {
+        MessageDigest digest = sha256();
+        Path temp = Files.createTempFile(incoming, "upload-", ".tmp");
+        try {
+            long size = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new DocumentTooLargeException(messageSource.getMessage("document.too.large",
+                                new Object[]{maxBytes}, LocaleContextHolder.getLocale()));
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                }
+                // On disk before the metadata row that points at it is committed
+                channel.force(true);
+            }
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            moveIntoPlace(temp, locate(sha256));
+            return new StoredContent(sha256, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * @return Where the content with the given hash is kept; the file may not exist.
+     */
+    public Path locate(String sha256) {
+        if (!SHA256.matcher(sha256).matches()) {
+            throw new IllegalArgumentException("Not a SHA-256 hex digest: " + sha256);
+        }
+        return root.resolve(sha256.substring(0, 2)).resolve(sha256.substring(2, 4)).resolve(sha256);
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        if (Files.exists(target)) {
+            log.debug("Content {} is already stored", target.getFileName());
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // Stored concurrently by another upload of the same content
+            log.debug("Content {} was stored concurrently", target.getFileName());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
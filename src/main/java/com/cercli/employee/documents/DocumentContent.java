@@ -0,0 +1,9 @@
+package com.cercli.employee.documents;
+
+import java.nio.file.Path;
+
+/**
+ * A stored document ready to be sent: its metadata and the file holding its bytes.
+ */
+public record DocumentContent(String fileName, String contentType, long size, String sha256, Path path) {
+}
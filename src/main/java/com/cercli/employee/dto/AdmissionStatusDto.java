@@ -0,0 +1,22 @@
+package com.cercli.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionStatusDto {
+    private String entity;
+    private String endpointClass;
+    private double ratePerSecond;
+    private int burst;
+    private double availableTokens;
+    private int maxConcurrent;
+    private int inFlight;
+    private int queued;
+    private long admitted;
+    private long rateLimited;
+    private long concurrencyLimited;
+}
@@ -0,0 +1,22 @@
+package com.cercli.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateCandidateDto {
+    private UUID employeeId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    // 0 to 1; how likely the employee is the same person
+    private double score;
+    // Fields that match or nearly match: NAME, PHONE, HIRE_DATE, EMAIL, DEPARTMENT
+    private List<String> matchedOn;
+}
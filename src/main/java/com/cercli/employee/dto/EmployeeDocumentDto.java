@@ -0,0 +1,22 @@
+package com.cercli.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeDocumentDto {
+    private UUID id;
+    private UUID employeeId;
+    private String fileName;
+    private String contentType;
+    private long sizeBytes;
+    // Hex SHA-256 of the content, also its ETag on download
+    private String sha256;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,63 @@
+package com.cercli.employee.dto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Employee attributes that can be requested through the {@code fields} query parameter. The JSON name of
+ * each field is also the name of the mapped {@code Employee} attribute.
+ */
+public enum EmployeeField {
+    ID("id"),
+    FIRST_NAME("firstName"),
+    LAST_NAME("lastName"),
+    PHONE_NUMBER("phoneNumber"),
+    POSITION("position"),
+    DEPARTMENT("department"),
+    EMAIL("email"),
+    SALARY("salary"),
+    HIRE_DATE("hireDate"),
+    CREATED_AT("createdAt"),
+    MODIFIED_AT("modifiedAt"),
+    MANAGER_ID("managerId");
+
+    private final String jsonName;
+
+    EmployeeField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public boolean isTimestamp() {
+        return this == CREATED_AT || this == MODIFIED_AT;
+    }
+
+    /**
+     * Parses a comma separated list of field names, e.g. {@code id,firstName,email}. The id is always
+     * included so that every returned row can be identified.
+     *
+     * @param fields The raw parameter value.
+     * @return The requested fields in declaration order.
+     * @throws IllegalArgumentException if the list is empty or names an unknown field.
+     */
+    public static Set<EmployeeField> parse(String fields) {
+        EnumSet<EmployeeField> parsed = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.jsonName.equalsIgnoreCase(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown field '" + trimmed + "', allowed fields are: "
+                            + Arrays.stream(values()).map(EmployeeField::getJsonName).collect(Collectors.joining(", ")))));
+        }
+        return parsed;
+    }
+}
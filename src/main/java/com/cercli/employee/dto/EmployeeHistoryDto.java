@@ -0,0 +1,20 @@
+package com.cercli.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeHistoryDto {
+    private UUID id;
+    private UUID employeeId;
+    private String changeType;
+    private Long version;
+    private String changes;
+    private LocalDateTime changedAt;
+}
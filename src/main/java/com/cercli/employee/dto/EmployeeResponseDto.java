@@ -23,4 +23,5 @@ public class EmployeeResponseDto {
     private LocalDate hireDate;
     private LocalDateTime createdAt;
     private LocalDateTime modifiedAt;
+    private UUID managerId;
 }
@@ -0,0 +1,20 @@
+package com.cercli.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeSearchResultDto {
+    private UUID id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String position;
+    private String department;
+    private double score;
+}
@@ -0,0 +1,16 @@
+package com.cercli.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ManagerAssignmentDto {
+
+    // Null makes the employee a top-level employee without a manager
+    private UUID managerId;
+}
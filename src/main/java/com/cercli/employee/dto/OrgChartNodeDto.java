@@ -0,0 +1,21 @@
+package com.cercli.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartNodeDto {
+    private UUID id;
+    private String firstName;
+    private String lastName;
+    private String position;
+    private String department;
+    private UUID managerId;
+    // Levels between this employee and the employee the query started at
+    private int depth;
+}
@@ -0,0 +1,25 @@
+package com.cercli.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfilingRecordingDto {
+    private long id;
+    private String name;
+    // NEW, DELAYED, RUNNING, STOPPED or CLOSED, as reported by JFR
+    private String state;
+    private String settings;
+    private Instant startedAt;
+    private Instant stoppedAt;
+    private long durationSeconds;
+    private long maxSizeBytes;
+    // Size of the recording file, once the recording has stopped
+    private Long sizeBytes;
+    private boolean downloadable;
+}
@@ -0,0 +1,27 @@
+package com.cercli.employee.dto;
+
+import com.cercli.employee.entity.ReportJob;
+import com.cercli.employee.entity.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportJobDto {
+    private UUID id;
+    private ReportType type;
+    private ReportJob.Status status;
+    private long processedRows;
+    // Rows counted when the job started; null while queued
+    private Long totalRows;
+    private int progressPercent;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
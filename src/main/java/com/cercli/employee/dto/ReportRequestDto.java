@@ -0,0 +1,16 @@
+package com.cercli.employee.dto;
+
+import com.cercli.employee.entity.ReportType;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportRequestDto {
+
+    @NotNull(message = "Report type is required")
+    private ReportType type;
+}
@@ -0,0 +1,42 @@
+package com.cercli.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WriteOperationDto {
+    private UUID id;
+    private Type type;
+    private Status status;
+    // The created or updated employee; for creates only known once the operation succeeded
+    private UUID employeeId;
+    // Set when the operation failed
+    private Failure failure;
+    private String message;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+
+    public enum Type {
+        CREATE,
+        UPDATE
+    }
+
+    public enum Status {
+        PENDING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    public enum Failure {
+        EMAIL_ALREADY_EXISTS,
+        EMPLOYEE_NOT_FOUND,
+        VERSION_CONFLICT,
+        ERROR
+    }
+}
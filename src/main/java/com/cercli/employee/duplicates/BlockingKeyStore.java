@@ -0,0 +1,144 @@
+package com.cercli.employee.duplicates;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The {@code employee_blocking_key} table. Lookups go through the primary key and read at most
+ * {@code maxBlockSize} rows per key, so their cost depends on the number of keys rather than the number of
+ * employees. A block that reaches {@code maxBlockSize} is treated as too common to tell people apart, like a
+ * shared switchboard number, and ignored.
+ * <p>
+ * Plain JDBC rather than a JPA repository: keys are written while Hibernate flushes the employee, where
+ * touching the persistence context is not allowed, and the lookups rely on PostgreSQL arrays and lateral joins.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlockingKeyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void add(UUID employeeId, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("""
+                INSERT INTO employee_blocking_key (blocking_key, employee_id)
+                SELECT unnest(?), ? ON CONFLICT DO NOTHING""",
+                statement -> {
+                    statement.setArray(1, textArray(statement, keys));
+                    statement.setObject(2, employeeId);
+                });
+    }
+
+    public void remove(UUID employeeId, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM employee_blocking_key WHERE employee_id = ? AND blocking_key = ANY (?)",
+                statement -> {
+                    statement.setObject(1, employeeId);
+                    statement.setArray(2, textArray(statement, keys));
+                });
+    }
+
+    /**
+     * @return The employees in the given blocks, each with the keys it was found under.
+     */
+    public Map<UUID, Set<String>> findBlockMembers(Collection<String> keys, int maxBlockSize) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, List<UUID>> blocks = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT k.key, m.employee_id
+                FROM unnest(?) AS k(key)
+                CROSS JOIN LATERAL (
+                    SELECT b.employee_id FROM employee_blocking_key b WHERE b.blocking_key = k.key LIMIT ?) m""",
+                statement -> {
+                    statement.setArray(1, textArray(statement, keys));
+                    statement.setInt(2, maxBlockSize);
+                },
+                resultSet -> {
+                    blocks.computeIfAbsent(resultSet.getString(1), key -> new ArrayList<>())
+                            .add(resultSet.getObject(2, UUID.class));
+                });
+        Map<UUID, Set<String>> members = new HashMap<>();
+        blocks.forEach((key, employeeIds) -> {
+            if (employeeIds.size() < maxBlockSize) {
+                employeeIds.forEach(employeeId -> members.computeIfAbsent(employeeId, id -> new LinkedHashSet<>()).add(key));
+            }
+        });
+        return members;
+    }
+
+    /**
+     * Pairs of employees sharing a block, for a whole chunk of employees in one query. Each pair is returned
+     * once, under the employee with the lower ID.
+     *
+     * @return For each of the given employees that has any, the employees it shares blocks with and the keys.
+     */
+    public Map<UUID, Map<UUID, Set<String>>> findBlockPairs(Collection<UUID> employeeIds, int maxBlockSize) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+        // Other members of each (employee, key) block; maxBlockSize others means the block is too common
+        Map<UUID, Map<String, List<UUID>>> blocks = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT k.employee_id, k.blocking_key, m.employee_id
+                FROM employee_blocking_key k
+                CROSS JOIN LATERAL (
+                    SELECT b.employee_id FROM employee_blocking_key b
+                    WHERE b.blocking_key = k.blocking_key AND b.employee_id <> k.employee_id LIMIT ?) m
+                WHERE k.employee_id = ANY (?)""",
+                statement -> {
+                    statement.setInt(1, maxBlockSize);
+                    statement.setArray(2, statement.getConnection().createArrayOf("uuid", employeeIds.toArray()));
+                },
+                resultSet -> {
+                    blocks.computeIfAbsent(resultSet.getObject(1, UUID.class), id -> new HashMap<>())
+                            .computeIfAbsent(resultSet.getString(2), key -> new ArrayList<>())
+                            .add(resultSet.getObject(3, UUID.class));
+                });
+        Map<UUID, Map<UUID, Set<String>>> pairs = new HashMap<>();
+        blocks.forEach((employeeId, employeeBlocks) -> employeeBlocks.forEach((key, others) -> {
+            if (others.size() >= maxBlockSize) {
+                return;
+            }
+            for (UUID other : others) {
+                if (employeeId.compareTo(other) < 0) {
+                    pairs.computeIfAbsent(employeeId, id -> new HashMap<>())
+                            .computeIfAbsent(other, id -> new LinkedHashSet<>()).add(key);
+                }
+            }
+        }));
+        return pairs;
+    }
+
+    /**
+     * Employees that have no keys yet, such as those created before duplicate detection existed.
+     */
+    public List<UUID> findUnindexedEmployees(UUID after, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT e.id FROM employees e
+                WHERE e.id > ? AND NOT EXISTS (SELECT 1 FROM employee_blocking_key k WHERE k.employee_id = e.id)
+                ORDER BY e.id LIMIT ?""", UUID.class, after, limit);
+    }
+
+    private static Array textArray(PreparedStatement statement, Collection<String> values) throws SQLException {
+        return statement.getConnection().createArrayOf("text", values.toArray());
+    }
+}
@@ -0,0 +1,102 @@
+package com.cercli.employee.duplicates;
+
+import com.cercli.employee.entity.Employee;
+import org.apache.commons.codec.language.DoubleMetaphone;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Coarse keys under which likely duplicates of an employee collide, so candidates are found by looking up
+ * a handful of keys rather than comparing against every employee:
+ * <ul>
+ *     <li>{@code N:} the Double Metaphone codes of first and last name, in either order, so spelling
+ *     variants and swapped names still match; once with the primary and once with the alternate codes</li>
+ *     <li>{@code P:} the last nine digits of the phone number, which drops country codes and trunk prefixes</li>
+ *     <li>{@code H:} the last name's code with the hire date, which catches nicknames and first-name changes</li>
+ * </ul>
+ */
+public final class BlockingKeys {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_LETTERS = Pattern.compile("[^\\p{L}]+");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D+");
+    private static final Pattern REPEATED_DIGIT = Pattern.compile("(\\d)\\1*");
+
+    private static final int PHONE_DIGITS = 9;
+    private static final int MIN_PHONE_DIGITS = 7;
+
+    // Stateless apart from its code length, which is never changed after construction
+    private static final DoubleMetaphone DOUBLE_METAPHONE = new DoubleMetaphone();
+
+    private BlockingKeys() {
+    }
+
+    public static Set<String> of(Employee employee) {
+        return of(employee.getFirstName(), employee.getLastName(), employee.getPhoneNumber(), employee.getHireDate());
+    }
+
+    /**
+     * Keys of the state captured by {@link Employee#captureState()}, i.e. as the employee was last loaded or
+     * written.
+     */
+    public static Set<String> of(Map<String, Object> state) {
+        Object hireDate = state.get("hireDate");
+        return of((String) state.get("firstName"), (String) state.get("lastName"), (String) state.get("phoneNumber"),
+                hireDate == null ? null : LocalDate.parse(hireDate.toString()));
+    }
+
+    public static Set<String> of(String firstName, String lastName, String phoneNumber, LocalDate hireDate) {
+        Set<String> keys = new LinkedHashSet<>();
+        String first = normalizeName(firstName);
+        String last = normalizeName(lastName);
+        if (!first.isEmpty() && !last.isEmpty()) {
+            keys.add("N:" + pair(DOUBLE_METAPHONE.doubleMetaphone(first), DOUBLE_METAPHONE.doubleMetaphone(last)));
+            keys.add("N:" + pair(DOUBLE_METAPHONE.doubleMetaphone(first, true), DOUBLE_METAPHONE.doubleMetaphone(last, true)));
+        }
+        String phone = normalizePhone(phoneNumber);
+        if (phone != null) {
+            keys.add("P:" + phone);
+        }
+        if (!last.isEmpty() && hireDate != null) {
+            keys.add("H:" + DOUBLE_METAPHONE.doubleMetaphone(last) + ":" + hireDate);
+        }
+        return keys;
+    }
+
+    /**
+     * @return The name in lower case without accents, digits, spaces or punctuation.
+     */
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String stripped = COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        return NON_LETTERS.matcher(stripped).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return The last nine digits, or null for numbers too short to tell people apart and placeholders
+     * made of one repeated digit.
+     */
+    public static String normalizePhone(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        String digits = NON_DIGITS.matcher(phoneNumber).replaceAll("");
+        if (digits.length() < MIN_PHONE_DIGITS || REPEATED_DIGIT.matcher(digits).matches()) {
+            return null;
+        }
+        return digits.substring(Math.max(0, digits.length() - PHONE_DIGITS));
+    }
+
+    private static String pair(String first, String second) {
+        return Objects.compare(first, second, String::compareTo) <= 0 ? first + ":" + second : second + ":" + first;
+    }
+}
@@ -0,0 +1,96 @@
+package com.cercli.employee.duplicates;
+
+import com.cercli.employee.config.DuplicateProperties;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Finds likely duplicates by looking up the blocks an employee falls into and scoring only the employees
+ * found there.
+ */
+@Component
+@RequiredArgsConstructor
+public class DuplicateMatcher {
+
+    private final BlockingKeyStore blockingKeyStore;
+    private final EmployeeRepository employeeRepository;
+    private final DuplicateProperties properties;
+
+    public record Match(DuplicateProfile duplicate, DuplicateScorer.Score score) {}
+
+    /**
+     * @param profile An existing employee, or one about to be created.
+     * @return The likely duplicates, best first.
+     */
+    public List<Match> match(DuplicateProfile profile) {
+        Map<UUID, Set<String>> members = blockingKeyStore.findBlockMembers(profile.blockingKeys(), properties.getMaxBlockSize());
+        members.remove(profile.id());
+        if (members.isEmpty()) {
+            return List.of();
+        }
+        List<UUID> candidateIds = members.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<UUID, Set<String>> entry) -> entry.getValue().size()).reversed())
+                .limit(properties.getMaxCandidates())
+                .map(Map.Entry::getKey)
+                .toList();
+        List<Match> matches = new ArrayList<>();
+        for (Employee candidate : employeeRepository.findAllById(candidateIds)) {
+            addIfLikely(matches, profile, DuplicateProfile.from(candidate));
+        }
+        matches.sort(Comparator.comparingDouble((Match match) -> match.score().value()).reversed());
+        return matches;
+    }
+
+    /**
+     * Matches a chunk of employees with two queries, whatever its size: one for the pairs sharing a block
+     * and one to load the other side of those pairs. Each pair is reported once, under the employee with
+     * the lower ID, so scanning all employees in chunks reports every likely duplicate once.
+     *
+     * @return The likely duplicates of each employee that has any, best first.
+     */
+    public Map<UUID, List<Match>> matchAll(List<Employee> employees) {
+        Map<UUID, DuplicateProfile> profiles = new HashMap<>();
+        employees.forEach(employee -> profiles.put(employee.getId(), DuplicateProfile.from(employee)));
+        Map<UUID, Map<UUID, Set<String>>> pairs = blockingKeyStore.findBlockPairs(profiles.keySet(), properties.getMaxBlockSize());
+
+        Set<UUID> missing = new HashSet<>();
+        pairs.values().forEach(others -> others.keySet().stream().filter(id -> !profiles.containsKey(id)).forEach(missing::add));
+        if (!missing.isEmpty()) {
+            employeeRepository.findAllById(missing).forEach(employee -> profiles.put(employee.getId(), DuplicateProfile.from(employee)));
+        }
+
+        Map<UUID, List<Match>> matches = new HashMap<>();
+        pairs.forEach((employeeId, others) -> {
+            List<Match> employeeMatches = new ArrayList<>();
+            others.keySet().stream()
+                    .map(profiles::get)
+                    // Deleted since its keys were read
+                    .filter(Objects::nonNull)
+                    .forEach(other -> addIfLikely(employeeMatches, profiles.get(employeeId), other));
+            if (!employeeMatches.isEmpty()) {
+                employeeMatches.sort(Comparator.comparingDouble((Match match) -> match.score().value()).reversed());
+                matches.put(employeeId, employeeMatches);
+            }
+        });
+        return matches;
+    }
+
+    private void addIfLikely(List<Match> matches, DuplicateProfile profile, DuplicateProfile candidate) {
+        DuplicateScorer.Score score = DuplicateScorer.score(profile, candidate);
+        if (score.value() >= properties.getMinScore()) {
+            matches.add(new Match(candidate, score));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.cercli.employee.duplicates;
+
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.entity.Employee;
+
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The employee fields duplicate detection compares. The ID is null for an employee not created yet.
+ */
+public record DuplicateProfile(UUID id, String firstName, String lastName, String email, String phoneNumber,
+                               LocalDate hireDate, String department) {
+
+    public static DuplicateProfile from(Employee employee) {
+        return new DuplicateProfile(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getPhoneNumber(), employee.getHireDate(), employee.getDepartment());
+    }
+
+    public static DuplicateProfile from(EmployeeDto employeeDto) {
+        return new DuplicateProfile(null, employeeDto.getFirstName(), employeeDto.getLastName(), employeeDto.getEmail(),
+                employeeDto.getPhoneNumber(), employeeDto.getHireDate(), employeeDto.getDepartment());
+    }
+
+    public Set<String> blockingKeys() {
+        return BlockingKeys.of(firstName, lastName, phoneNumber, hireDate);
+    }
+}
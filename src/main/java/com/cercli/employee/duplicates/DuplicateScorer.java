@@ -0,0 +1,118 @@
+package com.cercli.employee.duplicates;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Scores how likely two employees are the same person, from 0 to 1. Names weigh most and are compared
+ * with Jaro-Winkler similarity in both orders; phone, hire date, email and department add evidence.
+ */
+public final class DuplicateScorer {
+
+    private static final double NAME_WEIGHT = 0.45;
+    private static final double PHONE_WEIGHT = 0.25;
+    private static final double HIRE_DATE_WEIGHT = 0.15;
+    private static final double EMAIL_WEIGHT = 0.10;
+    private static final double DEPARTMENT_WEIGHT = 0.05;
+
+    // Similarity from which a field is listed as matching
+    private static final double SIMILAR = 0.9;
+
+    private DuplicateScorer() {
+    }
+
+    public record Score(double value, List<String> matchedOn) {}
+
+    public static Score score(DuplicateProfile a, DuplicateProfile b) {
+        List<String> matchedOn = new ArrayList<>();
+        double score = 0;
+
+        String firstA = BlockingKeys.normalizeName(a.firstName());
+        String lastA = BlockingKeys.normalizeName(a.lastName());
+        String firstB = BlockingKeys.normalizeName(b.firstName());
+        String lastB = BlockingKeys.normalizeName(b.lastName());
+        double name = Math.max(
+                (jaroWinkler(firstA, firstB) + jaroWinkler(lastA, lastB)) / 2,
+                (jaroWinkler(firstA, lastB) + jaroWinkler(lastA, firstB)) / 2);
+        score += NAME_WEIGHT * name;
+        if (name >= SIMILAR) {
+            matchedOn.add("NAME");
+        }
+
+        String phoneA = BlockingKeys.normalizePhone(a.phoneNumber());
+        if (phoneA != null && phoneA.equals(BlockingKeys.normalizePhone(b.phoneNumber()))) {
+            score += PHONE_WEIGHT;
+            matchedOn.add("PHONE");
+        }
+        if (a.hireDate() != null && a.hireDate().equals(b.hireDate())) {
+            score += HIRE_DATE_WEIGHT;
+            matchedOn.add("HIRE_DATE");
+        }
+        double email = jaroWinkler(localPart(a.email()), localPart(b.email()));
+        score += EMAIL_WEIGHT * email;
+        if (email >= SIMILAR) {
+            matchedOn.add("EMAIL");
+        }
+        if (a.department() != null && a.department().equalsIgnoreCase(Objects.toString(b.department(), ""))) {
+            score += DEPARTMENT_WEIGHT;
+            matchedOn.add("DEPARTMENT");
+        }
+        return new Score(Math.round(score * 1000) / 1000.0, matchedOn);
+    }
+
+    // Letters and digits before the @, so jane.doe and janedoe compare equal
+    private static String localPart(String email) {
+        if (email == null) {
+            return "";
+        }
+        int at = email.indexOf('@');
+        return (at < 0 ? email : email.substring(0, at)).toLowerCase(Locale.ROOT).replaceAll("[^\\p{L}\\p{N}]", "");
+    }
+
+    static double jaroWinkler(String s, String t) {
+        if (s.isEmpty() || t.isEmpty()) {
+            return s.equals(t) ? 1 : 0;
+        }
+        if (s.equals(t)) {
+            return 1;
+        }
+        int window = Math.max(0, Math.max(s.length(), t.length()) / 2 - 1);
+        boolean[] sMatched = new boolean[s.length()];
+        boolean[] tMatched = new boolean[t.length()];
+        int matches = 0;
+        for (int i = 0; i < s.length(); i++) {
+            for (int j = Math.max(0, i - window); j <= Math.min(t.length() - 1, i + window); j++) {
+                if (!tMatched[j] && s.charAt(i) == t.charAt(j)) {
+                    sMatched[i] = true;
+                    tMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < s.length(); i++) {
+            if (sMatched[i]) {
+                while (!tMatched[j]) {
+                    j++;
+                }
+                if (s.charAt(i) != t.charAt(j)) {
+                    transpositions++;
+                }
+                j++;
+            }
+        }
+        double jaro = ((double) matches / s.length() + (double) matches / t.length()
+                + (matches - transpositions / 2.0) / matches) / 3;
+        int prefix = 0;
+        while (prefix < Math.min(4, Math.min(s.length(), t.length())) && s.charAt(prefix) == t.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1 - jaro);
+    }
+}
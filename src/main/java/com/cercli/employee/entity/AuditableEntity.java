@@ -1,8 +1,13 @@
 package com.cercli.employee.entity;
 
+import com.cercli.employee.annotation.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @MappedSuperclass
@@ -10,7 +15,7 @@ import java.util.UUID;
 public abstract class AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -20,6 +25,23 @@ public abstract class AuditableEntity {
     @Column(nullable = false)
     private LocalDateTime modifiedAt;
 
+    // State before the pending change, used to compute history deltas; set by captureLoadedState before a
+    // loaded entity is changed, and by AuditEntityListener after each flush
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private Map<String, Object> loadedState;
+
     // Abstract method to capture entity-specific history details
     public abstract String captureHistory();
+
+    // Field values recorded in history deltas and snapshots; values must be JSON scalars
+    public abstract Map<String, Object> captureState();
+
+    // Call before changing a loaded entity; reads do not pay for the copy
+    public void captureLoadedState() {
+        if (loadedState == null) {
+            loadedState = captureState();
+        }
+    }
 }
@@ -1,13 +1,20 @@
 package com.cercli.employee.entity;
 
 import com.cercli.employee.listeners.AuditEntityListener;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 
 @Entity
 @Table(name = "employees")
@@ -25,6 +32,13 @@ public class Employee extends AuditableEntity {
     private String department;
     private String email;
     private LocalDate hireDate;
+
+    // Maintained together with the employee_hierarchy closure table, see OrgChartServiceImpl
+    private UUID managerId;
+
+    // Stored as numeric(15, 2) by the V1 migration
+    @JdbcTypeCode(SqlTypes.NUMERIC)
+    @Column(precision = 15, scale = 2)
     private Float salary;
 
     @Version
@@ -36,4 +50,21 @@ public class Employee extends AuditableEntity {
         return String.format("Employee [name=%s, position=%s, department=%s, email=%s, salary=%.2f]",
                 String.join(" ",firstName, lastName), position, department, email, salary);
     }
+
+    @Override
+    public Map<String, Object> captureState() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("firstName", firstName);
+        state.put("lastName", lastName);
+        state.put("phoneNumber", phoneNumber);
+        state.put("position", position);
+        state.put("department", department);
+        state.put("email", email);
+        state.put("salary", salary);
+        state.put("hireDate", Objects.toString(hireDate, null));
+        state.put("managerId", Objects.toString(managerId, null));
+        state.put("createdAt", Objects.toString(getCreatedAt(), null));
+        state.put("modifiedAt", Objects.toString(getModifiedAt(), null));
+        return state;
+    }
 }
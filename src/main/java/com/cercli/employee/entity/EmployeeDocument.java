@@ -0,0 +1,35 @@
+package com.cercli.employee.entity;
+
+import com.cercli.employee.annotation.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "employee_document")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeDocument {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    private UUID employeeId;
+    private String fileName;
+    private String contentType;
+    private Long sizeBytes;
+
+    // Key of the content in the ContentStore
+    private String sha256;
+
+    // Server time
+    private LocalDateTime createdAt;
+}
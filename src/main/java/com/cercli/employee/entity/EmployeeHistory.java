@@ -1,11 +1,16 @@
 package com.cercli.employee.entity;
 
+import com.cercli.employee.annotation.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -17,11 +22,19 @@ import java.util.UUID;
 public class EmployeeHistory {
 
     @Id
-    @GeneratedValue
+    @TimeOrderedUuid
     private UUID id;
 
     private UUID employeeId;
     private String changeType;
     private String changes;
     private LocalDateTime timestamp;
+
+    // Employee version produced by this change and the time it became current (server time)
+    private Long version;
+    private LocalDateTime validFrom;
+
+    // Changed fields with their new values, keyed as in Employee.captureState()
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Object> delta;
 }
@@ -0,0 +1,35 @@
+package com.cercli.employee.entity;
+
+import com.cercli.employee.annotation.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Entity
+@Table(name = "employee_snapshot")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeSnapshot {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    private UUID employeeId;
+    private Long version;
+    private LocalDateTime validFrom;
+
+    // Employee.captureState() at this version
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Object> state;
+}
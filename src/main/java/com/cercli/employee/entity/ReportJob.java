@@ -0,0 +1,60 @@
+package com.cercli.employee.entity;
+
+import com.cercli.employee.annotation.TimeOrderedUuid;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+@Entity
+@Table(name = "report_job")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportJob {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    private ReportType type;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    // Entity whose time zone is used for timestamps in the output
+    private String countryCode;
+
+    private Long totalRows;
+    private Long processedRows;
+
+    // Checkpoint: last source row written, generator state and output length at that point
+    private UUID cursorId;
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, Object> state;
+    private Long outputBytes;
+
+    private String error;
+
+    // Node currently running the job; another node may take over once the lease has expired
+    private String leaseOwner;
+    private LocalDateTime leaseExpiresAt;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime modifiedAt;
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
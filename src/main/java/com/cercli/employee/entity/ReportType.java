@@ -0,0 +1,12 @@
+package com.cercli.employee.entity;
+
+public enum ReportType {
+    // One CSV row per employee
+    EMPLOYEE_DIRECTORY,
+    // Headcount and salary statistics per department
+    DEPARTMENT_SALARY_SUMMARY,
+    // One CSV row per employee_history entry
+    HISTORY_EXTRACT,
+    // One CSV row per pair of employees that are likely the same person
+    DUPLICATE_CANDIDATES
+}
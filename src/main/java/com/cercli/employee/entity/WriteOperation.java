@@ -0,0 +1,55 @@
+package com.cercli.employee.entity;
+
+import com.cercli.employee.annotation.TimeOrderedUuid;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.WriteOperationDto;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * An accepted asynchronous employee write and, once the writer has committed or rejected it, its outcome.
+ */
+@Entity
+@Table(name = "write_operation")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WriteOperation {
+
+    @Id
+    @TimeOrderedUuid
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    private WriteOperationDto.Type type;
+
+    @Enumerated(EnumType.STRING)
+    private WriteOperationDto.Status status;
+
+    // The employee to update; for creates only known once the operation succeeded
+    private UUID employeeId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private EmployeeDto employee;
+
+    @Enumerated(EnumType.STRING)
+    private WriteOperationDto.Failure failure;
+
+    // Node whose writer applies the operation; another node may take it over once the lease has expired
+    private String leaseOwner;
+    private LocalDateTime leaseExpiresAt;
+
+    // Server time
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+    private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,35 @@
+package com.cercli.employee.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+/**
+ * Published by {@link com.cercli.employee.cache.ClusterInvalidationBus} when cached data of an
+ * employee, or of all employees, must be dropped. Local events are published after the changing
+ * transaction commits; remote events when another node's notification arrives.
+ */
+public class EmployeeInvalidationEvent extends ApplicationEvent {
+
+    private final UUID employeeId;
+    private final boolean remote;
+
+    public EmployeeInvalidationEvent(Object source, UUID employeeId, boolean remote) {
+        super(source);
+        this.employeeId = employeeId;
+        this.remote = remote;
+    }
+
+    // Null when every cached employee must be dropped
+    public UUID getEmployeeId() {
+        return employeeId;
+    }
+
+    public boolean isAll() {
+        return employeeId == null;
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+}
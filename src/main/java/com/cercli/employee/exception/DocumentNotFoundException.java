@@ -0,0 +1,10 @@
+package com.cercli.employee.exception;
+
+/**
+ * Thrown when an employee has no document with the requested ID, or its content is missing from the store.
+ */
+public class DocumentNotFoundException extends RuntimeException {
+    public DocumentNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.cercli.employee.exception;
+
+/**
+ * Thrown when an uploaded document exceeds {@code app.documents.max-size}.
+ */
+public class DocumentTooLargeException extends RuntimeException {
+    public DocumentTooLargeException(String message) {
+        super(message);
+    }
+}
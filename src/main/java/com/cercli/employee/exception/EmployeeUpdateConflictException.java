@@ -0,0 +1,10 @@
+package com.cercli.employee.exception;
+
+/**
+ * Thrown when an employee update keeps losing to concurrent updates of the same employee.
+ */
+public class EmployeeUpdateConflictException extends RuntimeException {
+    public EmployeeUpdateConflictException(String message) {
+        super(message);
+    }
+}
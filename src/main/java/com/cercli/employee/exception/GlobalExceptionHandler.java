@@ -29,6 +29,107 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    @ExceptionHandler(RequestCoalescingTimeoutException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponseDto> handleRequestCoalescingTimeoutException(RequestCoalescingTimeoutException ex) {
+        log.warn("Request coalescing timeout: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(EmployeeUpdateConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponseDto> handleEmployeeUpdateConflictException(EmployeeUpdateConflictException ex) {
+        log.warn("Employee update conflict: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(ReportJobNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponseDto> handleReportJobNotFoundException(ReportJobNotFoundException ex) {
+        log.warn("Report job not found: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(ReportNotReadyException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponseDto> handleReportNotReadyException(ReportNotReadyException ex) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(ReportQueueFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponseDto> handleReportQueueFullException(ReportQueueFullException ex) {
+        log.warn("Report rejected: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(WriteOperationNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponseDto> handleWriteOperationNotFoundException(WriteOperationNotFoundException ex) {
+        log.warn("Write operation not found: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(WriteQueueFullException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<ErrorResponseDto> handleWriteQueueFullException(WriteQueueFullException ex) {
+        log.warn("Write rejected: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(PossibleDuplicateEmployeeException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponseDto> handlePossibleDuplicateEmployeeException(PossibleDuplicateEmployeeException ex) {
+        log.warn("Possible duplicate employee: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(ProfilingAccessDeniedException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public ResponseEntity<ErrorResponseDto> handleProfilingAccessDeniedException(ProfilingAccessDeniedException ex) {
+        log.warn("Profiling access denied: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+    }
+
+    @ExceptionHandler(RecordingNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponseDto> handleRecordingNotFoundException(RecordingNotFoundException ex) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(RecordingStateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<ErrorResponseDto> handleRecordingStateException(RecordingStateException ex) {
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    @ExceptionHandler(DocumentNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<ErrorResponseDto> handleDocumentNotFoundException(DocumentNotFoundException ex) {
+        log.warn("Document not found: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    @ExceptionHandler(DocumentTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ResponseEntity<ErrorResponseDto> handleDocumentTooLargeException(DocumentTooLargeException ex) {
+        log.warn("Document upload rejected: {}", ex.getMessage());
+        ErrorResponseDto errorResponse = new ErrorResponseDto(ex.getMessage(), LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponseDto> handleValidationExceptions(MethodArgumentNotValidException ex) {
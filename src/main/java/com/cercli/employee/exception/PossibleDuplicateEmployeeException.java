@@ -0,0 +1,10 @@
+package com.cercli.employee.exception;
+
+/**
+ * Thrown when a new employee resembles an existing one and {@code app.duplicates.on-create} is REJECT.
+ */
+public class PossibleDuplicateEmployeeException extends RuntimeException {
+    public PossibleDuplicateEmployeeException(String message) {
+        super(message);
+    }
+}
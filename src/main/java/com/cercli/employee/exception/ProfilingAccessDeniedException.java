@@ -0,0 +1,10 @@
+package com.cercli.employee.exception;
+
+/**
+ * Thrown when a profiling endpoint is called without the configured admin token, or while profiling is disabled.
+ */
+public class ProfilingAccessDeniedException extends RuntimeException {
+    public ProfilingAccessDeniedException(String message) {
+        super(message);
+    }
+}
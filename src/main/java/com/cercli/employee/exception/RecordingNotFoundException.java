@@ -0,0 +1,10 @@
+package com.cercli.employee.exception;
+
+/**
+ * Thrown when no JFR recording has been started on this node.
+ */
+public class RecordingNotFoundException extends RuntimeException {
+    public RecordingNotFoundException(String message) {
+        super(message);
+    }
+}
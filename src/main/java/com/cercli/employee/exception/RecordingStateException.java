@@ -0,0 +1,10 @@
+package com.cercli.employee.exception;
+
+/**
+ * Thrown when a JFR recording is started while another one is running, or downloaded before it has stopped.
+ */
+public class RecordingStateException extends RuntimeException {
+    public RecordingStateException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.cercli.employee.exception;
+
+/**
+ * Thrown when a request waiting for the shared result of an identical in-flight request times out.
+ */
+public class RequestCoalescingTimeoutException extends RuntimeException {
+    public RequestCoalescingTimeoutException(String message) {
+        super(message);
+    }
+}
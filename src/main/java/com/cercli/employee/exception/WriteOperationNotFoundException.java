@@ -0,0 +1,11 @@
+package com.cercli.employee.exception;
+
+/**
+ * Thrown when no write operation is known with the requested ID, either because it never existed, it
+ * expired, or it was accepted by another node.
+ */
+public class WriteOperationNotFoundException extends RuntimeException {
+    public WriteOperationNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,57 +1,200 @@
 package com.cercli.employee.factory;
 
+import com.cercli.employee.annotation.UseDataSource;
+import com.cercli.employee.config.HistoryProperties;
+import com.cercli.employee.datasource.DataSourceRoute;
 import com.cercli.employee.entity.AuditableEntity;
 import com.cercli.employee.entity.Employee;
 import com.cercli.employee.entity.EmployeeHistory;
+import com.cercli.employee.entity.EmployeeSnapshot;
+import com.cercli.employee.profiling.HistoryWriteEvent;
 import com.cercli.employee.repository.EmployeeHistoryRepository;
+import com.cercli.employee.repository.EmployeeSnapshotRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 
 @Component
 public class HistoryFactory {
 
     private final EmployeeHistoryRepository historyRepository;
+    private final EmployeeSnapshotRepository snapshotRepository;
+    private final HistoryProperties historyProperties;
     private static final Logger logger = LoggerFactory.getLogger(HistoryFactory.class);
+    // Transaction resource holding deferred history; unique per factory
+    private final Object deferredHistoryKey = new Object();
 
-    public HistoryFactory(EmployeeHistoryRepository historyRepository) {
+    public HistoryFactory(EmployeeHistoryRepository historyRepository,
+                          EmployeeSnapshotRepository snapshotRepository,
+                          HistoryProperties historyProperties) {
         this.historyRepository = historyRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.historyProperties = historyProperties;
     }
 
     /**
-     * Creates a history record for an entity, currently supports Employee entities.
+     * Builds the history of a change to an entity, currently supports Employee entities. The row is built
+     * right away, while the entity still holds the state that was just flushed, and written later by
+     * {@link #writeHistory(PendingHistory)}.
      * @param entity The entity for which the history is being created.
      * @param changeType The type of change (e.g., CREATED, UPDATED, DELETED).
+     * @return The history to write, or null for an unsupported entity type.
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public <T extends AuditableEntity> void createHistory(T entity, String changeType) {
-        if (entity instanceof Employee) {
-            // Handle Employee specific history creation
-            Employee emp = (Employee) entity;
-            EmployeeHistory history = EmployeeHistory.builder()
-                    .employeeId(emp.getId())
-                    .changeType(changeType)
-                    .changes(emp.captureHistory())
-                    .timestamp(LocalDateTime.now())
-                    .build();
-
-            logger.info("Creating history for Employee ID: {}, Change Type: {}", emp.getId(), changeType);
-
-            try {
-                historyRepository.save(history);
-                logger.info("Successfully saved history for Employee ID: {}", emp.getId());
-            } catch (Exception e) {
-                logger.error("Error saving history for Employee ID: {}", emp.getId(), e);
-                // If an error occurs, the entire transaction (including the entity save) will be rolled back.
-                throw e;  // Rethrow the exception so that the transaction can be rolled back
-            }
-        } else {
+    public <T extends AuditableEntity> PendingHistory prepareHistory(T entity, String changeType) {
+        if (!(entity instanceof Employee emp)) {
             // Handle other types of AuditableEntity if needed
             logger.warn("Unsupported entity type for history creation: {}", entity.getClass().getName());
+            return null;
+        }
+        Map<String, Object> state = emp.captureState();
+        return new PendingHistory(buildHistory(emp, state, changeType), state, isSnapshotVersion(emp.getVersion()));
+    }
+
+    /**
+     * Writes history built by {@link #prepareHistory}, in a transaction of its own on the history pool.
+     */
+    @UseDataSource(DataSourceRoute.HISTORY)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeHistory(PendingHistory pending) {
+        EmployeeHistory history = pending.history();
+        logger.info("Creating history for Employee ID: {}, Change Type: {}", history.getEmployeeId(), history.getChangeType());
+
+        try {
+            historyRepository.save(history);
+            if (pending.snapshot()) {
+                saveSnapshot(history.getEmployeeId(), history.getVersion(), history.getValidFrom(), pending.state());
+            }
+            logger.info("Successfully saved history for Employee ID: {}", history.getEmployeeId());
+        } catch (Exception e) {
+            logger.error("Error saving history for Employee ID: {}", history.getEmployeeId(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Makes history created in the current transaction wait for {@link #writeDeferredHistory()} instead of
+     * being written in a transaction of its own after the commit, so writers committing many changes at once also commit
+     * their history with them. Ends with the transaction.
+     */
+    public void deferHistory() {
+        if (isDeferring()) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(deferredHistoryKey, new ArrayList<PendingHistory>());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(deferredHistoryKey);
+            }
+        });
+    }
+
+    public boolean isDeferring() {
+        return TransactionSynchronizationManager.hasResource(deferredHistoryKey);
+    }
+
+    /**
+     * Builds the history of a change flushed in a transaction that {@link #deferHistory() defers} history.
+     * The row is built right away, while the entity still holds the state that was just flushed.
+     */
+    public <T extends AuditableEntity> void defer(T entity, String changeType) {
+        PendingHistory pending = prepareHistory(entity, changeType);
+        if (pending != null) {
+            deferredHistory().add(pending);
         }
     }
+
+    /**
+     * Writes the history deferred so far in the current transaction. Call it after the last flush of the
+     * changes and before the transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void writeDeferredHistory() {
+        if (!isDeferring()) {
+            return;
+        }
+        HistoryWriteEvent event = new HistoryWriteEvent();
+        event.begin();
+        List<PendingHistory> deferred = List.copyOf(deferredHistory());
+        deferredHistory().clear();
+        historyRepository.saveAll(deferred.stream().map(PendingHistory::history).toList());
+        int snapshots = 0;
+        for (PendingHistory entry : deferred) {
+            if (entry.snapshot()) {
+                EmployeeHistory history = entry.history();
+                saveSnapshot(history.getEmployeeId(), history.getVersion(), history.getValidFrom(), entry.state());
+                snapshots++;
+            }
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.rows = deferred.size();
+            event.snapshots = snapshots;
+            event.deferred = true;
+            event.commit();
+        }
+        logger.info("Saved {} deferred history rows", deferred.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PendingHistory> deferredHistory() {
+        return (List<PendingHistory>) TransactionSynchronizationManager.getResource(deferredHistoryKey);
+    }
+
+    private EmployeeHistory buildHistory(Employee emp, Map<String, Object> state, String changeType) {
+        return EmployeeHistory.builder()
+                .employeeId(emp.getId())
+                .changeType(changeType)
+                .changes(emp.captureHistory())
+                .timestamp(LocalDateTime.now())
+                .version(emp.getVersion())
+                .validFrom(emp.getModifiedAt())
+                .delta(delta(emp.getLoadedState(), state))
+                .build();
+    }
+
+    private boolean isSnapshotVersion(Long version) {
+        return version != null && version % historyProperties.getSnapshotInterval() == 0;
+    }
+
+    /**
+     * Stores the full state at this version. A history row of a rolled back change may already have
+     * taken the version, so an existing snapshot is overwritten rather than duplicated.
+     */
+    private void saveSnapshot(UUID employeeId, Long version, LocalDateTime validFrom, Map<String, Object> state) {
+        EmployeeSnapshot snapshot = snapshotRepository.findByEmployeeIdAndVersion(employeeId, version)
+                .orElseGet(() -> EmployeeSnapshot.builder().employeeId(employeeId).version(version).build());
+        snapshot.setValidFrom(validFrom);
+        snapshot.setState(state);
+        snapshotRepository.save(snapshot);
+        logger.info("Saved snapshot of Employee ID: {} at version {}", employeeId, version);
+    }
+
+    // Fields whose value differs from the loaded state; everything when there is no loaded state (creation)
+    private static Map<String, Object> delta(Map<String, Object> before, Map<String, Object> after) {
+        if (before == null) {
+            return after;
+        }
+        Map<String, Object> delta = new LinkedHashMap<>();
+        after.forEach((field, value) -> {
+            if (!before.containsKey(field) || !Objects.equals(before.get(field), value)) {
+                delta.put(field, value);
+            }
+        });
+        return delta;
+    }
+
+    public record PendingHistory(EmployeeHistory history, Map<String, Object> state, boolean snapshot) {}
 }
@@ -0,0 +1,97 @@
+package com.cercli.employee.filters;
+
+import com.cercli.employee.admission.AdmissionLimiter;
+import com.cercli.employee.admission.AdmissionRegistry;
+import com.cercli.employee.admission.EndpointClass;
+import com.cercli.employee.config.AdmissionProperties;
+import com.cercli.employee.dto.ErrorResponseDto;
+import com.cercli.employee.profiling.FilterProfiler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Admission control keyed by the {@code X-Entity} code and endpoint class (read or write).
+ * <p>
+ * Each pair has a token bucket for its request rate and a cap on concurrent requests. A request may wait up to
+ * {@code app.admission.queueTimeout} for either; after that it is shed with {@code 429} (rate) or {@code 503}
+ * (concurrency) and a {@code Retry-After} header, so one country's batch cannot starve the others.
+ */
+@Component
+@Order(AdmissionControlFilter.ORDER)
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = IdempotencyFilter.ORDER + 10;
+
+    private static final String ENTITY_KEY = "X_ENTITY_CODE";
+
+    private final AdmissionRegistry admissionRegistry;
+    private final AdmissionProperties admissionProperties;
+    private final ObjectMapper objectMapper;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !admissionProperties.isEnabled() || !uri.startsWith("/api/") || uri.startsWith("/api/admin/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        FilterProfiler.profile("AdmissionControl", observationRegistry, request, response, filterChain, this::filter);
+    }
+
+    private void filter(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Object entityCode = request.getAttribute(ENTITY_KEY);
+        String countryCode = entityCode == null ? "UNKNOWN" : entityCode.toString().toUpperCase();
+        AdmissionLimiter limiter = admissionRegistry.limiterFor(countryCode, EndpointClass.of(request.getMethod(), request.getRequestURI()));
+
+        AdmissionLimiter.Decision decision;
+        try {
+            decision = limiter.tryAdmit(admissionProperties.getQueueTimeout().toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            shed(response, HttpStatus.SERVICE_UNAVAILABLE, 1);
+            return;
+        }
+        if (!decision.admitted()) {
+            log.debug("Shedding {} {} for entity {}: {}", request.getMethod(), request.getRequestURI(), countryCode, decision.reason());
+            HttpStatus status = decision.reason() == AdmissionLimiter.Decision.Reason.RATE_LIMITED
+                    ? HttpStatus.TOO_MANY_REQUESTS
+                    : HttpStatus.SERVICE_UNAVAILABLE;
+            shed(response, status, decision.retryAfterSeconds());
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release();
+        }
+    }
+
+    private void shed(HttpServletResponse response, HttpStatus status, long retryAfterSeconds) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        String message = status == HttpStatus.TOO_MANY_REQUESTS
+                ? "Too many requests for this entity, please retry later."
+                : "Service is busy, please retry later.";
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponseDto(message, LocalDateTime.now()));
+    }
+}
@@ -1,11 +1,15 @@
 package com.cercli.employee.filters;
 
 import com.cercli.employee.config.InternationalizationProperties;
+import com.cercli.employee.profiling.FilterProfiler;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -17,13 +21,18 @@ import java.util.HashMap;
 import java.util.Map;
 
 @Component
+@Order(EntityCodeExtractorFilter.ORDER)
 @RequiredArgsConstructor
 public class EntityCodeExtractorFilter extends OncePerRequestFilter {
 
+    // Runs after Spring's RequestContextFilter, which exposes the request attributes used below
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 100;
+
     private static final String ENTITY_KEY = "X_ENTITY_CODE";
     private static final int SCOPE_ID = 0;
 
     private final InternationalizationProperties intlProperties;
+    private final ObservationRegistry observationRegistry;
 
     private String getParamFromQueryString(String queryString, String paramName) {
         System.out.println("Entered Param " + queryString + paramName);
@@ -44,7 +53,11 @@ public class EntityCodeExtractorFilter extends OncePerRequestFilter {
     }
 
     @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException, ServletException {
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        FilterProfiler.profile("EntityCodeExtractor", observationRegistry, request, response, filterChain, this::filter);
+    }
+
+    private void filter(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String countryCode = request.getHeader("X-Entity");
         if (countryCode == null || countryCode.isEmpty()) {
             countryCode = getParamFromQueryString(request.getQueryString(), "entity");
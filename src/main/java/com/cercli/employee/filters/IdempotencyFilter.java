@@ -0,0 +1,173 @@
+package com.cercli.employee.filters;
+
+import com.cercli.employee.cache.IdempotencyStore;
+import com.cercli.employee.cache.IdempotencyStore.StoredResponse;
+import com.cercli.employee.config.IdempotencyProperties;
+import com.cercli.employee.dto.ErrorResponseDto;
+import com.cercli.employee.profiling.FilterProfiler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes {@code POST} and {@code PUT} requests on employees idempotent when they carry an {@code Idempotency-Key}.
+ * <p>
+ * The first response for a key is stored and replayed for later requests with the same key without reaching
+ * the controller. A duplicate that arrives while the original is still being processed waits for it instead
+ * of running concurrently. Server errors and 429 responses are not stored, so those requests can be retried.
+ * Reusing a key with a different body is rejected with 422.
+ */
+@Component
+@Order(IdempotencyFilter.ORDER)
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = EntityCodeExtractorFilter.ORDER + 10;
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String ENTITY_KEY = "X_ENTITY_CODE";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties idempotencyProperties;
+    private final ObjectMapper objectMapper;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("POST".equals(method) || "PUT".equals(method))
+                || request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !request.getRequestURI().startsWith("/api/employees")
+                // Uploads are streamed rather than buffered; repeating one returns the stored document anyway
+                || request.getRequestURI().endsWith("/documents");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        FilterProfiler.profile("Idempotency", observationRegistry, request, response, filterChain, this::filter);
+    }
+
+    private void filter(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+        int maxBody = (int) idempotencyProperties.getMaxRequestBody().toBytes();
+        byte[] body = request.getInputStream().readNBytes(maxBody + 1);
+        if (body.length > maxBody) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large for an idempotent request.");
+            return;
+        }
+
+        String key = String.join(" ", request.getMethod(), request.getRequestURI(),
+                String.valueOf(request.getAttribute(ENTITY_KEY)), idempotencyKey);
+        String fingerprint = fingerprint(body);
+        long deadline = System.nanoTime() + idempotencyProperties.getInFlightTimeout().toNanos();
+
+        while (true) {
+            StoredResponse stored = idempotencyStore.get(key);
+            if (stored != null) {
+                replay(stored, fingerprint, response);
+                return;
+            }
+            CompletableFuture<StoredResponse> owner = new CompletableFuture<>();
+            CompletableFuture<StoredResponse> original = idempotencyStore.claim(key, owner);
+            if (original == null) {
+                // The original may have completed between the lookup and the claim
+                stored = idempotencyStore.get(key);
+                if (stored != null) {
+                    idempotencyStore.complete(key, owner, stored);
+                    replay(stored, fingerprint, response);
+                } else {
+                    execute(new CachedBodyHttpServletRequest(request, body), response, filterChain, key, owner, fingerprint);
+                }
+                return;
+            }
+            try {
+                stored = original.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                writeError(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is still being processed.");
+                return;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is still being processed.");
+                return;
+            }
+            if (stored != null) {
+                replay(stored, fingerprint, response);
+                return;
+            }
+            // The original failed without a storable response; try to become the owner
+        }
+    }
+
+    private void execute(CachedBodyHttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, CompletableFuture<StoredResponse> owner, String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            int status = responseWrapper.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                stored = new StoredResponse(fingerprint, status, responseWrapper.getContentType(), responseWrapper.getContentAsByteArray());
+            }
+        } finally {
+            idempotencyStore.complete(key, owner, stored);
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(StoredResponse stored, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used with a different request body.");
+            return;
+        }
+        log.debug("Replaying stored response with status {}", stored.status());
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponseDto(message, LocalDateTime.now()));
+    }
+
+    private static String fingerprint(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.cercli.employee.filters;
+
+import com.cercli.employee.cache.ListPageCache;
+import com.cercli.employee.cache.ListPageCache.CachedPage;
+import com.cercli.employee.profiling.FilterProfiler;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Serves plain {@code GET /api/employees} list pages from {@link ListPageCache}, skipping the query, the DTO
+ * conversion and serialization. The key covers everything the bytes depend on: page or cursor, size, entity
+ * code, message locale and the {@code Accept} header that picks JSON or CBOR. Requests with any other
+ * parameter ({@code fields}, {@code asOf}) always reach the controller. Runs after admission control, so
+ * cached reads still count against the caller's limits.
+ */
+@Component
+@Order(ListPageCacheFilter.ORDER)
+@RequiredArgsConstructor
+public class ListPageCacheFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = AdmissionControlFilter.ORDER + 10;
+    public static final String CACHE_HEADER = "X-Cache";
+
+    private static final String ENTITY_KEY = "X_ENTITY_CODE";
+    private static final Set<String> CACHEABLE_PARAMETERS = Set.of("page", "size", "after", "entity");
+
+    private final ListPageCache listPageCache;
+    private final LocaleResolver localeResolver;
+    private final ObservationRegistry observationRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !"/api/employees".equals(request.getRequestURI())
+                || !CACHEABLE_PARAMETERS.containsAll(request.getParameterMap().keySet())
+                || !listPageCache.isUsable();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        FilterProfiler.profile("ListPageCache", observationRegistry, request, response, filterChain, this::filter);
+    }
+
+    private void filter(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = cacheKey(request);
+        long epoch = listPageCache.epoch();
+        CachedPage cached = listPageCache.get(key, epoch);
+        if (cached != null) {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(cached.contentType());
+            response.setHeader(CACHE_HEADER, "HIT");
+            response.setContentLength(cached.body().length);
+            response.getOutputStream().write(cached.body());
+            return;
+        }
+
+        response.setHeader(CACHE_HEADER, "MISS");
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            if (responseWrapper.getStatus() == HttpStatus.OK.value()) {
+                listPageCache.put(key, epoch, new CachedPage(responseWrapper.getContentType(), responseWrapper.getContentAsByteArray()));
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    private String cacheKey(HttpServletRequest request) {
+        String after = request.getParameter("after");
+        String position = after != null ? "after=" + after : "page=" + Objects.toString(request.getParameter("page"), "0");
+        return String.join(" ", position,
+                "size=" + Objects.toString(request.getParameter("size"), "10"),
+                String.valueOf(request.getAttribute(ENTITY_KEY)).toUpperCase(),
+                localeResolver.resolveLocale(request).toLanguageTag(),
+                Objects.toString(request.getHeader(HttpHeaders.ACCEPT), ""));
+    }
+}
@@ -1,7 +1,11 @@
 package com.cercli.employee.listeners;
 import com.cercli.employee.event.EntityHistoryEvent;
 import com.cercli.employee.entity.AuditableEntity;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.profiling.EntityListenerEvent;
 import com.cercli.employee.util.DateUtil;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.persistence.PostPersist;
 import jakarta.persistence.PostUpdate;
 import jakarta.persistence.PrePersist;
@@ -20,6 +24,8 @@ public class AuditEntityListener {
 
     private final ApplicationEventPublisher eventPublisher;
 
+    private final ObservationRegistry observationRegistry;
+
     @PrePersist
     public void onPrePersist(AuditableEntity entity) {
         LocalDateTime currentDateTime = LocalDateTime.now();
@@ -38,7 +44,32 @@ public class AuditEntityListener {
     @PostPersist
     @PostUpdate
     public void logChange(AuditableEntity entity) {
-        eventPublisher.publishEvent(new EntityHistoryEvent(this, entity, "UPDATED"));
+        EntityListenerEvent event = begin();
+        // The span of the synchronous history event nests under this one
+        Observation.createNotStarted("employee.entity.listener", observationRegistry)
+                .contextualName("AuditEntityListener.logChange")
+                .lowCardinalityKeyValue("entity", entity.getClass().getSimpleName())
+                .observe(() -> eventPublisher.publishEvent(new EntityHistoryEvent(this, entity, "UPDATED")));
+        // The next flush of this instance is diffed against what was just written
+        entity.setLoadedState(entity.captureState());
         //historyFactory.createHistory(entity, "UPDATED");
+        commit(event, "PostPersistOrUpdate", entity);
+    }
+
+    // Timed for JFR; includes building the history row for post-persist and post-update
+    private static EntityListenerEvent begin() {
+        EntityListenerEvent event = new EntityListenerEvent();
+        event.begin();
+        return event;
+    }
+
+    private static void commit(EntityListenerEvent event, String callback, AuditableEntity entity) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.callback = callback;
+            event.entity = entity.getClass().getSimpleName();
+            event.employeeId = entity instanceof Employee employee && employee.getId() != null ? employee.getId().toString() : null;
+            event.commit();
+        }
     }
 }
@@ -3,22 +3,86 @@ package com.cercli.employee.listeners;
 import com.cercli.employee.event.EntityHistoryEvent;
 import com.cercli.employee.factory.HistoryFactory;
 import com.cercli.employee.entity.AuditableEntity;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.profiling.HistoryWriteEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
+@Slf4j
 public class EntityHistoryEventListener {
 
     private final HistoryFactory historyFactory;
+    private final ObservationRegistry observationRegistry;
+    private final Counter writeFailures;
 
-    public EntityHistoryEventListener(HistoryFactory historyFactory) {
+    public EntityHistoryEventListener(HistoryFactory historyFactory, ObservationRegistry observationRegistry,
+                                      MeterRegistry meterRegistry) {
         this.historyFactory = historyFactory;
+        this.observationRegistry = observationRegistry;
+        this.writeFailures = meterRegistry.counter("employee.history.write.failures");
     }
 
     @EventListener
     public void handleEntityHistoryEvent(EntityHistoryEvent event) {
-        AuditableEntity entity = event.getEntity();
-        String changeType = event.getChangeType();
-        historyFactory.createHistory(entity, changeType);
+        boolean deferred = historyFactory.isDeferring();
+        Observation.createNotStarted("employee.history.event", observationRegistry)
+                .contextualName("EntityHistoryEvent")
+                .lowCardinalityKeyValue("changeType", event.getChangeType())
+                .lowCardinalityKeyValue("deferred", String.valueOf(deferred))
+                .observe(() -> handle(event.getEntity(), event.getChangeType(), deferred));
+    }
+
+    private void handle(AuditableEntity entity, String changeType, boolean deferred) {
+        if (deferred) {
+            historyFactory.defer(entity, changeType);
+            return;
+        }
+        HistoryFactory.PendingHistory history = historyFactory.prepareHistory(entity, changeType);
+        if (history == null) {
+            return;
+        }
+        // Written once the change has committed, so a change that rolls back leaves no history behind
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        write(history, entity, changeType);
+                    } catch (RuntimeException e) {
+                        // The change has committed; failing the request now would only make the client retry it
+                        writeFailures.increment();
+                        log.error("Failed to write {} history for {} after commit: {}", changeType, entity.getId(),
+                                e.getMessage(), e);
+                    }
+                }
+            });
+        } else {
+            write(history, entity, changeType);
+        }
+    }
+
+    private void write(HistoryFactory.PendingHistory history, AuditableEntity entity, String changeType) {
+        // Timed here rather than inside the factory, so the event covers the REQUIRES_NEW transaction too
+        HistoryWriteEvent historyEvent = new HistoryWriteEvent();
+        historyEvent.begin();
+        Observation.createNotStarted("employee.history.transaction", observationRegistry)
+                .contextualName("HistoryFactory.writeHistory")
+                .lowCardinalityKeyValue("propagation", "REQUIRES_NEW")
+                .observe(() -> historyFactory.writeHistory(history));
+        historyEvent.end();
+        if (historyEvent.shouldCommit()) {
+            historyEvent.employeeId = entity instanceof Employee employee ? String.valueOf(employee.getId()) : null;
+            historyEvent.changeType = changeType;
+            historyEvent.rows = 1;
+            historyEvent.commit();
+        }
     }
 }
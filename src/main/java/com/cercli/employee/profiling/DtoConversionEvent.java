@@ -0,0 +1,27 @@
+package com.cercli.employee.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.cercli.employee.DtoConversion")
+@Label("DTO Conversion")
+@Description("Converting an employee entity to its response, including time zone conversion")
+@Category({"Employee Management", "Service"})
+@StackTrace(false)
+public class DtoConversionEvent extends jdk.jfr.Event {
+
+    @Label("Employee ID")
+    public String employeeId;
+
+    @Label("Country Code")
+    public String countryCode;
+
+    @Label("Time Zone Conversion")
+    @Description("Part of the duration spent converting timestamps to the country's time zone")
+    @Timespan(Timespan.NANOSECONDS)
+    public long timeZoneConversion;
+}
@@ -0,0 +1,24 @@
+package com.cercli.employee.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.cercli.employee.EntityListener")
+@Label("Entity Listener")
+@Description("A JPA lifecycle callback; post-persist and post-update include building the history row")
+@Category({"Employee Management", "Database"})
+@StackTrace(false)
+public class EntityListenerEvent extends jdk.jfr.Event {
+
+    @Label("Callback")
+    public String callback;
+
+    @Label("Entity")
+    public String entity;
+
+    @Label("Employee ID")
+    public String employeeId;
+}
@@ -0,0 +1,40 @@
+package com.cercli.employee.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.cercli.employee.Filter")
+@Label("Filter")
+@Description("A servlet filter, from entry to exit; self time excludes the rest of the chain")
+@Category({"Employee Management", "Web"})
+@StackTrace(false)
+public class FilterEvent extends jdk.jfr.Event {
+
+    @Label("Filter")
+    public String filter;
+
+    @Label("Method")
+    public String method;
+
+    @Label("URI")
+    public String uri;
+
+    @Label("Country Code")
+    public String countryCode;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Self Time")
+    @Description("Time spent in the filter itself, excluding the filters and handler after it")
+    @Timespan(Timespan.NANOSECONDS)
+    public long selfTime;
+
+    @Label("Passed On")
+    @Description("False when the filter answered the request itself, e.g. from a cache or by rejecting it")
+    public boolean passedOn;
+}
@@ -0,0 +1,101 @@
+package com.cercli.employee.profiling;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Records a {@link FilterEvent} around a filter's work. The chain handed to the filter is timed, so the
+ * event can tell the filter's own time apart from everything that runs after it.
+ * <p>
+ * The filter also gets an observation, whose span encloses the spans of the filters and handler after it.
+ */
+public final class FilterProfiler {
+
+    private static final String ENTITY_KEY = "X_ENTITY_CODE";
+
+    private FilterProfiler() {
+    }
+
+    @FunctionalInterface
+    public interface FilterBody {
+        void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException;
+    }
+
+    public static void profile(String filter, ObservationRegistry observationRegistry, HttpServletRequest request,
+                               HttpServletResponse response, FilterChain filterChain, FilterBody body) throws ServletException, IOException {
+        if (observationRegistry.isNoop()) {
+            record(filter, request, response, filterChain, body);
+            return;
+        }
+        Observation observation = Observation.createNotStarted("employee.filter", observationRegistry)
+                .contextualName(filter)
+                .lowCardinalityKeyValue("filter", filter)
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            record(filter, request, response, filterChain, body);
+        } catch (ServletException | IOException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    private static void record(String filter, HttpServletRequest request, HttpServletResponse response,
+                               FilterChain filterChain, FilterBody body) throws ServletException, IOException {
+        FilterEvent event = new FilterEvent();
+        if (!event.isEnabled()) {
+            body.doFilter(request, response, filterChain);
+            return;
+        }
+        TimedFilterChain timedChain = new TimedFilterChain(filterChain);
+        long start = System.nanoTime();
+        event.begin();
+        try {
+            body.doFilter(request, response, timedChain);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object entityCode = request.getAttribute(ENTITY_KEY);
+                event.filter = filter;
+                event.method = request.getMethod();
+                event.uri = request.getRequestURI();
+                event.countryCode = entityCode == null ? null : entityCode.toString().toUpperCase();
+                event.status = response.getStatus();
+                event.passedOn = timedChain.passedOn;
+                event.selfTime = System.nanoTime() - start - timedChain.downstreamNanos;
+                event.commit();
+            }
+        }
+    }
+
+    private static final class TimedFilterChain implements FilterChain {
+
+        private final FilterChain delegate;
+        private boolean passedOn;
+        private long downstreamNanos;
+
+        private TimedFilterChain(FilterChain delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            passedOn = true;
+            long start = System.nanoTime();
+            try {
+                delegate.doFilter(request, response);
+            } finally {
+                downstreamNanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
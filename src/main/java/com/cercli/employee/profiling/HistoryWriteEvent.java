@@ -0,0 +1,33 @@
+package com.cercli.employee.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.cercli.employee.HistoryWrite")
+@Label("History Write")
+@Description("Writing employee history rows and snapshots, in their own transaction or deferred to the caller's")
+@Category({"Employee Management", "Database"})
+@StackTrace(false)
+public class HistoryWriteEvent extends jdk.jfr.Event {
+
+    @Label("Employee ID")
+    @Description("Empty for a deferred batch")
+    public String employeeId;
+
+    @Label("Change Type")
+    public String changeType;
+
+    @Label("Rows")
+    @Description("History rows written")
+    public int rows;
+
+    @Label("Snapshots")
+    public int snapshots;
+
+    @Label("Deferred")
+    @Description("Written in the caller's transaction rather than a new one")
+    public boolean deferred;
+}
@@ -0,0 +1,174 @@
+package com.cercli.employee.profiling;
+
+import com.cercli.employee.config.ProfilingProperties;
+import com.cercli.employee.dto.ProfilingRecordingDto;
+import com.cercli.employee.exception.RecordingNotFoundException;
+import com.cercli.employee.exception.RecordingStateException;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * Runs one bounded Java Flight Recorder recording at a time on this node. A recording stops by itself
+ * after its duration and is written to {@code app.profiling.output-directory}; starting the next one
+ * discards it.
+ * <p>
+ * The custom events in this package are only built while a recording is running, so outside a recording
+ * the instrumented code pays a single enabled check per call.
+ */
+@Component
+@Slf4j
+public class JfrRecordingManager {
+
+    private final ProfilingProperties properties;
+    private final MessageSource messageSource;
+
+    private Recording recording;
+    private Path output;
+
+    public JfrRecordingManager(ProfilingProperties properties, MessageSource messageSource) {
+        this.properties = properties;
+        this.messageSource = messageSource;
+    }
+
+    /**
+     * Starts a recording with the configured JFR settings.
+     *
+     * @param duration How long to record; the configured default when null, capped at the configured maximum.
+     * @return The running recording.
+     * @throws RecordingStateException if a recording is already running.
+     */
+    public synchronized ProfilingRecordingDto start(Duration duration) {
+        if (recording != null && isActive(recording.getState())) {
+            throw new RecordingStateException(getMessage("profiling.recording.running"));
+        }
+        discard();
+        Duration bounded = duration == null || duration.isZero() || duration.isNegative()
+                ? properties.getDefaultDuration() : duration;
+        if (bounded.compareTo(properties.getMaxDuration()) > 0) {
+            bounded = properties.getMaxDuration();
+        }
+        try {
+            Recording started = new Recording(Configuration.getConfiguration(properties.getSettings()));
+            Path directory = Files.createDirectories(Path.of(properties.getOutputDirectory()));
+            Path file = directory.resolve("employee-" + started.getId() + ".jfr");
+            started.setName("employee-" + started.getId());
+            started.setToDisk(true);
+            started.setDuration(bounded);
+            started.setMaxSize(properties.getMaxSize().toBytes());
+            started.setDestination(file);
+            started.start();
+            recording = started;
+            output = file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ParseException e) {
+            throw new IllegalStateException("Invalid JFR settings: " + properties.getSettings(), e);
+        }
+        log.info("Started JFR recording {} for {}", recording.getName(), bounded);
+        return toDto();
+    }
+
+    /**
+     * Stops the current recording early and writes it out. Stopping a recording that has already stopped
+     * does nothing.
+     *
+     * @throws RecordingNotFoundException if no recording has been started.
+     */
+    public synchronized ProfilingRecordingDto stop() {
+        requireRecording();
+        if (isActive(recording.getState())) {
+            recording.stop();
+            log.info("Stopped JFR recording {}", recording.getName());
+        }
+        return toDto();
+    }
+
+    /**
+     * @throws RecordingNotFoundException if no recording has been started.
+     */
+    public synchronized ProfilingRecordingDto status() {
+        requireRecording();
+        return toDto();
+    }
+
+    /**
+     * @return The file of the current recording.
+     * @throws RecordingNotFoundException if no recording has been started.
+     * @throws RecordingStateException if the recording has not stopped yet.
+     */
+    public synchronized Path output() {
+        requireRecording();
+        if (!isWritten()) {
+            throw new RecordingStateException(getMessage("profiling.recording.not.stopped"));
+        }
+        return output;
+    }
+
+    @PreDestroy
+    synchronized void close() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    private void discard() {
+        if (recording == null) {
+            return;
+        }
+        recording.close();
+        try {
+            Files.deleteIfExists(output);
+        } catch (IOException e) {
+            log.warn("Could not delete JFR recording {}: {}", output, e.getMessage());
+        }
+        recording = null;
+        output = null;
+    }
+
+    private void requireRecording() {
+        if (recording == null) {
+            throw new RecordingNotFoundException(getMessage("profiling.recording.not.found"));
+        }
+    }
+
+    private boolean isWritten() {
+        return !isActive(recording.getState()) && Files.isRegularFile(output);
+    }
+
+    private ProfilingRecordingDto toDto() {
+        Long size = null;
+        boolean written = isWritten();
+        if (written) {
+            try {
+                size = Files.size(output);
+            } catch (IOException e) {
+                written = false;
+            }
+        }
+        Duration duration = recording.getDuration();
+        return new ProfilingRecordingDto(recording.getId(), recording.getName(), recording.getState().name(),
+                properties.getSettings(), recording.getStartTime(), recording.getStopTime(),
+                duration == null ? 0 : duration.toSeconds(), recording.getMaxSize(), size, written);
+    }
+
+    private static boolean isActive(RecordingState state) {
+        return state == RecordingState.NEW || state == RecordingState.DELAYED || state == RecordingState.RUNNING;
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
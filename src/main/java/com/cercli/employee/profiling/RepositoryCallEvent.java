@@ -0,0 +1,31 @@
+package com.cercli.employee.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.cercli.employee.RepositoryCall")
+@Label("Repository Call")
+@Description("A Spring Data repository method, including the SQL it runs and any flush it triggers")
+@Category({"Employee Management", "Database"})
+@StackTrace(false)
+public class RepositoryCallEvent extends jdk.jfr.Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Employee ID")
+    public String employeeId;
+
+    @Label("Rows")
+    @Description("Items returned, or 1 for a single result")
+    public int rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
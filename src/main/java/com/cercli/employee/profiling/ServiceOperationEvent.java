@@ -0,0 +1,31 @@
+package com.cercli.employee.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.cercli.employee.ServiceOperation")
+@Label("Service Operation")
+@Description("A call to a service contract method, including caching, retries and transactions")
+@Category({"Employee Management", "Service"})
+@StackTrace(false)
+public class ServiceOperationEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Employee ID")
+    public String employeeId;
+
+    @Label("Country Code")
+    public String countryCode;
+
+    @Label("Rows")
+    @Description("Items returned, or 1 for a single result")
+    public int rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,107 @@
+package com.cercli.employee.reports;
+
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.ReportType;
+import com.cercli.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Headcount and salary statistics per department. Totals are accumulated in the checkpointed state while
+ * employees are read and the CSV rows are written once all employees have been seen.
+ */
+@Component
+@RequiredArgsConstructor
+public class DepartmentSalaryReport implements ReportGenerator<Employee> {
+
+    private final EmployeeRepository employeeRepository;
+
+    @Override
+    public ReportType type() {
+        return ReportType.DEPARTMENT_SALARY_SUMMARY;
+    }
+
+    @Override
+    public long countRows() {
+        return employeeRepository.count();
+    }
+
+    @Override
+    public List<Employee> readChunk(UUID after, int size) {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(size));
+    }
+
+    @Override
+    public UUID idOf(Employee employee) {
+        return employee.getId();
+    }
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        CsvFormat.writeRow(out, "department", "headcount", "salaried", "total_salary", "average_salary", "min_salary", "max_salary");
+    }
+
+    @Override
+    public void writeRows(List<Employee> employees, Map<String, Object> state, String countryCode, Writer out) {
+        for (Employee employee : employees) {
+            String department = Objects.toString(employee.getDepartment(), "");
+            Totals totals = Totals.from(state.get(department)).add(employee.getSalary());
+            state.put(department, totals.toState());
+        }
+    }
+
+    @Override
+    public void finish(Map<String, Object> state, String countryCode, Writer out) throws IOException {
+        for (Map.Entry<String, Object> entry : new TreeMap<>(state).entrySet()) {
+            Totals totals = Totals.from(entry.getValue());
+            BigDecimal average = totals.salaried() == 0 ? null
+                    : totals.total().divide(BigDecimal.valueOf(totals.salaried()), 2, RoundingMode.HALF_UP);
+            CsvFormat.writeRow(out, entry.getKey(), totals.headcount(), totals.salaried(), totals.total(), average,
+                    totals.min(), totals.max());
+        }
+    }
+
+    // Stored in the job state as [headcount, salaried, total, min, max]; amounts as strings to keep them exact
+    private record Totals(long headcount, long salaried, BigDecimal total, BigDecimal min, BigDecimal max) {
+
+        static Totals from(Object state) {
+            if (state == null) {
+                return new Totals(0, 0, BigDecimal.ZERO, null, null);
+            }
+            List<?> values = (List<?>) state;
+            return new Totals(((Number) values.get(0)).longValue(), ((Number) values.get(1)).longValue(),
+                    new BigDecimal(values.get(2).toString()), decimal(values.get(3)), decimal(values.get(4)));
+        }
+
+        Totals add(Float salary) {
+            if (salary == null) {
+                return new Totals(headcount + 1, salaried, total, min, max);
+            }
+            BigDecimal amount = new BigDecimal(salary.toString());
+            return new Totals(headcount + 1, salaried + 1, total.add(amount),
+                    min == null || amount.compareTo(min) < 0 ? amount : min,
+                    max == null || amount.compareTo(max) > 0 ? amount : max);
+        }
+
+        List<Object> toState() {
+            return Arrays.asList(headcount, salaried, total.toPlainString(),
+                    min == null ? null : min.toPlainString(), max == null ? null : max.toPlainString());
+        }
+
+        private static BigDecimal decimal(Object value) {
+            return value == null ? null : new BigDecimal(value.toString());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.cercli.employee.reports;
+
+import com.cercli.employee.duplicates.DuplicateMatcher;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.ReportType;
+import com.cercli.employee.repository.EmployeeRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Every pair of employees that are likely the same person, once per pair. Each chunk of employees is matched
+ * against its blocks with a fixed number of queries, so the scan grows with the number of employees rather
+ * than the number of pairs.
+ */
+@Component
+@RequiredArgsConstructor
+public class DuplicateCandidatesReport implements ReportGenerator<DuplicateCandidatesReport.Row> {
+
+    private final EmployeeRepository employeeRepository;
+    private final DuplicateMatcher duplicateMatcher;
+
+    public record Row(Employee employee, List<DuplicateMatcher.Match> matches) {}
+
+    @Override
+    public ReportType type() {
+        return ReportType.DUPLICATE_CANDIDATES;
+    }
+
+    @Override
+    public long countRows() {
+        return employeeRepository.count();
+    }
+
+    @Override
+    public List<Row> readChunk(UUID after, int size) {
+        List<Employee> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(size));
+        Map<UUID, List<DuplicateMatcher.Match>> matches = duplicateMatcher.matchAll(employees);
+        return employees.stream()
+                .map(employee -> new Row(employee, matches.getOrDefault(employee.getId(), List.of())))
+                .toList();
+    }
+
+    @Override
+    public UUID idOf(Row row) {
+        return row.employee().getId();
+    }
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        CsvFormat.writeRow(out, "employee_id", "first_name", "last_name", "email",
+                "duplicate_id", "duplicate_first_name", "duplicate_last_name", "duplicate_email", "score", "matched_on");
+    }
+
+    @Override
+    public void writeRows(List<Row> rows, Map<String, Object> state, String countryCode, Writer out) throws IOException {
+        for (Row row : rows) {
+            Employee employee = row.employee();
+            for (DuplicateMatcher.Match match : row.matches()) {
+                CsvFormat.writeRow(out, employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                        match.duplicate().id(), match.duplicate().firstName(), match.duplicate().lastName(),
+                        match.duplicate().email(), match.score().value(), String.join(" ", match.score().matchedOn()));
+            }
+        }
+    }
+}
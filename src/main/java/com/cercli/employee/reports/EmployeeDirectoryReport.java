@@ -0,0 +1,60 @@
+package com.cercli.employee.reports;
+
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.ReportType;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class EmployeeDirectoryReport implements ReportGenerator<Employee> {
+
+    private final EmployeeRepository employeeRepository;
+    private final DateUtil dateUtil;
+
+    @Override
+    public ReportType type() {
+        return ReportType.EMPLOYEE_DIRECTORY;
+    }
+
+    @Override
+    public long countRows() {
+        return employeeRepository.count();
+    }
+
+    @Override
+    public List<Employee> readChunk(UUID after, int size) {
+        return employeeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(size));
+    }
+
+    @Override
+    public UUID idOf(Employee employee) {
+        return employee.getId();
+    }
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        CsvFormat.writeRow(out, "id", "first_name", "last_name", "email", "phone_number", "position", "department",
+                "manager_id", "hire_date", "salary", "created_at", "modified_at");
+    }
+
+    @Override
+    public void writeRows(List<Employee> employees, Map<String, Object> state, String countryCode, Writer out) throws IOException {
+        for (Employee employee : employees) {
+            CsvFormat.writeRow(out, employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                    employee.getPhoneNumber(), employee.getPosition(), employee.getDepartment(), employee.getManagerId(),
+                    employee.getHireDate(), employee.getSalary(),
+                    dateUtil.toLocalTime(employee.getCreatedAt(), countryCode),
+                    dateUtil.toLocalTime(employee.getModifiedAt(), countryCode));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.cercli.employee.reports;
+
+import com.cercli.employee.entity.EmployeeHistory;
+import com.cercli.employee.entity.ReportType;
+import com.cercli.employee.repository.EmployeeHistoryRepository;
+import com.cercli.employee.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class HistoryExtractReport implements ReportGenerator<EmployeeHistory> {
+
+    private final EmployeeHistoryRepository historyRepository;
+    private final DateUtil dateUtil;
+
+    @Override
+    public ReportType type() {
+        return ReportType.HISTORY_EXTRACT;
+    }
+
+    @Override
+    public long countRows() {
+        return historyRepository.count();
+    }
+
+    @Override
+    public List<EmployeeHistory> readChunk(UUID after, int size) {
+        return historyRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(size));
+    }
+
+    @Override
+    public UUID idOf(EmployeeHistory history) {
+        return history.getId();
+    }
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        CsvFormat.writeRow(out, "id", "employee_id", "change_type", "version", "changed_at", "changes");
+    }
+
+    @Override
+    public void writeRows(List<EmployeeHistory> rows, Map<String, Object> state, String countryCode, Writer out) throws IOException {
+        for (EmployeeHistory history : rows) {
+            CsvFormat.writeRow(out, history.getId(), history.getEmployeeId(), history.getChangeType(), history.getVersion(),
+                    dateUtil.toLocalTime(history.getTimestamp(), countryCode), history.getChanges());
+        }
+    }
+}
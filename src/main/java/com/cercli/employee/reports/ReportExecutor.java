@@ -0,0 +1,321 @@
+package com.cercli.employee.reports;
+
+import com.cercli.employee.config.ReportProperties;
+import com.cercli.employee.entity.ReportJob;
+import com.cercli.employee.entity.ReportType;
+import com.cercli.employee.repository.ReportJobRepository;
+import com.cercli.employee.util.TokenBucket;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs report jobs on a bounded pool of worker threads, away from request threads.
+ * <p>
+ * The {@code report_job} table is the queue of record. A worker claims a job by taking a lease on it, reads
+ * the source rows in keyset chunks, each in its own short read-only transaction and paced by a shared token
+ * bucket, and appends the output to a {@code .part} file. After every chunk the file is forced to disk and
+ * the cursor, generator state and file length are checkpointed, which also renews the lease. A job whose
+ * node stopped, or whose lease ran out, is picked up by the periodic sweep on any node and resumes from its
+ * last checkpoint: the file is truncated to the checkpointed length and the next chunk is read again. If the
+ * file is shorter than the checkpoint, the node cannot see the output written so far and the job starts over.
+ * The file is renamed to its final name once the report is complete.
+ */
+@Component
+@Slf4j
+public class ReportExecutor {
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportProperties properties;
+    private final Map<ReportType, ReportGenerator<?>> generators = new EnumMap<>(ReportType.class);
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+    private final TokenBucket chunkThrottle;
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService sweeper;
+    // Jobs queued or running on this node
+    private final Set<UUID> localJobs = ConcurrentHashMap.newKeySet();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public ReportExecutor(ReportJobRepository reportJobRepository,
+                          ReportProperties properties,
+                          List<ReportGenerator<?>> generators,
+                          PlatformTransactionManager transactionManager) {
+        this.reportJobRepository = reportJobRepository;
+        this.properties = properties;
+        generators.forEach(generator -> this.generators.put(generator.type(), generator));
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+        this.chunkThrottle = new TokenBucket(properties.getMaxChunksPerSecond(), 1);
+        this.workers = new ThreadPoolExecutor(properties.getWorkerThreads(), properties.getWorkerThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()), threadFactory("report-worker-"));
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(threadFactory("report-sweeper-"));
+    }
+
+    /**
+     * @return false if this node's queue is full; the job stays queued and is picked up by a later sweep.
+     */
+    public boolean trySubmit(UUID jobId) {
+        if (!localJobs.add(jobId)) {
+            return true;
+        }
+        try {
+            workers.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            localJobs.remove(jobId);
+            return false;
+        }
+    }
+
+    public boolean hasCapacity() {
+        return workers.getQueue().remainingCapacity() > 0;
+    }
+
+    // Starts after the context is ready, so no job runs during a CDS training run or while warming up
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long interval = properties.getSweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        sweeper.shutdownNow();
+        // Interrupted workers hand their jobs back, so they resume from the last checkpoint on the next start
+        workers.shutdownNow();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Report workers did not stop in time; their jobs resume once the lease expires");
+        }
+    }
+
+    void sweep() {
+        try {
+            int capacity = workers.getQueue().remainingCapacity();
+            if (capacity == 0) {
+                return;
+            }
+            List<UUID> claimable = reportJobRepository.findClaimable(ReportJob.Status.QUEUED, ReportJob.Status.RUNNING,
+                    LocalDateTime.now(), Limit.of(capacity + localJobs.size()));
+            for (UUID jobId : claimable) {
+                if (!localJobs.contains(jobId) && !trySubmit(jobId)) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Report sweep failed: {}", e.getMessage());
+        }
+    }
+
+    void run(UUID jobId) {
+        try {
+            ReportJob job = claim(jobId);
+            if (job != null) {
+                log.info("Running report job {} ({}) from row {}", jobId, job.getType(), job.getProcessedRows());
+                execute(job, generators.get(job.getType()));
+            }
+        } catch (ClosedByInterruptException | InterruptedIOException | InterruptedException e) {
+            log.info("Report job {} interrupted, releasing it for resumption", jobId);
+            // Clear the interrupt for the release, the database driver may refuse to work on an interrupted thread
+            Thread.interrupted();
+            updateOwned(jobId, job -> {
+                job.setStatus(ReportJob.Status.QUEUED);
+                job.setLeaseOwner(null);
+                job.setLeaseExpiresAt(null);
+            });
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Report job {} failed: {}", jobId, e.getMessage(), e);
+            String message = String.valueOf(e.getMessage());
+            updateOwned(jobId, job -> {
+                job.setStatus(ReportJob.Status.FAILED);
+                job.setError(message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+                job.setFinishedAt(LocalDateTime.now());
+                job.setLeaseOwner(null);
+                job.setLeaseExpiresAt(null);
+            });
+        } finally {
+            localJobs.remove(jobId);
+        }
+    }
+
+    public Path outputFile(UUID jobId) {
+        return properties.getOutputDirectory().resolve(jobId + ".csv");
+    }
+
+    private Path partFile(UUID jobId) {
+        return properties.getOutputDirectory().resolve(jobId + ".csv.part");
+    }
+
+    private ReportJob claim(UUID jobId) {
+        return writeTransaction.execute(status -> reportJobRepository.lockById(jobId)
+                .filter(this::isClaimable)
+                .map(job -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    job.setStatus(ReportJob.Status.RUNNING);
+                    job.setLeaseOwner(nodeId);
+                    job.setLeaseExpiresAt(now.plus(properties.getLease()));
+                    if (job.getStartedAt() == null) {
+                        job.setStartedAt(now);
+                    }
+                    if (job.getTotalRows() == null) {
+                        job.setTotalRows(generators.get(job.getType()).countRows());
+                    }
+                    job.setModifiedAt(now);
+                    return reportJobRepository.save(job);
+                })
+                .orElse(null));
+    }
+
+    private boolean isClaimable(ReportJob job) {
+        return job.getStatus() == ReportJob.Status.QUEUED
+                || (job.getStatus() == ReportJob.Status.RUNNING && job.getLeaseExpiresAt() != null
+                && job.getLeaseExpiresAt().isBefore(LocalDateTime.now()));
+    }
+
+    private <T> void execute(ReportJob job, ReportGenerator<T> generator) throws IOException, InterruptedException {
+        UUID jobId = job.getId();
+        Map<String, Object> state = job.getState() == null ? new LinkedHashMap<>() : new LinkedHashMap<>(job.getState());
+        UUID cursor = job.getCursorId();
+        long processed = job.getProcessedRows();
+        long checkpointedBytes = job.getOutputBytes();
+        long outputBytes;
+
+        Files.createDirectories(properties.getOutputDirectory());
+        try (FileChannel channel = FileChannel.open(partFile(jobId), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            if (channel.size() < checkpointedBytes) {
+                // Written on a node that does not share this output directory, or wiped since; writing at the
+                // checkpointed offset would leave a hole in the file, so the report starts over
+                log.warn("Report job {} has {} of its {} checkpointed bytes here, restarting it from the first row",
+                        jobId, channel.size(), checkpointedBytes);
+                state.clear();
+                cursor = null;
+                processed = 0;
+                checkpointedBytes = 0;
+            }
+            // Bytes after the last checkpoint belong to a chunk that is about to be written again
+            channel.truncate(checkpointedBytes);
+            channel.position(checkpointedBytes);
+            Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            if (checkpointedBytes == 0) {
+                generator.writeHeader(out);
+            }
+            while (true) {
+                throttle();
+                UUID after = cursor == null ? FIRST_ID : cursor;
+                List<T> rows = readTransaction.execute(status -> generator.readChunk(after, properties.getChunkSize()));
+                generator.writeRows(rows, state, job.getCountryCode(), out);
+                if (!rows.isEmpty()) {
+                    cursor = generator.idOf(rows.get(rows.size() - 1));
+                    processed += rows.size();
+                }
+                if (rows.size() < properties.getChunkSize()) {
+                    break;
+                }
+                out.flush();
+                channel.force(false);
+                if (!checkpoint(jobId, cursor, processed, state, channel.position())) {
+                    log.warn("Report job {} lost its lease, stopping", jobId);
+                    return;
+                }
+            }
+            generator.finish(state, job.getCountryCode(), out);
+            out.flush();
+            channel.force(false);
+            outputBytes = channel.position();
+        }
+
+        Files.move(partFile(jobId), outputFile(jobId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        long rows = processed;
+        updateOwned(jobId, completed -> {
+            completed.setStatus(ReportJob.Status.COMPLETED);
+            completed.setProcessedRows(rows);
+            completed.setOutputBytes(outputBytes);
+            completed.setFinishedAt(LocalDateTime.now());
+            completed.setLeaseOwner(null);
+            completed.setLeaseExpiresAt(null);
+        });
+        log.info("Report job {} completed: {} rows, {} bytes", jobId, rows, outputBytes);
+    }
+
+    private boolean checkpoint(UUID jobId, UUID cursor, long processed, Map<String, Object> state, long outputBytes) {
+        return updateOwned(jobId, job -> {
+            job.setCursorId(cursor);
+            job.setProcessedRows(processed);
+            job.setState(new LinkedHashMap<>(state));
+            job.setOutputBytes(outputBytes);
+            job.setLeaseExpiresAt(LocalDateTime.now().plus(properties.getLease()));
+        });
+    }
+
+    // Applies a change only while this node holds the job's lease
+    private boolean updateOwned(UUID jobId, Consumer<ReportJob> change) {
+        Boolean updated = writeTransaction.execute(status -> reportJobRepository.lockById(jobId)
+                .filter(job -> job.getStatus() == ReportJob.Status.RUNNING && nodeId.equals(job.getLeaseOwner()))
+                .map(job -> {
+                    change.accept(job);
+                    job.setModifiedAt(LocalDateTime.now());
+                    reportJobRepository.save(job);
+                    return true;
+                })
+                .orElse(false));
+        return Boolean.TRUE.equals(updated);
+    }
+
+    private void throttle() throws InterruptedException {
+        long waitNanos = chunkThrottle.reserve(Long.MAX_VALUE);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } else if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
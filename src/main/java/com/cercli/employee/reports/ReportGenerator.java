@@ -0,0 +1,39 @@
+package com.cercli.employee.reports;
+
+import com.cercli.employee.entity.ReportType;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Produces one type of report from source rows read in ID order, a chunk at a time.
+ * <p>
+ * {@link ReportExecutor} checkpoints the ID of the last row written, the output length and {@code state}
+ * after every chunk. Anything a generator needs to carry across chunks must therefore live in
+ * {@code state}, as JSON-compatible values, so a job resumed on another node picks up where it stopped.
+ *
+ * @param <T> The source row type.
+ */
+public interface ReportGenerator<T> {
+
+    ReportType type();
+
+    // Rows the report will read, used to report progress
+    long countRows();
+
+    // Called inside a read-only transaction
+    List<T> readChunk(UUID after, int size);
+
+    UUID idOf(T row);
+
+    void writeHeader(Writer out) throws IOException;
+
+    void writeRows(List<T> rows, Map<String, Object> state, String countryCode, Writer out) throws IOException;
+
+    // Called once after the last chunk
+    default void finish(Map<String, Object> state, String countryCode, Writer out) throws IOException {
+    }
+}
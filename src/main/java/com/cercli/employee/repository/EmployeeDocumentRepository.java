@@ -0,0 +1,18 @@
+package com.cercli.employee.repository;
+
+import com.cercli.employee.entity.EmployeeDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface EmployeeDocumentRepository extends JpaRepository<EmployeeDocument, UUID> {
+
+    List<EmployeeDocument> findByEmployeeIdOrderByCreatedAtDesc(UUID employeeId);
+
+    Optional<EmployeeDocument> findByIdAndEmployeeId(UUID id, UUID employeeId);
+
+    // The same file uploaded again for the same employee, e.g. a retried request
+    Optional<EmployeeDocument> findFirstByEmployeeIdAndSha256AndFileName(UUID employeeId, String sha256, String fileName);
+}
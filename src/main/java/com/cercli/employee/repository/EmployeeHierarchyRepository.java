@@ -0,0 +1,73 @@
+package com.cercli.employee.repository;
+
+import com.cercli.employee.entity.Employee;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Queries over the employee_hierarchy closure table. Every read is a single index scan whatever the
+ * depth of the org chart; re-parenting rewrites only the rows linking the moved subtree to its old and
+ * new ancestors.
+ */
+public interface EmployeeHierarchyRepository extends Repository<Employee, UUID> {
+
+    String NODE_COLUMNS = "e.id AS id, e.first_name AS firstName, e.last_name AS lastName, e.position AS position, "
+            + "e.department AS department, e.manager_id AS managerId";
+
+    @Query(value = "SELECT " + NODE_COLUMNS + ", 1 AS depth FROM employees e WHERE e.manager_id = :managerId "
+            + "ORDER BY e.last_name, e.first_name, e.id", nativeQuery = true)
+    List<OrgChartNode> findDirectReports(@Param("managerId") UUID managerId);
+
+    @Query(value = "SELECT " + NODE_COLUMNS + ", h.depth AS depth FROM employee_hierarchy h "
+            + "JOIN employees e ON e.id = h.descendant_id WHERE h.ancestor_id = :managerId "
+            + "ORDER BY h.depth, e.last_name, e.first_name, e.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<OrgChartNode> findSubtree(@Param("managerId") UUID managerId, @Param("limit") int limit, @Param("offset") long offset);
+
+    // Nearest manager first
+    @Query(value = "SELECT " + NODE_COLUMNS + ", h.depth AS depth FROM employee_hierarchy h "
+            + "JOIN employees e ON e.id = h.ancestor_id WHERE h.descendant_id = :employeeId "
+            + "ORDER BY h.depth", nativeQuery = true)
+    List<OrgChartNode> findManagementChain(@Param("employeeId") UUID employeeId);
+
+    @Query(value = "SELECT count(*) FROM employee_hierarchy WHERE ancestor_id = :managerId", nativeQuery = true)
+    long countSubtree(@Param("managerId") UUID managerId);
+
+    @Query(value = "SELECT count(*) > 0 FROM employee_hierarchy WHERE ancestor_id = :ancestorId AND descendant_id = :descendantId",
+            nativeQuery = true)
+    boolean isAncestor(@Param("ancestorId") UUID ancestorId, @Param("descendantId") UUID descendantId);
+
+    // Serializes re-parenting so two concurrent moves cannot create a cycle; released at commit
+    @Query(value = "SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('employee_hierarchy'))) l", nativeQuery = true)
+    int lockHierarchy();
+
+    /**
+     * Removes the links between the subtree rooted at the employee (the employee included) and the
+     * employee's current managers.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM employee_hierarchy "
+            + "WHERE ancestor_id IN (SELECT ancestor_id FROM employee_hierarchy WHERE descendant_id = :employeeId) "
+            + "AND (descendant_id = :employeeId "
+            + "OR descendant_id IN (SELECT descendant_id FROM employee_hierarchy WHERE ancestor_id = :employeeId))",
+            nativeQuery = true)
+    int detachSubtree(@Param("employeeId") UUID employeeId);
+
+    /**
+     * Links the subtree rooted at the employee (the employee included) to the new manager and all of
+     * the new manager's managers.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) "
+            + "SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1 "
+            + "FROM (SELECT ancestor_id, depth FROM employee_hierarchy WHERE descendant_id = :managerId "
+            + "      UNION ALL SELECT CAST(:managerId AS uuid), 0) a "
+            + "CROSS JOIN (SELECT descendant_id, depth FROM employee_hierarchy WHERE ancestor_id = :employeeId "
+            + "      UNION ALL SELECT CAST(:employeeId AS uuid), 0) d",
+            nativeQuery = true)
+    int attachSubtree(@Param("employeeId") UUID employeeId, @Param("managerId") UUID managerId);
+}
@@ -1,8 +1,13 @@
 package com.cercli.employee.repository;
 
 import com.cercli.employee.entity.EmployeeHistory;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -11,4 +16,28 @@ public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory
     // Custom query to find history by employeeId
     List<EmployeeHistory> findByEmployeeId(UUID employeeId);
 
+    // Keyset page over all history, used by report extracts
+    List<EmployeeHistory> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+
+    // Deltas to replay on top of a snapshot, oldest first
+    @Query("select h from EmployeeHistory h where h.employeeId = :employeeId and h.version > :version "
+            + "and h.validFrom <= :asOf order by h.version, h.timestamp")
+    List<EmployeeHistory> findDeltasAfter(@Param("employeeId") UUID employeeId, @Param("version") Long version,
+                                          @Param("asOf") LocalDateTime asOf);
+
+    // Deltas to replay on top of each of the given snapshots, grouped by employee, oldest first
+    @Query("select h from EmployeeHistory h, EmployeeSnapshot s where s.id in :snapshotIds "
+            + "and h.employeeId = s.employeeId and h.version > s.version and h.validFrom <= :asOf "
+            + "order by h.employeeId, h.version, h.timestamp")
+    List<EmployeeHistory> findDeltasAfterSnapshots(@Param("snapshotIds") Collection<UUID> snapshotIds,
+                                                   @Param("asOf") LocalDateTime asOf);
+
+    // The latest changes of each of the given employees, at most :limit each, grouped by employee, newest first
+    @Query(value = "select * from (select h.*, row_number() over (partition by h.employee_id "
+            + "order by h.version desc nulls last, h.timestamp desc) as rn from employee_history h "
+            + "where h.employee_id in (:employeeIds)) latest where latest.rn <= :limit "
+            + "order by latest.employee_id, latest.rn", nativeQuery = true)
+    List<EmployeeHistory> findLatestByEmployeeIds(@Param("employeeIds") Collection<UUID> employeeIds,
+                                                  @Param("limit") int limit);
+
 }
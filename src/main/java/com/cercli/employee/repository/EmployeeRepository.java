@@ -1,11 +1,55 @@
 package com.cercli.employee.repository;
 
 import com.cercli.employee.entity.Employee;
+import com.cercli.employee.search.SearchDocument;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface EmployeeRepository extends JpaRepository<Employee, UUID> {
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface EmployeeRepository extends JpaRepository<Employee, UUID>, EmployeeRepositoryCustom {
     Optional<Employee> findByEmail(String email);
+
+    // Which of the given emails are taken, in one round trip
+    @Query("select e.email from Employee e where e.email in :emails")
+    Set<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    // Keyset page: ids are time-ordered, so this walks employees in creation order
+    List<Employee> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+
+    // Streams the searchable columns without loading managed entities; must be consumed inside a transaction
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.cercli.employee.search.SearchDocument(e.id, e.firstName, e.lastName, e.email, e.position, e.department, e.version) from Employee e")
+    Stream<SearchDocument> streamSearchDocuments();
+
+    // Searchable columns of the employees changed since a snapshot was taken; must be consumed inside a transaction
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    @Query("select new com.cercli.employee.search.SearchDocument(e.id, e.firstName, e.lastName, e.email, e.position, e.department, e.version) from Employee e where e.modifiedAt >= :since")
+    Stream<SearchDocument> streamSearchDocumentsModifiedSince(@Param("since") LocalDateTime since);
+
+    @Query("select e.id from Employee e where e.modifiedAt >= :since")
+    Set<UUID> findIdsModifiedSince(@Param("since") LocalDateTime since);
+
+    @Query("select new com.cercli.employee.search.SearchDocument(e.id, e.firstName, e.lastName, e.email, e.position, e.department, e.version) from Employee e where e.id = :id")
+    Optional<SearchDocument> findSearchDocumentById(@Param("id") UUID id);
+
+    // Direct reports of each of the given managers, at most :limit each, grouped by manager and ordered by name
+    @Query(value = "select * from (select e.*, row_number() over (partition by e.manager_id "
+            + "order by e.last_name, e.first_name, e.id) as rn from employees e "
+            + "where e.manager_id in (:managerIds)) reports where reports.rn <= :limit "
+            + "order by reports.manager_id, reports.rn", nativeQuery = true)
+    List<Employee> findDirectReports(@Param("managerIds") Collection<UUID> managerIds, @Param("limit") int limit);
 }
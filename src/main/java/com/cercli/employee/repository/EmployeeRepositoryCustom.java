@@ -0,0 +1,19 @@
+package com.cercli.employee.repository;
+
+import com.cercli.employee.dto.EmployeeField;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Projection queries that select only the requested employee columns. Each tuple element is aliased
+ * with the field's JSON name.
+ */
+public interface EmployeeRepositoryCustom {
+    Optional<Tuple> findFieldsById(UUID id, Set<EmployeeField> fields);
+    List<Tuple> findFields(Set<EmployeeField> fields, Pageable pageable);
+}
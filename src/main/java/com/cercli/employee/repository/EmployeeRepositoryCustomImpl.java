@@ -0,0 +1,54 @@
+package com.cercli.employee.repository;
+
+import com.cercli.employee.dto.EmployeeField;
+import com.cercli.employee.entity.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Criteria based implementation of {@link EmployeeRepositoryCustom}. Scalar tuples are never managed by
+ * the persistence context, so no entity instances, dirty-checking snapshots or version columns are loaded.
+ */
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Tuple> findFieldsById(UUID id, Set<EmployeeField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        query.multiselect(selections(root, fields)).where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(query).getResultStream().findFirst();
+    }
+
+    @Override
+    public List<Tuple> findFields(Set<EmployeeField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        query.multiselect(selections(root, fields));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+
+    private List<Selection<?>> selections(Root<Employee> root, Set<EmployeeField> fields) {
+        return fields.stream()
+                .<Selection<?>>map(field -> root.get(field.getJsonName()).alias(field.getJsonName()))
+                .toList();
+    }
+}
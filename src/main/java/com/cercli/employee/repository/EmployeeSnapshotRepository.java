@@ -0,0 +1,26 @@
+package com.cercli.employee.repository;
+
+import com.cercli.employee.entity.EmployeeSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface EmployeeSnapshotRepository extends JpaRepository<EmployeeSnapshot, UUID> {
+
+    Optional<EmployeeSnapshot> findByEmployeeIdAndVersion(UUID employeeId, Long version);
+
+    // Nearest snapshot at or before the given time
+    Optional<EmployeeSnapshot> findFirstByEmployeeIdAndValidFromLessThanEqualOrderByVersionDesc(UUID employeeId, LocalDateTime asOf);
+
+    // Nearest snapshot at or before the given time for a page of employees, in employee ID order
+    @Query(value = "SELECT s.* FROM employees e "
+            + "CROSS JOIN LATERAL (SELECT * FROM employee_snapshot es WHERE es.employee_id = e.id AND es.valid_from <= :asOf "
+            + "ORDER BY es.version DESC LIMIT 1) s "
+            + "ORDER BY e.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<EmployeeSnapshot> findNearestForPage(@Param("asOf") LocalDateTime asOf, @Param("limit") int limit, @Param("offset") long offset);
+}
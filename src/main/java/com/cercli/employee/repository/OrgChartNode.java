@@ -0,0 +1,16 @@
+package com.cercli.employee.repository;
+
+import java.util.UUID;
+
+/**
+ * Row of an org chart query: an employee and its distance from the employee the query started at.
+ */
+public interface OrgChartNode {
+    UUID getId();
+    String getFirstName();
+    String getLastName();
+    String getPosition();
+    String getDepartment();
+    UUID getManagerId();
+    Integer getDepth();
+}
@@ -0,0 +1,28 @@
+package com.cercli.employee.repository;
+
+import com.cercli.employee.entity.ReportJob;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ReportJobRepository extends JpaRepository<ReportJob, UUID> {
+
+    // Serializes claims, checkpoints and completion of a job across workers and nodes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from ReportJob j where j.id = :id")
+    Optional<ReportJob> lockById(@Param("id") UUID id);
+
+    // Queued jobs and running jobs whose worker stopped renewing its lease, oldest first
+    @Query("select j.id from ReportJob j where j.status = :queued "
+            + "or (j.status = :running and j.leaseExpiresAt < :now) order by j.createdAt")
+    List<UUID> findClaimable(@Param("queued") ReportJob.Status queued, @Param("running") ReportJob.Status running,
+                             @Param("now") LocalDateTime now, Limit limit);
+}
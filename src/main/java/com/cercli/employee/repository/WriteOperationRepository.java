@@ -0,0 +1,39 @@
+package com.cercli.employee.repository;
+
+import com.cercli.employee.dto.WriteOperationDto;
+import com.cercli.employee.entity.WriteOperation;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface WriteOperationRepository extends JpaRepository<WriteOperation, UUID> {
+
+    // Serializes applying an operation with its takeover by another node, oldest first
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from WriteOperation o where o.id in :ids order by o.submittedAt")
+    List<WriteOperation> lockAllById(@Param("ids") Collection<UUID> ids);
+
+    // Pending operations whose node released them or stopped renewing its lease, oldest first
+    @Query("select o.id from WriteOperation o where o.status = :pending "
+            + "and (o.leaseExpiresAt is null or o.leaseExpiresAt < :now) order by o.submittedAt")
+    List<UUID> findClaimable(@Param("pending") WriteOperationDto.Status pending, @Param("now") LocalDateTime now, Limit limit);
+
+    // Hands this node's pending operations back, e.g. on shutdown, so any node can take them over at once
+    @Modifying
+    @Query("update WriteOperation o set o.leaseOwner = null, o.leaseExpiresAt = null "
+            + "where o.status = :pending and o.leaseOwner = :owner")
+    int releaseLeases(@Param("pending") WriteOperationDto.Status pending, @Param("owner") String owner);
+
+    @Modifying
+    @Query("delete from WriteOperation o where o.status <> :pending and o.completedAt < :before")
+    int deleteCompletedBefore(@Param("pending") WriteOperationDto.Status pending, @Param("before") LocalDateTime before);
+}
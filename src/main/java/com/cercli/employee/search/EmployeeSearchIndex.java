@@ -0,0 +1,326 @@
+package com.cercli.employee.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted prefix index over employee first name, last name, email, position and department.
+ * <p>
+ * Readers never take a lock: documents live in a {@link ConcurrentHashMap} and postings in a
+ * {@link ConcurrentSkipListMap}, so a prefix lookup is a range scan over the sorted terms. Writers are
+ * serialized among themselves. A reader may observe a posting for a document that is being replaced,
+ * so every candidate is re-scored against the current version of its document and dropped when it no
+ * longer matches.
+ */
+public class EmployeeSearchIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double EMAIL_WEIGHT = 2.0;
+    private static final double DETAIL_WEIGHT = 1.0;
+
+    // Postings scan order says nothing about rank, so up to this many times maxCandidates documents are
+    // scored before the ranked hits are cut to maxCandidates
+    private static final int CANDIDATE_OVERFETCH = 4;
+
+    // Rough per-entry costs used to estimate the heap held by the index
+    private static final long DOCUMENT_OVERHEAD_BYTES = 160;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+    private static final long POSTING_BYTES = 48;
+    private static final long TERM_OVERHEAD_BYTES = 120;
+
+    private final int maxDocuments;
+    private final int maxCandidates;
+
+    private final Map<UUID, SearchDocument> documents = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<UUID>> postings = new ConcurrentSkipListMap<>();
+    private final Object writeLock = new Object();
+
+    private volatile long documentBytes;
+    private volatile long termBytes;
+    private volatile long termCount;
+    private volatile long postingCount;
+    private volatile long rejectedDocuments;
+
+    public EmployeeSearchIndex(int maxDocuments, int maxCandidates) {
+        this.maxDocuments = maxDocuments;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Adds or replaces a document. Documents older than the indexed version are ignored, so the startup
+     * scan and concurrent change events can be applied in any order.
+     *
+     * @param document The document to index.
+     * @return false if the document was not indexed because the index is full.
+     */
+    public boolean upsert(SearchDocument document) {
+        synchronized (writeLock) {
+            SearchDocument existing = documents.get(document.id());
+            if (existing != null && isOlder(document, existing)) {
+                return true;
+            }
+            if (existing == null && documents.size() >= maxDocuments) {
+                rejectedDocuments++;
+                return false;
+            }
+            Set<String> newTerms = terms(document);
+            Set<String> oldTerms = existing == null ? Set.of() : terms(existing);
+
+            // Publish the document before its postings so readers never find a posting without a document
+            documents.put(document.id(), document);
+            for (String term : newTerms) {
+                if (!oldTerms.contains(term)) {
+                    addPosting(term, document.id());
+                }
+            }
+            for (String term : oldTerms) {
+                if (!newTerms.contains(term)) {
+                    removePosting(term, document.id());
+                }
+            }
+            documentBytes += sizeOf(document) - (existing == null ? 0 : sizeOf(existing));
+            return true;
+        }
+    }
+
+    /**
+     * Drops a document, for an employee that no longer exists.
+     *
+     * @param id The ID of the document to drop.
+     * @return false if no such document was indexed.
+     */
+    public boolean remove(UUID id) {
+        synchronized (writeLock) {
+            SearchDocument existing = documents.remove(id);
+            if (existing == null) {
+                return false;
+            }
+            // Readers skip postings whose document is gone, so the document can go first
+            for (String term : terms(existing)) {
+                removePosting(term, id);
+            }
+            documentBytes -= sizeOf(existing);
+            return true;
+        }
+    }
+
+    /**
+     * Finds documents in which every query token is a prefix of a token of some indexed field.
+     *
+     * @param query The raw query text.
+     * @param page  The zero-based page of ranked results.
+     * @param size  The number of results per page.
+     * @return The requested page of results, best match first.
+     */
+    public SearchResult search(String query, int page, int size) {
+        List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (queryTokens.isEmpty()) {
+            return new SearchResult(List.of(), 0, false);
+        }
+        // The longest token is usually the most selective one
+        String anchor = queryTokens.stream().max(Comparator.comparingInt(String::length)).orElseThrow();
+
+        Set<UUID> candidates = new HashSet<>();
+        long scanLimit = (long) maxCandidates * CANDIDATE_OVERFETCH;
+        boolean truncated = false;
+        for (Set<UUID> ids : postings.subMap(anchor, true, anchor + Character.MAX_VALUE, true).values()) {
+            for (UUID id : ids) {
+                candidates.add(id);
+                if (candidates.size() >= scanLimit) {
+                    truncated = true;
+                    break;
+                }
+            }
+            if (truncated) {
+                break;
+            }
+        }
+
+        String normalizedQuery = normalize(query).trim();
+        List<Hit> hits = new ArrayList<>();
+        for (UUID id : candidates) {
+            SearchDocument document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            double score = score(document, queryTokens, normalizedQuery);
+            if (score > 0) {
+                hits.add(new Hit(document, score));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparing(hit -> hit.document().lastName(), Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(hit -> hit.document().firstName(), Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(hit -> hit.document().id()));
+        if (hits.size() > maxCandidates) {
+            hits = hits.subList(0, maxCandidates);
+            truncated = true;
+        }
+
+        int from = (int) Math.min((long) page * size, hits.size());
+        int to = Math.min(from + size, hits.size());
+        return new SearchResult(List.copyOf(hits.subList(from, to)), hits.size(), truncated);
+    }
+
+    /**
+     * @return A live, unmodifiable view of the indexed documents; iteration reflects concurrent changes or not.
+     */
+    public Collection<SearchDocument> documents() {
+        return Collections.unmodifiableCollection(documents.values());
+    }
+
+    public int documentCount() {
+        return documents.size();
+    }
+
+    public long termCount() {
+        return termCount;
+    }
+
+    public long rejectedDocuments() {
+        return rejectedDocuments;
+    }
+
+    /**
+     * @return An estimate of the heap used by documents, terms and postings.
+     */
+    public long estimatedBytes() {
+        return documentBytes + termBytes + postingCount * POSTING_BYTES;
+    }
+
+    private double score(SearchDocument document, List<String> queryTokens, String normalizedQuery) {
+        List<String> firstName = tokenize(document.firstName());
+        List<String> lastName = tokenize(document.lastName());
+        List<String> email = emailTerms(document.email());
+        List<String> details = new ArrayList<>(tokenize(document.position()));
+        details.addAll(tokenize(document.department()));
+
+        double score = 0;
+        for (String token : queryTokens) {
+            double best = Math.max(
+                    Math.max(match(token, firstName, NAME_WEIGHT), match(token, lastName, NAME_WEIGHT)),
+                    Math.max(match(token, email, EMAIL_WEIGHT), match(token, details, DETAIL_WEIGHT)));
+            if (best == 0) {
+                return 0;
+            }
+            score += best;
+        }
+        String fullName = normalize(String.join(" ", Objects.toString(document.firstName(), ""),
+                Objects.toString(document.lastName(), "")));
+        if (!normalizedQuery.isEmpty() && fullName.startsWith(normalizedQuery)) {
+            score += NAME_WEIGHT;
+        }
+        return score;
+    }
+
+    // Exact token matches count double
+    private static double match(String token, List<String> fieldTerms, double weight) {
+        double best = 0;
+        for (String term : fieldTerms) {
+            if (term.equals(token)) {
+                return 2 * weight;
+            }
+            if (term.startsWith(token)) {
+                best = weight;
+            }
+        }
+        return best;
+    }
+
+    private boolean isOlder(SearchDocument candidate, SearchDocument existing) {
+        return candidate.version() != null && existing.version() != null && candidate.version() < existing.version();
+    }
+
+    private void addPosting(String term, UUID id) {
+        Set<UUID> ids = postings.get(term);
+        if (ids == null) {
+            ids = ConcurrentHashMap.newKeySet();
+            postings.put(term, ids);
+            termCount++;
+            termBytes += TERM_OVERHEAD_BYTES + 2L * term.length();
+        }
+        if (ids.add(id)) {
+            postingCount++;
+        }
+    }
+
+    private void removePosting(String term, UUID id) {
+        Set<UUID> ids = postings.get(term);
+        if (ids != null && ids.remove(id)) {
+            postingCount--;
+            if (ids.isEmpty()) {
+                postings.remove(term);
+                termCount--;
+                termBytes -= TERM_OVERHEAD_BYTES + 2L * term.length();
+            }
+        }
+    }
+
+    private static Set<String> terms(SearchDocument document) {
+        Set<String> terms = new HashSet<>();
+        terms.addAll(tokenize(document.firstName()));
+        terms.addAll(tokenize(document.lastName()));
+        terms.addAll(emailTerms(document.email()));
+        terms.addAll(tokenize(document.position()));
+        terms.addAll(tokenize(document.department()));
+        return terms;
+    }
+
+    // Only the local part is indexed: the domain is shared by most employees and would match everyone
+    private static List<String> emailTerms(String email) {
+        if (email == null) {
+            return List.of();
+        }
+        int at = email.indexOf('@');
+        return tokenize(at < 0 ? email : email.substring(0, at));
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(normalize(text))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static long sizeOf(SearchDocument document) {
+        return DOCUMENT_OVERHEAD_BYTES
+                + sizeOf(document.firstName()) + sizeOf(document.lastName()) + sizeOf(document.email())
+                + sizeOf(document.position()) + sizeOf(document.department());
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + 2L * value.length();
+    }
+
+    public record Hit(SearchDocument document, double score) {}
+
+    public record SearchResult(List<Hit> hits, int totalMatches, boolean truncated) {}
+}
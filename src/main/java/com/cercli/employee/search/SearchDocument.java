@@ -0,0 +1,22 @@
+package com.cercli.employee.search;
+
+import com.cercli.employee.entity.Employee;
+
+import java.util.UUID;
+
+/**
+ * The searchable fields of an employee as held by {@link EmployeeSearchIndex}.
+ */
+public record SearchDocument(UUID id,
+                             String firstName,
+                             String lastName,
+                             String email,
+                             String position,
+                             String department,
+                             Long version) {
+
+    public static SearchDocument from(Employee employee) {
+        return new SearchDocument(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getEmail(),
+                employee.getPosition(), employee.getDepartment(), employee.getVersion());
+    }
+}
@@ -0,0 +1,184 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.config.DuplicateProperties;
+import com.cercli.employee.contracts.DuplicateDetectionService;
+import com.cercli.employee.dto.DuplicateCandidateDto;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.duplicates.BlockingKeyStore;
+import com.cercli.employee.duplicates.BlockingKeys;
+import com.cercli.employee.duplicates.DuplicateMatcher;
+import com.cercli.employee.duplicates.DuplicateProfile;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.event.EntityHistoryEvent;
+import com.cercli.employee.exception.EmployeeNotFoundException;
+import com.cercli.employee.exception.PossibleDuplicateEmployeeException;
+import com.cercli.employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.MessageSource;
+import org.springframework.context.event.EventListener;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Duplicate detection over blocking keys (see {@link BlockingKeys}).
+ * <p>
+ * Keys are kept current from the {@link EntityHistoryEvent} each employee flush publishes, in the transaction
+ * of the change, and are only rewritten when a keyed field changed. Employees without keys, such as those
+ * created before this existed, are indexed by a background backfill after startup. The whole directory is
+ * scanned by the {@code DUPLICATE_CANDIDATES} report.
+ */
+@Service
+@Slf4j
+public class DuplicateDetectionServiceImpl implements DuplicateDetectionService, ApplicationRunner {
+
+    private final DuplicateMatcher duplicateMatcher;
+    private final BlockingKeyStore blockingKeyStore;
+    private final EmployeeRepository employeeRepository;
+    private final DuplicateProperties properties;
+    private final MessageSource messageSource;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public DuplicateDetectionServiceImpl(DuplicateMatcher duplicateMatcher,
+                                         BlockingKeyStore blockingKeyStore,
+                                         EmployeeRepository employeeRepository,
+                                         DuplicateProperties properties,
+                                         MessageSource messageSource,
+                                         MeterRegistry meterRegistry,
+                                         PlatformTransactionManager transactionManager) {
+        this.duplicateMatcher = duplicateMatcher;
+        this.blockingKeyStore = blockingKeyStore;
+        this.employeeRepository = employeeRepository;
+        this.properties = properties;
+        this.messageSource = messageSource;
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Likely duplicates of an employee that has not been created yet.
+     */
+    @Override
+    public List<DuplicateCandidateDto> findDuplicates(EmployeeDto employeeDto) {
+        return convertToDtos(duplicateMatcher.match(DuplicateProfile.from(employeeDto)));
+    }
+
+    /**
+     * Likely duplicates of an existing employee.
+     *
+     * @throws EmployeeNotFoundException if no employee is found with the given ID.
+     */
+    @Override
+    public List<DuplicateCandidateDto> findDuplicates(UUID employeeId) {
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> new EmployeeNotFoundException(messageSource.getMessage("employee.not.found_with_id",
+                        new Object[]{employeeId}, "Employee not found with ID: " + employeeId, LocaleContextHolder.getLocale())));
+        return convertToDtos(duplicateMatcher.match(DuplicateProfile.from(employee)));
+    }
+
+    /**
+     * Applies {@code app.duplicates.on-create} to an employee about to be created.
+     *
+     * @throws PossibleDuplicateEmployeeException if the employee resembles an existing one and the policy is REJECT.
+     */
+    @Override
+    public void checkBeforeCreate(EmployeeDto employeeDto) {
+        if (properties.getOnCreate() == DuplicateProperties.CreateCheck.OFF) {
+            return;
+        }
+        List<DuplicateMatcher.Match> matches = duplicateMatcher.match(DuplicateProfile.from(employeeDto));
+        if (matches.isEmpty()) {
+            return;
+        }
+        meterRegistry.counter("employee.duplicates.suspected").increment();
+        DuplicateMatcher.Match best = matches.get(0);
+        log.warn("New employee {} resembles {} existing employees, closest {} with score {} on {}", employeeDto.getEmail(),
+                matches.size(), best.duplicate().id(), best.score().value(), best.score().matchedOn());
+        if (properties.getOnCreate() == DuplicateProperties.CreateCheck.REJECT) {
+            throw new PossibleDuplicateEmployeeException(messageSource.getMessage("employee.duplicate.suspected",
+                    new Object[]{best.duplicate().id()}, LocaleContextHolder.getLocale()));
+        }
+    }
+
+    /**
+     * Updates the keys of a created or changed employee. Runs during the flush, on the transaction's connection.
+     */
+    @EventListener
+    public void onEntityChanged(EntityHistoryEvent event) {
+        if (!(event.getEntity() instanceof Employee employee)) {
+            return;
+        }
+        Set<String> keys = BlockingKeys.of(employee);
+        // Before the listener resets it, the loaded state is the employee as of the previous flush
+        Set<String> previousKeys = employee.getLoadedState() == null ? Set.of() : BlockingKeys.of(employee.getLoadedState());
+        if (keys.equals(previousKeys)) {
+            return;
+        }
+        Set<String> removed = new HashSet<>(previousKeys);
+        removed.removeAll(keys);
+        Set<String> added = new HashSet<>(keys);
+        added.removeAll(previousKeys);
+        blockingKeyStore.remove(employee.getId(), removed);
+        blockingKeyStore.add(employee.getId(), added);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (properties.isBackfillOnStartup()) {
+            Thread backfill = new Thread(this::backfill, "employee-duplicate-backfill");
+            backfill.setDaemon(true);
+            backfill.start();
+        }
+    }
+
+    /**
+     * Adds keys for employees that have none, a chunk per transaction. Safe to run on several nodes at once.
+     */
+    void backfill() {
+        long start = System.nanoTime();
+        long indexed = 0;
+        UUID after = new UUID(0, 0);
+        try {
+            while (true) {
+                UUID cursor = after;
+                List<UUID> ids = transactionTemplate.execute(status -> {
+                    List<UUID> chunk = blockingKeyStore.findUnindexedEmployees(cursor, properties.getBackfillChunkSize());
+                    if (!chunk.isEmpty()) {
+                        employeeRepository.findAllById(chunk)
+                                .forEach(employee -> blockingKeyStore.add(employee.getId(), BlockingKeys.of(employee)));
+                    }
+                    return chunk;
+                });
+                if (ids == null || ids.isEmpty()) {
+                    break;
+                }
+                indexed += ids.size();
+                // In database order, which is not UUID.compareTo order
+                after = ids.get(ids.size() - 1);
+            }
+            if (indexed > 0) {
+                log.info("Computed duplicate detection keys for {} employees in {} ms", indexed, (System.nanoTime() - start) / 1_000_000);
+            }
+        } catch (Exception e) {
+            log.error("Duplicate detection key backfill stopped after {} employees: {}", indexed, e.getMessage(), e);
+        }
+    }
+
+    private static List<DuplicateCandidateDto> convertToDtos(List<DuplicateMatcher.Match> matches) {
+        return matches.stream()
+                .map(match -> new DuplicateCandidateDto(match.duplicate().id(), match.duplicate().firstName(),
+                        match.duplicate().lastName(), match.duplicate().email(), match.score().value(),
+                        match.score().matchedOn()))
+                .toList();
+    }
+}
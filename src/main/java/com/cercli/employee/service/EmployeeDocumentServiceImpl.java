@@ -0,0 +1,163 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.config.DocumentProperties;
+import com.cercli.employee.contracts.EmployeeDocumentService;
+import com.cercli.employee.documents.ContentStore;
+import com.cercli.employee.documents.DocumentContent;
+import com.cercli.employee.dto.EmployeeDocumentDto;
+import com.cercli.employee.entity.EmployeeDocument;
+import com.cercli.employee.exception.DocumentNotFoundException;
+import com.cercli.employee.exception.DocumentTooLargeException;
+import com.cercli.employee.exception.EmployeeNotFoundException;
+import com.cercli.employee.repository.EmployeeDocumentRepository;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Documents attached to employees. The employee is checked before anything is stored, so unknown IDs leave
+ * no content behind, but its connection is returned straight away (open-in-view is off): no connection is
+ * held while the bytes stream into the {@link ContentStore}. Only the metadata row is written afterwards.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeDocumentServiceImpl implements EmployeeDocumentService {
+
+    private static final int MAX_FILE_NAME_LENGTH = 255;
+    private static final String DEFAULT_FILE_NAME = "document";
+
+    private final EmployeeDocumentRepository documentRepository;
+    private final EmployeeRepository employeeRepository;
+    private final ContentStore contentStore;
+    private final DocumentProperties properties;
+    private final DateUtil dateUtil;
+    private final MessageSource messageSource;
+
+    /**
+     * Stores a document for an employee. Uploading the same file again for the same employee returns the
+     * document stored the first time, so retried uploads are safe.
+     *
+     * @param employeeId The employee the document belongs to.
+     * @param fileName The client's file name; any directory part is dropped.
+     * @param contentType The media type of the content, application/octet-stream if absent.
+     * @param content The document's bytes, streamed to disk.
+     * @param countryCode The country code for converting timestamps to the local time zone.
+     * @return The stored document.
+     * @throws EmployeeNotFoundException if no employee is found with the given ID.
+     * @throws DocumentTooLargeException if the content exceeds {@code app.documents.max-size}.
+     */
+    @Override
+    public EmployeeDocumentDto addDocument(UUID employeeId, String fileName, String contentType, InputStream content, String countryCode) {
+        if (!employeeRepository.existsById(employeeId)) {
+            throw new EmployeeNotFoundException(messageSource.getMessage("employee.not.found_with_id", new Object[]{employeeId},
+                    "Employee not found with ID: " + employeeId, LocaleContextHolder.getLocale()));
+        }
+        String name = sanitizeFileName(fileName);
+        String type = normalizeContentType(contentType);
+
+        ContentStore.StoredContent stored;
+        try {
+            stored = contentStore.store(content, properties.getMaxSize().toBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store document for employee " + employeeId, e);
+        }
+
+        EmployeeDocument document = documentRepository.findFirstByEmployeeIdAndSha256AndFileName(employeeId, stored.sha256(), name)
+                .orElseGet(() -> documentRepository.save(EmployeeDocument.builder()
+                        .employeeId(employeeId)
+                        .fileName(name)
+                        .contentType(type)
+                        .sizeBytes(stored.size())
+                        .sha256(stored.sha256())
+                        .createdAt(dateUtil.toServerTime(LocalDateTime.now()))
+                        .build()));
+        log.info("Stored document {} ({} bytes) for employee {}", document.getId(), stored.size(), employeeId);
+        return convertToDto(document, countryCode);
+    }
+
+    @Override
+    public List<EmployeeDocumentDto> getDocuments(UUID employeeId, String countryCode) {
+        return documentRepository.findByEmployeeIdOrderByCreatedAtDesc(employeeId).stream()
+                .map(document -> convertToDto(document, countryCode))
+                .toList();
+    }
+
+    /**
+     * @throws DocumentNotFoundException if the employee has no such document or its content is missing.
+     */
+    @Override
+    public DocumentContent getDocumentContent(UUID employeeId, UUID documentId) {
+        EmployeeDocument document = documentRepository.findByIdAndEmployeeId(documentId, employeeId)
+                .orElseThrow(() -> new DocumentNotFoundException(getMessage("document.not.found")));
+        Path path = contentStore.locate(document.getSha256());
+        if (!Files.isReadable(path)) {
+            log.error("Content {} of document {} is missing from the store", document.getSha256(), documentId);
+            throw new DocumentNotFoundException(getMessage("document.not.found"));
+        }
+        return new DocumentContent(document.getFileName(), document.getContentType(), document.getSizeBytes(),
+                document.getSha256(), path);
+    }
+
+    private static String sanitizeFileName(String fileName) {
+        if (!StringUtils.hasText(fileName)) {
+            return DEFAULT_FILE_NAME;
+        }
+        String name = StringUtils.getFilename(StringUtils.cleanPath(fileName.replace('\\', '/')));
+        name = name == null ? "" : name.replaceAll("\\p{Cntrl}", "").strip();
+        if (name.isEmpty() || name.equals("..")) {
+            return DEFAULT_FILE_NAME;
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(name.length() - MAX_FILE_NAME_LENGTH) : name;
+    }
+
+    private String normalizeContentType(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new IllegalArgumentException(getMessage("document.content.type.invalid"));
+        }
+        // The body is the document itself; form and multipart bodies would be parsed by the container first
+        if (mediaType.isWildcardType() || mediaType.isWildcardSubtype() || "multipart".equals(mediaType.getType())
+                || MediaType.APPLICATION_FORM_URLENCODED.equalsTypeAndSubtype(mediaType)) {
+            throw new IllegalArgumentException(getMessage("document.content.type.invalid"));
+        }
+        return mediaType.toString();
+    }
+
+    private EmployeeDocumentDto convertToDto(EmployeeDocument document, String countryCode) {
+        return new EmployeeDocumentDto(
+                document.getId(),
+                document.getEmployeeId(),
+                document.getFileName(),
+                document.getContentType(),
+                document.getSizeBytes(),
+                document.getSha256(),
+                dateUtil.toLocalTime(document.getCreatedAt(), countryCode)
+        );
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
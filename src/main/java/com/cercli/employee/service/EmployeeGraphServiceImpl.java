@@ -0,0 +1,91 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.contracts.EmployeeGraphService;
+import com.cercli.employee.dto.EmployeeHistoryDto;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.EmployeeHistory;
+import com.cercli.employee.repository.EmployeeHistoryRepository;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Batch lookups behind the GraphQL data loaders: each method answers for all the employees of one level of a
+ * query in a single statement, whatever the number of employees.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeGraphServiceImpl implements EmployeeGraphService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeHistoryRepository historyRepository;
+    private final DateUtil dateUtil;
+
+    /**
+     * @return The employees found, keyed by ID; IDs with no employee are left out.
+     */
+    @Override
+    public Map<UUID, EmployeeResponseDto> getEmployees(Collection<UUID> employeeIds, String countryCode) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, EmployeeResponseDto> employees = new LinkedHashMap<>();
+        for (Employee employee : employeeRepository.findAllById(employeeIds)) {
+            employees.put(employee.getId(), EmployeeServiceImpl.convertToDto(employee, countryCode, dateUtil));
+        }
+        log.debug("Loaded {} of {} employees in one batch", employees.size(), employeeIds.size());
+        return employees;
+    }
+
+    /**
+     * @return The direct reports of each manager that has any, ordered by name.
+     */
+    @Override
+    public Map<UUID, List<EmployeeResponseDto>> getDirectReports(Collection<UUID> managerIds, int limitPerManager, String countryCode) {
+        if (managerIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, List<EmployeeResponseDto>> reports = new LinkedHashMap<>();
+        for (Employee employee : employeeRepository.findDirectReports(managerIds, limitPerManager)) {
+            reports.computeIfAbsent(employee.getManagerId(), id -> new ArrayList<>()).add(EmployeeServiceImpl.convertToDto(employee, countryCode, dateUtil));
+        }
+        return reports;
+    }
+
+    /**
+     * @return The latest changes of each employee that has any, newest first.
+     */
+    @Override
+    public Map<UUID, List<EmployeeHistoryDto>> getHistory(Collection<UUID> employeeIds, int limitPerEmployee, String countryCode) {
+        if (employeeIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, List<EmployeeHistoryDto>> history = new LinkedHashMap<>();
+        for (EmployeeHistory entry : historyRepository.findLatestByEmployeeIds(employeeIds, limitPerEmployee)) {
+            history.computeIfAbsent(entry.getEmployeeId(), id -> new ArrayList<>()).add(convertToDto(entry, countryCode));
+        }
+        log.debug("Loaded history of {} employees in one batch", employeeIds.size());
+        return history;
+    }
+
+    private EmployeeHistoryDto convertToDto(EmployeeHistory entry, String countryCode) {
+        return new EmployeeHistoryDto(entry.getId(), entry.getEmployeeId(), entry.getChangeType(), entry.getVersion(),
+                entry.getChanges(), toLocalTime(entry.getTimestamp(), countryCode));
+    }
+
+    private LocalDateTime toLocalTime(LocalDateTime serverTime, String countryCode) {
+        return serverTime == null ? null : dateUtil.toLocalTime(serverTime, countryCode);
+    }
+}
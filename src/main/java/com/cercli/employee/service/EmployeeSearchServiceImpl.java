@@ -0,0 +1,226 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.config.SearchProperties;
+import com.cercli.employee.contracts.EmployeeSearchService;
+import com.cercli.employee.dto.EmployeeSearchResultDto;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.event.EmployeeInvalidationEvent;
+import com.cercli.employee.event.EntityHistoryEvent;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.search.EmployeeSearchIndex;
+import com.cercli.employee.search.SearchDocument;
+import com.cercli.employee.snapshot.SnapshotCodec;
+import com.cercli.employee.snapshot.SnapshotParticipant;
+import com.cercli.employee.snapshot.SnapshotReader;
+import com.cercli.employee.snapshot.SnapshotService;
+import com.cercli.employee.snapshot.SnapshotWriter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Typeahead search over employees backed by an in-process {@link EmployeeSearchIndex}.
+ * <p>
+ * The index is built at startup with a streaming scan of the employees table and kept current from
+ * the committed {@link EntityHistoryEvent} stream, and from {@link EmployeeInvalidationEvent}s for
+ * changes made on other nodes. Index size is exposed through the
+ * {@code employee.search.index.*} metrics.
+ * <p>
+ * The indexed documents are also kept in a local {@link SnapshotService snapshot}. A restarted node
+ * restores the index from it and scans only the employees modified since, falling back to the full scan
+ * when there is no usable snapshot.
+ */
+@Service
+@Slf4j
+public class EmployeeSearchServiceImpl implements EmployeeSearchService, ApplicationRunner, MeterBinder, SnapshotParticipant {
+
+    private static final String SNAPSHOT_NAME = "search-index";
+    private static final SnapshotCodec<SearchDocument> SNAPSHOT_CODEC = new SearchDocumentCodec();
+
+    private final EmployeeRepository employeeRepository;
+    private final SearchProperties searchProperties;
+    private final SnapshotService snapshots;
+    private final TransactionTemplate readOnlyTransaction;
+    private final EmployeeSearchIndex index;
+
+    public EmployeeSearchServiceImpl(EmployeeRepository employeeRepository,
+                                     SearchProperties searchProperties,
+                                     SnapshotService snapshots,
+                                     PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.searchProperties = searchProperties;
+        this.snapshots = snapshots;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.index = new EmployeeSearchIndex(searchProperties.getMaxDocuments(), searchProperties.getMaxCandidates());
+    }
+
+    @Override
+    public List<EmployeeSearchResultDto> search(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must be zero or more and size at least one");
+        }
+        EmployeeSearchIndex.SearchResult result = index.search(query, page, Math.min(size, searchProperties.getMaxPageSize()));
+        log.debug("Search '{}' matched {} employees (truncated: {})", query, result.totalMatches(), result.truncated());
+        return result.hits().stream()
+                .map(this::convertToDto)
+                .toList();
+    }
+
+    /**
+     * Restores the index from its snapshot, or else builds it with a single streaming scan. Failures are
+     * logged rather than failing startup; the index then fills up from change events only.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!restoreIndex()) {
+            buildIndex();
+        }
+    }
+
+    @Override
+    public void writeSnapshot(SnapshotService snapshots) {
+        snapshots.write(SNAPSHOT_NAME, index::documents, SNAPSHOT_CODEC);
+    }
+
+    /**
+     * @return false if there was no usable snapshot or the employees modified since could not be read.
+     */
+    private boolean restoreIndex() {
+        return snapshots.read(SNAPSHOT_NAME, SNAPSHOT_CODEC, searchProperties.getMaxDocuments()).map(snapshot -> {
+            long start = System.nanoTime();
+            snapshot.records().forEach(index::upsert);
+            AtomicLong modified = new AtomicLong();
+            try {
+                // Documents carry their version, so a newer row always replaces the snapshot's copy
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<SearchDocument> documents = employeeRepository.streamSearchDocumentsModifiedSince(snapshot.reconcileFrom())) {
+                        documents.forEach(document -> {
+                            index.upsert(document);
+                            modified.incrementAndGet();
+                        });
+                    }
+                });
+            } catch (Exception e) {
+                log.warn("Failed to reconcile the search index snapshot, scanning all employees: {}", e.getMessage());
+                return false;
+            }
+            log.info("Search index restored in {} ms: {} employees from the snapshot, {} modified since",
+                    (System.nanoTime() - start) / 1_000_000, snapshot.records().size(), modified.get());
+            return true;
+        }).orElse(false);
+    }
+
+    private void buildIndex() {
+        long start = System.nanoTime();
+        AtomicLong scanned = new AtomicLong();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<SearchDocument> documents = employeeRepository.streamSearchDocuments()) {
+                    documents.forEach(document -> {
+                        index.upsert(document);
+                        scanned.incrementAndGet();
+                    });
+                }
+            });
+            log.info("Search index built in {} ms: {} employees scanned, {} indexed, {} terms, ~{} KB",
+                    (System.nanoTime() - start) / 1_000_000, scanned.get(), index.documentCount(),
+                    index.termCount(), index.estimatedBytes() / 1024);
+            if (index.rejectedDocuments() > 0) {
+                log.warn("Search index is full ({} documents), {} employees were not indexed",
+                        searchProperties.getMaxDocuments(), index.rejectedDocuments());
+            }
+        } catch (Exception e) {
+            log.error("Failed to build search index after {} employees: {}", scanned.get(), e.getMessage(), e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEntityChanged(EntityHistoryEvent event) {
+        if (event.getEntity() instanceof Employee employee && !index.upsert(SearchDocument.from(employee))) {
+            log.warn("Search index is full, employee {} was not indexed", employee.getId());
+        }
+    }
+
+    /**
+     * Applies changes made on other nodes; this node's own changes arrive through {@link #onEntityChanged}.
+     * An employee that is gone is dropped from the index. An invalidate-all means changes may have been missed,
+     * so the whole table is scanned again.
+     */
+    @EventListener(condition = "#event.remote")
+    public void onRemoteInvalidation(EmployeeInvalidationEvent event) {
+        if (event.isAll()) {
+            buildIndex();
+            return;
+        }
+        UUID employeeId = event.getEmployeeId();
+        readOnlyTransaction.executeWithoutResult(status -> employeeRepository.findSearchDocumentById(employeeId)
+                .ifPresentOrElse(index::upsert, () -> index.remove(employeeId)));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.search.index.documents", index, EmployeeSearchIndex::documentCount)
+                .description("Employees held by the search index")
+                .register(registry);
+        Gauge.builder("employee.search.index.terms", index, EmployeeSearchIndex::termCount)
+                .description("Distinct terms held by the search index")
+                .register(registry);
+        Gauge.builder("employee.search.index.memory", index, EmployeeSearchIndex::estimatedBytes)
+                .description("Estimated heap used by the search index")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("employee.search.index.rejected", index, EmployeeSearchIndex::rejectedDocuments)
+                .description("Employees not indexed because the index is full")
+                .register(registry);
+    }
+
+    private EmployeeSearchResultDto convertToDto(EmployeeSearchIndex.Hit hit) {
+        SearchDocument document = hit.document();
+        return new EmployeeSearchResultDto(
+                document.id(),
+                document.firstName(),
+                document.lastName(),
+                document.email(),
+                document.position(),
+                document.department(),
+                hit.score()
+        );
+    }
+
+    private static class SearchDocumentCodec implements SnapshotCodec<SearchDocument> {
+
+        @Override
+        public void write(SearchDocument document, SnapshotWriter out) {
+            out.putUuid(document.id());
+            out.putString(document.firstName());
+            out.putString(document.lastName());
+            out.putString(document.email());
+            out.putString(document.position());
+            out.putString(document.department());
+            out.putNullableLong(document.version());
+        }
+
+        @Override
+        public SearchDocument read(SnapshotReader in) {
+            return new SearchDocument(in.getUuid(), in.getString(), in.getString(), in.getString(),
+                    in.getString(), in.getString(), in.getNullableLong());
+        }
+    }
+}
@@ -1,20 +1,28 @@
 package com.cercli.employee.service;
 
+import com.cercli.employee.annotation.RetryOnConflict;
+import com.cercli.employee.contracts.DuplicateDetectionService;
 import com.cercli.employee.contracts.EmployeeService;
 import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.EmployeeField;
 import com.cercli.employee.dto.EmployeeResponseDto;
 import com.cercli.employee.entity.EmployeeHistory;
 import com.cercli.employee.exception.EmailAlreadyExistsException;
 import com.cercli.employee.exception.EmployeeNotFoundException;
+import com.cercli.employee.exception.PossibleDuplicateEmployeeException;
 import com.cercli.employee.entity.Employee;
+import com.cercli.employee.profiling.DtoConversionEvent;
 import com.cercli.employee.repository.EmployeeHistoryRepository;
 import com.cercli.employee.repository.EmployeeRepository;
 import com.cercli.employee.util.DateUtil;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -22,8 +30,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -44,6 +56,7 @@ public class EmployeeServiceImpl implements EmployeeService {
     private final DateUtil dateUtil;
     private final MessageSource messageSource;
     private final EmployeeHistoryRepository employeeHistoryRepository;
+    private final DuplicateDetectionService duplicateDetectionService;
 
     /**
      * Adds a new employee to the system.
@@ -52,6 +65,7 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @param countryCode The country code for converting timestamps to the local time zone.
      * @return The response DTO containing the employee's details after being saved.
      * @throws IllegalArgumentException if the email is already associated with an existing employee.
+     * @throws PossibleDuplicateEmployeeException if the employee resembles an existing one and duplicates are rejected.
      * @throws RuntimeException if there is a database error or unexpected failure during the operation.
      */
     @Override
@@ -59,12 +73,14 @@ public class EmployeeServiceImpl implements EmployeeService {
     public EmployeeResponseDto addEmployee(EmployeeDto employeeDto, String countryCode) {
         // Check if the email already exists
         validateEmailUniqueness(employeeDto.getEmail());
+        // Same person under another email: logged, or rejected when so configured
+        duplicateDetectionService.checkBeforeCreate(employeeDto);
         try {
             Employee employee = convertToEntity(employeeDto);
             Employee savedEmployee = employeeRepository.save(employee);
 
             log.info("Employee added successfully with ID: {}", savedEmployee.getId());
-            return convertToDto(savedEmployee, countryCode);
+            return convertToDto(savedEmployee, countryCode, dateUtil);
         } catch (DataAccessException e) {
             log.error("Failed to add employee due to database error: {}", e.getMessage(), e);
             throw new RuntimeException(messageSource.getMessage("employee.add.error", null, "Failed to add employee due to database error", LocaleContextHolder.getLocale()));
@@ -88,6 +104,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
     @Override
     @Transactional
+    @RetryOnConflict
     public EmployeeResponseDto updateEmployee(UUID id, EmployeeDto employeeDto, String countryCode) {
         try {
             Employee existingEmployee = employeeRepository.findById(id)
@@ -97,10 +114,13 @@ public class EmployeeServiceImpl implements EmployeeService {
 
             Employee updatedEmployee = employeeRepository.save(existingEmployee);
             log.info("Employee updated successfully with ID: {}", updatedEmployee.getId());
-            return convertToDto(updatedEmployee, countryCode);
+            return convertToDto(updatedEmployee, countryCode, dateUtil);
         } catch (EmployeeNotFoundException e) {
             log.warn("Attempted to update non-existent employee with ID: {}", id);
             throw e;
+        } catch (OptimisticLockingFailureException e) {
+            // Left to ConflictRetryAspect, which retries the update in a new transaction
+            throw e;
         } catch (DataAccessException e) {
             log.error("Database error while updating employee with ID {}: {}", id, e.getMessage(), e);
             throw new RuntimeException(messageSource.getMessage("employee.update.error", null, "Unable to update employee at this time, please try again later.", LocaleContextHolder.getLocale()));
@@ -117,7 +137,7 @@ public class EmployeeServiceImpl implements EmployeeService {
             return employeeRepository.findById(id)
                     .map(employee -> {
                         log.info("Employee retrieved successfully with ID: {}", id);
-                        return convertToDto(employee, countryCode);
+                        return convertToDto(employee, countryCode, dateUtil);
                     });
         } catch (DataAccessException e) {
             log.error("Failed to retrieve employee with ID {} due to database error: {}", id, e.getMessage(), e);
@@ -129,6 +149,27 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
     }
 
+    /**
+     * Retrieves the employees with the given IDs in one query. Unknown IDs are left out.
+     */
+    @Override
+    public List<EmployeeResponseDto> getEmployees(Collection<UUID> ids, String countryCode) {
+        try {
+            List<Employee> employees = employeeRepository.findAllById(ids);
+            log.info("Retrieved {} of {} requested employees", employees.size(), ids.size());
+
+            return employees.stream()
+                    .map(emp -> convertToDto(emp, countryCode, dateUtil))
+                    .collect(Collectors.toList());
+        } catch (DataAccessException e) {
+            log.error("Failed to retrieve employees due to database error: {}", e.getMessage(), e);
+            throw new RuntimeException(messageSource.getMessage("employee.database_error", null, "Unable to fetch employees at this time.", LocaleContextHolder.getLocale()));
+        } catch (Exception e) {
+            log.error("Unexpected error while retrieving employees: {}", e.getMessage(), e);
+            throw new RuntimeException(messageSource.getMessage("employee.runtime_error", null, "An unexpected error occurred.", LocaleContextHolder.getLocale() ));
+        }
+    }
+
     @Override
     public List<EmployeeResponseDto> getAllEmployees(int page, int size, String countryCode) {
         try {
@@ -137,7 +178,34 @@ public class EmployeeServiceImpl implements EmployeeService {
             log.info("Retrieved {} employees on page {}", employeePage.getNumberOfElements(), page);
 
             return employeePage.stream()
-                    .map(emp -> convertToDto(emp, countryCode))
+                    .map(emp -> convertToDto(emp, countryCode, dateUtil))
+                    .collect(Collectors.toList());
+        } catch (DataAccessException e) {
+            log.error("Failed to retrieve employees due to database error: {}", e.getMessage(), e);
+            throw new RuntimeException(messageSource.getMessage("employee.database_error", null, "Unable to fetch employees at this time.", LocaleContextHolder.getLocale()));
+        } catch (Exception e) {
+            log.error("Unexpected error while retrieving employees: {}", e.getMessage(), e);
+            throw new RuntimeException(messageSource.getMessage("employee.runtime_error", null, "An unexpected error occurred.", LocaleContextHolder.getLocale() ));
+        }
+    }
+
+    /**
+     * Retrieves the employees whose ID follows the given cursor. Unlike offset paging the cost does not
+     * grow with the position in the list, and rows inserted meanwhile never shift a page.
+     *
+     * @param after The ID of the last employee of the previous page; the nil UUID starts from the beginning.
+     * @param size The maximum number of employees to return.
+     * @param countryCode The country code for converting timestamps to the local time zone.
+     * @return The next employees in ID order, which is creation order for time-ordered IDs.
+     */
+    @Override
+    public List<EmployeeResponseDto> getEmployeesAfter(UUID after, int size, String countryCode) {
+        try {
+            List<Employee> employees = employeeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(size));
+            log.info("Retrieved {} employees after ID {}", employees.size(), after);
+
+            return employees.stream()
+                    .map(emp -> convertToDto(emp, countryCode, dateUtil))
                     .collect(Collectors.toList());
         } catch (DataAccessException e) {
             log.error("Failed to retrieve employees due to database error: {}", e.getMessage(), e);
@@ -148,6 +216,50 @@ public class EmployeeServiceImpl implements EmployeeService {
         }
     }
 
+    /**
+     * Retrieves only the requested fields of an employee with a read-only projection query.
+     *
+     * @param id The unique identifier of the employee.
+     * @param fields The fields to select; see {@link EmployeeField#parse(String)}.
+     * @param countryCode The country code for converting timestamps to the local time zone.
+     * @return The selected fields keyed by JSON name, or empty if no employee has the given ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Map<String, Object>> getEmployeeFields(UUID id, Set<EmployeeField> fields, String countryCode) {
+        try {
+            return employeeRepository.findFieldsById(id, fields)
+                    .map(tuple -> convertToMap(tuple, fields, countryCode));
+        } catch (DataAccessException e) {
+            log.error("Failed to retrieve fields {} of employee with ID {} due to database error: {}", fields, id, e.getMessage(), e);
+            throw new RuntimeException(messageSource.getMessage("employee.database_error", null, "Unable to fetch employees at this time.", LocaleContextHolder.getLocale()));
+        }
+    }
+
+    /**
+     * Retrieves a page of employees with only the requested fields selected.
+     *
+     * @param page The zero-based page number.
+     * @param size The page size.
+     * @param fields The fields to select; see {@link EmployeeField#parse(String)}.
+     * @param countryCode The country code for converting timestamps to the local time zone.
+     * @return One map of selected fields per employee.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllEmployeeFields(int page, int size, Set<EmployeeField> fields, String countryCode) {
+        try {
+            List<Tuple> tuples = employeeRepository.findFields(fields, PageRequest.of(page, size));
+            log.info("Retrieved fields {} of {} employees on page {}", fields, tuples.size(), page);
+            return tuples.stream()
+                    .map(tuple -> convertToMap(tuple, fields, countryCode))
+                    .collect(Collectors.toList());
+        } catch (DataAccessException e) {
+            log.error("Failed to retrieve employee fields due to database error: {}", e.getMessage(), e);
+            throw new RuntimeException(messageSource.getMessage("employee.database_error", null, "Unable to fetch employees at this time.", LocaleContextHolder.getLocale()));
+        }
+    }
+
     /**
      * Validates whether the email provided already exists in the system.
      *
@@ -171,7 +283,7 @@ public class EmployeeServiceImpl implements EmployeeService {
      * @return The corresponding Employee entity.
      */
 
-    private Employee convertToEntity(EmployeeDto employeeDto) {
+    static Employee convertToEntity(EmployeeDto employeeDto) {
         return Employee.builder()
                 .firstName(employeeDto.getFirstName())
                 .lastName(employeeDto.getLastName())
@@ -189,10 +301,17 @@ public class EmployeeServiceImpl implements EmployeeService {
      *
      * @param employee The employee entity to be converted.
      * @param countryCode The country code for converting timestamps to the local time zone.
+     * @param dateUtil Converts the timestamps from server time.
      * @return The corresponding EmployeeResponseDto with converted time fields.
      */
-    private EmployeeResponseDto convertToDto(Employee employee, String countryCode) {
-        return new EmployeeResponseDto(
+    static EmployeeResponseDto convertToDto(Employee employee, String countryCode, DateUtil dateUtil) {
+        DtoConversionEvent event = new DtoConversionEvent();
+        event.begin();
+        long conversionStart = event.isEnabled() ? System.nanoTime() : 0;
+        LocalDateTime createdAt = dateUtil.toLocalTime(employee.getCreatedAt(), countryCode);
+        LocalDateTime modifiedAt = dateUtil.toLocalTime(employee.getModifiedAt(), countryCode);
+        long conversionNanos = event.isEnabled() ? System.nanoTime() - conversionStart : 0;
+        EmployeeResponseDto dto = new EmployeeResponseDto(
                 employee.getId(),
                 employee.getFirstName(),
                 employee.getLastName(),
@@ -202,12 +321,38 @@ public class EmployeeServiceImpl implements EmployeeService {
                 employee.getEmail(),
                 employee.getSalary(),
                 employee.getHireDate(),
-                dateUtil.toLocalTime(employee.getCreatedAt(), countryCode),
-                dateUtil.toLocalTime(employee.getModifiedAt(), countryCode)
+                createdAt,
+                modifiedAt,
+                employee.getManagerId()
         );
+        event.end();
+        if (event.shouldCommit()) {
+            event.employeeId = String.valueOf(employee.getId());
+            event.countryCode = countryCode;
+            event.timeZoneConversion = conversionNanos;
+            event.commit();
+        }
+        return dto;
+    }
+
+    /**
+     * Converts a projection tuple to a map in field order, applying the same time zone conversion as
+     * {@link #convertToDto(Employee, String, DateUtil)}.
+     */
+    private Map<String, Object> convertToMap(Tuple tuple, Set<EmployeeField> fields, String countryCode) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (EmployeeField field : fields) {
+            Object value = tuple.get(field.getJsonName());
+            if (field.isTimestamp() && value != null) {
+                value = dateUtil.toLocalTime((LocalDateTime) value, countryCode);
+            }
+            values.put(field.getJsonName(), value);
+        }
+        return values;
     }
 
-    private void updateEmployeeFields(Employee existingEmployee, EmployeeDto employeeDto) {
+    static void updateEmployeeFields(Employee existingEmployee, EmployeeDto employeeDto) {
+        existingEmployee.captureLoadedState();
         if (employeeDto.getFirstName() != null) {
             existingEmployee.setFirstName(employeeDto.getFirstName());
         }
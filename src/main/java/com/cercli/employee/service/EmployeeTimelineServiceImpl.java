@@ -0,0 +1,118 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.contracts.EmployeeTimelineService;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.entity.EmployeeHistory;
+import com.cercli.employee.entity.EmployeeSnapshot;
+import com.cercli.employee.repository.EmployeeHistoryRepository;
+import com.cercli.employee.repository.EmployeeSnapshotRepository;
+import com.cercli.employee.util.DateUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Point-in-time employee reads.
+ * <p>
+ * State at a given time is rebuilt from the nearest snapshot at or before that time plus the deltas
+ * recorded after it. A snapshot is stored every {@code app.history.snapshot-interval} versions, so a
+ * read touches at most one snapshot and fewer deltas than the interval, however long the history is.
+ * Times are taken in the local time of the entity and converted to server time, the time zone of
+ * {@code modified_at}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeTimelineServiceImpl implements EmployeeTimelineService {
+
+    private final EmployeeSnapshotRepository snapshotRepository;
+    private final EmployeeHistoryRepository historyRepository;
+    private final DateUtil dateUtil;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Rebuilds an employee as it was at the given time.
+     *
+     * @param id The unique identifier of the employee.
+     * @param asOf The point in time, in the entity's local time.
+     * @param countryCode The country code for converting timestamps to and from the local time zone.
+     * @return The employee at that time, or empty if it did not exist yet.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EmployeeResponseDto> getEmployeeAsOf(UUID id, LocalDateTime asOf, String countryCode) {
+        LocalDateTime serverAsOf = dateUtil.toServerTime(asOf, countryCode);
+        return snapshotRepository.findFirstByEmployeeIdAndValidFromLessThanEqualOrderByVersionDesc(id, serverAsOf)
+                .map(snapshot -> {
+                    List<EmployeeHistory> deltas = historyRepository.findDeltasAfter(id, snapshot.getVersion(), serverAsOf);
+                    log.debug("Rebuilt employee {} as of {} from version {} and {} deltas", id, asOf, snapshot.getVersion(), deltas.size());
+                    return replay(snapshot, deltas, countryCode);
+                });
+    }
+
+    /**
+     * Rebuilds a page of employees, in ID order, as they were at the given time. Employees created
+     * later are not included.
+     *
+     * @param page The zero-based page number.
+     * @param size The page size.
+     * @param asOf The point in time, in the entity's local time.
+     * @param countryCode The country code for converting timestamps to and from the local time zone.
+     * @return The employees that existed at that time.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponseDto> getAllEmployeesAsOf(int page, int size, LocalDateTime asOf, String countryCode) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must be zero or more and size at least one");
+        }
+        LocalDateTime serverAsOf = dateUtil.toServerTime(asOf, countryCode);
+        List<EmployeeSnapshot> snapshots = snapshotRepository.findNearestForPage(serverAsOf, size, (long) page * size);
+        if (snapshots.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, List<EmployeeHistory>> deltas = historyRepository
+                .findDeltasAfterSnapshots(snapshots.stream().map(EmployeeSnapshot::getId).toList(), serverAsOf)
+                .stream()
+                .collect(Collectors.groupingBy(EmployeeHistory::getEmployeeId));
+        return snapshots.stream()
+                .map(snapshot -> replay(snapshot, deltas.getOrDefault(snapshot.getEmployeeId(), List.of()), countryCode))
+                .toList();
+    }
+
+    /**
+     * Applies deltas, ordered by version and time, on top of a snapshot. When a version was recorded
+     * twice, because the first change was rolled back after its history was written, the later row wins.
+     */
+    private EmployeeResponseDto replay(EmployeeSnapshot snapshot, List<EmployeeHistory> deltas, String countryCode) {
+        Map<Long, EmployeeHistory> byVersion = new TreeMap<>();
+        for (EmployeeHistory delta : deltas) {
+            if (delta.getDelta() != null) {
+                byVersion.put(delta.getVersion(), delta);
+            }
+        }
+        Map<String, Object> state = new HashMap<>(snapshot.getState());
+        byVersion.values().forEach(delta -> state.putAll(delta.getDelta()));
+
+        EmployeeResponseDto employee = objectMapper.convertValue(state, EmployeeResponseDto.class);
+        employee.setId(snapshot.getEmployeeId());
+        if (employee.getCreatedAt() != null) {
+            employee.setCreatedAt(dateUtil.toLocalTime(employee.getCreatedAt(), countryCode));
+        }
+        if (employee.getModifiedAt() != null) {
+            employee.setModifiedAt(dateUtil.toLocalTime(employee.getModifiedAt(), countryCode));
+        }
+        return employee;
+    }
+}
@@ -0,0 +1,132 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.config.WriteBehindProperties;
+import com.cercli.employee.contracts.DuplicateDetectionService;
+import com.cercli.employee.contracts.EmployeeWriteOperationService;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.WriteOperationDto;
+import com.cercli.employee.entity.WriteOperation;
+import com.cercli.employee.exception.PossibleDuplicateEmployeeException;
+import com.cercli.employee.exception.WriteOperationNotFoundException;
+import com.cercli.employee.exception.WriteQueueFullException;
+import com.cercli.employee.repository.WriteOperationRepository;
+import com.cercli.employee.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Accepts employee writes for {@link GroupCommitEmployeeWriter}. Each write is stored in the
+ * {@code write_operation} table before it is acknowledged, so it survives a restart and its outcome can be
+ * looked up on any node for {@code app.write-behind.operation-ttl} after it completed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeWriteOperationServiceImpl implements EmployeeWriteOperationService {
+
+    private final GroupCommitEmployeeWriter writer;
+    private final WriteOperationRepository writeOperationRepository;
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final WriteBehindProperties properties;
+    private final DateUtil dateUtil;
+    private final MessageSource messageSource;
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Queues the creation of an employee. The duplicate policy is applied before queueing, as for a
+     * synchronous create; the email is checked for uniqueness when the write is applied.
+     *
+     * @param employeeDto The validated employee to create.
+     * @param countryCode The country code for converting timestamps to the local time zone.
+     * @return The pending operation.
+     * @throws PossibleDuplicateEmployeeException if the employee resembles an existing one and the policy is REJECT.
+     * @throws WriteQueueFullException if too many writes are waiting on this node.
+     */
+    @Override
+    public WriteOperationDto submitCreate(EmployeeDto employeeDto, String countryCode) {
+        duplicateDetectionService.checkBeforeCreate(employeeDto);
+        return submit(WriteOperationDto.Type.CREATE, null, employeeDto, countryCode);
+    }
+
+    /**
+     * Queues an update of an employee. Like the synchronous update, only the non-null fields are applied.
+     *
+     * @param employeeId The employee to update.
+     * @param employeeDto The fields to change.
+     * @param countryCode The country code for converting timestamps to the local time zone.
+     * @return The pending operation.
+     * @throws WriteQueueFullException if too many writes are waiting on this node.
+     */
+    @Override
+    public WriteOperationDto submitUpdate(UUID employeeId, EmployeeDto employeeDto, String countryCode) {
+        return submit(WriteOperationDto.Type.UPDATE, employeeId, employeeDto, countryCode);
+    }
+
+    @Override
+    public WriteOperationDto getOperation(UUID operationId, String countryCode) {
+        return writeOperationRepository.findById(operationId)
+                .map(operation -> convertToDto(operation, countryCode))
+                .orElseThrow(() -> new WriteOperationNotFoundException(getMessage("employee.operation.not.found")));
+    }
+
+    private WriteOperationDto submit(WriteOperationDto.Type type, UUID employeeId, EmployeeDto employeeDto, String countryCode) {
+        if (!writer.hasCapacity()) {
+            throw new WriteQueueFullException(getMessage("employee.write.queue.full"));
+        }
+        LocalDateTime now = now();
+        WriteOperation operation = WriteOperation.builder()
+                .type(type)
+                .status(WriteOperationDto.Status.PENDING)
+                .employeeId(employeeId)
+                .employee(employeeDto)
+                .submittedAt(now)
+                .modifiedAt(now)
+                .build();
+        writer.lease(operation);
+        operation = writeOperationRepository.save(operation);
+        if (!writer.submit(operation.getId())) {
+            log.info("Write queue filled up, asynchronous {} {} waits for the next sweep", type, operation.getId());
+        }
+        log.debug("Accepted asynchronous {} {}", type, operation.getId());
+        return convertToDto(operation, countryCode);
+    }
+
+    private WriteOperationDto convertToDto(WriteOperation operation, String countryCode) {
+        WriteOperationDto.Failure failure = operation.getFailure();
+        return new WriteOperationDto(operation.getId(), operation.getType(), operation.getStatus(), operation.getEmployeeId(),
+                failure, failure == null ? null : getMessage(failureMessageKey(failure)),
+                toLocalTime(operation.getSubmittedAt(), countryCode),
+                toLocalTime(operation.getCompletedAt(), countryCode));
+    }
+
+    private static String failureMessageKey(WriteOperationDto.Failure failure) {
+        return switch (failure) {
+            case EMAIL_ALREADY_EXISTS -> "employee.email.exists";
+            case EMPLOYEE_NOT_FOUND -> "employee.not.found";
+            case VERSION_CONFLICT -> "employee.update.conflict";
+            case ERROR -> "employee.update.error";
+        };
+    }
+
+    private LocalDateTime now() {
+        return dateUtil.toServerTime(LocalDateTime.now());
+    }
+
+    private LocalDateTime toLocalTime(LocalDateTime serverTime, String countryCode) {
+        return serverTime == null ? null : dateUtil.toLocalTime(serverTime, countryCode);
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
@@ -0,0 +1,338 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.config.WriteBehindProperties;
+import com.cercli.employee.dto.WriteOperationDto;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.WriteOperation;
+import com.cercli.employee.factory.HistoryFactory;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.repository.WriteOperationRepository;
+import com.cercli.employee.util.DateUtil;
+import com.cercli.employee.util.GroupCommitQueue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies accepted asynchronous writes in batches, one transaction per batch, so a single commit covers
+ * many writes. The history of each change and the outcome of each operation are written in the batch
+ * transaction too rather than in ones of their own. Writes are applied in submission order by a single
+ * thread, which keeps the changes to one employee in order, and a second change to an employee within a
+ * batch still gets its own version and history row.
+ * <p>
+ * The {@code write_operation} table is the queue of record; the in-memory queue only holds the IDs of the
+ * operations this node has a lease on. Each batch locks its rows and applies only those still pending and
+ * leased to this node, so an operation is applied once even when another node has taken it over. A
+ * periodic sweep takes over pending operations whose node released them on shutdown or stopped without
+ * doing so once their lease has run out, and deletes outcomes older than {@code app.write-behind.operation-ttl}.
+ * <p>
+ * Failures known before writing, a taken email or a missing employee, fail only their own operation.
+ * When the batch fails as a whole, e.g. on a version conflict with a write from another node, each of its
+ * operations is applied again in a transaction of its own so that only the offending ones fail. A create
+ * that loses a race for its email to another write fails there with {@code EMAIL_ALREADY_EXISTS}.
+ */
+@Component
+@Slf4j
+public class GroupCommitEmployeeWriter implements MeterBinder {
+
+    // Unique constraint on employees.email, named by PostgreSQL when V1 created the table
+    private static final String EMAIL_CONSTRAINT = "employees_email_key";
+
+    private final EmployeeRepository employeeRepository;
+    private final WriteOperationRepository writeOperationRepository;
+    private final HistoryFactory historyFactory;
+    private final DateUtil dateUtil;
+    private final WriteBehindProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final GroupCommitQueue<UUID> queue;
+    private final ScheduledExecutorService sweeper;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public GroupCommitEmployeeWriter(EmployeeRepository employeeRepository,
+                                     WriteOperationRepository writeOperationRepository,
+                                     HistoryFactory historyFactory,
+                                     DateUtil dateUtil,
+                                     WriteBehindProperties properties,
+                                     PlatformTransactionManager transactionManager) {
+        this.employeeRepository = employeeRepository;
+        this.writeOperationRepository = writeOperationRepository;
+        this.historyFactory = historyFactory;
+        this.dateUtil = dateUtil;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new GroupCommitQueue<>("employee-group-commit", properties.getQueueCapacity(),
+                properties.getMaxBatchSize(), properties.getMaxBatchDelay(), this::commit);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-group-commit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    void start() {
+        queue.start();
+    }
+
+    // Starts after the context is ready, so no write is applied during a CDS training run or while warming up
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSweeper() {
+        long interval = properties.getSweepInterval().toMillis();
+        sweeper.scheduleWithFixedDelay(this::sweep, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        sweeper.shutdownNow();
+        if (!queue.stop(properties.getShutdownTimeout())) {
+            log.warn("Shut down with {} asynchronous writes still queued", queue.size());
+        }
+        try {
+            // Operations this node did not get to can be taken over by any node right away
+            Integer released = transactionTemplate.execute(status ->
+                    writeOperationRepository.releaseLeases(WriteOperationDto.Status.PENDING, nodeId));
+            if (released != null && released > 0) {
+                log.info("Released {} pending asynchronous writes", released);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not release pending asynchronous writes, they are taken over once their lease expires: {}",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Leases a new operation to this node. Call before storing it and hand it to {@link #submit} once stored.
+     */
+    void lease(WriteOperation operation) {
+        operation.setLeaseOwner(nodeId);
+        operation.setLeaseExpiresAt(now().plus(properties.getLease()));
+    }
+
+    /**
+     * @return false if the write queue is full; the operation stays pending and is taken over by a later
+     * sweep once its lease has expired.
+     */
+    boolean submit(UUID operationId) {
+        return queue.offer(operationId);
+    }
+
+    boolean hasCapacity() {
+        return queue.remainingCapacity() > 0;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("employee.writes.async.queued", queue, GroupCommitQueue::size).register(registry);
+        FunctionCounter.builder("employee.writes.async.batches", queue, GroupCommitQueue::batches).register(registry);
+        FunctionCounter.builder("employee.writes.async.operations", queue, GroupCommitQueue::items).register(registry);
+        FunctionCounter.builder("employee.writes.async.fallbacks", fallbacks, LongAdder::sum).register(registry);
+        FunctionCounter.builder("employee.writes.async.failures", failures, LongAdder::sum).register(registry);
+    }
+
+    void commit(List<UUID> batch) {
+        try {
+            failures.add(transactionTemplate.execute(status -> apply(batch)));
+            log.debug("Group committed {} writes", batch.size());
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} writes failed, applying them one at a time: {}", batch.size(), e.getMessage());
+            fallbacks.increment();
+            for (UUID operationId : batch) {
+                try {
+                    failures.add(transactionTemplate.execute(status -> apply(List.of(operationId))));
+                } catch (RuntimeException single) {
+                    log.warn("Asynchronous write {} failed: {}", operationId, single.getMessage());
+                    fail(operationId, failureOf(single));
+                }
+            }
+        }
+    }
+
+    void sweep() {
+        try {
+            LocalDateTime now = now();
+            Integer deleted = transactionTemplate.execute(status -> writeOperationRepository.deleteCompletedBefore(
+                    WriteOperationDto.Status.PENDING, now.minus(properties.getOperationTtl())));
+            if (deleted != null && deleted > 0) {
+                log.debug("Deleted {} expired asynchronous write outcomes", deleted);
+            }
+            int capacity = queue.remainingCapacity();
+            if (capacity == 0) {
+                return;
+            }
+            List<UUID> claimable = writeOperationRepository.findClaimable(WriteOperationDto.Status.PENDING, now,
+                    Limit.of(Math.min(capacity, properties.getMaxBatchSize())));
+            if (claimable.isEmpty()) {
+                return;
+            }
+            List<UUID> claimed = transactionTemplate.execute(status -> {
+                List<UUID> ids = new ArrayList<>();
+                for (WriteOperation operation : writeOperationRepository.lockAllById(claimable)) {
+                    if (isClaimable(operation, now)) {
+                        lease(operation);
+                        operation.setModifiedAt(now);
+                        ids.add(operation.getId());
+                    }
+                }
+                return ids;
+            });
+            if (!claimed.isEmpty()) {
+                log.info("Took over {} pending asynchronous writes", claimed.size());
+                claimed.forEach(queue::offer);
+            }
+        } catch (Exception e) {
+            log.warn("Asynchronous write sweep failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Applies the operations in order inside the current transaction and records their outcomes.
+     *
+     * @return The number of operations that failed.
+     */
+    private int apply(List<UUID> operationIds) {
+        LocalDateTime now = now();
+        List<WriteOperation> operations = writeOperationRepository.lockAllById(operationIds).stream()
+                .filter(this::isOwned)
+                .toList();
+        Set<String> takenEmails = new HashSet<>(takenEmails(operations));
+        Map<UUID, Employee> employees = employeesToUpdate(operations);
+        historyFactory.deferHistory();
+
+        int failed = 0;
+        Set<UUID> changed = new HashSet<>();
+        for (WriteOperation operation : operations) {
+            if (operation.getType() == WriteOperationDto.Type.CREATE) {
+                if (!takenEmails.add(operation.getEmployee().getEmail())) {
+                    complete(operation, null, WriteOperationDto.Failure.EMAIL_ALREADY_EXISTS, now);
+                    failed++;
+                    continue;
+                }
+                Employee employee = employeeRepository.save(EmployeeServiceImpl.convertToEntity(operation.getEmployee()));
+                complete(operation, employee.getId(), null, now);
+            } else {
+                Employee employee = employees.get(operation.getEmployeeId());
+                if (employee == null) {
+                    complete(operation, operation.getEmployeeId(), WriteOperationDto.Failure.EMPLOYEE_NOT_FOUND, now);
+                    failed++;
+                    continue;
+                }
+                if (!changed.add(employee.getId())) {
+                    // Flush the earlier change so each one is versioned and recorded separately
+                    employeeRepository.flush();
+                    changed.clear();
+                    changed.add(employee.getId());
+                }
+                EmployeeServiceImpl.updateEmployeeFields(employee, operation.getEmployee());
+                complete(operation, employee.getId(), null, now);
+            }
+        }
+        employeeRepository.flush();
+        historyFactory.writeDeferredHistory();
+        return failed;
+    }
+
+    private Set<String> takenEmails(List<WriteOperation> operations) {
+        List<String> emails = operations.stream()
+                .filter(operation -> operation.getType() == WriteOperationDto.Type.CREATE)
+                .map(operation -> operation.getEmployee().getEmail())
+                .toList();
+        return emails.isEmpty() ? Set.of() : employeeRepository.findExistingEmails(emails);
+    }
+
+    private Map<UUID, Employee> employeesToUpdate(List<WriteOperation> operations) {
+        Set<UUID> ids = operations.stream()
+                .filter(operation -> operation.getType() == WriteOperationDto.Type.UPDATE)
+                .map(WriteOperation::getEmployeeId)
+                .collect(Collectors.toSet());
+        return ids.isEmpty() ? Map.of() : employeeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity()));
+    }
+
+    // Records the outcome of an operation whose own transaction rolled back
+    private void fail(UUID operationId, WriteOperationDto.Failure failure) {
+        try {
+            LocalDateTime now = now();
+            transactionTemplate.executeWithoutResult(status -> writeOperationRepository.lockAllById(List.of(operationId))
+                    .stream()
+                    .filter(this::isOwned)
+                    .forEach(operation -> complete(operation, operation.getEmployeeId(), failure, now)));
+            failures.increment();
+        } catch (RuntimeException e) {
+            log.warn("Could not record the failure of asynchronous write {}, it is retried once its lease expires: {}",
+                    operationId, e.getMessage());
+        }
+    }
+
+    private static void complete(WriteOperation operation, UUID employeeId, WriteOperationDto.Failure failure,
+                                 LocalDateTime now) {
+        operation.setEmployeeId(employeeId);
+        operation.setFailure(failure);
+        operation.setStatus(failure == null ? WriteOperationDto.Status.SUCCEEDED : WriteOperationDto.Status.FAILED);
+        operation.setCompletedAt(now);
+        operation.setModifiedAt(now);
+        operation.setLeaseOwner(null);
+        operation.setLeaseExpiresAt(null);
+    }
+
+    private static WriteOperationDto.Failure failureOf(RuntimeException e) {
+        if (e instanceof OptimisticLockingFailureException) {
+            return WriteOperationDto.Failure.VERSION_CONFLICT;
+        }
+        if (e instanceof DataIntegrityViolationException && violatesEmailConstraint(e)) {
+            // Another write created an employee with this email after the batch checked for it
+            return WriteOperationDto.Failure.EMAIL_ALREADY_EXISTS;
+        }
+        return WriteOperationDto.Failure.ERROR;
+    }
+
+    private static boolean violatesEmailConstraint(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return EMAIL_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    private boolean isOwned(WriteOperation operation) {
+        return operation.getStatus() == WriteOperationDto.Status.PENDING && nodeId.equals(operation.getLeaseOwner());
+    }
+
+    private static boolean isClaimable(WriteOperation operation, LocalDateTime now) {
+        return operation.getStatus() == WriteOperationDto.Status.PENDING
+                && (operation.getLeaseExpiresAt() == null || operation.getLeaseExpiresAt().isBefore(now));
+    }
+
+    private LocalDateTime now() {
+        return dateUtil.toServerTime(LocalDateTime.now());
+    }
+}
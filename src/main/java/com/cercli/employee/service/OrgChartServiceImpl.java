@@ -0,0 +1,131 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.annotation.RetryOnConflict;
+import com.cercli.employee.contracts.OrgChartService;
+import com.cercli.employee.dto.OrgChartNodeDto;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.exception.EmployeeNotFoundException;
+import com.cercli.employee.repository.EmployeeHierarchyRepository;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.repository.OrgChartNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Org chart queries and reporting-line changes backed by the employee_hierarchy closure table.
+ * <p>
+ * {@code employees.manager_id} holds the direct manager; the closure table holds every
+ * (manager, report) pair at any depth, so reports, subtrees, chains and headcounts are each answered
+ * by one indexed query. Reads do not check that the employee exists: an unknown ID simply has no
+ * reports and no managers.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrgChartServiceImpl implements OrgChartService {
+
+    private final EmployeeRepository employeeRepository;
+    private final EmployeeHierarchyRepository hierarchyRepository;
+    private final MessageSource messageSource;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrgChartNodeDto> getDirectReports(UUID managerId) {
+        return convertToDtos(hierarchyRepository.findDirectReports(managerId));
+    }
+
+    /**
+     * Retrieves everyone below the manager, nearest levels first.
+     *
+     * @param managerId The root of the subtree; not part of the result.
+     * @param page The zero-based page number.
+     * @param size The page size.
+     * @return The requested page of the subtree ordered by depth and name.
+     * @throws IllegalArgumentException if the page or size is out of range.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrgChartNodeDto> getSubtree(UUID managerId, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new IllegalArgumentException("Page must be zero or more and size at least one");
+        }
+        return convertToDtos(hierarchyRepository.findSubtree(managerId, size, (long) page * size));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrgChartNodeDto> getManagementChain(UUID employeeId) {
+        return convertToDtos(hierarchyRepository.findManagementChain(employeeId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getHeadcount(UUID managerId) {
+        return hierarchyRepository.countSubtree(managerId);
+    }
+
+    /**
+     * Moves an employee, together with everyone reporting to them, under a new manager. The closure
+     * table is updated incrementally in the same transaction as {@code manager_id}: links from the
+     * subtree to the old managers are deleted and links to the new manager's chain inserted.
+     *
+     * @param employeeId The employee to move.
+     * @param managerId The new manager, or null to remove the manager.
+     * @return The moved employee.
+     * @throws EmployeeNotFoundException if the employee or the manager does not exist.
+     * @throws IllegalArgumentException if the manager reports to the employee, directly or indirectly.
+     */
+    @Override
+    @Transactional
+    @RetryOnConflict
+    public OrgChartNodeDto assignManager(UUID employeeId, UUID managerId) {
+        hierarchyRepository.lockHierarchy();
+        Employee employee = employeeRepository.findById(employeeId)
+                .orElseThrow(() -> notFound(employeeId));
+        if (Objects.equals(employee.getManagerId(), managerId)) {
+            return convertToDto(employee);
+        }
+        if (managerId != null) {
+            if (!employeeRepository.existsById(managerId)) {
+                throw notFound(managerId);
+            }
+            if (managerId.equals(employeeId) || hierarchyRepository.isAncestor(employeeId, managerId)) {
+                throw new IllegalArgumentException(messageSource.getMessage("employee.manager.cycle", null,
+                        "An employee cannot report to themselves or to someone in their own reporting line.", LocaleContextHolder.getLocale()));
+            }
+        }
+
+        employee.captureLoadedState();
+        employee.setManagerId(managerId);
+        employeeRepository.save(employee);
+        int removed = hierarchyRepository.detachSubtree(employeeId);
+        int added = managerId == null ? 0 : hierarchyRepository.attachSubtree(employeeId, managerId);
+        log.info("Employee {} moved under manager {}: {} hierarchy links removed, {} added", employeeId, managerId, removed, added);
+        return convertToDto(employee);
+    }
+
+    private EmployeeNotFoundException notFound(UUID id) {
+        return new EmployeeNotFoundException(messageSource.getMessage("employee.not.found_with_id", new Object[]{id},
+                "Employee not found with ID: " + id, LocaleContextHolder.getLocale()));
+    }
+
+    private List<OrgChartNodeDto> convertToDtos(List<OrgChartNode> nodes) {
+        return nodes.stream()
+                .map(node -> new OrgChartNodeDto(node.getId(), node.getFirstName(), node.getLastName(), node.getPosition(),
+                        node.getDepartment(), node.getManagerId(), node.getDepth()))
+                .toList();
+    }
+
+    private OrgChartNodeDto convertToDto(Employee employee) {
+        return new OrgChartNodeDto(employee.getId(), employee.getFirstName(), employee.getLastName(), employee.getPosition(),
+                employee.getDepartment(), employee.getManagerId(), 0);
+    }
+}
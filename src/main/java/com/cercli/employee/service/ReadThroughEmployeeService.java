@@ -0,0 +1,169 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.cache.EmployeeCache;
+import com.cercli.employee.config.CoalescingProperties;
+import com.cercli.employee.contracts.EmployeeService;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.EmployeeField;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.exception.RequestCoalescingTimeoutException;
+import com.cercli.employee.util.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Read path in front of {@link EmployeeServiceImpl}.
+ * <p>
+ * Concurrent identical reads are coalesced: while a lookup for a key is running, further callers for
+ * the same key wait for its result instead of issuing their own query. Callers waiting longer than
+ * {@code app.coalescing.max-wait} fail with {@link RequestCoalescingTimeoutException}. Employees
+ * fetched by ID, singly or in batches, are kept in the cluster-invalidated {@link EmployeeCache}. Writes
+ * and field projections are passed straight through.
+ */
+@Service
+@Primary
+@Slf4j
+public class ReadThroughEmployeeService implements EmployeeService, MeterBinder {
+
+    private final EmployeeServiceImpl delegate;
+    private final CoalescingProperties coalescingProperties;
+    private final EmployeeCache employeeCache;
+    private final MessageSource messageSource;
+    private final SingleFlight<EmployeeKey, Optional<EmployeeResponseDto>> employeeLookups = new SingleFlight<>();
+    private final SingleFlight<PageKey, List<EmployeeResponseDto>> pageLookups = new SingleFlight<>();
+
+    public ReadThroughEmployeeService(EmployeeServiceImpl delegate,
+                                      CoalescingProperties coalescingProperties,
+                                      EmployeeCache employeeCache,
+                                      MessageSource messageSource) {
+        this.delegate = delegate;
+        this.coalescingProperties = coalescingProperties;
+        this.employeeCache = employeeCache;
+        this.messageSource = messageSource;
+    }
+
+    @Override
+    public EmployeeResponseDto addEmployee(EmployeeDto employeeDto, String countryCode) {
+        return delegate.addEmployee(employeeDto, countryCode);
+    }
+
+    @Override
+    public EmployeeResponseDto updateEmployee(UUID employeeId, EmployeeDto employeeDto, String countryCode) {
+        return delegate.updateEmployee(employeeId, employeeDto, countryCode);
+    }
+
+    @Override
+    public Optional<EmployeeResponseDto> getEmployee(UUID employeeId, String countryCode) {
+        EmployeeResponseDto cached = employeeCache.get(employeeId, countryCode);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return coalesce(employeeLookups, new EmployeeKey(employeeId, countryCode), () -> {
+            long generation = employeeCache.generation();
+            Optional<EmployeeResponseDto> employee = delegate.getEmployee(employeeId, countryCode);
+            employee.ifPresent(found -> employeeCache.put(employeeId, countryCode, found, generation));
+            return employee;
+        });
+    }
+
+    /**
+     * Serves the cached employees and fetches the rest in one query, caching what it fetched. Employees are
+     * returned in the order of {@code employeeIds}, each once; unknown IDs are left out.
+     */
+    @Override
+    public List<EmployeeResponseDto> getEmployees(Collection<UUID> employeeIds, String countryCode) {
+        Map<UUID, EmployeeResponseDto> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        for (UUID employeeId : employeeIds) {
+            EmployeeResponseDto cached = employeeCache.get(employeeId, countryCode);
+            if (cached != null) {
+                found.put(employeeId, cached);
+            } else {
+                missing.add(employeeId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long generation = employeeCache.generation();
+            for (EmployeeResponseDto employee : delegate.getEmployees(missing, countryCode)) {
+                employeeCache.put(employee.getId(), countryCode, employee, generation);
+                found.put(employee.getId(), employee);
+            }
+        }
+        List<EmployeeResponseDto> employees = new ArrayList<>(found.size());
+        for (UUID employeeId : employeeIds) {
+            EmployeeResponseDto employee = found.remove(employeeId);
+            if (employee != null) {
+                employees.add(employee);
+            }
+        }
+        return employees;
+    }
+
+    @Override
+    public List<EmployeeResponseDto> getAllEmployees(int page, int size, String countryCode) {
+        return coalesce(pageLookups, new PageKey(page, size, countryCode),
+                () -> delegate.getAllEmployees(page, size, countryCode));
+    }
+
+    @Override
+    public List<EmployeeResponseDto> getEmployeesAfter(UUID after, int size, String countryCode) {
+        return delegate.getEmployeesAfter(after, size, countryCode);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> getEmployeeFields(UUID employeeId, Set<EmployeeField> fields, String countryCode) {
+        return delegate.getEmployeeFields(employeeId, fields, countryCode);
+    }
+
+    @Override
+    public List<Map<String, Object>> getAllEmployeeFields(int page, int size, Set<EmployeeField> fields, String countryCode) {
+        return delegate.getAllEmployeeFields(page, size, fields, countryCode);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.coalescing.executions", employeeLookups, SingleFlight::executions)
+                .tag("operation", "get").register(registry);
+        FunctionCounter.builder("employee.coalescing.shared", employeeLookups, SingleFlight::sharedResults)
+                .tag("operation", "get").register(registry);
+        FunctionCounter.builder("employee.coalescing.executions", pageLookups, SingleFlight::executions)
+                .tag("operation", "list").register(registry);
+        FunctionCounter.builder("employee.coalescing.shared", pageLookups, SingleFlight::sharedResults)
+                .tag("operation", "list").register(registry);
+    }
+
+    private <K, V> V coalesce(SingleFlight<K, V> flights, K key, Supplier<V> loader) {
+        if (!coalescingProperties.isEnabled()) {
+            return loader.get();
+        }
+        try {
+            return flights.execute(key, loader, coalescingProperties.getMaxWait());
+        } catch (TimeoutException e) {
+            log.warn("Timed out waiting for in-flight lookup {}", key);
+            throw new RequestCoalescingTimeoutException(messageSource.getMessage("employee.lookup.timeout", null,
+                    "Timed out waiting for an identical request, please try again later.", LocaleContextHolder.getLocale()));
+        }
+    }
+
+    // The country code is part of the key because timestamps are converted to the entity's time zone
+    private record EmployeeKey(UUID employeeId, String countryCode) {}
+
+    private record PageKey(int page, int size, String countryCode) {}
+}
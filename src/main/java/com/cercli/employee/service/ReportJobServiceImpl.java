@@ -0,0 +1,112 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.contracts.ReportJobService;
+import com.cercli.employee.dto.ReportJobDto;
+import com.cercli.employee.entity.ReportJob;
+import com.cercli.employee.entity.ReportType;
+import com.cercli.employee.exception.ReportJobNotFoundException;
+import com.cercli.employee.exception.ReportNotReadyException;
+import com.cercli.employee.exception.ReportQueueFullException;
+import com.cercli.employee.reports.ReportExecutor;
+import com.cercli.employee.repository.ReportJobRepository;
+import com.cercli.employee.util.DateUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReportJobServiceImpl implements ReportJobService {
+
+    private final ReportJobRepository reportJobRepository;
+    private final ReportExecutor reportExecutor;
+    private final DateUtil dateUtil;
+    private final MessageSource messageSource;
+
+    /**
+     * Records a report job and hands it to a worker. Returns as soon as the job is stored; the report is
+     * produced in the background.
+     *
+     * @param type The report to produce.
+     * @param countryCode The entity whose time zone is used for timestamps in the report.
+     * @return The queued job.
+     */
+    @Override
+    public ReportJobDto submit(ReportType type, String countryCode) {
+        if (!reportExecutor.hasCapacity()) {
+            throw new ReportQueueFullException(getMessage("report.queue.full"));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        ReportJob job = reportJobRepository.save(ReportJob.builder()
+                .type(type)
+                .status(ReportJob.Status.QUEUED)
+                .countryCode(countryCode)
+                .processedRows(0L)
+                .outputBytes(0L)
+                .createdAt(now)
+                .modifiedAt(now)
+                .build());
+        if (!reportExecutor.trySubmit(job.getId())) {
+            log.info("Report queue filled up, job {} waits for the next sweep", job.getId());
+        }
+        log.info("Submitted report job {} ({})", job.getId(), type);
+        return convertToDto(job, countryCode);
+    }
+
+    @Override
+    public ReportJobDto getJob(UUID jobId, String countryCode) {
+        return reportJobRepository.findById(jobId)
+                .map(job -> convertToDto(job, countryCode))
+                .orElseThrow(() -> new ReportJobNotFoundException(getMessage("report.not.found")));
+    }
+
+    /**
+     * @return The report file of a completed job.
+     */
+    @Override
+    public Path getOutput(UUID jobId) {
+        ReportJob job = reportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ReportJobNotFoundException(getMessage("report.not.found")));
+        Path output = reportExecutor.outputFile(jobId);
+        if (job.getStatus() != ReportJob.Status.COMPLETED) {
+            throw new ReportNotReadyException(getMessage("report.not.ready"));
+        }
+        if (!Files.isReadable(output)) {
+            // Written on another node whose output directory is not shared with this one
+            throw new ReportJobNotFoundException(getMessage("report.output.missing"));
+        }
+        return output;
+    }
+
+    private ReportJobDto convertToDto(ReportJob job, String countryCode) {
+        int progress;
+        if (job.getStatus() == ReportJob.Status.COMPLETED) {
+            progress = 100;
+        } else if (job.getTotalRows() == null || job.getTotalRows() == 0) {
+            progress = 0;
+        } else {
+            progress = (int) Math.min(99, job.getProcessedRows() * 100 / job.getTotalRows());
+        }
+        return new ReportJobDto(job.getId(), job.getType(), job.getStatus(), job.getProcessedRows(), job.getTotalRows(),
+                progress, job.getError(),
+                toLocalTime(job.getCreatedAt(), countryCode),
+                toLocalTime(job.getStartedAt(), countryCode),
+                toLocalTime(job.getFinishedAt(), countryCode));
+    }
+
+    private LocalDateTime toLocalTime(LocalDateTime serverTime, String countryCode) {
+        return serverTime == null ? null : dateUtil.toLocalTime(serverTime, countryCode);
+    }
+
+    private String getMessage(String key) {
+        return messageSource.getMessage(key, null, LocaleContextHolder.getLocale());
+    }
+}
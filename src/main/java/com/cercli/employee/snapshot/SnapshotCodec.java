@@ -0,0 +1,13 @@
+package com.cercli.employee.snapshot;
+
+/**
+ * Encodes one record of a snapshot. {@link #read} must consume exactly what {@link #write} produced.
+ *
+ * @param <T> The record type.
+ */
+public interface SnapshotCodec<T> {
+
+    void write(T record, SnapshotWriter out);
+
+    T read(SnapshotReader in);
+}
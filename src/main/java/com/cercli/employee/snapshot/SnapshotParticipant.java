@@ -0,0 +1,12 @@
+package com.cercli.employee.snapshot;
+
+/**
+ * Implemented by in-process state that {@link SnapshotService} writes to disk periodically and on shutdown.
+ */
+public interface SnapshotParticipant {
+
+    /**
+     * Writes the current state through {@link SnapshotService#write}.
+     */
+    void writeSnapshot(SnapshotService snapshots);
+}
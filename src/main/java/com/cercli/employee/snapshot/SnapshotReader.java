@@ -0,0 +1,150 @@
+package com.cercli.employee.snapshot;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Reads a snapshot written by {@link SnapshotWriter}. The file is mapped rather than read, so opening it
+ * costs one checksum pass over the payload and records are decoded straight from the page cache.
+ */
+public class SnapshotReader {
+
+    private final ByteBuffer buffer;
+    private final LocalDateTime takenAt;
+    private final int count;
+
+    private SnapshotReader(ByteBuffer buffer, LocalDateTime takenAt, int count) {
+        this.buffer = buffer;
+        this.takenAt = takenAt;
+        this.count = count;
+    }
+
+    /**
+     * Maps the snapshot and checks its header and checksum.
+     *
+     * @param epoch The epoch the snapshot must have been written with.
+     * @throws IOException if the file cannot be read, was written by another format or epoch, or is corrupt.
+     */
+    public static SnapshotReader open(Path file, long epoch) throws IOException {
+        ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < SnapshotWriter.HEADER_BYTES) {
+                throw new IOException("Snapshot " + file + " is truncated");
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), Integer.MAX_VALUE));
+        }
+        if (mapped.getInt() != SnapshotWriter.MAGIC) {
+            throw new IOException("Snapshot " + file + " is not a snapshot file");
+        }
+        int formatVersion = mapped.getInt();
+        long fileEpoch = mapped.getLong();
+        if (formatVersion != SnapshotWriter.FORMAT_VERSION || fileEpoch != epoch) {
+            throw new IOException("Snapshot " + file + " has format " + formatVersion + " and epoch " + fileEpoch
+                    + ", expected " + SnapshotWriter.FORMAT_VERSION + " and " + epoch);
+        }
+        LocalDateTime takenAt = LocalDateTime.ofEpochSecond(mapped.getLong(), mapped.getInt(), ZoneOffset.UTC);
+        int count = mapped.getInt();
+        long payloadBytes = mapped.getLong();
+        int checksum = mapped.getInt();
+        if (count < 0 || payloadBytes < 0 || payloadBytes > mapped.capacity() - SnapshotWriter.HEADER_BYTES) {
+            throw new IOException("Snapshot " + file + " is truncated");
+        }
+        ByteBuffer payload = mapped.position(SnapshotWriter.HEADER_BYTES)
+                .limit(SnapshotWriter.HEADER_BYTES + (int) payloadBytes)
+                .slice();
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("Snapshot " + file + " fails its checksum");
+        }
+        return new SnapshotReader(payload, takenAt, count);
+    }
+
+    /**
+     * @return The server time at which the recorded state was read.
+     */
+    public LocalDateTime takenAt() {
+        return takenAt;
+    }
+
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Decodes up to {@code limit} records, in the order they were written.
+     *
+     * @throws IOException if the payload does not decode.
+     */
+    public <T> List<T> read(SnapshotCodec<T> codec, int limit) throws IOException {
+        int records = Math.min(count, Math.max(limit, 0));
+        List<T> result = new ArrayList<>(records);
+        try {
+            for (int i = 0; i < records; i++) {
+                result.add(codec.read(this));
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | DateTimeException e) {
+            throw new IOException("Snapshot record " + result.size() + " does not decode", e);
+        }
+        return result;
+    }
+
+    public int getInt() {
+        return buffer.getInt();
+    }
+
+    public long getLong() {
+        return buffer.getLong();
+    }
+
+    public Long getNullableLong() {
+        return getBoolean() ? buffer.getLong() : null;
+    }
+
+    public Float getNullableFloat() {
+        return getBoolean() ? buffer.getFloat() : null;
+    }
+
+    public String getString() {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public UUID getUuid() {
+        return getBoolean() ? new UUID(buffer.getLong(), buffer.getLong()) : null;
+    }
+
+    public LocalDate getDate() {
+        Long epochDay = getNullableLong();
+        return epochDay == null ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    public LocalDateTime getDateTime() {
+        return getBoolean() ? LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC) : null;
+    }
+
+    private boolean getBoolean() {
+        return buffer.get() != 0;
+    }
+}
@@ -0,0 +1,172 @@
+package com.cercli.employee.snapshot;
+
+import com.cercli.employee.config.SnapshotProperties;
+import com.cercli.employee.util.DateUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps local snapshots of in-process state so that a restarted node starts warm.
+ * <p>
+ * Every {@link SnapshotParticipant} is asked to write its snapshot each {@code app.snapshot.interval} and
+ * once more on shutdown. On startup a participant {@link #read reads} its snapshot back and then reloads
+ * the rows modified since {@link Snapshot#reconcileFrom()}, instead of scanning everything. Snapshots
+ * older than {@code app.snapshot.max-age}, written under another {@code app.snapshot.epoch}, or failing
+ * their checksum are ignored.
+ */
+@Component
+@Slf4j
+public class SnapshotService implements MeterBinder {
+
+    private static final String FILE_SUFFIX = ".snapshot";
+
+    private final SnapshotProperties properties;
+    private final DateUtil dateUtil;
+    private final ObjectProvider<SnapshotParticipant> participantProvider;
+    private final ScheduledExecutorService writer;
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    private volatile List<SnapshotParticipant> participants;
+
+    public SnapshotService(SnapshotProperties properties, DateUtil dateUtil,
+                           ObjectProvider<SnapshotParticipant> participantProvider) {
+        this.properties = properties;
+        this.dateUtil = dateUtil;
+        this.participantProvider = participantProvider;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snapshot-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Starts once startup has restored from the previous snapshots, and never during a CDS training run
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        participants = participantProvider.orderedStream().toList();
+        long interval = properties.getInterval().toMillis();
+        writer.scheduleWithFixedDelay(this::writeAll, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        writer.shutdownNow();
+        writer.awaitTermination(10, TimeUnit.SECONDS);
+        if (participants != null) {
+            writeAll();
+        }
+    }
+
+    /**
+     * Writes the records to the snapshot {@code name}. The time is taken before the records are collected,
+     * so a change made while they are being collected is reloaded on startup.
+     */
+    public <T> void write(String name, Supplier<? extends Collection<T>> records, SnapshotCodec<T> codec) {
+        Path file = file(name);
+        long start = System.nanoTime();
+        try {
+            LocalDateTime takenAt = now();
+            Collection<T> collected = records.get();
+            if (collected.isEmpty()) {
+                // Keep the previous snapshot rather than replace it with nothing, e.g. right after a cold start
+                return;
+            }
+            int sizeHint = Files.exists(file) ? (int) Math.min(Files.size(file), Integer.MAX_VALUE) : 0;
+            long size = SnapshotWriter.write(file, properties.getEpoch(), takenAt, collected, codec, sizeHint);
+            writes.increment();
+            log.debug("Wrote snapshot {}: {} records, {} KB in {} ms", name, collected.size(), size / 1024,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            log.warn("Failed to write snapshot {}: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Reads up to {@code limit} records of the snapshot {@code name}.
+     *
+     * @return Empty if snapshots are disabled or there is no usable snapshot.
+     */
+    public <T> Optional<Snapshot<T>> read(String name, SnapshotCodec<T> codec, int limit) {
+        Path file = file(name);
+        if (!properties.isEnabled() || !Files.exists(file)) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        try {
+            SnapshotReader reader = SnapshotReader.open(file, properties.getEpoch());
+            if (reader.takenAt().isBefore(now().minus(properties.getMaxAge()))) {
+                log.info("Ignoring snapshot {} taken at {}, older than {}", name, reader.takenAt(), properties.getMaxAge());
+                return Optional.empty();
+            }
+            List<T> records = reader.read(codec, limit);
+            loads.increment();
+            log.info("Read snapshot {} taken at {}: {} of {} records in {} ms", name, reader.takenAt(), records.size(),
+                    reader.count(), (System.nanoTime() - start) / 1_000_000);
+            return Optional.of(new Snapshot<>(reader.takenAt(),
+                    reader.takenAt().minus(properties.getReconcileOverlap()), records));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable snapshot {}: {}", name, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("employee.snapshot.writes", writes, LongAdder::sum).register(registry);
+        FunctionCounter.builder("employee.snapshot.write.failures", failures, LongAdder::sum).register(registry);
+        FunctionCounter.builder("employee.snapshot.loads", loads, LongAdder::sum).register(registry);
+    }
+
+    void writeAll() {
+        for (SnapshotParticipant participant : participants) {
+            try {
+                participant.writeSnapshot(this);
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("Snapshot of {} failed: {}", participant.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private Path file(String name) {
+        return Path.of(properties.getDirectory()).resolve(name + FILE_SUFFIX);
+    }
+
+    private LocalDateTime now() {
+        return dateUtil.toServerTime(LocalDateTime.now());
+    }
+
+    /**
+     * @param takenAt       Server time at which the recorded state was read.
+     * @param reconcileFrom Rows modified at or after this server time must be reloaded.
+     * @param records       The records, in the order they were written.
+     */
+    public record Snapshot<T>(LocalDateTime takenAt, LocalDateTime reconcileFrom, List<T> records) {
+    }
+}
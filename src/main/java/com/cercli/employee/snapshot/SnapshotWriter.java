@@ -0,0 +1,174 @@
+package com.cercli.employee.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * Writes a snapshot file through a memory mapping.
+ * <p>
+ * Layout: a fixed {@value #HEADER_BYTES}-byte header holding the magic number, format version, epoch, the
+ * server time the snapshot was taken, the record count, the payload length and the CRC32 of the payload,
+ * followed by the records as encoded by a {@link SnapshotCodec}. Numbers are big-endian; strings are a length
+ * and UTF-8 bytes, with -1 for null. The file is written next to its final name and moved into place once
+ * complete, so readers see either the previous snapshot or the new one. Mapped space left after the payload
+ * is not part of it.
+ */
+public class SnapshotWriter {
+
+    static final int MAGIC = 0x454D5350; // "EMSP"
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_BYTES = 64;
+
+    private static final int MIN_CAPACITY = 64 * 1024;
+
+    private final FileChannel channel;
+    private MappedByteBuffer buffer;
+
+    private SnapshotWriter(FileChannel channel, int capacity) throws IOException {
+        this.channel = channel;
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        this.buffer.position(HEADER_BYTES);
+    }
+
+    /**
+     * Writes the records to {@code file}, replacing any previous snapshot.
+     *
+     * @param sizeHint Expected payload size; the mapping grows as needed.
+     * @return The size of the snapshot in bytes.
+     */
+    public static <T> long write(Path file, long epoch, LocalDateTime takenAt, Iterable<T> records,
+                                 SnapshotCodec<T> codec, int sizeHint) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            long size;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                SnapshotWriter writer = new SnapshotWriter(channel, Math.max(MIN_CAPACITY, HEADER_BYTES + Math.max(sizeHint, 0)));
+                int count = 0;
+                for (T record : records) {
+                    codec.write(record, writer);
+                    count++;
+                }
+                size = writer.finish(epoch, takenAt, count);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return size;
+        } catch (UncheckedIOException e) {
+            Files.deleteIfExists(temp);
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    public void putInt(int value) {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void putLong(long value) {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    public void putNullableLong(Long value) {
+        putBoolean(value != null);
+        if (value != null) {
+            putLong(value);
+        }
+    }
+
+    public void putNullableFloat(Float value) {
+        putBoolean(value != null);
+        if (value != null) {
+            ensureRemaining(Float.BYTES);
+            buffer.putFloat(value);
+        }
+    }
+
+    public void putString(String value) {
+        if (value == null) {
+            putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        ensureRemaining(bytes.length);
+        buffer.put(bytes);
+    }
+
+    public void putUuid(UUID value) {
+        putBoolean(value != null);
+        if (value != null) {
+            putLong(value.getMostSignificantBits());
+            putLong(value.getLeastSignificantBits());
+        }
+    }
+
+    public void putDate(LocalDate value) {
+        putNullableLong(value == null ? null : value.toEpochDay());
+    }
+
+    public void putDateTime(LocalDateTime value) {
+        putBoolean(value != null);
+        if (value != null) {
+            putLong(value.toEpochSecond(ZoneOffset.UTC));
+            putInt(value.getNano());
+        }
+    }
+
+    private void putBoolean(boolean value) {
+        ensureRemaining(1);
+        buffer.put((byte) (value ? 1 : 0));
+    }
+
+    private long finish(long epoch, LocalDateTime takenAt, int count) throws IOException {
+        int end = buffer.position();
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_BYTES).limit(end));
+        buffer.position(0);
+        buffer.putInt(MAGIC);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putLong(epoch);
+        buffer.putLong(takenAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(takenAt.getNano());
+        buffer.putInt(count);
+        buffer.putLong(end - HEADER_BYTES);
+        buffer.putInt((int) crc.getValue());
+        buffer.force();
+        return end;
+    }
+
+    // Remaps the file at twice the size; what was written so far is already in the file
+    private void ensureRemaining(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        long capacity = Math.max((long) buffer.capacity() * 2, (long) buffer.position() + bytes);
+        if (capacity > Integer.MAX_VALUE) {
+            throw new BufferOverflowException();
+        }
+        try {
+            MappedByteBuffer grown = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            grown.position(buffer.position());
+            buffer = grown;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
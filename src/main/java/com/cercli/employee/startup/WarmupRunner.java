@@ -0,0 +1,160 @@
+package com.cercli.employee.startup;
+
+import com.cercli.employee.cache.CacheWarmer;
+import com.cercli.employee.config.InternationalizationProperties;
+import com.cercli.employee.config.WarmupProperties;
+import com.cercli.employee.contracts.EmployeeService;
+import com.cercli.employee.datasource.DataSourcePools;
+import com.cercli.employee.datasource.DataSourceRoute;
+import com.cercli.employee.dto.ApiResponse;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Warms the JIT, Jackson serializers, Hibernate query plans and the connection pool before the
+ * application reports ready.
+ * <p>
+ * Spring Boot switches the readiness state to ACCEPTING_TRAFFIC only after all application runners
+ * have completed, so traffic is routed to the instance once this runner returns. The add path is
+ * exercised inside a transaction that is always rolled back, so no data is written.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class WarmupRunner implements ApplicationRunner {
+
+    private final WarmupProperties warmupProperties;
+    private final InternationalizationProperties intlProperties;
+    private final EmployeeService employeeService;
+    private final DataSourcePools dataSourcePools;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ObjectProvider<CacheWarmer> cacheWarmers;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!warmupProperties.isEnabled()) {
+            log.info("Warm-up disabled");
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + warmupProperties.getMaxDuration().toNanos();
+
+        int connections = openPoolConnections();
+        int iterations = 0;
+        while (iterations < warmupProperties.getIterations() && System.nanoTime() < deadline) {
+            if (!runIteration(iterations)) {
+                break;
+            }
+            iterations++;
+        }
+        int preloaded = preloadCaches();
+
+        log.info("Warm-up finished in {} ms: {} pool connections, {} iterations, {} cache entries preloaded",
+                (System.nanoTime() - start) / 1_000_000, connections, iterations, preloaded);
+    }
+
+    // Fills each of the read, write and history pools, up to its size
+    private int openPoolConnections() {
+        int opened = 0;
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            int count = Math.min(warmupProperties.getPoolConnections(), dataSourcePools.maximumPoolSize(route));
+            opened += openPoolConnections(route, count);
+        }
+        return opened;
+    }
+
+    private int openPoolConnections(DataSourceRoute route, int count) {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < count; i++) {
+                connections.add(dataSourcePools.pool(route).getConnection());
+            }
+        } catch (Exception e) {
+            log.warn("Warm-up could not open {} pool connections: {}", route.poolName(), e.getMessage());
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (Exception e) {
+                    log.debug("Failed to return warm-up connection: {}", e.getMessage());
+                }
+            }
+        }
+        return connections.size();
+    }
+
+    /**
+     * Runs one pass over the get, list and add paths for every supported country.
+     *
+     * @return false when the database is unusable and further iterations are pointless.
+     */
+    private boolean runIteration(int iteration) {
+        try {
+            for (String countryCode : intlProperties.getSupportedCountryCodes()) {
+                List<EmployeeResponseDto> employees = employeeService.getAllEmployees(0, 10, countryCode);
+                UUID id = employees.isEmpty() ? UUID.randomUUID() : employees.get(0).getId();
+                employeeService.getEmployee(id, countryCode);
+                rolledBackAdd(countryCode, iteration);
+            }
+            serializeSyntheticResponses();
+            return true;
+        } catch (Exception e) {
+            log.warn("Warm-up iteration {} failed, skipping remaining iterations: {}", iteration, e.getMessage());
+            return false;
+        }
+    }
+
+    private void rolledBackAdd(String countryCode, int iteration) {
+        EmployeeDto employeeDto = syntheticEmployee(iteration);
+        validator.validate(employeeDto);
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            employeeService.addEmployee(employeeDto, countryCode);
+        });
+    }
+
+    private void serializeSyntheticResponses() throws Exception {
+        EmployeeResponseDto responseDto = new EmployeeResponseDto(UUID.randomUUID(), "Warm", "Up", "0000000000",
+                "Engineer", "IT", "warm.up@example.com", 1000f, LocalDate.now(), LocalDateTime.now(), LocalDateTime.now(), UUID.randomUUID());
+        objectMapper.writeValueAsBytes(new ApiResponse<>(200, "warm-up", responseDto));
+        objectMapper.writeValueAsBytes(new ApiResponse<>(200, "warm-up", List.of(responseDto, responseDto)));
+    }
+
+    private int preloadCaches() {
+        int preloaded = 0;
+        for (CacheWarmer cacheWarmer : cacheWarmers.orderedStream().toList()) {
+            try {
+                preloaded += cacheWarmer.preload(warmupProperties.getPreloadLimit());
+            } catch (Exception e) {
+                log.warn("Warm-up preload failed for {}: {}", cacheWarmer.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+        return preloaded;
+    }
+
+    private EmployeeDto syntheticEmployee(int iteration) {
+        return new EmployeeDto("Warm", "Up", "0000000000", "Engineer", "IT",
+                "warmup-" + iteration + "-" + UUID.randomUUID() + "@example.com", 1000f, LocalDate.now());
+    }
+}
@@ -0,0 +1,42 @@
+package com.cercli.employee.tracing;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerGroup;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the session factory's flush listeners with a {@link TracedFlushEventListener} around them.
+ */
+public class FlushTracingIntegrator implements Integrator {
+
+    private final ObservationRegistry observationRegistry;
+
+    public FlushTracingIntegrator(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerGroup<FlushEventListener> group = sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .getEventListenerGroup(EventType.FLUSH);
+        List<FlushEventListener> delegates = new ArrayList<>();
+        group.fireEventOnEachListener(delegates, (listener, collected) -> collected.add(listener));
+        group.clearListeners();
+        group.appendListener(new TracedFlushEventListener(List.copyOf(delegates), observationRegistry));
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
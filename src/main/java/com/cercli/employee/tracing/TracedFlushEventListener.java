@@ -0,0 +1,31 @@
+package com.cercli.employee.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.hibernate.event.spi.FlushEvent;
+import org.hibernate.event.spi.FlushEventListener;
+
+import java.util.List;
+
+/**
+ * Runs Hibernate's flush listeners inside an observation, so the statements of a flush, and the entity
+ * listeners and history writes it triggers, share a parent span. Covers explicit flushes and the one
+ * before commit.
+ */
+final class TracedFlushEventListener implements FlushEventListener {
+
+    private final List<FlushEventListener> delegates;
+    private final ObservationRegistry observationRegistry;
+
+    TracedFlushEventListener(List<FlushEventListener> delegates, ObservationRegistry observationRegistry) {
+        this.delegates = delegates;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void onFlush(FlushEvent event) {
+        Observation.createNotStarted("employee.hibernate.flush", observationRegistry)
+                .contextualName("hibernate-flush")
+                .observe(() -> delegates.forEach(delegate -> delegate.onFlush(event)));
+    }
+}
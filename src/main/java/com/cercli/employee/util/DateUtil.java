@@ -20,6 +20,13 @@ public class DateUtil {
         return serverDateTime.atZone(serverZoneId).withZoneSameInstant(localZoneId).toLocalDateTime();
     }
 
+    // Convert local time of the country back to server time
+    public LocalDateTime toServerTime(LocalDateTime localDateTime, String countryCode) {
+        ZoneId localZoneId = ZoneId.of(timezoneConfig.getTimezoneForCountry(countryCode));
+        ZoneId serverZoneId = ZoneId.of(timezoneConfig.getServerTimezone());
+        return localDateTime.atZone(localZoneId).withZoneSameInstant(serverZoneId).toLocalDateTime();
+    }
+
     public LocalDateTime toServerTime(LocalDateTime localDateTime) {
         ZoneId localZoneId = ZoneId.systemDefault();
         ZoneId serverZoneId = ZoneId.of(timezoneConfig.getServerTimezone());
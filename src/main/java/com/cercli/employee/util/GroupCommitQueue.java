@@ -0,0 +1,133 @@
+package com.cercli.employee.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue drained by one thread that hands its items to a handler in batches, in the order
+ * they were offered.
+ * <p>
+ * A batch is started by the first item to arrive and is closed when it holds {@code maxBatchSize} items
+ * or {@code maxDelay} has passed, so under load each batch fills up while a lone item waits at most
+ * {@code maxDelay}. A handler failure is logged and does not stop the thread.
+ *
+ * @param <T> The queued item.
+ */
+@Slf4j
+public class GroupCommitQueue<T> {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final BlockingQueue<T> queue;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Consumer<List<T>> batchHandler;
+    private final Thread worker;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder items = new LongAdder();
+
+    private volatile boolean accepting = true;
+
+    public GroupCommitQueue(String name, int capacity, int maxBatchSize, Duration maxDelay, Consumer<List<T>> batchHandler) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.batchHandler = batchHandler;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+
+    public void start() {
+        worker.start();
+    }
+
+    /**
+     * @return false if the queue is full or no longer accepting items.
+     */
+    public boolean offer(T item) {
+        return accepting && queue.offer(item);
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    public int remainingCapacity() {
+        return accepting ? queue.remainingCapacity() : 0;
+    }
+
+    public long batches() {
+        return batches.sum();
+    }
+
+    public long items() {
+        return items.sum();
+    }
+
+    /**
+     * Stops accepting items and waits for the queued ones to be handled.
+     *
+     * @return false if items were still queued when {@code timeout} ran out.
+     */
+    public boolean stop(Duration timeout) {
+        accepting = false;
+        if (!worker.isAlive()) {
+            return queue.isEmpty();
+        }
+        try {
+            worker.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !worker.isAlive();
+    }
+
+    private void run() {
+        List<T> batch = new ArrayList<>(maxBatchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                T first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+            } catch (InterruptedException e) {
+                // Only stop() ends the thread; queued items are still handled
+                continue;
+            }
+            try {
+                batchHandler.accept(List.copyOf(batch));
+            } catch (RuntimeException e) {
+                log.error("Group commit of {} items failed: {}", batch.size(), e.getMessage(), e);
+            }
+            batches.increment();
+            items.add(batch.size());
+            batch.clear();
+        }
+    }
+
+    private void fill(List<T> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !accepting) {
+                return;
+            }
+            T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+}
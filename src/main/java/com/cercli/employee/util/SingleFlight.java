@@ -0,0 +1,79 @@
+package com.cercli.employee.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls with the same key into one execution.
+ * <p>
+ * The first caller for a key runs the loader on its own thread; callers arriving while it runs wait for and
+ * share its result, or its exception. Nothing is cached once the call completes.
+ *
+ * @param <K> The call key.
+ * @param <V> The result type.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder sharedResults = new LongAdder();
+
+    /**
+     * @param key     Identifies calls that may share a result.
+     * @param loader  Produces the result; only invoked by the first caller for the key.
+     * @param maxWait How long a waiting caller waits for the shared result.
+     * @throws TimeoutException if the shared result did not arrive within {@code maxWait}.
+     */
+    public V execute(K key, Supplier<V> loader, Duration maxWait) throws TimeoutException {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = calls.putIfAbsent(key, call);
+        if (inFlight == null) {
+            return lead(key, call, loader);
+        }
+        sharedResults.increment();
+        try {
+            return inFlight.get(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting for a shared result");
+        }
+    }
+
+    public long executions() {
+        return executions.sum();
+    }
+
+    public long sharedResults() {
+        return sharedResults.sum();
+    }
+
+    private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+        executions.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            calls.remove(key, call);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.cercli.employee.util;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks shared by hashing keys onto them, so per-key locking needs no per-key bookkeeping.
+ * Keys that share a stripe also share the lock, which only costs some unnecessary waiting.
+ */
+public class StripedLock {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * @param stripes The number of locks, rounded up to a power of two.
+     */
+    public StripedLock(int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    public Lock get(Object key) {
+        int hash = key.hashCode();
+        // Spread the high bits so keys differing only there do not collide
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    public int size() {
+        return stripes.length;
+    }
+}
@@ -0,0 +1,70 @@
+package com.cercli.employee.util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket rate limiter that can hand out a token a short time in advance.
+ * <p>
+ * A caller that is willing to wait reserves the next token (the balance may go negative) and is told how long
+ * to wait before proceeding, which keeps admitted requests spaced at the configured rate.
+ */
+public class TokenBucket {
+
+    private final double ratePerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double ratePerSecond, double capacity) {
+        this(ratePerSecond, capacity, System::nanoTime);
+    }
+
+    public TokenBucket(double ratePerSecond, double capacity, LongSupplier nanoClock) {
+        this.ratePerNano = ratePerSecond / 1_000_000_000d;
+        this.capacity = capacity;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a token, reserving a future one if it becomes available within {@code maxWaitNanos}.
+     *
+     * @return 0 if a token was available, the positive wait in nanoseconds if a future token was reserved,
+     *         or the negated wait until the next token if none could be reserved.
+     */
+    public synchronized long reserve(long maxWaitNanos) {
+        refill();
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        long waitNanos = (long) Math.ceil((1 - tokens) / ratePerNano);
+        if (waitNanos <= maxWaitNanos) {
+            tokens -= 1;
+            return waitNanos;
+        }
+        return -waitNanos;
+    }
+
+    /**
+     * Gives back a token taken by {@link #reserve(long)} for a request that was not served after all.
+     */
+    public synchronized void refund() {
+        refill();
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    public synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * ratePerNano);
+        lastRefill = now;
+    }
+}
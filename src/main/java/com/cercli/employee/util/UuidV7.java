@@ -0,0 +1,66 @@
+package com.cercli.employee.util;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered UUIDs in the version 7 layout of RFC 9562.
+ * <p>
+ * The first 48 bits hold the Unix time in milliseconds and the 12 bits after the version hold a counter,
+ * so identifiers from one generator are strictly increasing even within a millisecond or when the clock
+ * steps back. The remaining 62 bits are random. Because the most significant bytes are the timestamp,
+ * PostgreSQL's bytewise uuid ordering and {@link UUID#compareTo(UUID)} both follow creation order, which
+ * keeps primary key inserts at the right edge of the B-tree.
+ */
+public class UuidV7 {
+
+    private static final UuidV7 DEFAULT = new UuidV7(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    // A fresh millisecond starts the counter in its lower half so there is room to increment
+    private static final int COUNTER_SEED_BOUND = 1 << (COUNTER_BITS - 1);
+
+    private final LongSupplier millisClock;
+    private final SecureRandom random = new SecureRandom();
+    // Last issued (timestamp << 12 | counter)
+    private final AtomicLong last = new AtomicLong();
+
+    public UuidV7(LongSupplier millisClock) {
+        this.millisClock = millisClock;
+    }
+
+    /**
+     * @return The next identifier from the shared generator.
+     */
+    public static UUID next() {
+        return DEFAULT.generate();
+    }
+
+    public UUID generate() {
+        long now = millisClock.getAsLong();
+        long seed = random.nextInt(COUNTER_SEED_BOUND);
+        long current;
+        long candidate;
+        do {
+            current = last.get();
+            // Counter overflow carries into the timestamp, which stays ahead of the clock until it catches up
+            candidate = now > (current >>> COUNTER_BITS) ? (now << COUNTER_BITS) | seed : current + 1;
+        } while (!last.compareAndSet(current, candidate));
+
+        long timestamp = candidate >>> COUNTER_BITS;
+        long counter = candidate & COUNTER_MASK;
+        long mostSigBits = (timestamp << 16) | 0x7000L | counter;
+        long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * @return The Unix time in milliseconds encoded in a version 7 identifier.
+     */
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
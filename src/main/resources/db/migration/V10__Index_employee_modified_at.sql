@@ -0,0 +1,2 @@
+-- Restarted nodes reload the employees changed since their local snapshot was taken
+CREATE INDEX IF NOT EXISTS idx_employees_modified_at ON employees (modified_at);
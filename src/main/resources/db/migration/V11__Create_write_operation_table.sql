@@ -0,0 +1,22 @@
+-- Writes accepted with Prefer: respond-async. A row is stored before the 202 is sent and carries the
+-- operation's outcome once the writer has applied it, in the same transaction as the employee change,
+-- so an accepted write survives a restart and its status can be read on any node. The node that
+-- accepted a write holds a lease on it; pending writes whose lease ran out are taken over by another node.
+CREATE TABLE IF NOT EXISTS write_operation (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    -- The employee to update; for creates set once the employee has been created
+    employee_id UUID,
+    -- The submitted fields
+    employee JSONB NOT NULL,
+    failure VARCHAR(50),
+    lease_owner VARCHAR(64),
+    lease_expires_at TIMESTAMP,
+    submitted_at TIMESTAMP NOT NULL,
+    completed_at TIMESTAMP,
+    modified_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_write_operation_pending ON write_operation (submitted_at) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_write_operation_completed ON write_operation (completed_at) WHERE status <> 'PENDING';
@@ -0,0 +1,38 @@
+-- Align the employees table with the Employee entity so Hibernate can run with ddl-auto=validate.
+-- Earlier deployments relied on ddl-auto=update, which added the entity columns next to the
+-- original ones; fold those back together whichever state the table is in.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'employees' AND column_name = 'job_title') THEN
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'employees' AND column_name = 'position') THEN
+            UPDATE employees SET position = COALESCE(position, job_title);
+            ALTER TABLE employees DROP COLUMN job_title;
+        ELSE
+            ALTER TABLE employees RENAME COLUMN job_title TO position;
+        END IF;
+    END IF;
+
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'employees' AND column_name = 'updated_at') THEN
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_name = 'employees' AND column_name = 'modified_at') THEN
+            UPDATE employees SET modified_at = COALESCE(modified_at, updated_at);
+            ALTER TABLE employees DROP COLUMN updated_at;
+        ELSE
+            ALTER TABLE employees RENAME COLUMN updated_at TO modified_at;
+        END IF;
+    END IF;
+END $$;
+
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS version BIGINT;
+UPDATE employees SET version = 0 WHERE version IS NULL;
+
+UPDATE employees SET created_at = CURRENT_TIMESTAMP WHERE created_at IS NULL;
+UPDATE employees SET modified_at = created_at WHERE modified_at IS NULL;
+ALTER TABLE employees ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE employees ALTER COLUMN modified_at SET NOT NULL;
+
+-- hireDate is optional on EmployeeDto
+ALTER TABLE employees ALTER COLUMN hire_date DROP NOT NULL;
@@ -0,0 +1,15 @@
+-- Reporting line: each employee has at most one manager
+ALTER TABLE employees ADD COLUMN IF NOT EXISTS manager_id UUID REFERENCES employees (id);
+CREATE INDEX IF NOT EXISTS idx_employees_manager_id ON employees (manager_id);
+
+-- Closure table: one row for every (manager, report) pair at any distance, depth 1 being a direct report.
+-- Employees without a manager and without reports have no rows.
+CREATE TABLE IF NOT EXISTS employee_hierarchy (
+    ancestor_id UUID NOT NULL REFERENCES employees (id),
+    descendant_id UUID NOT NULL REFERENCES employees (id),
+    depth INT NOT NULL CHECK (depth > 0),
+    PRIMARY KEY (ancestor_id, descendant_id)
+);
+
+-- Subtree and headcount queries scan by ancestor (primary key), the management chain scans by descendant
+CREATE INDEX IF NOT EXISTS idx_employee_hierarchy_descendant ON employee_hierarchy (descendant_id, depth);
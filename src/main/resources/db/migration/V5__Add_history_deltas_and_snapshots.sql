@@ -0,0 +1,37 @@
+-- Structured history: the employee version each row produced, when that version became current
+-- (employees.modified_at, server time) and the changed fields with their new values
+ALTER TABLE employee_history ADD COLUMN IF NOT EXISTS version BIGINT;
+ALTER TABLE employee_history ADD COLUMN IF NOT EXISTS valid_from TIMESTAMP;
+ALTER TABLE employee_history ADD COLUMN IF NOT EXISTS delta JSONB;
+CREATE INDEX IF NOT EXISTS idx_employee_history_employee_version ON employee_history (employee_id, version);
+
+-- Full employee state, written on creation and then every app.history.snapshot-interval versions.
+-- Like employee_history it is written once the employee change has committed, in a transaction of its
+-- own, and a failed write leaves the change without its history rather than undoing it. There is no
+-- foreign key to employees, as for employee_history: the employee row exists by the time the snapshot
+-- is written, and the check would only add a lock on that row to every history write.
+CREATE TABLE IF NOT EXISTS employee_snapshot (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    employee_id UUID NOT NULL,
+    version BIGINT NOT NULL,
+    valid_from TIMESTAMP NOT NULL,
+    state JSONB NOT NULL,
+    CONSTRAINT uk_employee_snapshot_employee_version UNIQUE (employee_id, version)
+);
+
+-- Baseline snapshot of every existing employee; history older than this has no deltas to replay
+INSERT INTO employee_snapshot (employee_id, version, valid_from, state)
+SELECT e.id, e.version, e.modified_at, jsonb_build_object(
+        'firstName', e.first_name,
+        'lastName', e.last_name,
+        'phoneNumber', e.phone_number,
+        'position', e.position,
+        'department', e.department,
+        'email', e.email,
+        'salary', e.salary,
+        'hireDate', e.hire_date,
+        'managerId', e.manager_id,
+        'createdAt', e.created_at,
+        'modifiedAt', e.modified_at)
+FROM employees e
+ON CONFLICT (employee_id, version) DO NOTHING;
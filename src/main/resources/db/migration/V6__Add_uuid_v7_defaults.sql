@@ -0,0 +1,19 @@
+-- Time-ordered (version 7) UUIDs for rows inserted outside the application. The application assigns
+-- its own ids (see TimeOrderedUuid); these defaults only keep manual and bulk inserts in the same
+-- order instead of scattering random keys across the primary key indexes.
+-- Layout: 48-bit Unix time in milliseconds, version 7, then the random bits of a v4 UUID.
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+    SELECT encode(
+        set_bit(
+            set_bit(
+                overlay(uuid_send(gen_random_uuid())
+                        PLACING substring(int8send(floor(extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3)
+                        FROM 1 FOR 6),
+                52, 1),
+            53, 1),
+        'hex')::UUID;
+$$ LANGUAGE SQL VOLATILE;
+
+ALTER TABLE employees ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE employee_history ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE employee_snapshot ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,24 @@
+-- Background report jobs. The table is the queue of record: workers claim a job with a lease, write
+-- its output in chunks and checkpoint after each one, so any node can resume a job whose lease ran out.
+CREATE TABLE IF NOT EXISTS report_job (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    type VARCHAR(50) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    country_code VARCHAR(10) NOT NULL,
+    total_rows BIGINT,
+    processed_rows BIGINT NOT NULL DEFAULT 0,
+    -- Last source row written and the generator's running state as of that row
+    cursor_id UUID,
+    state JSONB,
+    -- Length of the output file at the last checkpoint; anything after it is rewritten on resume
+    output_bytes BIGINT NOT NULL DEFAULT 0,
+    error TEXT,
+    lease_owner VARCHAR(64),
+    lease_expires_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    finished_at TIMESTAMP,
+    modified_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_report_job_pending ON report_job (created_at) WHERE status IN ('QUEUED', 'RUNNING');
@@ -0,0 +1,12 @@
+-- Blocking keys for duplicate detection: each employee has a few coarse keys (phonetic name, normalized
+-- phone, last name plus hire date), and only employees sharing a key are compared. Keys are written
+-- during the flush of the employee change, possibly before a batched employee insert is sent, so like
+-- employee_history there is no foreign key to employees.
+CREATE TABLE IF NOT EXISTS employee_blocking_key (
+    blocking_key VARCHAR(64) NOT NULL,
+    employee_id UUID NOT NULL,
+    PRIMARY KEY (blocking_key, employee_id)
+);
+
+-- Key maintenance on update replaces an employee's keys; lookups by key use the primary key
+CREATE INDEX IF NOT EXISTS idx_employee_blocking_key_employee ON employee_blocking_key (employee_id);
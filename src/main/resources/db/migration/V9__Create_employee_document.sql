@@ -0,0 +1,14 @@
+-- Documents attached to employees (contracts, IDs, photos). The bytes live in the file-system content
+-- store under their SHA-256, so identical content is stored once however many rows refer to it.
+CREATE TABLE IF NOT EXISTS employee_document (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v7(),
+    employee_id UUID NOT NULL REFERENCES employees (id),
+    file_name VARCHAR(255) NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    size_bytes BIGINT NOT NULL,
+    sha256 CHAR(64) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+-- An employee's documents, newest first, and the lookup that makes a repeated upload a no-op
+CREATE INDEX IF NOT EXISTS idx_employee_document_employee ON employee_document (employee_id, created_at);
@@ -0,0 +1,118 @@
+package com.cercli.employee.aspect;
+
+import com.cercli.employee.annotation.RetryOnConflict;
+import com.cercli.employee.config.ConflictRetryProperties;
+import com.cercli.employee.exception.EmployeeUpdateConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConflictRetryAspectTest {
+
+    private static final UUID EMPLOYEE_ID = UUID.fromString("4f4b8a6f-c2c2-4f0f-a787-3b8b264e0d50");
+
+    private SimpleMeterRegistry meterRegistry;
+    private Writer target;
+    private Writer writer;
+
+    @BeforeEach
+    void setup() {
+        ConflictRetryProperties properties = new ConflictRetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setInitialBackoff(Duration.ofMillis(1));
+        properties.setMaxBackoff(Duration.ofMillis(5));
+        meterRegistry = new SimpleMeterRegistry();
+        target = new Writer();
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new ConflictRetryAspect(properties, new StaticMessageSource(), meterRegistry));
+        writer = factory.getProxy();
+    }
+
+    @Test
+    void retryOnConflict_ShouldRetryUntilSuccess_WhenConflictsAreTransient() {
+        target.conflictsLeft.set(2);
+
+        assertEquals("updated", writer.update(EMPLOYEE_ID));
+
+        assertEquals(3, target.calls.get());
+        assertEquals(2, meterRegistry.counter("employee.update.conflicts", "operation", "update").count());
+        assertEquals(2, meterRegistry.counter("employee.update.retries", "operation", "update").count());
+    }
+
+    @Test
+    void retryOnConflict_ShouldThrowConflict_WhenAttemptsAreExhausted() {
+        target.conflictsLeft.set(10);
+
+        assertThrows(EmployeeUpdateConflictException.class, () -> writer.update(EMPLOYEE_ID));
+
+        assertEquals(3, target.calls.get());
+        assertEquals(1, meterRegistry.counter("employee.update.conflicts.exhausted", "operation", "update").count());
+    }
+
+    @Test
+    void retryOnConflict_ShouldNotRetry_WhenCallerTransactionIsActive() {
+        target.conflictsLeft.set(1);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThrows(OptimisticLockingFailureException.class, () -> writer.update(EMPLOYEE_ID));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        assertEquals(1, target.calls.get());
+    }
+
+    @Test
+    void retryOnConflict_ShouldSerializeWrites_ToTheSameEmployee() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> writer.update(EMPLOYEE_ID)));
+            }
+            for (Future<String> result : results) {
+                assertEquals("updated", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, target.maxConcurrent.get());
+    }
+
+    static class Writer {
+
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger conflictsLeft = new AtomicInteger();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        @RetryOnConflict
+        public String update(UUID employeeId) {
+            calls.incrementAndGet();
+            maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.onSpinWait();
+                if (conflictsLeft.getAndDecrement() > 0) {
+                    throw new OptimisticLockingFailureException("Row was updated by another transaction");
+                }
+                return "updated";
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
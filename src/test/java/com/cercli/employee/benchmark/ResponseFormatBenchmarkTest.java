@@ -0,0 +1,89 @@
+package com.cercli.employee.benchmark;
+
+import com.cercli.employee.dto.ApiResponse;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Payload size and serialization CPU of a large employee list page as JSON and CBOR, with and
+ * without gzip. Run with {@code mvn test -Pbenchmark}; end-to-end latency against a running
+ * instance is measured by {@code bench/format-benchmark.sh}.
+ */
+@Tag("benchmark")
+public class ResponseFormatBenchmarkTest {
+
+    private static final int ROWS = 500;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    void compareFormats() throws IOException {
+        ApiResponse<List<EmployeeResponseDto>> page = new ApiResponse<>(200, "Fetched all employees successfully.", rows());
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.json().factory(new CBORFactory()).build();
+
+        System.out.printf("%-6s %10s %10s %14s %14s%n", "format", "bytes", "gzip bytes", "write us/op", "read us/op");
+        for (var format : List.of(new Object[]{"json", json}, new Object[]{"cbor", cbor})) {
+            ObjectMapper mapper = (ObjectMapper) format[1];
+            byte[] bytes = mapper.writeValueAsBytes(page);
+            double writeMicros = cpuMicrosPerOp(() -> mapper.writeValueAsBytes(page));
+            double readMicros = cpuMicrosPerOp(() -> mapper.readTree(bytes));
+            System.out.printf("%-6s %10d %10d %14.1f %14.1f%n", format[0], bytes.length, gzip(bytes).length, writeMicros, readMicros);
+            assertTrue(bytes.length > 0);
+        }
+    }
+
+    private double cpuMicrosPerOp(IoAction action) throws IOException {
+        for (int i = 0; i < WARMUP; i++) {
+            action.run();
+        }
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.run();
+        }
+        return (threads.getCurrentThreadCpuTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static List<EmployeeResponseDto> rows() {
+        List<EmployeeResponseDto> rows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 8, 0);
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new EmployeeResponseDto(UUID.randomUUID(), "First" + i, "Last" + i, "+23480" + (10_000_000 + i),
+                    "Software Engineer", "Engineering", "first.last" + i + "@example.com", 5000f + i,
+                    LocalDate.of(2020, 1, 1).plusDays(i), now.minusDays(i), now, UUID.randomUUID()));
+        }
+        return rows;
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
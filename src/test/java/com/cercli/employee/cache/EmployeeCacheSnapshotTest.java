@@ -0,0 +1,97 @@
+package com.cercli.employee.cache;
+
+import com.cercli.employee.config.CacheProperties;
+import com.cercli.employee.config.SnapshotProperties;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.snapshot.SnapshotParticipant;
+import com.cercli.employee.snapshot.SnapshotService;
+import com.cercli.employee.util.DateUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeCacheSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 11, 12, 0);
+    private static final UUID UNCHANGED_ID = UUID.fromString("4f4b8a6f-c2c2-4f0f-a787-3b8b264e0d50");
+    private static final UUID CHANGED_ID = UUID.fromString("9a1c3e55-6d0b-4f4e-9b7e-0c2f1d8e7a61");
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private ClusterInvalidationBus invalidationBus;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DateUtil dateUtil;
+
+    @Mock
+    private ObjectProvider<SnapshotParticipant> participants;
+
+    private SnapshotService snapshots;
+    private SnapshotProperties snapshotProperties;
+
+    @BeforeEach
+    void setup() {
+        snapshotProperties = new SnapshotProperties();
+        snapshotProperties.setDirectory(directory.toString());
+        lenient().when(dateUtil.toServerTime(any(LocalDateTime.class))).thenReturn(NOW);
+        lenient().when(invalidationBus.isConnected()).thenReturn(true);
+        snapshots = new SnapshotService(snapshotProperties, dateUtil, participants);
+    }
+
+    @Test
+    void preload_ShouldRestoreSnapshotEntries_ExceptEmployeesModifiedSince() {
+        EmployeeCache before = new EmployeeCache(new CacheProperties(), invalidationBus);
+        before.put(UNCHANGED_ID, "NG", employee(UNCHANGED_ID), before.generation());
+        before.put(UNCHANGED_ID, "US", employee(UNCHANGED_ID), before.generation());
+        before.put(CHANGED_ID, "NG", employee(CHANGED_ID), before.generation());
+        new EmployeeCacheSnapshot(before, employeeRepository, snapshots, new CacheProperties()).writeSnapshot(snapshots);
+
+        EmployeeCache after = new EmployeeCache(new CacheProperties(), invalidationBus);
+        when(employeeRepository.findIdsModifiedSince(NOW.minus(snapshotProperties.getReconcileOverlap())))
+                .thenReturn(Set.of(CHANGED_ID));
+        int loaded = new EmployeeCacheSnapshot(after, employeeRepository, snapshots, new CacheProperties()).preload(100);
+
+        assertEquals(2, loaded);
+        assertEquals(employee(UNCHANGED_ID), after.get(UNCHANGED_ID, "NG"));
+        assertEquals(employee(UNCHANGED_ID), after.get(UNCHANGED_ID, "US"));
+        assertNull(after.get(CHANGED_ID, "NG"));
+    }
+
+    @Test
+    void writeSnapshot_ShouldSkip_WhenCacheIsNotUsable() {
+        EmployeeCache cache = new EmployeeCache(new CacheProperties(), invalidationBus);
+        cache.put(UNCHANGED_ID, "NG", employee(UNCHANGED_ID), cache.generation());
+        when(invalidationBus.isConnected()).thenReturn(false);
+
+        new EmployeeCacheSnapshot(cache, employeeRepository, snapshots, new CacheProperties()).writeSnapshot(snapshots);
+
+        assertTrue(snapshots.read(EmployeeCacheSnapshot.NAME, EmployeeCacheSnapshot.CODEC, 100).isEmpty());
+        verifyNoInteractions(employeeRepository);
+    }
+
+    private static EmployeeResponseDto employee(UUID id) {
+        return new EmployeeResponseDto(id, "Ada", "Lovelace", "0000000000", "Engineer", "IT", "ada@example.com",
+                1000f, LocalDate.of(2020, 1, 1), NOW.minusDays(1), NOW.minusHours(1), null);
+    }
+}
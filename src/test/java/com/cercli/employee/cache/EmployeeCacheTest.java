@@ -0,0 +1,81 @@
+package com.cercli.employee.cache;
+
+import com.cercli.employee.config.CacheProperties;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.event.EmployeeInvalidationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeCacheTest {
+
+    private static final UUID EMPLOYEE_ID = UUID.fromString("4f4b8a6f-c2c2-4f0f-a787-3b8b264e0d50");
+
+    @Mock
+    private ClusterInvalidationBus invalidationBus;
+
+    private EmployeeCache employeeCache;
+
+    @BeforeEach
+    public void setup() {
+        employeeCache = new EmployeeCache(new CacheProperties(), invalidationBus);
+    }
+
+    @Test
+    void get_ShouldReturnStoredEmployee_PerCountryCode() {
+        when(invalidationBus.isConnected()).thenReturn(true);
+        EmployeeResponseDto employee = employee();
+
+        employeeCache.put(EMPLOYEE_ID, "NG", employee, employeeCache.generation());
+
+        assertSame(employee, employeeCache.get(EMPLOYEE_ID, "NG"));
+        assertNull(employeeCache.get(EMPLOYEE_ID, "US"));
+    }
+
+    @Test
+    void onInvalidation_ShouldDropEmployee_ForEveryCountryCode() {
+        when(invalidationBus.isConnected()).thenReturn(true);
+        employeeCache.put(EMPLOYEE_ID, "NG", employee(), employeeCache.generation());
+        employeeCache.put(EMPLOYEE_ID, "US", employee(), employeeCache.generation());
+
+        employeeCache.onInvalidation(new EmployeeInvalidationEvent(this, EMPLOYEE_ID, true));
+
+        assertNull(employeeCache.get(EMPLOYEE_ID, "NG"));
+        assertNull(employeeCache.get(EMPLOYEE_ID, "US"));
+    }
+
+    @Test
+    void put_ShouldRefuseValue_WhenInvalidatedWhileLoading() {
+        when(invalidationBus.isConnected()).thenReturn(true);
+        long generation = employeeCache.generation();
+
+        employeeCache.onInvalidation(new EmployeeInvalidationEvent(this, EMPLOYEE_ID, false));
+        employeeCache.put(EMPLOYEE_ID, "NG", employee(), generation);
+
+        assertNull(employeeCache.get(EMPLOYEE_ID, "NG"));
+    }
+
+    @Test
+    void get_ShouldBypassCache_WhenInvalidationBusIsDisconnected() {
+        when(invalidationBus.isConnected()).thenReturn(true);
+        employeeCache.put(EMPLOYEE_ID, "NG", employee(), employeeCache.generation());
+
+        when(invalidationBus.isConnected()).thenReturn(false);
+
+        assertFalse(employeeCache.isUsable());
+        assertNull(employeeCache.get(EMPLOYEE_ID, "NG"));
+    }
+
+    private EmployeeResponseDto employee() {
+        return new EmployeeResponseDto(EMPLOYEE_ID, "John", "Doe", "123456789", "Developer", "IT",
+                "john.doe@example.com", 5000f, null, null, null, null);
+    }
+}
@@ -0,0 +1,95 @@
+package com.cercli.employee.config;
+
+import com.cercli.employee.controller.EmployeeController;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.service.EmployeeServiceImpl;
+import com.cercli.employee.util.EntityContextUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+public class ContentNegotiationConfigTest {
+
+    private static final MediaType APPLICATION_CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Mock
+    private EmployeeServiceImpl employeeService;
+
+    @Mock
+    private EntityContextUtils entityContextUtils;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private EmployeeController employeeController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(employeeController)
+                .setMessageConverters(
+                        new MappingJackson2HttpMessageConverter(bootObjectMapperBuilder().build()),
+                        new ContentNegotiationConfig().cborHttpMessageConverter(bootObjectMapperBuilder()))
+                .build();
+        when(messageSource.getMessage(anyString(), nullable(Object[].class), any(Locale.class)))
+                .thenReturn("Fetched all employees successfully.");
+        when(entityContextUtils.getCountryCode()).thenReturn("US");
+        when(employeeService.getAllEmployees(0, 10, "US")).thenReturn(List.of(new EmployeeResponseDto(
+                UUID.randomUUID(), "John", "Doe", "123456789", "Developer", "IT", "john.doe@example.com", 5000f,
+                LocalDate.of(2020, 1, 1), LocalDateTime.of(2024, 1, 1, 8, 0), LocalDateTime.of(2024, 1, 1, 8, 0), null)));
+    }
+
+    @Test
+    void getAllEmployees_ShouldReturnCbor_WhenClientAcceptsCbor() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/employees").accept(APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(APPLICATION_CBOR))
+                .andReturn();
+
+        JsonNode body = new ObjectMapper(new CBORFactory()).readTree(result.getResponse().getContentAsByteArray());
+        assertEquals("John", body.path("data").path(0).path("firstName").asText());
+        assertEquals("2024-01-01T08:00:00", body.path("data").path(0).path("createdAt").asText());
+    }
+
+    @Test
+    void getAllEmployees_ShouldReturnJson_WhenClientAcceptsJson() throws Exception {
+        mockMvc.perform(get("/api/employees").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    // Dates as ISO strings, as configured by Spring Boot's Jackson auto-configuration
+    private static Jackson2ObjectMapperBuilder bootObjectMapperBuilder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -2,6 +2,7 @@ package com.cercli.employee.controller;
 
 import com.cercli.employee.dto.ApiResponse;
 import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.EmployeeField;
 import com.cercli.employee.dto.EmployeeResponseDto;
 import com.cercli.employee.service.EmployeeServiceImpl;
 import com.cercli.employee.util.EntityContextUtils;
@@ -13,12 +14,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -56,7 +63,7 @@ public class EmployeeControllerIntegrationTest {
     @Test
     void addEmployee_ShouldReturnApiResponse_WhenEmployeeAddedSuccessfully() throws Exception {
         EmployeeDto employeeDto = new EmployeeDto("John", "Doe", "123456789", "Developer", "IT", "john.doe@example.com", 5000f, null);
-        EmployeeResponseDto responseDto = new EmployeeResponseDto(UUID.randomUUID(), "John", "Doe", "123456789", "Developer", "IT", "john.doe@example.com", 5000f, null, null, null);
+        EmployeeResponseDto responseDto = new EmployeeResponseDto(UUID.randomUUID(), "John", "Doe", "123456789", "Developer", "IT", "john.doe@example.com", 5000f, null, null, null, null);
         ApiResponse<EmployeeResponseDto> apiResponse = new ApiResponse<>(200, "Employee added successfully", responseDto);
         when(messageSource.getMessage(anyString(), nullable(Object[].class), any(Locale.class)))
                 .thenReturn("Employee added successfully");
@@ -85,7 +92,7 @@ public class EmployeeControllerIntegrationTest {
 
     @Test
     void getEmployee_ShouldReturnApiResponse_WhenEmployeeExists() throws Exception {
-        EmployeeResponseDto responseDto = new EmployeeResponseDto(UUID.randomUUID(), "John", "Doe", "123456789", "Developer", "IT", "john.doe@example.com", 5000f, null, null, null);
+        EmployeeResponseDto responseDto = new EmployeeResponseDto(UUID.randomUUID(), "John", "Doe", "123456789", "Developer", "IT", "john.doe@example.com", 5000f, null, null, null, null);
         ApiResponse<EmployeeResponseDto> apiResponse = new ApiResponse<>(200, "Employee retrieved successfully", responseDto);
 
         when(messageSource.getMessage(anyString(), nullable(Object[].class), any(Locale.class)))
@@ -101,4 +108,62 @@ public class EmployeeControllerIntegrationTest {
                 .andExpect(jsonPath("$.data.firstName").value("John"))
                 .andExpect(jsonPath("$.data.lastName").value("Doe"));
     }
+
+    @Test
+    void getAllEmployees_ShouldReturnOnlyRequestedFields_WhenFieldsParameterGiven() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", EMPLOYEE_ID);
+        row.put("firstName", "John");
+        row.put("email", "john.doe@example.com");
+
+        when(messageSource.getMessage(anyString(), nullable(Object[].class), any(Locale.class)))
+                .thenReturn("Employees retrieved successfully");
+        when(entityContextUtils.getCountryCode()).thenReturn("US");
+        when(employeeService.getAllEmployeeFields(eq(0), eq(10),
+                eq(EnumSet.of(EmployeeField.ID, EmployeeField.FIRST_NAME, EmployeeField.EMAIL)), eq("US")))
+                .thenReturn(List.of(row));
+
+        mockMvc.perform(get("/api/employees").param("fields", "firstName, email"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(EMPLOYEE_ID.toString()))
+                .andExpect(jsonPath("$.data[0].firstName").value("John"))
+                .andExpect(jsonPath("$.data[0].email").value("john.doe@example.com"))
+                .andExpect(jsonPath("$.data[0].lastName").doesNotExist())
+                .andExpect(jsonPath("$.data[0].salary").doesNotExist());
+    }
+
+    @Test
+    void getEmployee_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        EmployeeResponseDto responseDto = new EmployeeResponseDto(EMPLOYEE_ID, "John", "Doe", "123456789", "Developer", "IT", "john.doe@example.com", 5000f, null, null, null, null);
+        when(messageSource.getMessage(anyString(), nullable(Object[].class), any(Locale.class)))
+                .thenReturn("Employee retrieved successfully");
+        when(entityContextUtils.getCountryCode()).thenReturn("US");
+        when(employeeService.getEmployee(eq(EMPLOYEE_ID), anyString())).thenReturn(Optional.of(responseDto));
+
+        String etag = mockMvc.perform(get("/api/employees/{id}", EMPLOYEE_ID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/employees/{id}", EMPLOYEE_ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        responseDto.setPosition("Senior Developer");
+        mockMvc.perform(get("/api/employees/{id}", EMPLOYEE_ID).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.position").value("Senior Developer"));
+    }
+
+    @Test
+    void getEmployeesByIds_ShouldLookUpDistinctIdsInOneCall() throws Exception {
+        UUID otherId = UUID.fromString("9a1c3e55-6d0b-4f4e-9b7e-0c2f1d8e7a61");
+        EmployeeResponseDto responseDto = new EmployeeResponseDto(EMPLOYEE_ID, "John", "Doe", "123456789", "Developer", "IT", "john.doe@example.com", 5000f, null, null, null, null);
+        when(messageSource.getMessage(anyString(), nullable(Object[].class), any(Locale.class)))
+                .thenReturn("Employees retrieved successfully");
+        when(entityContextUtils.getCountryCode()).thenReturn("US");
+        when(employeeService.getEmployees(eq(Set.of(EMPLOYEE_ID, otherId)), eq("US"))).thenReturn(List.of(responseDto));
+
+        mockMvc.perform(get("/api/employees").param("ids", EMPLOYEE_ID + "," + otherId + "," + EMPLOYEE_ID))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].id").value(EMPLOYEE_ID.toString()));
+    }
 }
@@ -0,0 +1,131 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.contracts.EmployeeDocumentService;
+import com.cercli.employee.documents.DocumentContent;
+import com.cercli.employee.dto.EmployeeDocumentDto;
+import com.cercli.employee.exception.DocumentNotFoundException;
+import com.cercli.employee.exception.DocumentTooLargeException;
+import com.cercli.employee.exception.EmployeeNotFoundException;
+import com.cercli.employee.exception.GlobalExceptionHandler;
+import com.cercli.employee.util.EntityContextUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeDocumentControllerTest {
+
+    private static final UUID EMPLOYEE_ID = UUID.fromString("4f4b8a6f-c2c2-4f0f-a787-3b8b264e0d50");
+    private static final UUID DOCUMENT_ID = UUID.fromString("0190f4c8-1a2b-7c3d-8e4f-5a6b7c8d9e0f");
+    // SHA-256 of "hello world"
+    private static final String HELLO_SHA256 = "b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9";
+
+    @Mock
+    private EmployeeDocumentService documentService;
+
+    @Mock
+    private EntityContextUtils entityContextUtils;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private EmployeeDocumentController documentController;
+
+    @TempDir
+    Path storageDirectory;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        mockMvc = MockMvcBuilders.standaloneSetup(documentController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void addDocument_ShouldReturnCreated_WithNameFromContentDisposition() throws Exception {
+        EmployeeDocumentDto document = new EmployeeDocumentDto(DOCUMENT_ID, EMPLOYEE_ID, "contract.pdf", "application/pdf",
+                11, HELLO_SHA256, null);
+        when(messageSource.getMessage(anyString(), nullable(Object[].class), any(Locale.class))).thenReturn("Document uploaded.");
+        when(entityContextUtils.getCountryCode()).thenReturn("US");
+        when(documentService.addDocument(eq(EMPLOYEE_ID), eq("contract.pdf"), eq("application/pdf"), any(InputStream.class), eq("US")))
+                .thenReturn(document);
+
+        mockMvc.perform(post("/api/employees/{id}/documents", EMPLOYEE_ID)
+                        .contentType("application/pdf")
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"contract.pdf\"")
+                        .content("hello world"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/employees/" + EMPLOYEE_ID + "/documents/" + DOCUMENT_ID))
+                .andExpect(jsonPath("$.data.sha256").value(HELLO_SHA256));
+    }
+
+    @Test
+    void addDocument_ShouldReturnNotFound_WhenEmployeeDoesNotExist() throws Exception {
+        when(entityContextUtils.getCountryCode()).thenReturn("US");
+        when(documentService.addDocument(eq(EMPLOYEE_ID), any(), any(), any(InputStream.class), any()))
+                .thenThrow(new EmployeeNotFoundException("Employee not found with ID: " + EMPLOYEE_ID));
+
+        mockMvc.perform(post("/api/employees/{id}/documents", EMPLOYEE_ID)
+                        .contentType("application/pdf")
+                        .content("hello world"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void addDocument_ShouldReturnPayloadTooLarge_WhenContentExceedsMaxSize() throws Exception {
+        when(entityContextUtils.getCountryCode()).thenReturn("US");
+        when(documentService.addDocument(eq(EMPLOYEE_ID), any(), any(), any(InputStream.class), any()))
+                .thenThrow(new DocumentTooLargeException("Documents may be at most 16 bytes."));
+
+        mockMvc.perform(post("/api/employees/{id}/documents", EMPLOYEE_ID)
+                        .contentType("application/pdf")
+                        .content("more than sixteen bytes"))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.error").value("Documents may be at most 16 bytes."));
+    }
+
+    @Test
+    void downloadDocument_ShouldSendContentWithHashAsETag() throws Exception {
+        Path file = Files.writeString(storageDirectory.resolve(HELLO_SHA256), "hello world", StandardCharsets.UTF_8);
+        when(documentService.getDocumentContent(EMPLOYEE_ID, DOCUMENT_ID))
+                .thenReturn(new DocumentContent("contract.pdf", "application/pdf", 11, HELLO_SHA256, file));
+
+        mockMvc.perform(get("/api/employees/{id}/documents/{documentId}", EMPLOYEE_ID, DOCUMENT_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + HELLO_SHA256 + "\""))
+                .andExpect(content().string("hello world"));
+    }
+
+    @Test
+    void downloadDocument_ShouldReturnNotFound_WhenDocumentDoesNotExist() throws Exception {
+        when(documentService.getDocumentContent(EMPLOYEE_ID, DOCUMENT_ID))
+                .thenThrow(new DocumentNotFoundException("Document not found."));
+
+        mockMvc.perform(get("/api/employees/{id}/documents/{documentId}", EMPLOYEE_ID, DOCUMENT_ID))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,182 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.support.QueryPlans;
+import com.cercli.employee.support.SqlCapture;
+import com.cercli.employee.support.SqlCaptureConfiguration;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements and connection checkouts behind each employee endpoint, and checks that
+ * the lookups they issue are served by an index once the tables hold a realistic number of rows.
+ * <p>
+ * Caches and read coalescing are switched off so every request reaches the database. When a count changes
+ * on purpose, update the expectation together with the breakdown next to it. Needs the PostgreSQL database
+ * configured in application.yml; run with {@code mvn test -Pdatabase}.
+ */
+@Tag("database")
+@SpringBootTest(properties = {
+        "app.warmup.enabled=false",
+        "app.coalescing.enabled=false",
+        "app.cache.employee.enabled=false",
+        "app.cache.listPages.enabled=false",
+        "app.duplicates.backfillOnStartup=false"
+})
+@AutoConfigureMockMvc
+@Import(SqlCaptureConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EmployeeEndpointSqlTest {
+
+    private static final int SEEDED_EMPLOYEES = 5000;
+
+    private final String emailPrefix = "sql-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private UUID seededId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO employees (first_name, last_name, email, phone_number, position, department, salary,
+                                       hire_date, created_at, modified_at, version)
+                SELECT 'Seed', 'Employee ' || g, ? || g || '@example.com', '0000000000', 'Engineer',
+                       'Department ' || (g % 20), 1000 + g, CURRENT_DATE, now(), now(), 0
+                FROM generate_series(1, ?) AS g""", emailPrefix, SEEDED_EMPLOYEES);
+        jdbcTemplate.update("""
+                INSERT INTO employee_history (employee_id, change_type, changes, timestamp, version, valid_from, delta)
+                SELECT id, 'CREATED', 'seed', now(), 0, modified_at, '{}'::jsonb FROM employees WHERE email LIKE ?""",
+                emailPrefix + "%");
+        jdbcTemplate.update("""
+                INSERT INTO employee_snapshot (employee_id, version, valid_from, state)
+                SELECT id, 0, modified_at, '{}'::jsonb FROM employees WHERE email LIKE ?""", emailPrefix + "%");
+        jdbcTemplate.update("""
+                INSERT INTO employee_blocking_key (blocking_key, employee_id)
+                SELECT 'N:SEED:' || id, id FROM employees WHERE email LIKE ?""", emailPrefix + "%");
+        jdbcTemplate.execute("ANALYZE employees");
+        jdbcTemplate.execute("ANALYZE employee_history");
+        jdbcTemplate.execute("ANALYZE employee_snapshot");
+        jdbcTemplate.execute("ANALYZE employee_blocking_key");
+        seededId = jdbcTemplate.queryForObject("SELECT id FROM employees WHERE email = ?", UUID.class,
+                emailPrefix + "1@example.com");
+    }
+
+    @AfterAll
+    void cleanUp() {
+        String seeded = "SELECT id FROM employees WHERE email LIKE ?";
+        jdbcTemplate.update("DELETE FROM employee_blocking_key WHERE employee_id IN (" + seeded + ")", emailPrefix + "%");
+        jdbcTemplate.update("DELETE FROM employee_snapshot WHERE employee_id IN (" + seeded + ")", emailPrefix + "%");
+        jdbcTemplate.update("DELETE FROM employee_history WHERE employee_id IN (" + seeded + ")", emailPrefix + "%");
+        jdbcTemplate.update("DELETE FROM employees WHERE email LIKE ?", emailPrefix + "%");
+    }
+
+    @Test
+    void getEmployee_ShouldUseOneIndexedSelectOnOneConnection() throws Exception {
+        SqlCapture.Recording recording = perform(get("/api/employees/{id}", seededId));
+
+        assertCounts(recording, 1, 1);
+        assertNoSequentialScans(recording.selects());
+    }
+
+    @Test
+    void getAllEmployees_ShouldSelectPageAndCount_WhenFirstPageIsFull() throws Exception {
+        SqlCapture.Recording recording = perform(get("/api/employees").param("page", "0").param("size", "10"));
+
+        // Page query + count(*) for the total, which Spring Data skips only when the first page is not full
+        assertCounts(recording, 2, 1);
+    }
+
+    @Test
+    void getEmployeesAfter_ShouldUseOneIndexedRangeScan() throws Exception {
+        SqlCapture.Recording recording = perform(get("/api/employees").param("after", seededId.toString()).param("size", "10"));
+
+        assertCounts(recording, 1, 1);
+        assertNoSequentialScans(recording.selects());
+    }
+
+    @Test
+    void addEmployee_ShouldWriteEmployeeHistoryAndSnapshotInTwoTransactions() throws Exception {
+        EmployeeDto employeeDto = new EmployeeDto("Sql", "Count", "0000000000", "Engineer", "IT",
+                emailPrefix + "added@example.com", 1000f, LocalDate.now());
+
+        SqlCapture.Recording recording = perform(post("/api/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(employeeDto)));
+
+        // Request transaction: findByEmail pre-check, duplicate block lookup (no candidates, so no load),
+        // insert employee, insert blocking keys, pg_notify.
+        // History transaction (REQUIRES_NEW after the commit, second connection): snapshot lookup, insert history, insert snapshot.
+        assertCounts(recording, 8, 2);
+        assertNoSequentialScans(recording.selects());
+    }
+
+    @Test
+    void updateEmployee_ShouldWriteEmployeeAndHistoryInTwoTransactions() throws Exception {
+        EmployeeDto change = new EmployeeDto(null, null, null, "Senior Engineer", null, null, null, null);
+
+        SqlCapture.Recording recording = perform(put("/api/employees/{id}", seededId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(change)));
+
+        // Request transaction: select, versioned update, pg_notify; no keyed field changed, so no key writes.
+        // History transaction (REQUIRES_NEW after the commit, second connection): insert history; no snapshot below the interval.
+        assertCounts(recording, 4, 2);
+        assertNoSequentialScans(recording.selects());
+    }
+
+    private SqlCapture.Recording perform(RequestBuilder request) throws Exception {
+        try (SqlCapture.Recording recording = SqlCapture.start()) {
+            mockMvc.perform(request).andExpect(status().isOk());
+            return recording;
+        }
+    }
+
+    private void assertCounts(SqlCapture.Recording recording, int statements, int connections) {
+        assertAll(
+                () -> assertEquals(statements, recording.statements().size(), "statements:" + recording.describe()),
+                () -> assertEquals(connections, recording.connections(), "connection checkouts"));
+    }
+
+    // pg_notify and other function calls read no table and are skipped
+    private void assertNoSequentialScans(List<SqlCapture.CapturedStatement> selects) {
+        List<String> scans = new ArrayList<>();
+        for (SqlCapture.CapturedStatement select : selects) {
+            if (select.sql().toLowerCase().contains(" from ")) {
+                QueryPlans.sequentialScans(jdbcTemplate, select)
+                        .forEach(relation -> scans.add(relation + " <- " + select.sql()));
+            }
+        }
+        assertTrue(scans.isEmpty(), () -> "sequential scans:" + scans.stream()
+                .map(scan -> System.lineSeparator() + "  " + scan).reduce("", String::concat));
+    }
+}
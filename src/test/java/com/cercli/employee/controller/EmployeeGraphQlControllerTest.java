@@ -0,0 +1,147 @@
+package com.cercli.employee.controller;
+
+import com.cercli.employee.config.GraphQlConfig;
+import com.cercli.employee.config.GraphQlLimitsProperties;
+import com.cercli.employee.config.InternationalizationProperties;
+import com.cercli.employee.contracts.EmployeeGraphService;
+import com.cercli.employee.contracts.EmployeeService;
+import com.cercli.employee.dto.EmployeeHistoryDto;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.graphql.GraphQlTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.graphql.ExecutionGraphQlService;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.graphql.server.WebGraphQlHandler;
+import org.springframework.graphql.server.WebGraphQlInterceptor;
+import org.springframework.graphql.test.tester.WebGraphQlTester;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@GraphQlTest(EmployeeGraphQlController.class)
+@Import({GraphQlConfig.class, GraphQlLimitsProperties.class, InternationalizationProperties.class})
+public class EmployeeGraphQlControllerTest {
+
+    @MockBean
+    private EmployeeService employeeService;
+
+    @MockBean
+    private EmployeeGraphService employeeGraphService;
+
+    @Autowired
+    private ExecutionGraphQlService graphQlService;
+
+    @Autowired
+    private WebGraphQlInterceptor entityCodeInterceptor;
+
+    private WebGraphQlTester graphQlTester;
+
+    @BeforeEach
+    void setup() {
+        WebGraphQlHandler handler = WebGraphQlHandler.builder(graphQlService).interceptor(entityCodeInterceptor).build();
+        graphQlTester = WebGraphQlTester.builder(handler).build();
+    }
+
+    @Test
+    void history_ShouldLoadAllEmployeesInOneBatch_WhenPageHasManyEmployees() {
+        List<EmployeeResponseDto> employees = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            employees.add(employee(UUID.randomUUID(), null));
+        }
+        when(employeeService.getAllEmployees(eq(0), eq(100), anyString())).thenReturn(employees);
+        when(employeeGraphService.getHistory(anyCollection(), anyInt(), anyString())).thenAnswer(invocation -> {
+            Map<UUID, List<EmployeeHistoryDto>> history = new HashMap<>();
+            for (UUID id : invocation.<Collection<UUID>>getArgument(0)) {
+                history.put(id, List.of(new EmployeeHistoryDto(UUID.randomUUID(), id, "CREATED", 0L, "created", LocalDateTime.now())));
+            }
+            return history;
+        });
+
+        graphQlTester.document("{ employees(size: 100) { id history { changeType version } } }")
+                .execute()
+                .path("employees[*].history[*].changeType").entityList(String.class).hasSize(100);
+
+        verify(employeeGraphService, times(1)).getHistory(argThat(ids -> ids.size() == 100), eq(20), anyString());
+    }
+
+    @Test
+    void manager_ShouldLoadSharedManagerOnce_WhenEmployeesReportToSameManager() {
+        UUID managerId = UUID.randomUUID();
+        when(employeeService.getAllEmployees(eq(0), eq(20), anyString()))
+                .thenReturn(List.of(employee(UUID.randomUUID(), managerId), employee(UUID.randomUUID(), managerId), employee(UUID.randomUUID(), null)));
+        when(employeeGraphService.getEmployees(anyCollection(), anyString()))
+                .thenReturn(Map.of(managerId, employee(managerId, null)));
+
+        graphQlTester.document("{ employees { id manager { id } } }")
+                .execute()
+                .path("employees[0].manager.id").entity(UUID.class).isEqualTo(managerId)
+                .path("employees[2].manager").valueIsNull();
+
+        verify(employeeGraphService, times(1)).getEmployees(eq(Set.of(managerId)), anyString());
+    }
+
+    @Test
+    void employee_ShouldUseDefaultCountryCode_WhenRequestHasNoEntityCode() {
+        UUID id = UUID.randomUUID();
+        when(employeeService.getEmployee(eq(id), anyString())).thenReturn(Optional.of(employee(id, null)));
+
+        graphQlTester.document("query($id: ID!) { employee(id: $id) { id } }")
+                .variable("id", id)
+                .execute()
+                .path("employee.id").entity(UUID.class).isEqualTo(id);
+
+        // app.internationalization.defaultCountryCode
+        verify(employeeService).getEmployee(id, "US");
+    }
+
+    @Test
+    void query_ShouldBeRejectedBeforeFetching_WhenDeeperThanLimit() {
+        graphQlTester.document("{ employees { manager { manager { manager { manager { manager { manager { manager { id } } } } } } } } }")
+                .execute()
+                .errors().satisfy(errors -> assertFalse(errors.isEmpty()));
+
+        verifyNoInteractions(employeeService, employeeGraphService);
+    }
+
+    @Test
+    void query_ShouldBeRejectedBeforeFetching_WhenTooComplex() {
+        graphQlTester.document("{ employees(size: 100) { directReports { directReports { history { changes } } } } }")
+                .execute()
+                .errors().satisfy(errors -> assertFalse(errors.isEmpty()));
+
+        verifyNoInteractions(employeeService, employeeGraphService);
+    }
+
+    @Test
+    void employees_ShouldReturnBadRequestError_WhenPageIsNegative() {
+        graphQlTester.document("{ employees(page: -1) { id } }")
+                .execute()
+                .errors().satisfy(errors -> {
+                    assertEquals(1, errors.size());
+                    assertEquals(ErrorType.BAD_REQUEST, errors.get(0).getErrorType());
+                    assertEquals("page must not be negative and size must be positive", errors.get(0).getMessage());
+                });
+
+        verifyNoInteractions(employeeService);
+    }
+
+    private static EmployeeResponseDto employee(UUID id, UUID managerId) {
+        return new EmployeeResponseDto(id, "Ada", "Lovelace", "0000000000", "Engineer", "IT",
+                id + "@example.com", 1000f, null, null, null, managerId);
+    }
+}
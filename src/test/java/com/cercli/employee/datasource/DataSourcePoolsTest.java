@@ -0,0 +1,135 @@
+package com.cercli.employee.datasource;
+
+import com.cercli.employee.annotation.UseDataSource;
+import com.cercli.employee.aspect.DataSourceRouteAspect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class DataSourcePoolsTest {
+
+    private final Map<DataSourceRoute, DataSource> pools = new EnumMap<>(DataSourceRoute.class);
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            DataSource pool = mock(DataSource.class);
+            when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+            pools.put(route, pool);
+        }
+        dataSource = new DataSourcePools(pools).routingDataSource();
+    }
+
+    @Test
+    void getConnection_ShouldNotCheckOutFromAnyPool_UntilConnectionIsUsed() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+        }
+
+        assertCheckouts(0, 0, 0);
+    }
+
+    @Test
+    void getConnection_ShouldUseWritePool_WhenNoRouteIsBound() throws SQLException {
+        use(dataSource);
+
+        assertCheckouts(0, 1, 0);
+    }
+
+    @Test
+    void getConnection_ShouldUseReadPool_WhenConnectionIsReadOnly() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(true);
+            connection.createStatement();
+        }
+
+        assertCheckouts(1, 0, 0);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReadPool_AndReadWriteTransactionWritePool() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> useTransactionalConnection());
+        transactionTemplate.setReadOnly(false);
+        transactionTemplate.executeWithoutResult(status -> useTransactionalConnection());
+
+        assertCheckouts(1, 1, 0);
+    }
+
+    @Test
+    void bind_ShouldUseHistoryPool_UntilRouteIsRestored() throws SQLException {
+        DataSourceRoute previous = RoutingDataSource.bind(DataSourceRoute.HISTORY);
+        try {
+            use(dataSource);
+        } finally {
+            RoutingDataSource.restore(previous);
+        }
+        use(dataSource);
+
+        assertNull(previous);
+        assertEquals(DataSourceRoute.WRITE, RoutingDataSource.currentRoute());
+        assertCheckouts(0, 1, 1);
+    }
+
+    @Test
+    void useDataSource_ShouldRouteTransactionsOfAnnotatedMethod_AndRestoreCallerRoute() throws SQLException {
+        AspectJProxyFactory factory = new AspectJProxyFactory(new HistoryWriter(dataSource));
+        factory.addAspect(new DataSourceRouteAspect());
+        HistoryWriter writer = factory.getProxy();
+
+        writer.write();
+        use(dataSource);
+
+        assertCheckouts(0, 1, 1);
+    }
+
+    private void useTransactionalConnection() {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void use(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+    }
+
+    private void assertCheckouts(int read, int write, int history) {
+        assertAll(
+                () -> verify(pools.get(DataSourceRoute.READ), times(read)).getConnection(),
+                () -> verify(pools.get(DataSourceRoute.WRITE), times(write)).getConnection(),
+                () -> verify(pools.get(DataSourceRoute.HISTORY), times(history)).getConnection());
+    }
+
+    public static class HistoryWriter {
+
+        private final DataSource dataSource;
+
+        public HistoryWriter(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @UseDataSource(DataSourceRoute.HISTORY)
+        public void write() throws SQLException {
+            use(dataSource);
+        }
+    }
+}
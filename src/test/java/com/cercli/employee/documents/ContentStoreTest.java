@@ -0,0 +1,126 @@
+package com.cercli.employee.documents;
+
+import com.cercli.employee.config.DocumentProperties;
+import com.cercli.employee.exception.DocumentTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContentStoreTest {
+
+    // SHA-256 of "hello world"
+    private static final String HELLO_SHA256 = "b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9";
+
+    @TempDir
+    Path storageDirectory;
+
+    private ContentStore contentStore;
+
+    @BeforeEach
+    void setup() {
+        DocumentProperties properties = new DocumentProperties();
+        properties.setStorageDirectory(storageDirectory.toString());
+        contentStore = new ContentStore(properties, new StaticMessageSource() {{
+            setUseCodeAsDefaultMessage(true);
+        }});
+    }
+
+    @Test
+    void store_ShouldKeepContentUnderItsHash() throws Exception {
+        ContentStore.StoredContent stored = contentStore.store(stream("hello world"), 1024);
+
+        assertEquals(HELLO_SHA256, stored.sha256());
+        assertEquals(11, stored.size());
+        Path path = contentStore.locate(HELLO_SHA256);
+        assertEquals(storageDirectory.resolve("b9").resolve("4d").resolve(HELLO_SHA256), path);
+        assertEquals("hello world", Files.readString(path));
+    }
+
+    @Test
+    void store_ShouldKeepOneCopy_WhenSameContentIsStoredTwice() throws Exception {
+        contentStore.store(stream("hello world"), 1024);
+        contentStore.store(stream("hello world"), 1024);
+
+        assertEquals(1, storedFiles());
+        assertEquals(0, incomingFiles());
+    }
+
+    @Test
+    void store_ShouldStreamContentLargerThanItsBuffer() throws Exception {
+        long size = 5L * 1024 * 1024 + 3;
+        ContentStore.StoredContent stored = contentStore.store(new RepeatingInputStream(size), size);
+
+        assertEquals(size, stored.size());
+        assertEquals(size, Files.size(contentStore.locate(stored.sha256())));
+    }
+
+    @Test
+    void store_ShouldStoreNothing_WhenContentExceedsLimit() throws Exception {
+        assertThrows(DocumentTooLargeException.class, () -> contentStore.store(stream("hello world"), 10));
+
+        assertEquals(0, storedFiles());
+        assertEquals(0, incomingFiles());
+    }
+
+    @Test
+    void locate_ShouldReject_WhenKeyIsNotAHash() {
+        assertThrows(IllegalArgumentException.class, () -> contentStore.locate("../../etc/passwd"));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long storedFiles() throws Exception {
+        try (Stream<Path> files = Files.walk(storageDirectory)) {
+            return files.filter(Files::isRegularFile).filter(path -> !path.startsWith(storageDirectory.resolve("incoming"))).count();
+        }
+    }
+
+    private long incomingFiles() throws Exception {
+        try (Stream<Path> files = Files.list(storageDirectory.resolve("incoming"))) {
+            return files.count();
+        }
+    }
+
+    // Generated content, so the test itself does not hold the document in memory
+    private static final class RepeatingInputStream extends InputStream {
+
+        private long remaining;
+
+        private RepeatingInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return (int) (remaining % 251);
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining == 0) {
+                return -1;
+            }
+            int count = (int) Math.min(length, remaining);
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) read();
+            }
+            return count;
+        }
+    }
+}
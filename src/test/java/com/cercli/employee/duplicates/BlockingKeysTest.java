@@ -0,0 +1,50 @@
+package com.cercli.employee.duplicates;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BlockingKeysTest {
+
+    private static final LocalDate HIRED = LocalDate.of(2023, 3, 1);
+
+    @Test
+    void of_ShouldShareNameKey_WhenNamesAreSpellingVariantsOrSwapped() {
+        Set<String> original = BlockingKeys.of("Catherine", "Smith", null, null);
+
+        assertFalse(shared(original, BlockingKeys.of("Katherine", "Smyth", null, null)).isEmpty());
+        assertFalse(shared(original, BlockingKeys.of("Smith", "Catherine", null, null)).isEmpty());
+        assertTrue(shared(original, BlockingKeys.of("Robert", "Jones", null, null)).isEmpty());
+    }
+
+    @Test
+    void of_ShouldIgnoreAccentsAndPunctuationInNames() {
+        assertEquals(BlockingKeys.of("José", "O'Neil", null, null), BlockingKeys.of("Jose", "ONeil", null, null));
+    }
+
+    @Test
+    void of_ShouldShareLastNameAndHireDateKey_WhenFirstNameDiffers() {
+        Set<String> robert = BlockingKeys.of("Robert", "Jones", null, HIRED);
+        Set<String> bob = BlockingKeys.of("Bob", "Jones", null, HIRED);
+
+        assertEquals(Set.of(robert.stream().filter(key -> key.startsWith("H:")).findFirst().orElseThrow()), shared(robert, bob));
+    }
+
+    @Test
+    void normalizePhone_ShouldKeepLastNineDigits_AndSkipPlaceholders() {
+        assertEquals("501234567", BlockingKeys.normalizePhone("+971 50 123 4567"));
+        assertEquals("501234567", BlockingKeys.normalizePhone("050-123-4567"));
+        assertNull(BlockingKeys.normalizePhone("0000000000"));
+        assertNull(BlockingKeys.normalizePhone("12345"));
+    }
+
+    private static Set<String> shared(Set<String> a, Set<String> b) {
+        Set<String> shared = new HashSet<>(a);
+        shared.retainAll(b);
+        return shared;
+    }
+}
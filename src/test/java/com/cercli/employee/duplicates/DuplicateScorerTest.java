@@ -0,0 +1,43 @@
+package com.cercli.employee.duplicates;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DuplicateScorerTest {
+
+    private static final LocalDate HIRED = LocalDate.of(2023, 3, 1);
+
+    private final DuplicateProfile existing = new DuplicateProfile(UUID.randomUUID(), "Catherine", "Smith",
+            "catherine.smith@example.com", "+971501234567", HIRED, "Finance");
+
+    @Test
+    void score_ShouldBeHigh_WhenSamePersonHasAnotherEmail() {
+        DuplicateProfile duplicate = new DuplicateProfile(null, "Katherine", "Smith", "csmith@example.org",
+                "050 123 4567", HIRED, "finance");
+
+        DuplicateScorer.Score score = DuplicateScorer.score(duplicate, existing);
+
+        assertTrue(score.value() >= 0.8, () -> "score " + score.value());
+        assertEquals(List.of("NAME", "PHONE", "HIRE_DATE", "DEPARTMENT"), score.matchedOn());
+    }
+
+    @Test
+    void score_ShouldBeLow_WhenOnlyTheNameSoundsAlike() {
+        DuplicateProfile namesake = new DuplicateProfile(null, "Catherine", "Smyth", "cat.smyth@example.com",
+                "+44 20 7946 0958", LocalDate.of(2019, 6, 1), "Sales");
+
+        assertTrue(DuplicateScorer.score(namesake, existing).value() < 0.8);
+    }
+
+    @Test
+    void jaroWinkler_ShouldMatchKnownValues() {
+        assertEquals(1.0, DuplicateScorer.jaroWinkler("martha", "martha"));
+        assertEquals(0.961, DuplicateScorer.jaroWinkler("martha", "marhta"), 0.001);
+        assertEquals(0.0, DuplicateScorer.jaroWinkler("abc", "xyz"));
+    }
+}
@@ -0,0 +1,134 @@
+package com.cercli.employee.factory;
+
+import com.cercli.employee.config.HistoryProperties;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.EmployeeHistory;
+import com.cercli.employee.entity.EmployeeSnapshot;
+import com.cercli.employee.repository.EmployeeHistoryRepository;
+import com.cercli.employee.repository.EmployeeSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class HistoryFactoryTest {
+
+    @Mock
+    private EmployeeHistoryRepository historyRepository;
+
+    @Mock
+    private EmployeeSnapshotRepository snapshotRepository;
+
+    private HistoryFactory historyFactory;
+
+    @BeforeEach
+    public void setup() {
+        HistoryProperties historyProperties = new HistoryProperties();
+        historyProperties.setSnapshotInterval(20);
+        historyFactory = new HistoryFactory(historyRepository, snapshotRepository, historyProperties);
+    }
+
+    @Test
+    void writeHistory_ShouldRecordOnlyChangedFields_WhenEmployeeWasLoaded() {
+        Employee employee = employee(3L);
+        employee.captureLoadedState();
+        employee.setPosition("Manager");
+
+        historyFactory.writeHistory(historyFactory.prepareHistory(employee, "UPDATED"));
+
+        ArgumentCaptor<EmployeeHistory> history = ArgumentCaptor.forClass(EmployeeHistory.class);
+        verify(historyRepository).save(history.capture());
+        assertEquals(Map.of("position", "Manager"), history.getValue().getDelta());
+        assertEquals(3L, history.getValue().getVersion());
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    @Test
+    void writeHistory_ShouldStoreSnapshot_EveryIntervalVersions() {
+        Employee employee = employee(40L);
+        employee.setLoadedState(employee.captureState());
+        employee.setDepartment("Platform");
+        when(snapshotRepository.findByEmployeeIdAndVersion(employee.getId(), 40L)).thenReturn(Optional.empty());
+
+        historyFactory.writeHistory(historyFactory.prepareHistory(employee, "UPDATED"));
+
+        ArgumentCaptor<EmployeeSnapshot> snapshot = ArgumentCaptor.forClass(EmployeeSnapshot.class);
+        verify(snapshotRepository).save(snapshot.capture());
+        assertEquals(40L, snapshot.getValue().getVersion());
+        assertEquals("Platform", snapshot.getValue().getState().get("department"));
+    }
+
+    @Test
+    void writeHistory_ShouldRecordFullStateAndSnapshot_WhenEmployeeIsCreated() {
+        Employee employee = employee(0L);
+        when(snapshotRepository.findByEmployeeIdAndVersion(employee.getId(), 0L)).thenReturn(Optional.empty());
+
+        historyFactory.writeHistory(historyFactory.prepareHistory(employee, "UPDATED"));
+
+        ArgumentCaptor<EmployeeHistory> history = ArgumentCaptor.forClass(EmployeeHistory.class);
+        verify(historyRepository).save(history.capture());
+        assertEquals(employee.captureState(), history.getValue().getDelta());
+        verify(snapshotRepository).save(any(EmployeeSnapshot.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void defer_ShouldWriteHistoryOfEachFlushInCallersTransaction() {
+        Employee employee = employee(1L);
+        employee.setLoadedState(employee.captureState());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            historyFactory.deferHistory();
+            employee.setPosition("Manager");
+            historyFactory.defer(employee, "UPDATED");
+            // Changed again before the history is written: the first row keeps the state of its own flush
+            employee.setLoadedState(employee.captureState());
+            employee.setVersion(2L);
+            employee.setPosition("Director");
+            historyFactory.defer(employee, "UPDATED");
+            verifyNoInteractions(historyRepository);
+
+            historyFactory.writeDeferredHistory();
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(0));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        ArgumentCaptor<List<EmployeeHistory>> history = ArgumentCaptor.forClass(List.class);
+        verify(historyRepository).saveAll(history.capture());
+        assertEquals(List.of(1L, 2L), history.getValue().stream().map(EmployeeHistory::getVersion).toList());
+        assertEquals(Map.of("position", "Manager"), history.getValue().get(0).getDelta());
+        assertEquals(Map.of("position", "Director"), history.getValue().get(1).getDelta());
+        assertFalse(historyFactory.isDeferring());
+    }
+
+    private Employee employee(Long version) {
+        Employee employee = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .position("Developer")
+                .department("IT")
+                .email("john.doe@example.com")
+                .salary(5000f)
+                .version(version)
+                .build();
+        employee.setId(UUID.randomUUID());
+        employee.setCreatedAt(LocalDateTime.of(2024, 1, 1, 8, 0));
+        employee.setModifiedAt(LocalDateTime.of(2024, 1, 1, 8, 0));
+        return employee;
+    }
+}
@@ -0,0 +1,130 @@
+package com.cercli.employee.filters;
+
+import com.cercli.employee.admission.AdmissionRegistry;
+import com.cercli.employee.admission.EndpointClass;
+import com.cercli.employee.config.AdmissionProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControlFilterTest {
+
+    private AdmissionProperties properties;
+    private AdmissionRegistry registry;
+    private AdmissionControlFilter filter;
+    private AtomicInteger invocations;
+
+    @BeforeEach
+    void setup() {
+        properties = new AdmissionProperties();
+        properties.setQueueTimeout(Duration.ZERO);
+        registry = new AdmissionRegistry(properties, new SimpleMeterRegistry());
+        filter = new AdmissionControlFilter(registry, properties, new ObjectMapper().registerModule(new JavaTimeModule()),
+                ObservationRegistry.NOOP);
+        invocations = new AtomicInteger();
+    }
+
+    @Test
+    void doFilter_ShouldShedWithTooManyRequests_WhenRateIsExceeded() throws Exception {
+        properties.getDefaults().setRead(new AdmissionProperties.Limits(1, 1, 10));
+        FilterChain chain = (request, response) -> invocations.incrementAndGet();
+
+        MockHttpServletResponse first = perform("GET", "AE", chain);
+        MockHttpServletResponse second = perform("GET", "AE", chain);
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+        assertEquals("1", second.getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(second.getContentAsString().contains("\"error\""));
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void doFilter_ShouldShedWithServiceUnavailable_AndKeepToken_WhenNoSlotFreesUp() throws Exception {
+        properties.getDefaults().setWrite(new AdmissionProperties.Limits(1, 2, 1));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain blockingChain = (request, response) -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<MockHttpServletResponse> inFlight = executor.submit(() -> perform("POST", "AE", blockingChain));
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+            MockHttpServletResponse shed = perform("POST", "AE", (request, response) -> invocations.incrementAndGet());
+
+            assertEquals(503, shed.getStatus());
+            assertEquals("1", shed.getHeader(HttpHeaders.RETRY_AFTER));
+            assertEquals(0, invocations.get());
+            // Only the in-flight request used a token
+            assertTrue(registry.limiterFor("AE", EndpointClass.WRITE).availableTokens() >= 1.0);
+
+            release.countDown();
+            assertEquals(200, inFlight.get(5, TimeUnit.SECONDS).getStatus());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void doFilter_ShouldReleaseSlot_WhenChainThrows() throws Exception {
+        properties.getDefaults().setRead(new AdmissionProperties.Limits(100, 100, 1));
+
+        assertThrows(IllegalStateException.class, () -> perform("GET", "AE", (request, response) -> {
+            throw new IllegalStateException("boom");
+        }));
+        MockHttpServletResponse next = perform("GET", "AE", (request, response) -> invocations.incrementAndGet());
+
+        assertEquals(200, next.getStatus());
+        assertEquals(1, invocations.get());
+        assertEquals(0, registry.limiterFor("AE", EndpointClass.READ).inFlight());
+    }
+
+    @Test
+    void doFilter_ShouldApplyConfiguredDefaults_ToEndpointClassMissingFromEntityOverride() throws Exception {
+        properties.getDefaults().setRead(new AdmissionProperties.Limits(1, 1, 10));
+        AdmissionProperties.EntityLimits override = new AdmissionProperties.EntityLimits();
+        override.setWrite(new AdmissionProperties.Limits(20, 40, 4));
+        properties.setEntities(Map.of("NG", override));
+        FilterChain chain = (request, response) -> invocations.incrementAndGet();
+
+        perform("GET", "NG", chain);
+        MockHttpServletResponse second = perform("GET", "NG", chain);
+
+        assertEquals(429, second.getStatus());
+        assertEquals(4, registry.limiterFor("NG", EndpointClass.WRITE).limits().getMaxConcurrent());
+    }
+
+    private MockHttpServletResponse perform(String method, String entity, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/employees");
+        request.setAttribute("X_ENTITY_CODE", entity);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
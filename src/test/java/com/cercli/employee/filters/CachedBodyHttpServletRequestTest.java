@@ -0,0 +1,73 @@
+package com.cercli.employee.filters;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachedBodyHttpServletRequestTest {
+
+    @Test
+    void setReadListener_ShouldDeliverWholeBody_AndSignalEnd() {
+        byte[] body = "{\"firstName\":\"John\"}".getBytes(StandardCharsets.UTF_8);
+        ServletInputStream input = new CachedBodyHttpServletRequest(new MockHttpServletRequest(), body).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> calls = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("data");
+                byte[] buffer = new byte[8];
+                while (input.isReady() && !input.isFinished()) {
+                    read.write(buffer, 0, input.read(buffer));
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("end");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        assertEquals(List.of("data", "end"), calls);
+        assertArrayEquals(body, read.toByteArray());
+    }
+
+    @Test
+    void setReadListener_ShouldReportError_WhenListenerFails() {
+        ServletInputStream input = new CachedBodyHttpServletRequest(new MockHttpServletRequest(), new byte[]{1}).getInputStream();
+        List<Throwable> errors = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                throw new IOException("closed");
+            }
+
+            @Override
+            public void onAllDataRead() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                errors.add(t);
+            }
+        });
+
+        assertEquals(1, errors.size());
+    }
+}
@@ -0,0 +1,123 @@
+package com.cercli.employee.filters;
+
+import com.cercli.employee.cache.IdempotencyStore;
+import com.cercli.employee.config.IdempotencyProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyFilterTest {
+
+    private IdempotencyFilter filter;
+    private AtomicInteger invocations;
+
+    @BeforeEach
+    void setup() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        filter = new IdempotencyFilter(new IdempotencyStore(properties), properties, new ObjectMapper().registerModule(new JavaTimeModule()),
+                ObservationRegistry.NOOP);
+        invocations = new AtomicInteger();
+    }
+
+    @Test
+    void doFilter_ShouldReplayStoredResponse_WhenKeyIsRepeated() throws Exception {
+        FilterChain chain = echoChain(null);
+
+        MockHttpServletResponse first = perform("key-1", "{\"firstName\":\"John\"}", chain);
+        MockHttpServletResponse second = perform("key-1", "{\"firstName\":\"John\"}", chain);
+
+        assertEquals(1, invocations.get());
+        assertEquals(200, second.getStatus());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void doFilter_ShouldRejectRequest_WhenKeyIsReusedWithDifferentBody() throws Exception {
+        FilterChain chain = echoChain(null);
+
+        perform("key-2", "{\"firstName\":\"John\"}", chain);
+        MockHttpServletResponse second = perform("key-2", "{\"firstName\":\"Jane\"}", chain);
+
+        assertEquals(1, invocations.get());
+        assertEquals(422, second.getStatus());
+    }
+
+    @Test
+    void doFilter_ShouldNotStoreResponse_WhenServerErrorOccurs() throws Exception {
+        FilterChain failingChain = (request, response) -> {
+            invocations.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+
+        perform("key-3", "{}", failingChain);
+        perform("key-3", "{}", failingChain);
+
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void doFilter_ShouldCollapseConcurrentDuplicates_WhileOriginalIsInFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain chain = echoChain(release);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<MockHttpServletResponse> original = executor.submit(() -> perform("key-4", "{}", chain));
+            while (invocations.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<MockHttpServletResponse> duplicate1 = executor.submit(() -> perform("key-4", "{}", chain));
+            Future<MockHttpServletResponse> duplicate2 = executor.submit(() -> perform("key-4", "{}", chain));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(200, original.get(5, TimeUnit.SECONDS).getStatus());
+            assertEquals("true", duplicate1.get(5, TimeUnit.SECONDS).getHeader(IdempotencyFilter.REPLAYED_HEADER));
+            assertEquals("true", duplicate2.get(5, TimeUnit.SECONDS).getHeader(IdempotencyFilter.REPLAYED_HEADER));
+            assertEquals(1, invocations.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private FilterChain echoChain(CountDownLatch release) {
+        return (request, response) -> {
+            int call = invocations.incrementAndGet();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"call\":" + call + ",\"echo\":" + (body.isEmpty() ? "null" : body) + "}");
+        };
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/employees");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
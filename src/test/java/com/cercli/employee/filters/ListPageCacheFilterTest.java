@@ -0,0 +1,100 @@
+package com.cercli.employee.filters;
+
+import com.cercli.employee.cache.ClusterInvalidationBus;
+import com.cercli.employee.cache.ListPageCache;
+import com.cercli.employee.config.CacheProperties;
+import com.cercli.employee.config.EntityCodeLocaleResolver;
+import com.cercli.employee.event.EmployeeInvalidationEvent;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class ListPageCacheFilterTest {
+
+    @Mock
+    private ClusterInvalidationBus invalidationBus;
+
+    private ListPageCache listPageCache;
+    private ListPageCacheFilter filter;
+    private AtomicInteger invocations;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(invalidationBus.isConnected()).thenReturn(true);
+        listPageCache = new ListPageCache(new CacheProperties(), invalidationBus);
+        filter = new ListPageCacheFilter(listPageCache, new EntityCodeLocaleResolver(), ObservationRegistry.NOOP);
+        invocations = new AtomicInteger();
+    }
+
+    @Test
+    void doFilter_ShouldServeStoredBytes_WhenSamePageIsRequestedAgain() throws Exception {
+        MockHttpServletResponse first = perform(Map.of("page", "0", "size", "10"), "NG", countingChain(null));
+        MockHttpServletResponse second = perform(Map.of("page", "0", "size", "10"), "NG", countingChain(null));
+
+        assertEquals(1, invocations.get());
+        assertEquals("MISS", first.getHeader(ListPageCacheFilter.CACHE_HEADER));
+        assertEquals("HIT", second.getHeader(ListPageCacheFilter.CACHE_HEADER));
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("application/json", second.getContentType());
+    }
+
+    @Test
+    void doFilter_ShouldKeepPagesApart_PerEntityCode() throws Exception {
+        perform(Map.of("page", "0"), "NG", countingChain(null));
+        perform(Map.of("page", "0"), "US", countingChain(null));
+
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    void doFilter_ShouldNotStorePage_WhenWriteHappensWhileRendering() throws Exception {
+        perform(Map.of("page", "0"), "NG", countingChain(() ->
+                listPageCache.onInvalidation(new EmployeeInvalidationEvent(this, null, false))));
+        MockHttpServletResponse second = perform(Map.of("page", "0"), "NG", countingChain(null));
+
+        assertEquals(2, invocations.get());
+        assertEquals("MISS", second.getHeader(ListPageCacheFilter.CACHE_HEADER));
+    }
+
+    @Test
+    void doFilter_ShouldBypassCache_WhenOtherParametersArePresent() throws Exception {
+        perform(Map.of("fields", "id,email"), "NG", countingChain(null));
+        MockHttpServletResponse second = perform(Map.of("fields", "id,email"), "NG", countingChain(null));
+
+        assertEquals(2, invocations.get());
+        assertNull(second.getHeader(ListPageCacheFilter.CACHE_HEADER));
+    }
+
+    private FilterChain countingChain(Runnable duringRender) {
+        return (request, response) -> {
+            int call = invocations.incrementAndGet();
+            if (duringRender != null) {
+                duringRender.run();
+            }
+            response.setContentType("application/json");
+            response.getWriter().write("{\"call\":" + call + "}");
+        };
+    }
+
+    private MockHttpServletResponse perform(Map<String, String> parameters, String entityCode, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.setParameters(parameters);
+        request.setAttribute("X_ENTITY_CODE", entityCode);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
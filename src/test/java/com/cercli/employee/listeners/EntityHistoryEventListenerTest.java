@@ -0,0 +1,87 @@
+package com.cercli.employee.listeners;
+
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.EmployeeHistory;
+import com.cercli.employee.event.EntityHistoryEvent;
+import com.cercli.employee.factory.HistoryFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EntityHistoryEventListenerTest {
+
+    @Mock
+    private HistoryFactory historyFactory;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EntityHistoryEventListener listener;
+    private HistoryFactory.PendingHistory pending;
+
+    @BeforeEach
+    void setup() {
+        listener = new EntityHistoryEventListener(historyFactory, ObservationRegistry.NOOP, meterRegistry);
+        pending = new HistoryFactory.PendingHistory(EmployeeHistory.builder().build(), Map.of(), false);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void handleEntityHistoryEvent_ShouldWriteHistory_OnlyAfterCommit() {
+        when(historyFactory.prepareHistory(any(Employee.class), eq("UPDATED"))).thenReturn(pending);
+
+        listener.handleEntityHistoryEvent(new EntityHistoryEvent(this, employee(), "UPDATED"));
+        verify(historyFactory, never()).writeHistory(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(historyFactory).writeHistory(pending);
+    }
+
+    @Test
+    void handleEntityHistoryEvent_ShouldWriteNoHistory_WhenTransactionRollsBack() {
+        when(historyFactory.prepareHistory(any(Employee.class), eq("UPDATED"))).thenReturn(pending);
+
+        listener.handleEntityHistoryEvent(new EntityHistoryEvent(this, employee(), "UPDATED"));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(historyFactory, never()).writeHistory(any());
+    }
+
+    @Test
+    void handleEntityHistoryEvent_ShouldCountFailure_WhenWriteFailsAfterCommit() {
+        when(historyFactory.prepareHistory(any(Employee.class), eq("CREATED"))).thenReturn(pending);
+        doThrow(new IllegalStateException("history pool exhausted")).when(historyFactory).writeHistory(pending);
+
+        listener.handleEntityHistoryEvent(new EntityHistoryEvent(this, employee(), "CREATED"));
+
+        assertDoesNotThrow(() -> TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit));
+        assertEquals(1, meterRegistry.counter("employee.history.write.failures").count());
+    }
+
+    private static Employee employee() {
+        Employee employee = new Employee();
+        employee.setId(UUID.randomUUID());
+        return employee;
+    }
+}
@@ -0,0 +1,94 @@
+package com.cercli.employee.profiling;
+
+import com.cercli.employee.config.ProfilingProperties;
+import com.cercli.employee.dto.ProfilingRecordingDto;
+import com.cercli.employee.exception.RecordingNotFoundException;
+import com.cercli.employee.exception.RecordingStateException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JfrRecordingManagerTest {
+
+    @TempDir
+    Path outputDirectory;
+
+    private ProfilingProperties properties;
+    private JfrRecordingManager recordingManager;
+
+    @BeforeEach
+    void setup() {
+        properties = new ProfilingProperties();
+        properties.setSettings("default");
+        properties.setOutputDirectory(outputDirectory.toString());
+        recordingManager = new JfrRecordingManager(properties, new StaticMessageSource() {{
+            setUseCodeAsDefaultMessage(true);
+        }});
+    }
+
+    @AfterEach
+    void tearDown() {
+        recordingManager.close();
+    }
+
+    @Test
+    void stop_ShouldWriteCustomEventsToDownloadableFile() throws Exception {
+        String employeeId = UUID.randomUUID().toString();
+        recordingManager.start(Duration.ofMinutes(1));
+
+        ServiceOperationEvent event = new ServiceOperationEvent();
+        event.begin();
+        event.operation = "EmployeeServiceImpl.getEmployee";
+        event.employeeId = employeeId;
+        event.countryCode = "AE";
+        event.rows = 1;
+        event.commit();
+
+        ProfilingRecordingDto stopped = recordingManager.stop();
+
+        // JFR closes a recording once it has written it to its destination
+        assertEquals("CLOSED", stopped.getState());
+        assertTrue(stopped.isDownloadable());
+        List<RecordedEvent> recorded = RecordingFile.readAllEvents(recordingManager.output()).stream()
+                .filter(recordedEvent -> recordedEvent.getEventType().getName().equals("com.cercli.employee.ServiceOperation"))
+                .filter(recordedEvent -> employeeId.equals(recordedEvent.getString("employeeId")))
+                .toList();
+        assertEquals(1, recorded.size());
+        assertEquals("AE", recorded.get(0).getString("countryCode"));
+        assertEquals(1, recorded.get(0).getInt("rows"));
+    }
+
+    @Test
+    void start_ShouldCapDurationAtMaximum() {
+        properties.setMaxDuration(Duration.ofSeconds(30));
+
+        ProfilingRecordingDto recording = recordingManager.start(Duration.ofHours(1));
+
+        assertEquals("RUNNING", recording.getState());
+        assertEquals(30, recording.getDurationSeconds());
+    }
+
+    @Test
+    void start_ShouldRejectSecondRecording_WhileOneIsRunning() {
+        recordingManager.start(null);
+
+        assertThrows(RecordingStateException.class, () -> recordingManager.start(null));
+        assertThrows(RecordingStateException.class, () -> recordingManager.output());
+    }
+
+    @Test
+    void status_ShouldThrow_WhenNoRecordingWasStarted() {
+        assertThrows(RecordingNotFoundException.class, () -> recordingManager.status());
+    }
+}
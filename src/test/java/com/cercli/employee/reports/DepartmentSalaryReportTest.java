@@ -0,0 +1,57 @@
+package com.cercli.employee.reports;
+
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DepartmentSalaryReportTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @InjectMocks
+    private DepartmentSalaryReport report;
+
+    @Test
+    void finish_ShouldSummarizeDepartments_WhenStateIsCheckpointedBetweenChunks() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Object> state = new LinkedHashMap<>();
+        report.writeRows(List.of(employee("IT", 5000f), employee("HR", 4000f)), state, "NG", new StringWriter());
+
+        // Round trip through JSON as the report_job.state column does
+        Map<String, Object> restored = objectMapper.readValue(objectMapper.writeValueAsString(state), new TypeReference<>() {});
+        report.writeRows(List.of(employee("IT", 7000.5f), employee("IT", null)), restored, "NG", new StringWriter());
+        StringWriter out = new StringWriter();
+        report.finish(restored, "NG", out);
+
+        assertEquals("HR,1,1,4000.0,4000.00,4000.0,4000.0\r\n"
+                + "IT,3,2,12000.5,6000.25,5000.0,7000.5\r\n", out.toString());
+    }
+
+    @Test
+    void writeRow_ShouldQuoteAndNeutralizeFormulas() throws Exception {
+        StringWriter out = new StringWriter();
+
+        CsvFormat.writeRow(out, "Doe, Jane", "say \"hi\"", "=SUM(A1)", -5, null);
+
+        assertEquals("\"Doe, Jane\",\"say \"\"hi\"\"\",'=SUM(A1),-5,\r\n", out.toString());
+    }
+
+    private Employee employee(String department, Float salary) {
+        return Employee.builder().department(department).salary(salary).build();
+    }
+}
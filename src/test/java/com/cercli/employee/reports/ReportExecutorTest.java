@@ -0,0 +1,208 @@
+package com.cercli.employee.reports;
+
+import com.cercli.employee.config.ReportProperties;
+import com.cercli.employee.entity.ReportJob;
+import com.cercli.employee.entity.ReportType;
+import com.cercli.employee.repository.ReportJobRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReportExecutorTest {
+
+    private static final UUID JOB_ID = UUID.fromString("0190f4c8-1a2b-7c3d-8e4f-5a6b7c8d9e0f");
+
+    @Mock
+    private ReportJobRepository reportJobRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path outputDirectory;
+
+    private final List<UUID> rows = new ArrayList<>();
+    private final FakeReport generator = new FakeReport();
+    private ReportExecutor reportExecutor;
+
+    @BeforeEach
+    void setup() {
+        for (int i = 1; i <= 5; i++) {
+            rows.add(new UUID(0, i));
+        }
+        ReportProperties properties = new ReportProperties();
+        properties.setOutputDirectory(outputDirectory);
+        properties.setChunkSize(2);
+        properties.setMaxChunksPerSecond(10_000);
+        reportExecutor = new ReportExecutor(reportJobRepository, properties, List.of(generator), transactionManager);
+        lenient().when(reportJobRepository.save(any(ReportJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void teardown() throws InterruptedException {
+        reportExecutor.stop();
+    }
+
+    @Test
+    void run_ShouldWriteEveryRowOnce_WhenResumingFromCheckpoint() throws Exception {
+        String checkpointed = "id\r\n" + rows.get(0) + "\r\n" + rows.get(1) + "\r\n";
+        Files.writeString(outputDirectory.resolve(JOB_ID + ".csv.part"), checkpointed + rows.get(2) + "\r\n" + "0000", StandardCharsets.UTF_8);
+        ReportJob job = job(ReportJob.Status.RUNNING, "crashed-node", LocalDateTime.now().minusMinutes(1));
+        job.setCursorId(rows.get(1));
+        job.setProcessedRows(2L);
+        job.setOutputBytes((long) checkpointed.getBytes(StandardCharsets.UTF_8).length);
+        when(reportJobRepository.lockById(JOB_ID)).thenReturn(Optional.of(job));
+
+        reportExecutor.run(JOB_ID);
+
+        StringBuilder expected = new StringBuilder("id\r\n");
+        rows.forEach(row -> expected.append(row).append("\r\n"));
+        assertEquals(expected.toString(), Files.readString(outputDirectory.resolve(JOB_ID + ".csv")));
+        assertFalse(Files.exists(outputDirectory.resolve(JOB_ID + ".csv.part")));
+        assertEquals(ReportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(5L, job.getProcessedRows());
+        assertNull(job.getLeaseOwner());
+    }
+
+    @Test
+    void run_ShouldRestartFromFirstRow_WhenPartialOutputIsMissing() throws Exception {
+        ReportJob job = job(ReportJob.Status.RUNNING, "crashed-node", LocalDateTime.now().minusMinutes(1));
+        job.setCursorId(rows.get(1));
+        job.setProcessedRows(2L);
+        job.setOutputBytes(80L);
+        job.setState(Map.of("total", 2));
+        when(reportJobRepository.lockById(JOB_ID)).thenReturn(Optional.of(job));
+
+        reportExecutor.run(JOB_ID);
+
+        StringBuilder expected = new StringBuilder("id\r\n");
+        rows.forEach(row -> expected.append(row).append("\r\n"));
+        assertEquals(expected.toString(), Files.readString(outputDirectory.resolve(JOB_ID + ".csv")));
+        assertEquals(ReportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(5L, job.getProcessedRows());
+        assertEquals((long) expected.length(), job.getOutputBytes());
+    }
+
+    @Test
+    void run_ShouldCheckpointAfterEachFullChunk() {
+        ReportJob job = job(ReportJob.Status.QUEUED, null, null);
+        List<Long> checkpoints = new ArrayList<>();
+        when(reportJobRepository.lockById(JOB_ID)).thenReturn(Optional.of(job));
+        when(reportJobRepository.save(any(ReportJob.class))).thenAnswer(invocation -> {
+            ReportJob saved = invocation.getArgument(0);
+            checkpoints.add(saved.getProcessedRows());
+            return saved;
+        });
+
+        reportExecutor.run(JOB_ID);
+
+        // Claim, two full chunks, then completion
+        assertEquals(List.of(0L, 2L, 4L, 5L), checkpoints);
+        assertEquals(5L, job.getTotalRows());
+        assertEquals(ReportJob.Status.COMPLETED, job.getStatus());
+    }
+
+    @Test
+    void run_ShouldLeaveJobAlone_WhenAnotherNodeHoldsTheLease() {
+        ReportJob job = job(ReportJob.Status.RUNNING, "other-node", LocalDateTime.now().plusMinutes(1));
+        when(reportJobRepository.lockById(JOB_ID)).thenReturn(Optional.of(job));
+
+        reportExecutor.run(JOB_ID);
+
+        assertEquals(0, generator.reads);
+        assertEquals("other-node", job.getLeaseOwner());
+        assertEquals(ReportJob.Status.RUNNING, job.getStatus());
+    }
+
+    @Test
+    void run_ShouldMarkJobFailed_WhenGeneratorThrows() {
+        ReportJob job = job(ReportJob.Status.QUEUED, null, null);
+        when(reportJobRepository.lockById(JOB_ID)).thenReturn(Optional.of(job));
+        generator.failure = new IllegalStateException("source unavailable");
+
+        reportExecutor.run(JOB_ID);
+
+        assertEquals(ReportJob.Status.FAILED, job.getStatus());
+        assertEquals("source unavailable", job.getError());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    private ReportJob job(ReportJob.Status status, String leaseOwner, LocalDateTime leaseExpiresAt) {
+        return ReportJob.builder()
+                .id(JOB_ID)
+                .type(ReportType.EMPLOYEE_DIRECTORY)
+                .status(status)
+                .countryCode("NG")
+                .processedRows(0L)
+                .outputBytes(0L)
+                .leaseOwner(leaseOwner)
+                .leaseExpiresAt(leaseExpiresAt)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private class FakeReport implements ReportGenerator<UUID> {
+
+        private int reads;
+        private RuntimeException failure;
+
+        @Override
+        public ReportType type() {
+            return ReportType.EMPLOYEE_DIRECTORY;
+        }
+
+        @Override
+        public long countRows() {
+            return rows.size();
+        }
+
+        @Override
+        public List<UUID> readChunk(UUID after, int size) {
+            reads++;
+            if (failure != null) {
+                throw failure;
+            }
+            return rows.stream().filter(row -> row.compareTo(after) > 0).limit(size).toList();
+        }
+
+        @Override
+        public UUID idOf(UUID row) {
+            return row;
+        }
+
+        @Override
+        public void writeHeader(Writer out) throws IOException {
+            CsvFormat.writeRow(out, "id");
+        }
+
+        @Override
+        public void writeRows(List<UUID> chunk, Map<String, Object> state, String countryCode, Writer out) throws IOException {
+            for (UUID row : chunk) {
+                CsvFormat.writeRow(out, row);
+            }
+        }
+    }
+}
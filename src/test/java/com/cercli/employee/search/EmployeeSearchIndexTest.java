@@ -0,0 +1,114 @@
+package com.cercli.employee.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EmployeeSearchIndexTest {
+
+    private static final UUID JOHN = UUID.fromString("4f4b8a6f-c2c2-4f0f-a787-3b8b264e0d50");
+    private static final UUID JANE = UUID.fromString("0b7f3a2e-8a0c-4a55-9c4e-2f1f5d2a9b11");
+    private static final UUID JOHAN = UUID.fromString("7d1c9e55-3b0e-4f8a-a1d2-6c5e4b3a2f10");
+
+    private EmployeeSearchIndex index;
+
+    @BeforeEach
+    void setup() {
+        index = new EmployeeSearchIndex(100, 1000);
+        index.upsert(new SearchDocument(JOHN, "John", "Doe", "john.doe@example.com", "Developer", "IT", 0L));
+        index.upsert(new SearchDocument(JANE, "Jane", "Doe", "jane.doe@example.com", "Manager", "HR", 0L));
+        index.upsert(new SearchDocument(JOHAN, "Johan", "Müller", "jm@example.com", "Accountant", "Finance", 0L));
+    }
+
+    @Test
+    void search_ShouldMatchPrefixesOfAllTokens_WhenQueryHasSeveralTokens() {
+        EmployeeSearchIndex.SearchResult result = index.search("jo do", 0, 10);
+
+        assertEquals(1, result.totalMatches());
+        assertEquals(JOHN, result.hits().get(0).document().id());
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDetailMatches() {
+        index.upsert(new SearchDocument(UUID.randomUUID(), "Amir", "Khan", "amir.khan@example.com", "Doe Liaison", "IT", 0L));
+
+        List<EmployeeSearchIndex.Hit> hits = index.search("doe", 0, 10).hits();
+
+        assertEquals(3, hits.size());
+        assertEquals("Amir", hits.get(2).document().firstName());
+    }
+
+    @Test
+    void search_ShouldIgnoreCaseAndAccents() {
+        assertEquals(JOHAN, index.search("MULL", 0, 10).hits().get(0).document().id());
+    }
+
+    @Test
+    void search_ShouldPaginateRankedResults() {
+        EmployeeSearchIndex.SearchResult firstPage = index.search("doe", 0, 1);
+        EmployeeSearchIndex.SearchResult secondPage = index.search("doe", 1, 1);
+
+        assertEquals(2, firstPage.totalMatches());
+        assertEquals(1, firstPage.hits().size());
+        assertEquals(1, secondPage.hits().size());
+        assertNotEquals(firstPage.hits().get(0).document().id(), secondPage.hits().get(0).document().id());
+    }
+
+    @Test
+    void search_ShouldKeepBestHits_WhenCandidatesExceedLimit() {
+        EmployeeSearchIndex small = new EmployeeSearchIndex(100, 2);
+        // Detail matches come first in term order ("joanna" < "jon"), the name match last
+        small.upsert(new SearchDocument(UUID.randomUUID(), "Ada", "Lee", "ada@example.com", "Clerk", "Joanna Hall", 0L));
+        small.upsert(new SearchDocument(UUID.randomUUID(), "Bo", "Kim", "bo@example.com", "Clerk", "Joanna Hall", 0L));
+        small.upsert(new SearchDocument(JOHN, "Jon", "Doe", "jon.doe@example.com", "Developer", "IT", 0L));
+
+        EmployeeSearchIndex.SearchResult result = small.search("jo", 0, 10);
+
+        assertEquals(JOHN, result.hits().get(0).document().id());
+        assertEquals(2, result.totalMatches());
+        assertTrue(result.truncated());
+    }
+
+    @Test
+    void upsert_ShouldReplaceTerms_WhenDocumentChanges() {
+        index.upsert(new SearchDocument(JANE, "Jane", "Smith", "jane.smith@example.com", "Manager", "HR", 1L));
+
+        assertTrue(index.search("smith", 0, 10).hits().stream().anyMatch(hit -> hit.document().id().equals(JANE)));
+        assertTrue(index.search("doe", 0, 10).hits().stream().noneMatch(hit -> hit.document().id().equals(JANE)));
+    }
+
+    @Test
+    void upsert_ShouldIgnoreDocument_WhenVersionIsOlderThanIndexed() {
+        index.upsert(new SearchDocument(JANE, "Jane", "Smith", "jane.smith@example.com", "Manager", "HR", 2L));
+        index.upsert(new SearchDocument(JANE, "Jane", "Doe", "jane.doe@example.com", "Manager", "HR", 1L));
+
+        assertEquals(JANE, index.search("smith", 0, 10).hits().get(0).document().id());
+    }
+
+    @Test
+    void remove_ShouldDropDocumentAndItsTerms() {
+        long terms = index.termCount();
+
+        assertTrue(index.remove(JOHAN));
+        assertFalse(index.remove(JOHAN));
+
+        assertTrue(index.search("muller", 0, 10).hits().isEmpty());
+        assertEquals(2, index.documentCount());
+        assertTrue(index.termCount() < terms);
+    }
+
+    @Test
+    void upsert_ShouldRejectNewDocuments_WhenIndexIsFull() {
+        EmployeeSearchIndex small = new EmployeeSearchIndex(1, 1000);
+
+        assertTrue(small.upsert(new SearchDocument(JOHN, "John", "Doe", "john.doe@example.com", "Developer", "IT", 0L)));
+        assertFalse(small.upsert(new SearchDocument(JANE, "Jane", "Doe", "jane.doe@example.com", "Manager", "HR", 0L)));
+        assertEquals(1, small.documentCount());
+        assertEquals(1, small.rejectedDocuments());
+        assertTrue(small.estimatedBytes() > 0);
+    }
+}
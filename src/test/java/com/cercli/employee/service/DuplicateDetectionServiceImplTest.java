@@ -0,0 +1,140 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.config.DuplicateProperties;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.duplicates.BlockingKeyStore;
+import com.cercli.employee.duplicates.BlockingKeys;
+import com.cercli.employee.duplicates.DuplicateMatcher;
+import com.cercli.employee.duplicates.DuplicateProfile;
+import com.cercli.employee.duplicates.DuplicateScorer;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.event.EntityHistoryEvent;
+import com.cercli.employee.exception.PossibleDuplicateEmployeeException;
+import com.cercli.employee.repository.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DuplicateDetectionServiceImplTest {
+
+    private static final LocalDate HIRED = LocalDate.of(2023, 3, 1);
+
+    @Mock
+    private DuplicateMatcher duplicateMatcher;
+
+    @Mock
+    private BlockingKeyStore blockingKeyStore;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final DuplicateProperties properties = new DuplicateProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DuplicateDetectionServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        service = new DuplicateDetectionServiceImpl(duplicateMatcher, blockingKeyStore, employeeRepository, properties,
+                messageSource, meterRegistry, transactionManager);
+    }
+
+    @Test
+    void onEntityChanged_ShouldAddAllKeys_WhenEmployeeIsCreated() {
+        Employee employee = employee("Catherine", "+971501234567");
+
+        service.onEntityChanged(new EntityHistoryEvent(this, employee, "UPDATED"));
+
+        verify(blockingKeyStore).remove(employee.getId(), Set.of());
+        verify(blockingKeyStore).add(employee.getId(), BlockingKeys.of(employee));
+    }
+
+    @Test
+    void onEntityChanged_ShouldWriteNothing_WhenNoKeyedFieldChanged() {
+        Employee employee = employee("Catherine", "+971501234567");
+        employee.setLoadedState(employee.captureState());
+        employee.setPosition("Senior Accountant");
+
+        service.onEntityChanged(new EntityHistoryEvent(this, employee, "UPDATED"));
+
+        verifyNoInteractions(blockingKeyStore);
+    }
+
+    @Test
+    void onEntityChanged_ShouldReplaceOnlyPhoneKey_WhenPhoneChanged() {
+        Employee employee = employee("Catherine", "+971501234567");
+        employee.setLoadedState(employee.captureState());
+        employee.setPhoneNumber("+971507654321");
+
+        service.onEntityChanged(new EntityHistoryEvent(this, employee, "UPDATED"));
+
+        verify(blockingKeyStore).remove(employee.getId(), Set.of("P:501234567"));
+        verify(blockingKeyStore).add(employee.getId(), Set.of("P:507654321"));
+    }
+
+    @Test
+    void checkBeforeCreate_ShouldOnlyCount_WhenPolicyIsWarn() {
+        when(duplicateMatcher.match(any(DuplicateProfile.class))).thenReturn(List.of(match()));
+
+        assertDoesNotThrow(() -> service.checkBeforeCreate(newEmployee()));
+        assertEquals(1.0, meterRegistry.counter("employee.duplicates.suspected").count());
+    }
+
+    @Test
+    void checkBeforeCreate_ShouldThrow_WhenPolicyIsReject() {
+        properties.setOnCreate(DuplicateProperties.CreateCheck.REJECT);
+        when(duplicateMatcher.match(any(DuplicateProfile.class))).thenReturn(List.of(match()));
+
+        assertThrows(PossibleDuplicateEmployeeException.class, () -> service.checkBeforeCreate(newEmployee()));
+    }
+
+    @Test
+    void checkBeforeCreate_ShouldNotLookUp_WhenPolicyIsOff() {
+        properties.setOnCreate(DuplicateProperties.CreateCheck.OFF);
+
+        service.checkBeforeCreate(newEmployee());
+
+        verifyNoInteractions(duplicateMatcher);
+    }
+
+    private static Employee employee(String firstName, String phoneNumber) {
+        Employee employee = new Employee();
+        employee.setId(UUID.randomUUID());
+        employee.setFirstName(firstName);
+        employee.setLastName("Smith");
+        employee.setPhoneNumber(phoneNumber);
+        employee.setPosition("Accountant");
+        employee.setHireDate(HIRED);
+        return employee;
+    }
+
+    private static EmployeeDto newEmployee() {
+        return new EmployeeDto("Katherine", "Smith", "050 123 4567", "Accountant", "Finance",
+                "csmith@example.org", 1000f, HIRED);
+    }
+
+    private static DuplicateMatcher.Match match() {
+        return new DuplicateMatcher.Match(new DuplicateProfile(UUID.randomUUID(), "Catherine", "Smith",
+                "catherine.smith@example.com", "+971501234567", HIRED, "Finance"),
+                new DuplicateScorer.Score(0.92, List.of("NAME", "PHONE", "HIRE_DATE")));
+    }
+}
@@ -0,0 +1,172 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.config.DocumentProperties;
+import com.cercli.employee.documents.ContentStore;
+import com.cercli.employee.dto.EmployeeDocumentDto;
+import com.cercli.employee.entity.EmployeeDocument;
+import com.cercli.employee.exception.DocumentTooLargeException;
+import com.cercli.employee.exception.EmployeeNotFoundException;
+import com.cercli.employee.repository.EmployeeDocumentRepository;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.util.DateUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeDocumentServiceImplTest {
+
+    private static final UUID EMPLOYEE_ID = UUID.fromString("4f4b8a6f-c2c2-4f0f-a787-3b8b264e0d50");
+    // SHA-256 of "hello world"
+    private static final String HELLO_SHA256 = "b94d27b9934d3e08a52e52d7da7dabfac484efe37a5380ee9088f7ace2efcde9";
+
+    @Mock
+    private EmployeeDocumentRepository documentRepository;
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private DateUtil dateUtil;
+
+    @TempDir
+    Path storageDirectory;
+
+    private EmployeeDocumentServiceImpl documentService;
+
+    @BeforeEach
+    void setup() {
+        DocumentProperties properties = new DocumentProperties();
+        properties.setStorageDirectory(storageDirectory.toString());
+        properties.setMaxSize(DataSize.ofBytes(16));
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        documentService = new EmployeeDocumentServiceImpl(documentRepository, employeeRepository,
+                new ContentStore(properties, messageSource), properties, dateUtil, messageSource);
+    }
+
+    @Test
+    void addDocument_ShouldStoreContentAndMetadata_WhenEmployeeExists() throws IOException {
+        when(employeeRepository.existsById(EMPLOYEE_ID)).thenReturn(true);
+        when(documentRepository.findFirstByEmployeeIdAndSha256AndFileName(EMPLOYEE_ID, HELLO_SHA256, "contract.pdf"))
+                .thenReturn(Optional.empty());
+        when(documentRepository.save(any(EmployeeDocument.class))).thenAnswer(invocation -> {
+            EmployeeDocument document = invocation.getArgument(0);
+            document.setId(UUID.randomUUID());
+            return document;
+        });
+
+        EmployeeDocumentDto document = documentService.addDocument(EMPLOYEE_ID, "C:\\scans\\contract.pdf",
+                "application/pdf", stream("hello world"), "US");
+
+        assertEquals("contract.pdf", document.getFileName());
+        assertEquals("application/pdf", document.getContentType());
+        assertEquals(11, document.getSizeBytes());
+        assertEquals(HELLO_SHA256, document.getSha256());
+        assertEquals(1, storedFiles());
+    }
+
+    @Test
+    void addDocument_ShouldReturnExistingDocument_WhenSameFileIsUploadedAgain() throws IOException {
+        EmployeeDocument existing = EmployeeDocument.builder()
+                .id(UUID.randomUUID())
+                .employeeId(EMPLOYEE_ID)
+                .fileName("contract.pdf")
+                .contentType("application/pdf")
+                .sizeBytes(11L)
+                .sha256(HELLO_SHA256)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 8, 0))
+                .build();
+        when(employeeRepository.existsById(EMPLOYEE_ID)).thenReturn(true);
+        when(documentRepository.findFirstByEmployeeIdAndSha256AndFileName(EMPLOYEE_ID, HELLO_SHA256, "contract.pdf"))
+                .thenReturn(Optional.of(existing));
+
+        EmployeeDocumentDto document = documentService.addDocument(EMPLOYEE_ID, "contract.pdf",
+                "application/pdf", stream("hello world"), "US");
+
+        assertEquals(existing.getId(), document.getId());
+        verify(documentRepository, never()).save(any());
+        assertEquals(1, storedFiles());
+    }
+
+    @Test
+    void addDocument_ShouldThrowAndStoreNothing_WhenEmployeeDoesNotExist() throws IOException {
+        when(employeeRepository.existsById(EMPLOYEE_ID)).thenReturn(false);
+
+        assertThrows(EmployeeNotFoundException.class, () -> documentService.addDocument(EMPLOYEE_ID, "contract.pdf",
+                "application/pdf", stream("hello world"), "US"));
+
+        assertEquals(0, storedFiles());
+        verifyNoInteractions(documentRepository);
+    }
+
+    @Test
+    void addDocument_ShouldThrowAndStoreNothing_WhenContentExceedsMaxSize() throws IOException {
+        when(employeeRepository.existsById(EMPLOYEE_ID)).thenReturn(true);
+
+        assertThrows(DocumentTooLargeException.class, () -> documentService.addDocument(EMPLOYEE_ID, "contract.pdf",
+                "application/pdf", stream("more than sixteen bytes"), "US"));
+
+        assertEquals(0, storedFiles());
+        verify(documentRepository, never()).save(any());
+    }
+
+    @Test
+    void addDocument_ShouldRejectMultipartBody() {
+        when(employeeRepository.existsById(EMPLOYEE_ID)).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> documentService.addDocument(EMPLOYEE_ID, "contract.pdf",
+                "multipart/form-data; boundary=x", stream("hello world"), "US"));
+        verify(documentRepository, never()).save(any());
+    }
+
+    @Test
+    void getDocumentContent_ShouldLocateStoredContent() throws IOException {
+        when(employeeRepository.existsById(EMPLOYEE_ID)).thenReturn(true);
+        when(documentRepository.findFirstByEmployeeIdAndSha256AndFileName(eq(EMPLOYEE_ID), anyString(), anyString()))
+                .thenReturn(Optional.empty());
+        when(documentRepository.save(any(EmployeeDocument.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        documentService.addDocument(EMPLOYEE_ID, "contract.pdf", "application/pdf", stream("hello world"), "US");
+        UUID documentId = UUID.randomUUID();
+        when(documentRepository.findByIdAndEmployeeId(documentId, EMPLOYEE_ID)).thenReturn(Optional.of(EmployeeDocument.builder()
+                .id(documentId).employeeId(EMPLOYEE_ID).fileName("contract.pdf").contentType("application/pdf")
+                .sizeBytes(11L).sha256(HELLO_SHA256).build()));
+
+        Path path = documentService.getDocumentContent(EMPLOYEE_ID, documentId).path();
+
+        assertEquals("hello world", Files.readString(path));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Content files only, not the incoming directory or the hash directories
+    private long storedFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(storageDirectory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.cercli.employee.service;
 
+import com.cercli.employee.contracts.DuplicateDetectionService;
 import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.EmployeeField;
 import com.cercli.employee.dto.EmployeeResponseDto;
 import com.cercli.employee.exception.EmailAlreadyExistsException;
 import com.cercli.employee.exception.EmployeeNotFoundException;
 import com.cercli.employee.entity.Employee;
 import com.cercli.employee.repository.EmployeeRepository;
 import com.cercli.employee.util.DateUtil;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -16,10 +19,15 @@ import org.springframework.context.MessageSource;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.CannotGetJdbcConnectionException;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -39,6 +47,9 @@ public class EmployeeServiceImplTest {
     @Mock
     private MessageSource messageSource;
 
+    @Mock
+    private DuplicateDetectionService duplicateDetectionService;
+
     @InjectMocks
     private EmployeeServiceImpl employeeService;
 
@@ -103,6 +114,8 @@ public class EmployeeServiceImplTest {
         assertEquals("John", updatedEmployee.getFirstName());
         assertEquals("Smith", updatedEmployee.getLastName());
         assertEquals("987654321", updatedEmployee.getPhoneNumber());
+        // The history delta is taken against the state before the update
+        assertEquals("Developer", existingEmployee.getLoadedState().get("position"));
     }
 
     @Test
@@ -203,6 +216,23 @@ public class EmployeeServiceImplTest {
         assertEquals("Unable to fetch employees at this time.", exception.getMessage());
     }
 
+    @Test
+    void getEmployeesAfter_ShouldQueryByKeyset_WhenCursorGiven() {
+        UUID after = UUID.randomUUID();
+        Employee employee = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@example.com")
+                .build();
+        when(employeeRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(10))).thenReturn(List.of(employee));
+        when(dateUtil.toLocalTime(any(), any())).thenReturn(null);
+
+        List<EmployeeResponseDto> employees = employeeService.getEmployeesAfter(after, 10, "NG");
+
+        assertEquals(1, employees.size());
+        verify(employeeRepository, never()).findAll(any(Pageable.class));
+    }
+
     @Test
     void addEmployee_ShouldThrowIllegalArgumentException_WhenEmailIsNotUnique() {
         EmployeeDto employeeDto = new EmployeeDto("John", "Doe", "123456789", "Developer", "IT", "john.doe@example.com", 5000f, null);
@@ -214,4 +244,25 @@ public class EmployeeServiceImplTest {
 
         assertEquals("Employee with this email already exists", exception.getMessage());
     }
+
+    @Test
+    void getAllEmployeeFields_ShouldReturnRequestedFieldsInLocalTime_WhenEmployeesExist() {
+        LocalDateTime serverTime = LocalDateTime.of(2024, 1, 1, 8, 0);
+        LocalDateTime localTime = LocalDateTime.of(2024, 1, 1, 14, 0);
+        Set<EmployeeField> fields = EnumSet.of(EmployeeField.ID, EmployeeField.EMAIL, EmployeeField.CREATED_AT);
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("id")).thenReturn(UUID);
+        when(tuple.get("email")).thenReturn("john.doe@example.com");
+        when(tuple.get("createdAt")).thenReturn(serverTime);
+        when(employeeRepository.findFields(eq(fields), any(Pageable.class))).thenReturn(List.of(tuple));
+        when(dateUtil.toLocalTime(serverTime, "NG")).thenReturn(localTime);
+
+        List<Map<String, Object>> employees = employeeService.getAllEmployeeFields(0, 10, fields, "NG");
+
+        assertEquals(1, employees.size());
+        assertEquals(List.of("id", "email", "createdAt"), List.copyOf(employees.get(0).keySet()));
+        assertEquals("john.doe@example.com", employees.get(0).get("email"));
+        assertEquals(localTime, employees.get(0).get("createdAt"));
+        verify(employeeRepository, never()).findAll(any(Pageable.class));
+    }
 }
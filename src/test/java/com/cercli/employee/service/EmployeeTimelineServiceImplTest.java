@@ -0,0 +1,143 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.entity.EmployeeHistory;
+import com.cercli.employee.entity.EmployeeSnapshot;
+import com.cercli.employee.repository.EmployeeHistoryRepository;
+import com.cercli.employee.repository.EmployeeSnapshotRepository;
+import com.cercli.employee.util.DateUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeTimelineServiceImplTest {
+
+    private static final UUID EMPLOYEE_ID = UUID.fromString("4f4b8a6f-c2c2-4f0f-a787-3b8b264e0d50");
+    private static final LocalDateTime AS_OF = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Mock
+    private EmployeeSnapshotRepository snapshotRepository;
+
+    @Mock
+    private EmployeeHistoryRepository historyRepository;
+
+    @Mock
+    private DateUtil dateUtil;
+
+    private EmployeeTimelineServiceImpl timelineService;
+
+    @BeforeEach
+    public void setup() {
+        timelineService = new EmployeeTimelineServiceImpl(snapshotRepository, historyRepository, dateUtil,
+                Jackson2ObjectMapperBuilder.json().build());
+        when(dateUtil.toServerTime(AS_OF, "NG")).thenReturn(AS_OF);
+    }
+
+    @Test
+    void getEmployeeAsOf_ShouldApplyDeltasAfterSnapshot_WhenHistoryExists() {
+        EmployeeSnapshot snapshot = snapshot(EMPLOYEE_ID, 20L);
+        when(snapshotRepository.findFirstByEmployeeIdAndValidFromLessThanEqualOrderByVersionDesc(EMPLOYEE_ID, AS_OF))
+                .thenReturn(Optional.of(snapshot));
+        when(historyRepository.findDeltasAfter(EMPLOYEE_ID, 20L, AS_OF)).thenReturn(List.of(
+                delta(21L, Map.of("position", "Senior Developer")),
+                delta(22L, Map.of("salary", 6500.0, "department", "Platform"))));
+        when(dateUtil.toLocalTime(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EmployeeResponseDto employee = timelineService.getEmployeeAsOf(EMPLOYEE_ID, AS_OF, "NG").orElseThrow();
+
+        assertEquals(EMPLOYEE_ID, employee.getId());
+        assertEquals("John", employee.getFirstName());
+        assertEquals("Senior Developer", employee.getPosition());
+        assertEquals("Platform", employee.getDepartment());
+        assertEquals(6500f, employee.getSalary());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 8, 0), employee.getCreatedAt());
+    }
+
+    @Test
+    void getEmployeeAsOf_ShouldPreferLatestRow_WhenVersionRecordedTwice() {
+        when(snapshotRepository.findFirstByEmployeeIdAndValidFromLessThanEqualOrderByVersionDesc(EMPLOYEE_ID, AS_OF))
+                .thenReturn(Optional.of(snapshot(EMPLOYEE_ID, 0L)));
+        // The first version 1 row belongs to a change that was rolled back
+        when(historyRepository.findDeltasAfter(EMPLOYEE_ID, 0L, AS_OF)).thenReturn(List.of(
+                delta(1L, Map.of("position", "Rolled Back")),
+                delta(1L, Map.of("position", "Manager"))));
+        when(dateUtil.toLocalTime(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        EmployeeResponseDto employee = timelineService.getEmployeeAsOf(EMPLOYEE_ID, AS_OF, "NG").orElseThrow();
+
+        assertEquals("Manager", employee.getPosition());
+    }
+
+    @Test
+    void getEmployeeAsOf_ShouldReturnEmpty_WhenEmployeeDidNotExistYet() {
+        when(snapshotRepository.findFirstByEmployeeIdAndValidFromLessThanEqualOrderByVersionDesc(EMPLOYEE_ID, AS_OF))
+                .thenReturn(Optional.empty());
+
+        assertTrue(timelineService.getEmployeeAsOf(EMPLOYEE_ID, AS_OF, "NG").isEmpty());
+        verifyNoInteractions(historyRepository);
+    }
+
+    @Test
+    void getAllEmployeesAsOf_ShouldReplayDeltasPerEmployee_WithOneDeltaQuery() {
+        UUID otherId = UUID.randomUUID();
+        EmployeeSnapshot first = snapshot(EMPLOYEE_ID, 0L);
+        EmployeeSnapshot second = snapshot(otherId, 40L);
+        when(snapshotRepository.findNearestForPage(AS_OF, 10, 0)).thenReturn(List.of(first, second));
+        EmployeeHistory otherDelta = delta(41L, Map.of("lastName", "Smith"));
+        otherDelta.setEmployeeId(otherId);
+        when(historyRepository.findDeltasAfterSnapshots(List.of(first.getId(), second.getId()), AS_OF)).thenReturn(List.of(otherDelta));
+        when(dateUtil.toLocalTime(any(), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<EmployeeResponseDto> employees = timelineService.getAllEmployeesAsOf(0, 10, AS_OF, "NG");
+
+        assertEquals(2, employees.size());
+        assertEquals("Doe", employees.get(0).getLastName());
+        assertEquals("Smith", employees.get(1).getLastName());
+        verify(historyRepository, times(1)).findDeltasAfterSnapshots(any(), any());
+    }
+
+    private EmployeeSnapshot snapshot(UUID employeeId, Long version) {
+        Map<String, Object> state = new HashMap<>();
+        state.put("firstName", "John");
+        state.put("lastName", "Doe");
+        state.put("position", "Developer");
+        state.put("department", "IT");
+        state.put("email", "john.doe@example.com");
+        state.put("salary", 5000.0);
+        state.put("hireDate", "2020-01-01");
+        state.put("managerId", null);
+        state.put("createdAt", "2024-01-01T08:00");
+        state.put("modifiedAt", "2024-01-01T08:00");
+        return EmployeeSnapshot.builder()
+                .id(UUID.randomUUID())
+                .employeeId(employeeId)
+                .version(version)
+                .validFrom(LocalDateTime.of(2024, 1, 1, 8, 0))
+                .state(state)
+                .build();
+    }
+
+    private EmployeeHistory delta(Long version, Map<String, Object> delta) {
+        return EmployeeHistory.builder()
+                .employeeId(EMPLOYEE_ID)
+                .version(version)
+                .delta(delta)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.config.WriteBehindProperties;
+import com.cercli.employee.contracts.DuplicateDetectionService;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.WriteOperationDto;
+import com.cercli.employee.entity.WriteOperation;
+import com.cercli.employee.exception.PossibleDuplicateEmployeeException;
+import com.cercli.employee.repository.WriteOperationRepository;
+import com.cercli.employee.util.DateUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EmployeeWriteOperationServiceImplTest {
+
+    @Mock
+    private GroupCommitEmployeeWriter writer;
+
+    @Mock
+    private WriteOperationRepository writeOperationRepository;
+
+    @Mock
+    private DuplicateDetectionService duplicateDetectionService;
+
+    @Mock
+    private DateUtil dateUtil;
+
+    private EmployeeWriteOperationServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.setUseCodeAsDefaultMessage(true);
+        service = new EmployeeWriteOperationServiceImpl(writer, writeOperationRepository, duplicateDetectionService,
+                new WriteBehindProperties(), dateUtil, messageSource);
+        lenient().when(dateUtil.toServerTime(any(LocalDateTime.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(dateUtil.toLocalTime(any(LocalDateTime.class), anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void submitCreate_ShouldStoreAndQueue_WhenEmployeeIsNew() {
+        when(writer.hasCapacity()).thenReturn(true);
+        when(writer.submit(any(UUID.class))).thenReturn(true);
+        when(writeOperationRepository.save(any(WriteOperation.class))).thenAnswer(invocation -> {
+            WriteOperation operation = invocation.getArgument(0);
+            operation.setId(UUID.randomUUID());
+            return operation;
+        });
+        EmployeeDto employeeDto = newEmployee();
+
+        WriteOperationDto operation = service.submitCreate(employeeDto, "US");
+
+        assertEquals(WriteOperationDto.Status.PENDING, operation.getStatus());
+        verify(duplicateDetectionService).checkBeforeCreate(employeeDto);
+        verify(writer).lease(any(WriteOperation.class));
+        verify(writer).submit(operation.getId());
+    }
+
+    @Test
+    void submitCreate_ShouldNotQueue_WhenDuplicatesAreRejected() {
+        EmployeeDto employeeDto = newEmployee();
+        doThrow(new PossibleDuplicateEmployeeException("employee.duplicate.suspected"))
+                .when(duplicateDetectionService).checkBeforeCreate(employeeDto);
+
+        assertThrows(PossibleDuplicateEmployeeException.class, () -> service.submitCreate(employeeDto, "US"));
+
+        verify(writeOperationRepository, never()).save(any());
+        verify(writer, never()).submit(any());
+    }
+
+    private static EmployeeDto newEmployee() {
+        return new EmployeeDto("Jane", "Doe", "0000000000", "Engineer", "IT", "jane@example.com", 1000f, LocalDate.now());
+    }
+}
@@ -0,0 +1,236 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.config.WriteBehindProperties;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.WriteOperationDto;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.WriteOperation;
+import com.cercli.employee.factory.HistoryFactory;
+import com.cercli.employee.repository.EmployeeRepository;
+import com.cercli.employee.repository.WriteOperationRepository;
+import com.cercli.employee.util.DateUtil;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class GroupCommitEmployeeWriterTest {
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private WriteOperationRepository writeOperationRepository;
+
+    @Mock
+    private HistoryFactory historyFactory;
+
+    @Mock
+    private DateUtil dateUtil;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private GroupCommitEmployeeWriter writer;
+    // Operations as committed, and the copies loaded by the current transaction
+    private final Map<UUID, WriteOperation> stored = new LinkedHashMap<>();
+    private final List<WriteOperation> loaded = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        writer = new GroupCommitEmployeeWriter(employeeRepository, writeOperationRepository, historyFactory, dateUtil,
+                new WriteBehindProperties(), transactionManager);
+        lenient().when(dateUtil.toServerTime(any(LocalDateTime.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(writeOperationRepository.lockAllById(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            List<WriteOperation> operations = stored.values().stream()
+                    .filter(operation -> ids.contains(operation.getId()))
+                    .map(GroupCommitEmployeeWriterTest::copy)
+                    .toList();
+            loaded.addAll(operations);
+            return operations;
+        });
+        lenient().doAnswer(invocation -> {
+            loaded.forEach(operation -> stored.put(operation.getId(), operation));
+            loaded.clear();
+            return null;
+        }).when(transactionManager).commit(any());
+        lenient().doAnswer(invocation -> {
+            loaded.clear();
+            return null;
+        }).when(transactionManager).rollback(any());
+    }
+
+    @Test
+    void commit_ShouldCommitCreatesTogether_AndFailTakenEmails() {
+        when(employeeRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("taken@example.com"));
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> {
+            Employee employee = invocation.getArgument(0);
+            employee.setId(UUID.randomUUID());
+            return employee;
+        });
+        WriteOperation first = create("new@example.com");
+        WriteOperation duplicate = create("new@example.com");
+        WriteOperation taken = create("taken@example.com");
+
+        writer.commit(ids(first, duplicate, taken));
+
+        assertEquals(WriteOperationDto.Status.SUCCEEDED, committed(first).getStatus());
+        assertNotNull(committed(first).getEmployeeId());
+        assertEquals(WriteOperationDto.Failure.EMAIL_ALREADY_EXISTS, committed(duplicate).getFailure());
+        assertEquals(WriteOperationDto.Failure.EMAIL_ALREADY_EXISTS, committed(taken).getFailure());
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(historyFactory).deferHistory();
+        verify(historyFactory).writeDeferredHistory();
+    }
+
+    @Test
+    void commit_ShouldFlushBetweenChanges_WhenOneEmployeeChangesTwice() {
+        Employee employee = employee();
+        when(employeeRepository.findAllById(anyCollection())).thenReturn(List.of(employee));
+        WriteOperation first = update(employee.getId(), "Engineer");
+        WriteOperation second = update(employee.getId(), "Senior Engineer");
+
+        writer.commit(ids(first, second));
+
+        // Once between the two changes and once at the end of the batch
+        verify(employeeRepository, times(2)).flush();
+        assertEquals("Senior Engineer", employee.getPosition());
+        assertEquals(WriteOperationDto.Status.SUCCEEDED, committed(first).getStatus());
+        assertEquals(WriteOperationDto.Status.SUCCEEDED, committed(second).getStatus());
+    }
+
+    @Test
+    void commit_ShouldApplyOneAtATime_WhenBatchConflicts() {
+        Employee one = employee();
+        Employee other = employee();
+        when(employeeRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Iterable<UUID> ids = invocation.getArgument(0);
+            return List.of(one, other).stream().filter(e -> contains(ids, e.getId())).toList();
+        });
+        ObjectOptimisticLockingFailureException conflict = new ObjectOptimisticLockingFailureException(Employee.class, other.getId());
+        doThrow(conflict).doNothing().doThrow(conflict).when(employeeRepository).flush();
+        WriteOperation applied = update(one.getId(), "Engineer");
+        WriteOperation conflicting = update(other.getId(), "Engineer");
+
+        writer.commit(ids(applied, conflicting));
+
+        assertEquals(WriteOperationDto.Status.SUCCEEDED, committed(applied).getStatus());
+        assertEquals(WriteOperationDto.Status.FAILED, committed(conflicting).getStatus());
+        assertEquals(WriteOperationDto.Failure.VERSION_CONFLICT, committed(conflicting).getFailure());
+        // The batch, each operation on its own and recording the conflict
+        verify(transactionManager, times(4)).getTransaction(any());
+    }
+
+    @Test
+    void commit_ShouldFailCreate_WhenAnotherWriteTakesTheEmailFirst() {
+        when(employeeRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(employeeRepository.save(any(Employee.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        DataIntegrityViolationException duplicate = new DataIntegrityViolationException("duplicate key",
+                new ConstraintViolationException("duplicate key", new SQLException(), "employees_email_key"));
+        doThrow(duplicate).when(employeeRepository).flush();
+        WriteOperation create = create("raced@example.com");
+
+        writer.commit(ids(create));
+
+        assertEquals(WriteOperationDto.Status.FAILED, committed(create).getStatus());
+        assertEquals(WriteOperationDto.Failure.EMAIL_ALREADY_EXISTS, committed(create).getFailure());
+    }
+
+    @Test
+    void commit_ShouldFailUpdate_WhenEmployeeDoesNotExist() {
+        when(employeeRepository.findAllById(anyCollection())).thenReturn(List.of());
+        WriteOperation missing = update(UUID.randomUUID(), "Engineer");
+
+        writer.commit(ids(missing));
+
+        assertEquals(WriteOperationDto.Failure.EMPLOYEE_NOT_FOUND, committed(missing).getFailure());
+        assertNotNull(committed(missing).getCompletedAt());
+    }
+
+    @Test
+    void commit_ShouldSkipOperation_WhenAnotherNodeTookItOver() {
+        WriteOperation operation = update(UUID.randomUUID(), "Engineer");
+        operation.setLeaseOwner("another-node");
+
+        writer.commit(ids(operation));
+
+        assertEquals(WriteOperationDto.Status.PENDING, committed(operation).getStatus());
+        verify(employeeRepository, never()).findAllById(anyCollection());
+    }
+
+    private WriteOperation create(String email) {
+        EmployeeDto employeeDto = new EmployeeDto("Jane", "Doe", "0000000000", "Engineer", "IT", email, 1000f, LocalDate.now());
+        return store(WriteOperationDto.Type.CREATE, null, employeeDto);
+    }
+
+    private WriteOperation update(UUID employeeId, String position) {
+        EmployeeDto change = new EmployeeDto(null, null, null, position, null, null, null, null);
+        return store(WriteOperationDto.Type.UPDATE, employeeId, change);
+    }
+
+    private WriteOperation store(WriteOperationDto.Type type, UUID employeeId, EmployeeDto employeeDto) {
+        WriteOperation operation = WriteOperation.builder()
+                .id(UUID.randomUUID())
+                .type(type)
+                .status(WriteOperationDto.Status.PENDING)
+                .employeeId(employeeId)
+                .employee(employeeDto)
+                .submittedAt(LocalDateTime.now())
+                .build();
+        writer.lease(operation);
+        stored.put(operation.getId(), operation);
+        return operation;
+    }
+
+    private WriteOperation committed(WriteOperation operation) {
+        return stored.get(operation.getId());
+    }
+
+    private static WriteOperation copy(WriteOperation operation) {
+        return new WriteOperation(operation.getId(), operation.getType(), operation.getStatus(), operation.getEmployeeId(),
+                operation.getEmployee(), operation.getFailure(), operation.getLeaseOwner(), operation.getLeaseExpiresAt(),
+                operation.getSubmittedAt(), operation.getCompletedAt(), operation.getModifiedAt());
+    }
+
+    private static List<UUID> ids(WriteOperation... operations) {
+        return List.of(operations).stream().map(WriteOperation::getId).toList();
+    }
+
+    private static Employee employee() {
+        Employee employee = Employee.builder().firstName("Jane").lastName("Doe").email("jane@example.com").build();
+        employee.setId(UUID.randomUUID());
+        return employee;
+    }
+
+    private static boolean contains(Iterable<UUID> ids, UUID id) {
+        for (UUID candidate : ids) {
+            if (candidate.equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
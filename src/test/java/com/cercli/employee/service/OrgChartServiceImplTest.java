@@ -0,0 +1,105 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.dto.OrgChartNodeDto;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.exception.EmployeeNotFoundException;
+import com.cercli.employee.repository.EmployeeHierarchyRepository;
+import com.cercli.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class OrgChartServiceImplTest {
+
+    private static final UUID EMPLOYEE_ID = UUID.fromString("4f4b8a6f-c2c2-4f0f-a787-3b8b264e0d50");
+    private static final UUID MANAGER_ID = UUID.fromString("9a1c6b1e-5f7d-4c55-9d1e-8a0f3b2c4d5e");
+
+    @Mock
+    private EmployeeRepository employeeRepository;
+
+    @Mock
+    private EmployeeHierarchyRepository hierarchyRepository;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private OrgChartServiceImpl orgChartService;
+
+    @Test
+    void assignManager_ShouldRelinkSubtree_WhenManagerChanges() {
+        Employee employee = employee(null);
+        when(employeeRepository.findById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
+        when(employeeRepository.existsById(MANAGER_ID)).thenReturn(true);
+        when(hierarchyRepository.isAncestor(EMPLOYEE_ID, MANAGER_ID)).thenReturn(false);
+
+        OrgChartNodeDto result = orgChartService.assignManager(EMPLOYEE_ID, MANAGER_ID);
+
+        assertEquals(MANAGER_ID, result.getManagerId());
+        assertEquals(MANAGER_ID, employee.getManagerId());
+        InOrder inOrder = inOrder(hierarchyRepository, employeeRepository);
+        inOrder.verify(hierarchyRepository).lockHierarchy();
+        inOrder.verify(employeeRepository).save(employee);
+        inOrder.verify(hierarchyRepository).detachSubtree(EMPLOYEE_ID);
+        inOrder.verify(hierarchyRepository).attachSubtree(EMPLOYEE_ID, MANAGER_ID);
+    }
+
+    @Test
+    void assignManager_ShouldOnlyDetach_WhenManagerRemoved() {
+        Employee employee = employee(MANAGER_ID);
+        when(employeeRepository.findById(EMPLOYEE_ID)).thenReturn(Optional.of(employee));
+
+        orgChartService.assignManager(EMPLOYEE_ID, null);
+
+        assertNull(employee.getManagerId());
+        verify(hierarchyRepository).detachSubtree(EMPLOYEE_ID);
+        verify(hierarchyRepository, never()).attachSubtree(any(), any());
+    }
+
+    @Test
+    void assignManager_ShouldThrowIllegalArgumentException_WhenManagerReportsToEmployee() {
+        when(employeeRepository.findById(EMPLOYEE_ID)).thenReturn(Optional.of(employee(null)));
+        when(employeeRepository.existsById(MANAGER_ID)).thenReturn(true);
+        when(hierarchyRepository.isAncestor(EMPLOYEE_ID, MANAGER_ID)).thenReturn(true);
+        when(messageSource.getMessage(anyString(), nullable(Object[].class), anyString(), any(Locale.class)))
+                .thenReturn("An employee cannot report to themselves or to someone in their own reporting line.");
+
+        assertThrows(IllegalArgumentException.class, () -> orgChartService.assignManager(EMPLOYEE_ID, MANAGER_ID));
+
+        verify(hierarchyRepository, never()).detachSubtree(any());
+        verify(employeeRepository, never()).save(any());
+    }
+
+    @Test
+    void assignManager_ShouldThrowEmployeeNotFoundException_WhenManagerDoesNotExist() {
+        when(employeeRepository.findById(EMPLOYEE_ID)).thenReturn(Optional.of(employee(null)));
+        when(employeeRepository.existsById(MANAGER_ID)).thenReturn(false);
+        when(messageSource.getMessage(anyString(), any(Object[].class), anyString(), any(Locale.class)))
+                .thenReturn("Employee not found with ID: " + MANAGER_ID);
+
+        assertThrows(EmployeeNotFoundException.class, () -> orgChartService.assignManager(EMPLOYEE_ID, MANAGER_ID));
+    }
+
+    private Employee employee(UUID managerId) {
+        Employee employee = Employee.builder()
+                .firstName("John")
+                .lastName("Doe")
+                .position("Developer")
+                .managerId(managerId)
+                .build();
+        employee.setId(EMPLOYEE_ID);
+        return employee;
+    }
+}
@@ -0,0 +1,97 @@
+package com.cercli.employee.service;
+
+import com.cercli.employee.cache.ClusterInvalidationBus;
+import com.cercli.employee.cache.EmployeeCache;
+import com.cercli.employee.config.CacheProperties;
+import com.cercli.employee.config.CoalescingProperties;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.exception.RequestCoalescingTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadThroughEmployeeServiceTest {
+
+    private static final UUID FIRST = UUID.fromString("4f4b8a6f-c2c2-4f0f-a787-3b8b264e0d50");
+    private static final UUID SECOND = UUID.fromString("0b7f3a2e-8a0c-4a55-9c4e-2f1f5d2a9b11");
+    private static final UUID THIRD = UUID.fromString("7d1c9e55-3b0e-4f8a-a1d2-6c5e4b3a2f10");
+
+    @Mock
+    private EmployeeServiceImpl delegate;
+
+    @Mock
+    private ClusterInvalidationBus invalidationBus;
+
+    private final CoalescingProperties coalescingProperties = new CoalescingProperties();
+    private EmployeeCache employeeCache;
+    private ReadThroughEmployeeService employeeService;
+
+    @BeforeEach
+    void setup() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("employee.lookup.timeout", Locale.FRENCH, "Délai d'attente dépassé.");
+        employeeCache = new EmployeeCache(new CacheProperties(), invalidationBus);
+        employeeService = new ReadThroughEmployeeService(delegate, coalescingProperties, employeeCache, messageSource);
+    }
+
+    @Test
+    void getEmployees_ShouldKeepRequestedOrder_WhenSomeEmployeesAreCached() {
+        when(invalidationBus.isConnected()).thenReturn(true);
+        employeeCache.put(THIRD, "US", employee(THIRD), employeeCache.generation());
+        // Unknown IDs are left out, and the database returns the rest in its own order
+        UUID unknown = UUID.randomUUID();
+        when(delegate.getEmployees(List.of(FIRST, unknown, SECOND), "US")).thenReturn(List.of(employee(SECOND), employee(FIRST)));
+
+        List<EmployeeResponseDto> employees = employeeService.getEmployees(List.of(FIRST, unknown, THIRD, SECOND), "US");
+
+        assertEquals(List.of(FIRST, THIRD, SECOND), employees.stream().map(EmployeeResponseDto::getId).toList());
+    }
+
+    @Test
+    void getEmployee_ShouldFailWithLocalizedMessage_WhenInFlightLookupTakesTooLong() throws Exception {
+        coalescingProperties.setMaxWait(Duration.ofMillis(50));
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.getEmployee(FIRST, "US")).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            release.await();
+            return Optional.of(employee(FIRST));
+        });
+        Thread first = new Thread(() -> employeeService.getEmployee(FIRST, "US"));
+        first.start();
+        LocaleContextHolder.setLocale(Locale.FRENCH);
+        try {
+            assertTrue(lookupStarted.await(5, TimeUnit.SECONDS));
+
+            RequestCoalescingTimeoutException timeout = assertThrows(RequestCoalescingTimeoutException.class,
+                    () -> employeeService.getEmployee(FIRST, "US"));
+
+            assertEquals("Délai d'attente dépassé.", timeout.getMessage());
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+            release.countDown();
+            first.join();
+        }
+    }
+
+    private static EmployeeResponseDto employee(UUID id) {
+        return new EmployeeResponseDto(id, "John", "Doe", "123456789", "Developer", "IT",
+                id + "@example.com", 5000f, null, null, null, null);
+    }
+}
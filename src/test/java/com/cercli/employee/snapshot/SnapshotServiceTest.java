@@ -0,0 +1,134 @@
+package com.cercli.employee.snapshot;
+
+import com.cercli.employee.config.SnapshotProperties;
+import com.cercli.employee.util.DateUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SnapshotServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 11, 11, 12, 0, 0, 123_000_000);
+
+    @TempDir
+    Path directory;
+
+    private final SnapshotProperties properties = new SnapshotProperties();
+    private final DateUtil dateUtil = mock(DateUtil.class);
+    private SnapshotService snapshots;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        properties.setDirectory(directory.toString());
+        when(dateUtil.toServerTime(any(LocalDateTime.class))).thenReturn(NOW);
+        snapshots = new SnapshotService(properties, dateUtil, mock(ObjectProvider.class));
+    }
+
+    @Test
+    void read_ShouldReturnWrittenRecords_WhenSnapshotOutgrowsInitialMapping() {
+        // ~100 bytes per record, well past the initial 64 KB mapping
+        List<Sample> records = IntStream.range(0, 5_000).mapToObj(SnapshotServiceTest::sample).toList();
+
+        snapshots.write("samples", () -> records, Sample.CODEC);
+        Optional<SnapshotService.Snapshot<Sample>> snapshot = snapshots.read("samples", Sample.CODEC, Integer.MAX_VALUE);
+
+        assertTrue(snapshot.isPresent());
+        assertEquals(records, snapshot.get().records());
+        assertEquals(NOW, snapshot.get().takenAt());
+        assertEquals(NOW.minus(properties.getReconcileOverlap()), snapshot.get().reconcileFrom());
+    }
+
+    @Test
+    void read_ShouldKeepNullsAndStopAtLimit() {
+        Sample empty = new Sample(null, null, null, null, null, null);
+        snapshots.write("samples", () -> List.of(empty, sample(1), sample(2)), Sample.CODEC);
+
+        List<Sample> records = snapshots.read("samples", Sample.CODEC, 2).orElseThrow().records();
+
+        assertEquals(List.of(empty, sample(1)), records);
+    }
+
+    @Test
+    void read_ShouldIgnoreSnapshot_WhenEpochChanged() {
+        snapshots.write("samples", () -> List.of(sample(1)), Sample.CODEC);
+        properties.setEpoch(properties.getEpoch() + 1);
+
+        assertTrue(snapshots.read("samples", Sample.CODEC, 10).isEmpty());
+    }
+
+    @Test
+    void read_ShouldIgnoreSnapshot_WhenOlderThanMaxAge() {
+        snapshots.write("samples", () -> List.of(sample(1)), Sample.CODEC);
+        when(dateUtil.toServerTime(any(LocalDateTime.class))).thenReturn(NOW.plus(properties.getMaxAge()).plus(Duration.ofSeconds(1)));
+
+        assertTrue(snapshots.read("samples", Sample.CODEC, 10).isEmpty());
+    }
+
+    @Test
+    void read_ShouldIgnoreSnapshot_WhenPayloadIsCorrupt() throws Exception {
+        snapshots.write("samples", () -> List.of(sample(1), sample(2)), Sample.CODEC);
+        Path file = directory.resolve("samples.snapshot");
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(SnapshotWriter.HEADER_BYTES + 3);
+            int value = raf.read();
+            raf.seek(SnapshotWriter.HEADER_BYTES + 3);
+            raf.write(value ^ 0xFF);
+        }
+
+        assertTrue(snapshots.read("samples", Sample.CODEC, 10).isEmpty());
+    }
+
+    @Test
+    void write_ShouldKeepPreviousSnapshot_WhenThereIsNothingToWrite() {
+        snapshots.write("samples", () -> List.of(sample(1)), Sample.CODEC);
+
+        snapshots.write("samples", List::of, Sample.CODEC);
+
+        assertEquals(List.of(sample(1)), snapshots.read("samples", Sample.CODEC, 10).orElseThrow().records());
+        assertFalse(Files.exists(directory.resolve("samples.snapshot.tmp")));
+    }
+
+    private static Sample sample(int i) {
+        return new Sample(UUID.nameUUIDFromBytes(new byte[]{(byte) i, (byte) (i >> 8)}), "Employée " + i, (long) i,
+                i * 1.5f, LocalDate.of(2020, 1, 1).plusDays(i), NOW.minusSeconds(i));
+    }
+
+    private record Sample(UUID id, String name, Long version, Float salary, LocalDate hireDate, LocalDateTime modifiedAt) {
+
+        static final SnapshotCodec<Sample> CODEC = new SnapshotCodec<>() {
+            @Override
+            public void write(Sample sample, SnapshotWriter out) {
+                out.putUuid(sample.id());
+                out.putString(sample.name());
+                out.putNullableLong(sample.version());
+                out.putNullableFloat(sample.salary());
+                out.putDate(sample.hireDate());
+                out.putDateTime(sample.modifiedAt());
+            }
+
+            @Override
+            public Sample read(SnapshotReader in) {
+                return new Sample(in.getUuid(), in.getString(), in.getNullableLong(), in.getNullableFloat(),
+                        in.getDate(), in.getDateTime());
+            }
+        };
+    }
+}
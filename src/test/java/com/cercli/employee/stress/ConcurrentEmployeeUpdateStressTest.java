@@ -0,0 +1,99 @@
+package com.cercli.employee.stress;
+
+import com.cercli.employee.contracts.EmployeeService;
+import com.cercli.employee.dto.EmployeeDto;
+import com.cercli.employee.dto.EmployeeResponseDto;
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.EmployeeHistory;
+import com.cercli.employee.exception.EmployeeUpdateConflictException;
+import com.cercli.employee.repository.EmployeeHistoryRepository;
+import com.cercli.employee.repository.EmployeeRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hammers one employee with concurrent updates through the service and checks that every accepted update
+ * produced exactly one new version and one history row. Needs the PostgreSQL database configured in
+ * application.yml; run with {@code mvn test -Pstress}.
+ */
+@Tag("stress")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ConcurrentEmployeeUpdateStressTest {
+
+    private static final int THREADS = 16;
+    private static final int UPDATES_PER_THREAD = 25;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeHistoryRepository historyRepository;
+
+    @Test
+    void updateEmployee_ShouldKeepVersionsAndHistoryConsistent_UnderConcurrentUpdates() throws Exception {
+        EmployeeResponseDto created = employeeService.addEmployee(new EmployeeDto("Stress", "Test", "0000000000",
+                "Engineer", "IT", "stress-" + UUID.randomUUID() + "@example.com", 1000f, LocalDate.now()), "US");
+        UUID id = created.getId();
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+                        EmployeeDto change = new EmployeeDto(null, null, null, "Engineer " + thread + "-" + i,
+                                null, null, 1000f + thread * 100 + i, null);
+                        try {
+                            employeeService.updateEmployee(id, change, "US");
+                            accepted.incrementAndGet();
+                        } catch (EmployeeUpdateConflictException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Employee stored = employeeRepository.findById(id).orElseThrow();
+        List<EmployeeHistory> history = historyRepository.findByEmployeeId(id);
+        Set<Long> versions = history.stream().map(EmployeeHistory::getVersion).collect(Collectors.toSet());
+
+        System.out.printf("accepted %d, rejected %d of %d updates%n", accepted.get(), rejected.get(), THREADS * UPDATES_PER_THREAD);
+        assertEquals(THREADS * UPDATES_PER_THREAD, accepted.get() + rejected.get());
+        assertEquals(accepted.get(), stored.getVersion());
+        // Creation plus one row per accepted update, each at its own version
+        assertEquals(accepted.get() + 1, history.size());
+        assertEquals(history.size(), versions.size());
+    }
+}
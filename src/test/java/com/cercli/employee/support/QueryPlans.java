@@ -0,0 +1,45 @@
+package com.cercli.employee.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs captured statements through PostgreSQL's {@code EXPLAIN} with the values they were executed with.
+ */
+public final class QueryPlans {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private QueryPlans() {
+    }
+
+    /**
+     * @return The tables the planner would read with a sequential scan, one entry per scan node.
+     */
+    public static List<String> sequentialScans(JdbcTemplate jdbcTemplate, SqlCapture.CapturedStatement statement) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + statement.sql(), String.class,
+                statement.parameterValues());
+        List<String> relations = new ArrayList<>();
+        try {
+            for (JsonNode root : OBJECT_MAPPER.readTree(plan)) {
+                collectSequentialScans(root.path("Plan"), relations);
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan for " + statement.sql() + ": " + plan, e);
+        }
+        return relations;
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> relations) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            relations.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, relations);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.cercli.employee.support;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the connection checkouts and SQL statements issued through a {@link DataSource}.
+ * <p>
+ * The data source returned by {@link #wrap(DataSource)} records into the {@link Recording} started on the
+ * calling thread, so work done by schedulers, the report workers or the invalidation listener does not
+ * leak into a request's counts. Every prepared or executed statement is one round trip; the parameters
+ * of the first execution are kept so the statement can be run through {@code EXPLAIN} afterwards.
+ */
+public final class SqlCapture {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private SqlCapture() {
+    }
+
+    /**
+     * Starts recording on the current thread, replacing any recording already running on it.
+     */
+    public static Recording start() {
+        Recording recording = new Recording();
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    public static DataSource wrap(DataSource dataSource) {
+        if (Proxy.isProxyClass(dataSource.getClass()) && Proxy.getInvocationHandler(dataSource) instanceof DataSourceHandler) {
+            return dataSource;
+        }
+        return proxy(DataSource.class, new DataSourceHandler(dataSource));
+    }
+
+    public static final class Recording implements AutoCloseable {
+
+        private final AtomicInteger connections = new AtomicInteger();
+        private final List<CapturedStatement> statements = Collections.synchronizedList(new ArrayList<>());
+
+        public int connections() {
+            return connections.get();
+        }
+
+        public List<CapturedStatement> statements() {
+            synchronized (statements) {
+                return List.copyOf(statements);
+            }
+        }
+
+        public List<CapturedStatement> selects() {
+            return statements().stream().filter(CapturedStatement::isSelect).toList();
+        }
+
+        /**
+         * @return The recorded SQL, one statement per line, for assertion messages.
+         */
+        public String describe() {
+            StringBuilder description = new StringBuilder();
+            for (CapturedStatement statement : statements()) {
+                description.append(System.lineSeparator()).append("  ").append(statement.sql());
+            }
+            return description.toString();
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * @param sql        The statement text as sent to the driver.
+     * @param parameters The first bound value of each parameter, by index.
+     */
+    public record CapturedStatement(String sql, SortedMap<Integer, Object> parameters) {
+
+        public boolean isSelect() {
+            return sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select");
+        }
+
+        public Object[] parameterValues() {
+            synchronized (parameters) {
+                return parameters.values().toArray();
+            }
+        }
+    }
+
+    private static void recordConnection() {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.connections.incrementAndGet();
+        }
+    }
+
+    private static CapturedStatement recordStatement(String sql) {
+        CapturedStatement statement = new CapturedStatement(sql, Collections.synchronizedSortedMap(new TreeMap<>()));
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.statements.add(statement);
+        }
+        return statement;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private record DataSourceHandler(DataSource target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlCapture.invoke(target, method, args);
+            if (method.getName().equals("getConnection")) {
+                recordConnection();
+                return proxy(Connection.class, new ConnectionHandler((Connection) result));
+            }
+            return result;
+        }
+    }
+
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SqlCapture.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                        new PreparedStatementHandler(result, recordStatement((String) args[0])));
+                case "prepareCall" -> proxy(CallableStatement.class,
+                        new PreparedStatementHandler(result, recordStatement((String) args[0])));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler(result));
+                default -> result;
+            };
+        }
+    }
+
+    // Plain statements carry their SQL on execute rather than on creation
+    private record StatementHandler(Object target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ((method.getName().startsWith("execute") || method.getName().equals("addBatch"))
+                    && args != null && args.length > 0 && args[0] instanceof String sql) {
+                recordStatement(sql);
+            }
+            return SqlCapture.invoke(target, method, args);
+        }
+    }
+
+    private record PreparedStatementHandler(Object target, CapturedStatement statement) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                Object value = method.getName().equals("setNull") ? null : args[1];
+                statement.parameters().putIfAbsent(index, value);
+            }
+            return SqlCapture.invoke(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.cercli.employee.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes the application's data source through {@link SqlCapture}. Import it into a
+ * {@code @SpringBootTest} and wrap each request in {@link SqlCapture#start()}.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class SqlCaptureConfiguration {
+
+    @Bean
+    static BeanPostProcessor sqlCaptureDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? SqlCapture.wrap(dataSource) : bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.cercli.employee.support;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SqlCaptureTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final Connection connection = mock(Connection.class);
+    private final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    private final Statement statement = mock(Statement.class);
+
+    @Test
+    void wrap_ShouldCountCheckoutsAndStatements_OnTheRecordingThread() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+        DataSource dataSource = SqlCapture.wrap(target);
+
+        try (SqlCapture.Recording recording = SqlCapture.start()) {
+            try (Connection wrapped = dataSource.getConnection()) {
+                wrapped.prepareStatement("select * from employees where id = ?").executeQuery();
+                wrapped.createStatement().execute("ANALYZE employees");
+            }
+
+            assertEquals(1, recording.connections());
+            assertEquals(2, recording.statements().size());
+            assertEquals(1, recording.selects().size());
+            verify(connection).close();
+        }
+    }
+
+    @Test
+    void wrap_ShouldKeepFirstBoundValues_ForExplain() throws Exception {
+        UUID id = UUID.randomUUID();
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        DataSource dataSource = SqlCapture.wrap(target);
+
+        try (SqlCapture.Recording recording = SqlCapture.start()) {
+            PreparedStatement wrapped = dataSource.getConnection().prepareStatement("select * from employees where id = ? and email = ?");
+            wrapped.setObject(1, id, Types.OTHER);
+            wrapped.setNull(2, Types.VARCHAR);
+            wrapped.addBatch();
+            wrapped.setObject(1, UUID.randomUUID(), Types.OTHER);
+
+            assertArrayEquals(new Object[]{id, null}, recording.statements().get(0).parameterValues());
+        }
+    }
+
+    @Test
+    void wrap_ShouldIgnoreOtherThreads() throws Exception {
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        DataSource dataSource = SqlCapture.wrap(target);
+
+        try (SqlCapture.Recording recording = SqlCapture.start()) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    dataSource.getConnection().prepareStatement("select 1");
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).get();
+
+            assertEquals(0, recording.connections());
+            assertTrue(recording.statements().isEmpty());
+        }
+    }
+
+    @Test
+    void wrap_ShouldNotWrapTwice() {
+        DataSource dataSource = SqlCapture.wrap(target);
+
+        assertSame(dataSource, SqlCapture.wrap(dataSource));
+    }
+}
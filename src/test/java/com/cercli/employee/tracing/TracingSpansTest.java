@@ -0,0 +1,182 @@
+package com.cercli.employee.tracing;
+
+import com.cercli.employee.entity.Employee;
+import com.cercli.employee.entity.EmployeeHistory;
+import com.cercli.employee.event.EntityHistoryEvent;
+import com.cercli.employee.factory.HistoryFactory;
+import com.cercli.employee.listeners.EntityHistoryEventListener;
+import com.cercli.employee.profiling.FilterProfiler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationHandler.FirstMatchingCompositeObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the application's observations through the OpenTelemetry bridge the way Spring Boot wires it, and
+ * checks the spans they end up as.
+ */
+@ExtendWith(MockitoExtension.class)
+public class TracingSpansTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String TRACEPARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+    @Mock
+    private HistoryFactory historyFactory;
+
+    private SdkTracerProvider tracerProvider;
+    private Scope rootScope;
+
+    // Spans must not inherit whatever an earlier test left current on this thread
+    @BeforeEach
+    void setUp() {
+        rootScope = Context.root().makeCurrent();
+    }
+
+    @AfterEach
+    void tearDown() {
+        rootScope.close();
+        if (tracerProvider != null) {
+            tracerProvider.close();
+        }
+    }
+
+    @Test
+    void request_ShouldContinueIncomingTraceAndNestFilterEventAndHistoryTransaction() throws Exception {
+        InMemorySpanExporter exporter = new InMemorySpanExporter(100);
+        ObservationRegistry registry = observationRegistry(exporter);
+        EntityHistoryEventListener listener = new EntityHistoryEventListener(historyFactory, registry, new SimpleMeterRegistry());
+
+        perform(registry, listener);
+
+        Map<String, SpanData> spans = exporter.getFinishedSpans().stream()
+                .collect(Collectors.toMap(SpanData::getName, Function.identity()));
+        SpanData server = spans.get("http post");
+        SpanData filter = spans.get("entity-code-extractor");
+        SpanData event = spans.get("entity-history-event");
+        SpanData transaction = spans.get("history-factory.write-history");
+        assertNotNull(server, spans.keySet()::toString);
+        assertAll(
+                () -> assertTrue(exporter.getFinishedSpans().stream().allMatch(span -> TRACE_ID.equals(span.getTraceId()))),
+                () -> assertEquals("00f067aa0ba902b7", server.getParentSpanId()),
+                () -> assertEquals(server.getSpanId(), filter.getParentSpanId()),
+                () -> assertEquals(filter.getSpanId(), event.getParentSpanId()),
+                () -> assertEquals(event.getSpanId(), transaction.getParentSpanId()),
+                () -> assertEquals("REQUIRES_NEW", transaction.getAttributes().asMap().entrySet().stream()
+                        .filter(entry -> entry.getKey().getKey().equals("propagation"))
+                        .findFirst().orElseThrow().getValue()));
+        verify(historyFactory).writeHistory(any(HistoryFactory.PendingHistory.class));
+    }
+
+    @Test
+    void historyEvent_ShouldHaveNoTransactionSpan_WhenHistoryIsDeferred() {
+        InMemorySpanExporter exporter = new InMemorySpanExporter(100);
+        ObservationRegistry registry = observationRegistry(exporter);
+        when(historyFactory.isDeferring()).thenReturn(true);
+
+        new EntityHistoryEventListener(historyFactory, registry, new SimpleMeterRegistry())
+                .handleEntityHistoryEvent(new EntityHistoryEvent(this, employee(), "UPDATED"));
+
+        List<SpanData> spans = exporter.getFinishedSpans();
+        assertEquals(List.of("entity-history-event"), spans.stream().map(SpanData::getName).toList());
+        verify(historyFactory).defer(any(Employee.class), eq("UPDATED"));
+        verify(historyFactory, never()).writeHistory(any());
+    }
+
+    @Test
+    void fileExporter_ShouldWriteOneJsonLinePerSpanWithParent(@TempDir Path directory) throws Exception {
+        Path file = directory.resolve("spans.jsonl");
+        FileSpanExporter exporter = new FileSpanExporter(file, new ObjectMapper());
+        ObservationRegistry registry = observationRegistry(exporter);
+
+        perform(registry, new EntityHistoryEventListener(historyFactory, registry, new SimpleMeterRegistry()));
+        exporter.shutdown();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, JsonNode> lines = Files.readAllLines(file).stream()
+                .map(line -> {
+                    try {
+                        return objectMapper.readTree(line);
+                    } catch (Exception e) {
+                        throw new AssertionError(line, e);
+                    }
+                })
+                .collect(Collectors.toMap(node -> node.get("name").asText(), Function.identity()));
+        JsonNode transaction = lines.get("history-factory.write-history");
+        assertEquals(4, lines.size(), lines.keySet()::toString);
+        assertEquals(TRACE_ID, transaction.get("traceId").asText());
+        assertEquals(lines.get("entity-history-event").get("spanId").asText(), transaction.get("parentSpanId").asText());
+        assertEquals("REQUIRES_NEW", transaction.get("attributes").get("propagation").asText());
+        assertTrue(transaction.get("durationMicros").asLong() >= 0);
+    }
+
+    // Server observation from Spring's filter, one application filter, then the history event it leads to
+    private void perform(ObservationRegistry registry, EntityHistoryEventListener listener) throws Exception {
+        when(historyFactory.prepareHistory(any(Employee.class), eq("UPDATED")))
+                .thenReturn(new HistoryFactory.PendingHistory(EmployeeHistory.builder().build(), Map.of(), false));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/employees");
+        request.addHeader("traceparent", TRACEPARENT);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ServerHttpObservationFilter(registry).doFilter(request, response, (req, res) ->
+                FilterProfiler.profile("EntityCodeExtractor", registry, request, response, (r, s) -> {
+                }, (r, s, chain) -> listener.handleEntityHistoryEvent(new EntityHistoryEvent(this, employee(), "UPDATED"))));
+    }
+
+    private ObservationRegistry observationRegistry(SpanExporter exporter) {
+        tracerProvider = SdkTracerProvider.builder().addSpanProcessor(SimpleSpanProcessor.create(exporter)).build();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("employee-test");
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        OtelTracer tracer = new OtelTracer(otelTracer, currentTraceContext, event -> {
+        }, new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        OtelPropagator propagator = new OtelPropagator(ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer);
+
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new FirstMatchingCompositeObservationHandler(
+                new PropagatingReceiverTracingObservationHandler<>(tracer, propagator),
+                new DefaultTracingObservationHandler(tracer)));
+        return registry;
+    }
+
+    private static Employee employee() {
+        Employee employee = new Employee();
+        employee.setId(UUID.randomUUID());
+        return employee;
+    }
+}
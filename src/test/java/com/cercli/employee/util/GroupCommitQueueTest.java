@@ -0,0 +1,81 @@
+package com.cercli.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupCommitQueueTest {
+
+    @Test
+    void offer_ShouldHandItemsInOrder_InBatchesOfAtMostMaxBatchSize() throws Exception {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch release = new CountDownLatch(1);
+        GroupCommitQueue<Integer> queue = new GroupCommitQueue<>("test-group-commit", 100, 4, Duration.ofMillis(50), batch -> {
+            awaitQuietly(release);
+            batches.add(batch);
+        });
+        queue.start();
+
+        // The first batch blocks in the handler while the rest queue up behind it
+        for (int i = 0; i < 10; i++) {
+            assertTrue(queue.offer(i));
+        }
+        release.countDown();
+        assertTrue(queue.stop(Duration.ofSeconds(5)));
+
+        List<Integer> handled = new ArrayList<>();
+        batches.forEach(handled::addAll);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), handled);
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 4));
+        assertTrue(batches.size() < 10, "queued items should be grouped");
+        assertEquals(10, queue.items());
+    }
+
+    @Test
+    void offer_ShouldReject_WhenFullOrStopped() {
+        CountDownLatch release = new CountDownLatch(1);
+        GroupCommitQueue<Integer> queue = new GroupCommitQueue<>("test-group-commit", 1, 1, Duration.ZERO, batch -> awaitQuietly(release));
+
+        assertTrue(queue.offer(1));
+        assertFalse(queue.offer(2));
+
+        queue.start();
+        release.countDown();
+        assertTrue(queue.stop(Duration.ofSeconds(5)));
+        assertFalse(queue.offer(3));
+    }
+
+    @Test
+    void run_ShouldKeepGoing_WhenHandlerFails() throws Exception {
+        List<Integer> handled = new CopyOnWriteArrayList<>();
+        GroupCommitQueue<Integer> queue = new GroupCommitQueue<>("test-group-commit", 10, 1, Duration.ZERO, batch -> {
+            if (batch.get(0) == 1) {
+                throw new IllegalStateException("boom");
+            }
+            handled.addAll(batch);
+        });
+        queue.start();
+
+        queue.offer(1);
+        queue.offer(2);
+        assertTrue(queue.stop(Duration.ofSeconds(5)));
+
+        assertEquals(List.of(2), handled);
+        assertEquals(2, queue.batches());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
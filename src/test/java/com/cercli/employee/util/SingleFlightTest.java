@@ -0,0 +1,118 @@
+package com.cercli.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    @Test
+    void execute_ShouldRunLoaderOnce_WhenCallsOverlap() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> flights.execute("key", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return 42;
+                }, MAX_WAIT)));
+            }
+            waitUntil(() -> flights.executions() + flights.sharedResults() == 8);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loads.get());
+            assertEquals(7, flights.sharedResults());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldPropagateLoaderException_ToAllWaiters() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> leader = executor.submit(() -> flights.execute("key", () -> {
+                await(release);
+                throw new IllegalStateException("database down");
+            }, MAX_WAIT));
+            waitUntil(() -> flights.executions() == 1);
+            Future<Integer> follower = executor.submit(() -> flights.execute("key", () -> 1, MAX_WAIT));
+            waitUntil(() -> flights.sharedResults() == 1);
+            release.countDown();
+
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+            assertInstanceOf(IllegalStateException.class, followerError.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldTimeOut_WhenSharedResultIsLate() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> flights.execute("key", () -> {
+                await(release);
+                return 1;
+            }, MAX_WAIT));
+            waitUntil(() -> flights.executions() == 1);
+
+            assertThrows(TimeoutException.class, () -> flights.execute("key", () -> 2, Duration.ofMillis(50)));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ShouldRunAgain_AfterPreviousCallCompleted() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+
+        assertEquals(1, flights.execute("key", () -> 1, MAX_WAIT));
+        assertEquals(2, flights.execute("key", () -> 2, MAX_WAIT));
+        assertEquals(2, flights.executions());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
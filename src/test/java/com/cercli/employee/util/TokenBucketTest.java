@@ -0,0 +1,58 @@
+package com.cercli.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void reserve_ShouldGrantImmediately_WhileBurstLasts() {
+        TokenBucket bucket = new TokenBucket(10, 3, clock::get);
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertTrue(bucket.reserve(0) < 0);
+    }
+
+    @Test
+    void reserve_ShouldReserveFutureToken_WhenItArrivesWithinMaxWait() {
+        TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+        bucket.reserve(0);
+
+        long wait = bucket.reserve(TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait);
+        // The reserved token is spent, the next one is a further 100 ms away
+        assertEquals(-TimeUnit.MILLISECONDS.toNanos(200), bucket.reserve(0));
+    }
+
+    @Test
+    void reserve_ShouldRefillAtConfiguredRate_WithoutExceedingCapacity() {
+        TokenBucket bucket = new TokenBucket(10, 2, clock::get);
+        bucket.reserve(0);
+        bucket.reserve(0);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertEquals(2.0, bucket.availableTokens(), 1e-9);
+    }
+
+    @Test
+    void refund_ShouldReturnReservedToken() {
+        TokenBucket bucket = new TokenBucket(10, 1, clock::get);
+        bucket.reserve(0);
+        bucket.reserve(TimeUnit.MILLISECONDS.toNanos(200));
+
+        bucket.refund();
+        bucket.refund();
+
+        assertEquals(1.0, bucket.availableTokens(), 1e-9);
+    }
+}
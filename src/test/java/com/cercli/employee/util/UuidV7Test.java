@@ -0,0 +1,86 @@
+package com.cercli.employee.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UuidV7Test {
+
+    @Test
+    void generate_ShouldSetVersionVariantAndTimestamp() {
+        UuidV7 generator = new UuidV7(() -> 1_700_000_000_123L);
+
+        UUID uuid = generator.generate();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertEquals(1_700_000_000_123L, UuidV7.timestamp(uuid));
+    }
+
+    @Test
+    void generate_ShouldStayIncreasing_WhenClockStandsStillOrStepsBack() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UuidV7 generator = new UuidV7(clock::get);
+
+        UUID previous = generator.generate();
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.addAndGet(-1_000);
+            }
+            UUID next = generator.generate();
+            assertTrue(next.compareTo(previous) > 0, "identifier " + i + " is not greater than its predecessor");
+            previous = next;
+        }
+    }
+
+    @Test
+    void generate_ShouldFollowClockOrder_AcrossMilliseconds() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UuidV7 generator = new UuidV7(clock::get);
+
+        UUID earlier = generator.generate();
+        clock.incrementAndGet();
+        UUID later = generator.generate();
+
+        assertTrue(later.compareTo(earlier) > 0);
+        assertEquals(UuidV7.timestamp(earlier) + 1, UuidV7.timestamp(later));
+    }
+
+    @Test
+    void next_ShouldBeUniqueAndIncreasingPerThread_WhenCalledConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<UUID>>> batches = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                batches.add(executor.submit(() -> {
+                    List<UUID> ids = new ArrayList<>();
+                    for (int i = 0; i < 20_000; i++) {
+                        ids.add(UuidV7.next());
+                    }
+                    return ids;
+                }));
+            }
+            Set<UUID> all = new HashSet<>();
+            for (Future<List<UUID>> batch : batches) {
+                List<UUID> ids = batch.get();
+                for (int i = 1; i < ids.size(); i++) {
+                    assertTrue(ids.get(i).compareTo(ids.get(i - 1)) > 0);
+                }
+                all.addAll(ids);
+            }
+            assertEquals(160_000, all.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}